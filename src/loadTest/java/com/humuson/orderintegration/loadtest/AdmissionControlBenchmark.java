@@ -0,0 +1,182 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 시스템 응답이 느린 Import 요청(POST /api/orders/import)을 서버 스레드 수보다 많이 몰아넣는 동안
+ * 조회 요청(GET /api/orders/stats)의 지연 시간(p50, p99, max)을 입장 제어(order.admission.enabled)를 끈 경우와 켠 경우로 비교한다.
+ * Import는 성공 건수, 429로 거절된 건수와 응답에 담긴 Retry-After 최댓값을 함께 출력한다.
+ * 외부 시스템은 응답 전에 latencyMillis만큼 지연하는 로컬 HTTP 서버로 대신한다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=AdmissionControlBenchmark -Pbenchmark.importers=200 -Pbenchmark.readers=4</pre>
+ */
+public final class AdmissionControlBenchmark {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(1);
+    private static final int SERVER_THREADS = 64;
+
+    private AdmissionControlBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int importers = Integer.getInteger("benchmark.importers", 200);
+        int readers = Integer.getInteger("benchmark.readers", 4);
+        int orderCount = Integer.getInteger("benchmark.orders", 200);
+        int latencyMillis = Integer.getInteger("benchmark.latencyMillis", 200);
+        int durationSeconds = Integer.getInteger("benchmark.durationSeconds", 10);
+
+        HttpClient httpClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        byte[] payload;
+        try (EmbeddedApplication application = EmbeddedApplication.start()) {
+            payload = httpClient.send(HttpRequest.newBuilder(URI.create(application.baseUrl()
+                                    + "/external-system/orders/generate?count=" + orderCount + "&seed=0")).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray()).body();
+        }
+
+        HttpServer partner = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        partner.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        partner.createContext("/orders", exchange -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(payload);
+            }
+        });
+        partner.start();
+        String endpoint = "http://localhost:" + partner.getAddress().getPort() + "/orders";
+
+        System.out.printf("서버 스레드 %d개, Import 동시 사용자 %d명, 조회 사용자 %d명, 주문 %d건, 외부 시스템 지연 %dms, 모드별 %d초%n",
+                SERVER_THREADS, importers, readers, orderCount, latencyMillis, durationSeconds);
+        System.out.printf("%-10s %12s %12s %12s %12s %12s %12s %14s%n", "admission", "reads", "p50(ms)",
+                "p99(ms)", "max(ms)", "imported", "shed(429)", "retry-after(s)");
+        try {
+            for (boolean admission : new boolean[]{false, true}) {
+                // 가져오기가 처리 중이거나 대기하며 붙잡는 스레드(8 + 8)를 빼고도 조회 한도(32)만큼 스레드가 남도록 맞춘다
+                try (EmbeddedApplication application = EmbeddedApplication.start(
+                        "server.tomcat.threads.max=" + SERVER_THREADS,
+                        "order.import.coalesce=false",
+                        "order.admission.enabled=" + admission,
+                        "order.admission.import.max-concurrent=8",
+                        "order.admission.import.max-queue=8",
+                        "order.admission.export.max-concurrent=4",
+                        "order.admission.export.max-queue=4",
+                        "order.admission.read.max-concurrent=32",
+                        "order.admission.read.max-queue=64")) {
+                    run(httpClient, application.baseUrl(), endpoint, admission, importers, readers, durationSeconds);
+                }
+            }
+        } finally {
+            partner.stop(0);
+        }
+        System.exit(0);
+    }
+
+    private static void run(HttpClient httpClient, String baseUrl, String endpoint, boolean admission, int importers,
+                            int readers, int durationSeconds) throws InterruptedException {
+        HttpRequest importRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders/import"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"endpoint\":\"" + endpoint + "\"}"))
+                .build();
+        HttpRequest readRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders/stats"))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicBoolean measuring = new AtomicBoolean(false);
+        LongAdder imported = new LongAdder();
+        LongAdder shed = new LongAdder();
+        AtomicLong maxRetryAfter = new AtomicLong();
+        Histogram readLatencies = new ConcurrentHistogram(3);
+        List<Thread> users = new ArrayList<>(importers + readers);
+        for (int i = 0; i < importers; i++) {
+            users.add(Thread.ofVirtual().start(() -> {
+                while (running.get()) {
+                    try {
+                        HttpResponse<Void> response = httpClient.send(importRequest,
+                                HttpResponse.BodyHandlers.discarding());
+                        boolean rejected = response.statusCode() == 429;
+                        if (measuring.get()) {
+                            if (response.statusCode() == 200) {
+                                imported.increment();
+                            } else if (rejected) {
+                                shed.increment();
+                                maxRetryAfter.accumulateAndGet(
+                                        response.headers().firstValueAsLong("Retry-After").orElse(0), Math::max);
+                            }
+                        }
+                        if (rejected) {
+                            // 거절된 사용자는 바로 다시 보내지 않고 잠시 쉰다
+                            TimeUnit.MILLISECONDS.sleep(50);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        // 연결 실패 등은 건수에서 빠진다
+                    }
+                }
+            }));
+        }
+        for (int i = 0; i < readers; i++) {
+            users.add(Thread.ofVirtual().start(() -> {
+                while (running.get()) {
+                    try {
+                        long start = System.nanoTime();
+                        int status = httpClient.send(readRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (measuring.get() && status == 200) {
+                            readLatencies.recordValue(System.nanoTime() - start);
+                        }
+                        TimeUnit.MILLISECONDS.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        // 실패한 조회는 지연 시간에서 빠진다
+                    }
+                }
+            }));
+        }
+
+        // 워밍업 구간을 측정에서 뺀다
+        TimeUnit.SECONDS.sleep(Math.max(1, durationSeconds / 5));
+        measuring.set(true);
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        measuring.set(false);
+        running.set(false);
+        for (Thread user : users) {
+            user.join();
+        }
+
+        double millis = TimeUnit.MILLISECONDS.toNanos(1);
+        System.out.printf("%-10s %12d %12.1f %12.1f %12.1f %12d %12d %14d%n", admission ? "on" : "off",
+                readLatencies.getTotalCount(),
+                readLatencies.getValueAtPercentile(50) / millis,
+                readLatencies.getValueAtPercentile(99) / millis,
+                readLatencies.getMaxValue() / millis,
+                imported.sum(), shed.sum(), maxRetryAfter.get());
+    }
+}
@@ -0,0 +1,115 @@
+package com.humuson.orderintegration.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추출한 애플리케이션 jar를 별도 JVM 프로세스로 기동한다.
+ * 시작 시간과 CDS 아카이브는 JVM 단위로 측정, 생성해야 하므로 같은 JVM에서 기동하는 {@link EmbeddedApplication}과 구분한다.
+ */
+final class ApplicationProcess implements AutoCloseable {
+
+    private final Process process;
+    private final long launchNanos;
+    private final String baseUrl;
+
+    private ApplicationProcess(Process process, long launchNanos, int port) {
+        this.process = process;
+        this.launchNanos = launchNanos;
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    static ApplicationProcess launch(Path applicationJar, List<String> jvmOptions, Path logFile) throws IOException {
+        return launch(applicationJar, jvmOptions, List.of(), freePort(), logFile);
+    }
+
+    /**
+     * 포트와 애플리케이션 인자를 지정해 기동한다. 클러스터 노드처럼 기동 전에 서로의 주소를 알아야 할 때 쓴다
+     */
+    static ApplicationProcess launch(Path applicationJar, List<String> jvmOptions, List<String> applicationArgs,
+                                     int port, Path logFile) throws IOException {
+        String java = ProcessHandle.current().info().command()
+                .orElseThrow(() -> new IllegalStateException("현재 JVM 실행 파일 경로를 알 수 없습니다"));
+
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.add("-Xms1g");
+        command.add("-Xmx1g");
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(applicationJar.toAbsolutePath().toString());
+        command.add("--server.port=" + port);
+        command.add("--logging.level.com.humuson.orderintegration=WARN");
+        command.add("--spring.main.banner-mode=off");
+        command.addAll(applicationArgs);
+
+        long launchNanos = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(applicationJar.toAbsolutePath().getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        return new ApplicationProcess(process, launchNanos, port);
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    long launchNanos() {
+        return launchNanos;
+    }
+
+    /**
+     * GET /api/orders가 처음 200으로 응답할 때까지 기다리고, 프로세스 시작부터 걸린 시간을 반환한다
+     */
+    Duration awaitFirstSuccess(HttpClient httpClient, Duration timeout) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long deadline = launchNanos + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션 프로세스가 종료되었습니다 (exit " + process.exitValue() + ")");
+            }
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return Duration.ofNanos(System.nanoTime() - launchNanos);
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        throw new IllegalStateException("애플리케이션이 " + timeout.toSeconds() + "초 안에 응답하지 않았습니다");
+    }
+
+    /**
+     * SIGTERM으로 정상 종료시킨다. -XX:ArchiveClassesAtExit 아카이브는 정상 종료 시점에 기록된다
+     */
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(60, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            process.waitFor();
+        }
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
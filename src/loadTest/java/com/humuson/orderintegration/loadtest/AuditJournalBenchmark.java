@@ -0,0 +1,209 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.audit.AuditJournal;
+import com.humuson.orderintegration.audit.AuditJournalSummary;
+import com.humuson.orderintegration.client.ExternalSystemClient;
+import com.humuson.orderintegration.client.OrderConverter;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.client.dto.OrderSendResult;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.monitoring.ResourceAccounting;
+import com.humuson.orderintegration.repository.InMemoryOrderRepository;
+import com.humuson.orderintegration.service.OrderIntegrationServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 외부 시스템 호출을 고정 응답으로 대신한 Import(가져오기, 검증, 저장) 경로를 여러 스레드로 반복하면서
+ * 감사 저널을 끈 경우와 켠 경우의 Import 처리량, 지연 시간(평균, p99)을 비교한다.
+ * 켠 경우에는 저널이 초당 기록한 레코드 수와 큐가 가득 차 버린 레코드 수도 출력한다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=AuditJournalBenchmark -Pbenchmark.orders=1000 -Pbenchmark.threads=8</pre>
+ */
+public final class AuditJournalBenchmark {
+
+    private static final int MAX_SAMPLES = 1 << 20;
+
+    private AuditJournalBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int orderCount = Integer.getInteger("benchmark.orders", 1_000);
+        int threads = Integer.getInteger("benchmark.threads", Runtime.getRuntime().availableProcessors());
+        int durationSeconds = Integer.getInteger("benchmark.durationSeconds", 10);
+        int queueCapacity = Integer.getInteger("benchmark.queueCapacity", 262_144);
+
+        System.out.printf("Import당 주문 %d건, 스레드 %d개, 모드별 %d초%n", orderCount, threads, durationSeconds);
+        System.out.printf("%-8s %12s %14s %12s %12s %16s %12s%n", "journal", "imports/s", "orders/s", "mean(us)",
+                "p99(us)", "records/s", "dropped");
+        try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = validatorFactory.getValidator();
+            for (boolean enabled : new boolean[]{false, true}) {
+                Path dir = Files.createTempDirectory("audit-benchmark");
+                AuditJournal journal = new AuditJournal(new SimpleMeterRegistry(), enabled, dir.toString(), null, 1 << 18, 4,
+                        queueCapacity, Duration.ZERO);
+                try {
+                    run(enabled, journal, validator, orderCount, threads, durationSeconds);
+                } finally {
+                    journal.close();
+                    deleteRecursively(dir);
+                }
+            }
+        }
+    }
+
+    private static void run(boolean enabled, AuditJournal journal, Validator validator, int orderCount, int threads,
+                            int durationSeconds) throws InterruptedException {
+        List<OrderRequest> orderRequests = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            orderRequests.add(OrderConverter.toOrderRequest(createOrder(i)));
+        }
+        OrderIntegrationServiceImpl service = new OrderIntegrationServiceImpl(new InMemoryOrderRepository(),
+                new FixedResponseClient(orderRequests), validator, null, journal,
+                new ResourceAccounting(new SimpleMeterRegistry(), false, 1), 2, 50, Duration.ZERO, Duration.ZERO, false);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicBoolean measuring = new AtomicBoolean(false);
+        long[][] samples = new long[threads][];
+        int[] sampleCounts = new int[threads];
+        long[] importCounts = new long[threads];
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            workers.add(Thread.ofPlatform().name("benchmark-import-" + t).start(() -> {
+                long[] latencies = new long[MAX_SAMPLES];
+                int count = 0;
+                long imports = 0;
+                String endpoint = "http://partner-" + index + ".example.com/orders";
+                while (running.get()) {
+                    long start = System.nanoTime();
+                    service.importOrdersFromExternal(endpoint);
+                    long elapsed = System.nanoTime() - start;
+                    if (measuring.get()) {
+                        latencies[count++ & (MAX_SAMPLES - 1)] = elapsed;
+                        imports++;
+                    }
+                }
+                samples[index] = latencies;
+                sampleCounts[index] = Math.min(count, MAX_SAMPLES);
+                importCounts[index] = imports;
+            }));
+        }
+
+        // 워밍업 구간을 측정에서 뺀다
+        TimeUnit.SECONDS.sleep(Math.max(1, durationSeconds / 5));
+        long recordsBefore = journal.getSummary().getWrittenRecords();
+        measuring.set(true);
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        measuring.set(false);
+        long elapsed = System.nanoTime() - start;
+        running.set(false);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        // 측정 구간 동안 큐에 넣은 레코드를 모두 기록한 시점까지를 저널 처리량으로 본다
+        journal.flush(Duration.ofMinutes(1));
+        long journalNanos = System.nanoTime() - start;
+        AuditJournalSummary summary = journal.getSummary();
+
+        long imports = Arrays.stream(importCounts).sum();
+        long[] all = new long[Arrays.stream(sampleCounts).sum()];
+        int position = 0;
+        for (int t = 0; t < threads; t++) {
+            System.arraycopy(samples[t], 0, all, position, sampleCounts[t]);
+            position += sampleCounts[t];
+        }
+        Arrays.sort(all);
+        double seconds = elapsed / (double) TimeUnit.SECONDS.toNanos(1);
+        System.out.printf("%-8s %12.1f %14.0f %12.1f %12.1f %16s %12s%n", enabled ? "on" : "off",
+                imports / seconds, imports * orderCount / seconds,
+                all.length == 0 ? 0 : Arrays.stream(all).average().orElse(0) / 1000.0,
+                all.length == 0 ? 0 : all[(int) Math.min(all.length - 1, Math.ceil(all.length * 0.99) - 1)] / 1000.0,
+                enabled ? String.format("%.0f", (summary.getWrittenRecords() - recordsBefore)
+                        / (journalNanos / (double) TimeUnit.SECONDS.toNanos(1))) : "-",
+                enabled ? String.valueOf(summary.getDroppedRecords()) : "-");
+    }
+
+    private static Order createOrder(int index) {
+        OrderStatus[] statuses = OrderStatus.values();
+        return Order.builder()
+                .orderId(String.format("AUDIT-%08d", index))
+                .customerName("고객" + index % 1000)
+                .orderDate(LocalDateTime.of(2024, 1, 1, 10, 0).plusMinutes(index))
+                .status(statuses[index % statuses.length])
+                .description("벤치마크 주문 " + index)
+                .build();
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * 네트워크 비용 없이 가져오기 이후 단계만 재도록 항상 같은 원본 주문 목록을 돌려주는 외부 시스템 클라이언트
+     */
+    private static final class FixedResponseClient implements ExternalSystemClient {
+
+        private final List<OrderRequest> orderRequests;
+
+        private FixedResponseClient(List<OrderRequest> orderRequests) {
+            this.orderRequests = orderRequests;
+        }
+
+        @Override
+        public List<Order> fetchOrders(String endpoint) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<OrderRequest> fetchOrderRequests(String endpoint) {
+            return orderRequests;
+        }
+
+        @Override
+        public boolean sendOrder(String endpoint, Order order) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean sendOrders(String endpoint, List<Order> orders) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public OrderSendResult sendOrdersWithResults(String endpoint, List<Order> orders) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean sendOrderStream(String endpoint, Stream<Order> orders) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getSystemType() {
+            return "FIXED";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.humuson.orderintegration.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AppCDS 동적 아카이브 학습 실행. 추출한 애플리케이션을 -XX:ArchiveClassesAtExit 옵션으로 기동하고
+ * Mock 외부 시스템을 대상으로 Import/Export/조회 요청을 반복한 뒤 정상 종료하여, 요청 경로에서 로드된 클래스까지 아카이브에 담는다.
+ * AOT 실행용 아카이브는 로드되는 클래스가 다르므로 -Dspring.aot.enabled=true로 따로 학습한다.
+ *
+ * <pre>./gradlew cdsTrain</pre>
+ */
+public final class CdsTrainingRun {
+
+    private CdsTrainingRun() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path applicationJar = Path.of(System.getProperty("startup.applicationJar", "build/cds/application.jar"));
+        Path archive = Path.of(System.getProperty("startup.cdsArchive", "build/cds/application.jsa"));
+        Path aotArchive = Path.of(System.getProperty("startup.aotCdsArchive", "build/cds/application-aot.jsa"));
+        int requests = Integer.getInteger("startup.trainingRequests", 500);
+
+        train(applicationJar, archive, List.of(), requests);
+        train(applicationJar, aotArchive, List.of("-Dspring.aot.enabled=true"), requests);
+        System.exit(0);
+    }
+
+    private static void train(Path applicationJar, Path archive, List<String> jvmOptions, int requests) throws Exception {
+        Files.deleteIfExists(archive);
+        List<String> options = new ArrayList<>(jvmOptions);
+        options.add("-XX:ArchiveClassesAtExit=" + archive.toAbsolutePath());
+        Path logFile = archive.resolveSibling(archive.getFileName() + ".training.log");
+
+        long failed = 0;
+        try (ApplicationProcess application = ApplicationProcess.launch(applicationJar, options, logFile)) {
+            StartupWorkload workload = new StartupWorkload(application.baseUrl());
+            Duration startup = application.awaitFirstSuccess(workload.httpClient(), Duration.ofMinutes(2));
+            workload.preload();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < requests; i++) {
+                if (!workload.runOnce(random)) {
+                    failed++;
+                }
+            }
+            System.out.printf("학습 실행 %s: 첫 응답 %dms, 요청 %d건 (실패 %d건)%n",
+                    jvmOptions.isEmpty() ? "JIT" : String.join(" ", jvmOptions), startup.toMillis(), requests, failed);
+        }
+
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("CDS 아카이브가 생성되지 않았습니다. 로그 확인: " + logFile.toAbsolutePath());
+        }
+        System.out.printf("CDS 아카이브 생성: %s (%d KB)%n", archive.toAbsolutePath(), Files.size(archive) / 1024);
+    }
+}
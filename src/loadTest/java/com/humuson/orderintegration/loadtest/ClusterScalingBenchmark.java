@@ -0,0 +1,167 @@
+package com.humuson.orderintegration.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 클러스터 모드(order.repository.type=cluster)로 노드 1~maxNodes개를 별도 JVM으로 띄우고
+ * 노드 수별 처리량(ops/s)과 1노드 대비 배율을 측정한다.
+ * 요청은 임의의 노드로 보내므로 대부분 소유 노드로 한 번 더 전달되며, 조회와 Import(소유 노드별 일괄 저장)를 섞는다.
+ * 모든 노드가 한 머신에서 돌기 때문에 CPU 코어 수를 넘는 노드 수에서는 배율이 포화된다.
+ *
+ * <pre>./gradlew clusterBenchmark -Pbenchmark.maxNodes=4 -Pbenchmark.durationSeconds=30 -Pbenchmark.concurrency=64</pre>
+ */
+public final class ClusterScalingBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private ClusterScalingBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path applicationJar = Path.of(System.getProperty("startup.applicationJar", "build/cds/application.jar"));
+        int maxNodes = Integer.getInteger("benchmark.maxNodes", 4);
+        int durationSeconds = Integer.getInteger("benchmark.durationSeconds", 30);
+        int concurrency = Integer.getInteger("benchmark.concurrency", 64);
+        int preloadOrders = Integer.getInteger("benchmark.orders", 100_000);
+        int importOrders = Integer.getInteger("benchmark.importOrders", 200);
+        int importPercent = Integer.getInteger("benchmark.importPercent", 10);
+
+        if (!Files.exists(applicationJar)) {
+            throw new IllegalStateException("애플리케이션 jar가 없습니다. ./gradlew extractBootJar를 먼저 실행하세요: "
+                    + applicationJar);
+        }
+        Path logDirectory = Files.createDirectories(Path.of("build", "cluster-benchmark"));
+        HttpClient httpClient = StartupWorkload.newHttpClient();
+
+        System.out.printf("노드 %d개까지, %d초, 동시 사용자 %d, 사전 적재 %d건, Import %d%% (%d건씩)%n",
+                maxNodes, durationSeconds, concurrency, preloadOrders, importPercent, importOrders);
+        System.out.printf("%-6s %14s %14s %10s %10s%n", "nodes", "ops", "ops/s", "errors", "speedup");
+        double baseline = 0;
+        for (int nodeCount = 1; nodeCount <= maxNodes; nodeCount++) {
+            List<ApplicationProcess> cluster = launchCluster(applicationJar, nodeCount, logDirectory);
+            try {
+                for (ApplicationProcess node : cluster) {
+                    node.awaitFirstSuccess(httpClient, STARTUP_TIMEOUT);
+                }
+                List<String> nodes = cluster.stream().map(ApplicationProcess::baseUrl).collect(Collectors.toList());
+                importOrders(httpClient, nodes.get(0), nodes.get(0), 0, preloadOrders);
+
+                long[] result = drive(httpClient, nodes, Duration.ofSeconds(durationSeconds), concurrency,
+                        preloadOrders, importOrders, importPercent);
+                double throughput = result[0] / (double) durationSeconds;
+                if (nodeCount == 1) {
+                    baseline = throughput;
+                }
+                System.out.printf("%-6d %14d %14.1f %10d %9.2fx%n", nodeCount, result[0], throughput, result[1],
+                        baseline == 0 ? 0 : throughput / baseline);
+            } finally {
+                for (ApplicationProcess node : cluster) {
+                    node.close();
+                }
+            }
+        }
+        System.exit(0);
+    }
+
+    /**
+     * 노드 주소를 먼저 정한 뒤 모든 노드에 같은 노드 목록과 각자의 주소를 넘겨 기동한다
+     */
+    private static List<ApplicationProcess> launchCluster(Path applicationJar, int nodeCount, Path logDirectory)
+            throws Exception {
+        List<Integer> ports = new ArrayList<>(nodeCount);
+        for (int i = 0; i < nodeCount; i++) {
+            ports.add(ApplicationProcess.freePort());
+        }
+        String nodes = ports.stream().map(port -> "http://localhost:" + port).collect(Collectors.joining(","));
+        String secret = UUID.randomUUID().toString();
+
+        List<ApplicationProcess> cluster = new ArrayList<>(nodeCount);
+        for (int i = 0; i < nodeCount; i++) {
+            int port = ports.get(i);
+            cluster.add(ApplicationProcess.launch(applicationJar, List.of(),
+                    List.of("--order.repository.type=cluster",
+                            "--order.cluster.nodes=" + nodes,
+                            "--order.cluster.self=http://localhost:" + port,
+                            "--order.cluster.secret=" + secret),
+                    port, logDirectory.resolve("cluster-" + nodeCount + "-node-" + i + ".log")));
+        }
+        return cluster;
+    }
+
+    /**
+     * 동시 사용자가 임의의 노드로 주문 단건 조회 또는 Import를 보낸다. [성공 건수, 실패 건수]를 반환한다
+     */
+    private static long[] drive(HttpClient httpClient, List<String> nodes, Duration duration, int concurrency,
+                                int preloadOrders, int importOrders, int importPercent) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong importSeed = new AtomicLong(1);
+
+        List<Thread> users = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            users.add(Thread.ofVirtual().start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    String node = nodes.get(random.nextInt(nodes.size()));
+                    try {
+                        boolean success = random.nextInt(100) < importPercent
+                                ? importOrders(httpClient, node, nodes.get(random.nextInt(nodes.size())),
+                                importSeed.getAndIncrement(), importOrders)
+                                : findOrder(httpClient, node, random.nextInt(Math.max(preloadOrders, 1)));
+                        (success ? completed : errors).incrementAndGet();
+                    } catch (InterruptedException e) {
+                        return;
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        running.set(false);
+        for (Thread user : users) {
+            user.join();
+        }
+        return new long[]{completed.get(), errors.get()};
+    }
+
+    private static boolean findOrder(HttpClient httpClient, String node, int index) throws Exception {
+        String orderId = String.format("GEN-0-%010d", index);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(node + "/api/orders/" + orderId))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    /**
+     * node에 Import를 요청한다. 가상 주문은 source 노드의 Mock 외부 시스템에서 seed별로 생성한다
+     */
+    private static boolean importOrders(HttpClient httpClient, String node, String source, long seed, int count)
+            throws Exception {
+        String body = "{\"endpoint\":\"" + source + "/external-system/orders/generate?count=" + count
+                + "&seed=" + seed + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(node + "/api/orders/import/report"))
+                .timeout(Duration.ofMinutes(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+}
@@ -0,0 +1,130 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.client.ExternalSystemClient;
+import com.humuson.orderintegration.client.HttpExternalSystemClient;
+import com.humuson.orderintegration.client.limit.AdaptiveConcurrencyLimiter;
+import com.humuson.orderintegration.client.limit.ConcurrencyLimiterRegistry;
+import com.humuson.orderintegration.exception.ConcurrencyLimitExceededException;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 처리 스레드 수를 제한한 Mock 외부 시스템에 고정 지연을 주입하고, 동시 호출 한도 없이 호출할 때와
+ * 적응형 동시 호출 한도를 거쳐 호출할 때의 처리량, 지연 시간, 한도 변화를 비교한다.
+ * Mock의 Tomcat 스레드 수를 넘는 호출은 서버 앞에 줄을 서므로, 한도가 그 수 근처로 수렴하는지 확인할 수 있다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=ConcurrencyLimitBenchmark -Pbenchmark.callers=100 -Pbenchmark.serverThreads=16</pre>
+ */
+public final class ConcurrencyLimitBenchmark {
+
+    private ConcurrencyLimitBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int callers = Integer.getInteger("benchmark.callers", 100);
+        int serverThreads = Integer.getInteger("benchmark.serverThreads", 16);
+        int latencyMillis = Integer.getInteger("benchmark.latencyMillis", 50);
+        int durationSeconds = Integer.getInteger("benchmark.durationSeconds", 20);
+
+        try (EmbeddedApplication application = EmbeddedApplication.start(
+                "server.tomcat.threads.max=" + serverThreads,
+                "server.tomcat.threads.min-spare=" + serverThreads)) {
+
+            applyFixedLatency(application.baseUrl(), latencyMillis);
+            String endpoint = application.baseUrl() + "/external-system/orders";
+
+            System.out.printf("호출자 %d, Mock 처리 스레드 %d, 고정 지연 %dms, 측정 %d초%n",
+                    callers, serverThreads, latencyMillis, durationSeconds);
+
+            HttpExternalSystemClient unlimitedClient = application.context().getBean(HttpExternalSystemClient.class);
+            ExternalSystemClient limitedClient = application.context().getBean(ExternalSystemClient.class);
+            ConcurrencyLimiterRegistry registry = application.context().getBean(ConcurrencyLimiterRegistry.class);
+
+            System.out.println("[한도 없음]");
+            run(unlimitedClient, endpoint, callers, durationSeconds, null);
+            System.out.println("[적응형 한도]");
+            run(limitedClient, endpoint, callers, durationSeconds, registry);
+        }
+        System.exit(0);
+    }
+
+    private static void run(ExternalSystemClient client, String endpoint, int callers, int durationSeconds,
+                            ConcurrencyLimiterRegistry registry) throws InterruptedException {
+        Histogram latencies = new ConcurrentHistogram(3);
+        LongAdder succeeded = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LongAdder failed = new LongAdder();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        List<Thread> threads = new ArrayList<>(callers);
+        for (int i = 0; i < callers; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                while (running.get()) {
+                    long start = System.nanoTime();
+                    try {
+                        client.fetchOrders(endpoint);
+                        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+                        succeeded.increment();
+                    } catch (ConcurrencyLimitExceededException e) {
+                        rejected.increment();
+                        // 거절된 호출자는 잠시 쉬었다가 다시 시도한다
+                        sleepQuietly(5);
+                    } catch (RuntimeException e) {
+                        failed.increment();
+                    }
+                }
+            }));
+        }
+
+        System.out.printf("%6s %10s %10s %8s %10s%n", "sec", "succeeded", "rejected", "limit", "inflight");
+        for (int second = 1; second <= durationSeconds; second++) {
+            TimeUnit.SECONDS.sleep(1);
+            AdaptiveConcurrencyLimiter limiter = registry == null ? null
+                    : registry.getLimiters().stream().findFirst().orElse(null);
+            System.out.printf("%6d %10d %10d %8s %10s%n", second, succeeded.sum(), rejected.sum(),
+                    limiter == null ? "-" : String.valueOf(limiter.getLimit()),
+                    limiter == null ? "-" : String.valueOf(limiter.getInFlight()));
+        }
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        System.out.printf("처리량 %.1f/s, 실패 %d, 지연 p50 %.1fms, p99 %.1fms, max %.1fms%n",
+                succeeded.sum() / (double) durationSeconds, failed.sum(),
+                latencies.getValueAtPercentile(50) / 1000.0,
+                latencies.getValueAtPercentile(99) / 1000.0,
+                latencies.getMaxValue() / 1000.0);
+    }
+
+    private static void applyFixedLatency(String baseUrl, int latencyMillis) throws Exception {
+        String profile = "{\"name\":\"benchmark\",\"latency\":\"FIXED\",\"latencyMillis\":" + latencyMillis + "}";
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/external-system/admin/fault-profile"))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(profile))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("장애 프로필 적용 실패: HTTP " + response.statusCode());
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
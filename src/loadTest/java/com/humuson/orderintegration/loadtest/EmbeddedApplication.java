@@ -0,0 +1,49 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.OrderIntegrationApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 부하 테스트 대상 애플리케이션을 같은 JVM에서 임의 포트로 기동한다.
+ * Mock 외부 시스템도 같은 애플리케이션에 포함되어 있어 별도 서버가 필요 없다.
+ */
+public final class EmbeddedApplication implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+
+    private EmbeddedApplication(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    public static EmbeddedApplication start(String... properties) {
+        String[] defaults = {
+                "server.port=0",
+                "logging.level.com.humuson.orderintegration=WARN",
+                "spring.main.banner-mode=off"
+        };
+        String[] merged = new String[defaults.length + properties.length];
+        System.arraycopy(defaults, 0, merged, 0, defaults.length);
+        System.arraycopy(properties, 0, merged, defaults.length, properties.length);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(OrderIntegrationApplication.class)
+                .properties(merged)
+                .run();
+        return new EmbeddedApplication(context);
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,140 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 같은 endpoint로 동시에 몰린 Import 요청(POST /api/orders/import)을 합칠 때와 합치지 않을 때(order.import.coalesce)의
+ * 외부 시스템 호출 횟수, 묶음 전체 소요 시간, 요청 평균 지연 시간, 프로세스 CPU 시간을 비교한다.
+ * 외부 시스템은 응답 전에 latencyMillis만큼 지연하는 로컬 HTTP 서버로 대신하며, 응답 본문은 Mock 외부 시스템이 생성한 주문 데이터다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=ImportCoalescingBenchmark -Pbenchmark.concurrency=32 -Pbenchmark.orders=20000</pre>
+ */
+public final class ImportCoalescingBenchmark {
+
+    private static final com.sun.management.OperatingSystemMXBean OS_MX_BEAN =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(5);
+
+    private ImportCoalescingBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("benchmark.concurrency", 32);
+        int orderCount = Integer.getInteger("benchmark.orders", 20_000);
+        int latencyMillis = Integer.getInteger("benchmark.latencyMillis", 200);
+        int bursts = Integer.getInteger("benchmark.bursts", 5);
+
+        HttpClient httpClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        byte[] payload;
+        try (EmbeddedApplication application = EmbeddedApplication.start()) {
+            payload = httpClient.send(HttpRequest.newBuilder(URI.create(application.baseUrl()
+                                    + "/external-system/orders/generate?count=" + orderCount + "&seed=0")).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray()).body();
+        }
+
+        AtomicInteger fetches = new AtomicInteger();
+        HttpServer partner = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        partner.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        partner.createContext("/orders", exchange -> {
+            fetches.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(payload);
+            }
+        });
+        partner.start();
+        String endpoint = "http://localhost:" + partner.getAddress().getPort() + "/orders";
+
+        System.out.printf("동시 요청 %d개씩 %d회, 주문 %d건 (%d bytes), 외부 시스템 지연 %dms%n",
+                concurrency, bursts, orderCount, payload.length, latencyMillis);
+        System.out.printf("%-10s %10s %10s %14s %14s %12s%n", "coalesce", "requests", "fetches", "burst(ms)",
+                "mean(ms)", "CPU(ms)");
+        try {
+            for (boolean coalesce : new boolean[]{false, true}) {
+                try (EmbeddedApplication application = EmbeddedApplication.start("order.import.coalesce=" + coalesce)) {
+                    String url = application.baseUrl() + "/api/orders/import";
+                    // 워밍업: 첫 요청의 클래스 로딩, JIT 비용을 측정에서 뺀다
+                    burst(httpClient, url, endpoint, concurrency);
+                    fetches.set(0);
+                    long cpuBefore = OS_MX_BEAN.getProcessCpuTime();
+                    long burstNanos = 0;
+                    long latencyNanos = 0;
+                    int requests = 0;
+                    for (int i = 0; i < bursts; i++) {
+                        long start = System.nanoTime();
+                        long[] result = burst(httpClient, url, endpoint, concurrency);
+                        burstNanos += System.nanoTime() - start;
+                        latencyNanos += result[0];
+                        requests += (int) result[1];
+                    }
+                    long cpuNanos = OS_MX_BEAN.getProcessCpuTime() - cpuBefore;
+                    System.out.printf("%-10s %10d %10d %14.1f %14.1f %12.1f%n", coalesce, requests, fetches.get(),
+                            burstNanos / (double) bursts / TimeUnit.MILLISECONDS.toNanos(1),
+                            requests == 0 ? 0 : latencyNanos / (double) requests / TimeUnit.MILLISECONDS.toNanos(1),
+                            cpuNanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+                }
+            }
+        } finally {
+            partner.stop(0);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * 동시 요청을 한꺼번에 보내고 [지연 시간 합, 성공 건수]를 반환한다
+     */
+    private static long[] burst(HttpClient httpClient, String url, String endpoint, int concurrency)
+            throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong latencyNanos = new AtomicLong();
+        AtomicInteger succeeded = new AtomicInteger();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"endpoint\":\"" + endpoint + "\"}"))
+                .build();
+        List<Thread> users = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            users.add(Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                    long requestStart = System.nanoTime();
+                    int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    latencyNanos.addAndGet(System.nanoTime() - requestStart);
+                    if (status == 200) {
+                        succeeded.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    // 실패한 요청은 성공 건수에서 빠진다
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread user : users) {
+            user.join();
+        }
+        return new long[]{latencyNanos.get(), succeeded.get()};
+    }
+}
@@ -0,0 +1,137 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.domain.ImportReport;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.repository.InMemoryOrderRepository;
+import com.humuson.orderintegration.repository.OrderRepository;
+import com.humuson.orderintegration.service.OrderImportReportService;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * 잘못된 데이터 비율(기본 20%)이 섞인 피드를 기존 예외 기반 변환과 결과 코드 분류로 각각 가져와 처리량과 건당 할당량을 비교한다.
+ * 잘못된 데이터는 날짜 형식 오류, 알 수 없는 상태, 고객명 누락을 같은 비율로 섞는다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=ImportRejectionBenchmark -Pbenchmark.records=200000 -Pbenchmark.dirtyRatio=0.2</pre>
+ */
+public final class ImportRejectionBenchmark {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private ImportRejectionBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int recordCount = Integer.getInteger("benchmark.records", 200_000);
+        double dirtyRatio = Double.parseDouble(System.getProperty("benchmark.dirtyRatio", "0.2"));
+        int iterations = Integer.getInteger("benchmark.iterations", 10);
+        int warmupIterations = Integer.getInteger("benchmark.warmupIterations", 5);
+
+        List<OrderRequest> orderRequests = createOrderRequests(recordCount, dirtyRatio);
+        System.out.printf("주문 %d건, 잘못된 데이터 %.0f%%, 측정 %d회 (워밍업 %d회)%n",
+                recordCount, dirtyRatio * 100, iterations, warmupIterations);
+        System.out.printf("%-12s %10s %14s %16s %16s%n", "mode", "saved", "mean(ms)", "records/s", "alloc/record(B)");
+
+        try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = validatorFactory.getValidator();
+            measure("exception", orderRequests, iterations, warmupIterations,
+                    requests -> importWithExceptions(requests, new InMemoryOrderRepository(), validator));
+            measure("result-code", orderRequests, iterations, warmupIterations, requests -> {
+                OrderImportReportService service = new OrderImportReportService(
+                        null, new InMemoryOrderRepository(), validator, null, null, null, 1000);
+                ImportReport report = service.importRecords(requests);
+                return report.getSavedCount();
+            });
+        }
+    }
+
+    private static void measure(String mode, List<OrderRequest> orderRequests, int iterations, int warmupIterations,
+                                ToIntFunction<List<OrderRequest>> importer) {
+        int saved = 0;
+        for (int i = 0; i < warmupIterations; i++) {
+            saved = importer.applyAsInt(orderRequests);
+        }
+        long totalNanos = 0;
+        long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            saved = importer.applyAsInt(orderRequests);
+            totalNanos += System.nanoTime() - start;
+        }
+        long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        double meanMillis = totalNanos / (double) iterations / TimeUnit.MILLISECONDS.toNanos(1);
+        System.out.printf("%-12s %10d %14.1f %16.0f %16.1f%n", mode, saved, meanMillis,
+                orderRequests.size() / (meanMillis / 1000.0),
+                allocated / (double) iterations / orderRequests.size());
+    }
+
+    /**
+     * 변경 전 가져오기 방식: 날짜 해석 실패와 알 수 없는 상태를 건마다 예외로 처리한다
+     */
+    private static int importWithExceptions(List<OrderRequest> orderRequests, OrderRepository repository,
+                                            Validator validator) {
+        int saved = 0;
+        for (OrderRequest orderRequest : orderRequests) {
+            Order order;
+            try {
+                LocalDateTime orderDate;
+                try {
+                    orderDate = LocalDateTime.parse(orderRequest.getOrderDate(), DATE_FORMATTER);
+                } catch (Exception e) {
+                    orderDate = LocalDateTime.now();
+                }
+                order = Order.builder()
+                        .orderId(orderRequest.getOrderId())
+                        .customerName(orderRequest.getCustomerName())
+                        .orderDate(orderDate)
+                        .status(OrderStatus.valueOf(orderRequest.getStatus().toUpperCase()))
+                        .description(orderRequest.getDescription())
+                        .build();
+            } catch (RuntimeException e) {
+                continue;
+            }
+            if (validator.validate(order).isEmpty()) {
+                repository.save(order);
+                saved++;
+            }
+        }
+        return saved;
+    }
+
+    private static List<OrderRequest> createOrderRequests(int count, double dirtyRatio) {
+        OrderStatus[] statuses = OrderStatus.values();
+        int dirtyEvery = dirtyRatio > 0 ? (int) Math.round(1 / dirtyRatio) : Integer.MAX_VALUE;
+        List<OrderRequest> orderRequests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OrderRequest orderRequest = OrderRequest.builder()
+                    .orderId(String.format("BENCH-%08d", i))
+                    .customerName("고객" + (i % 1000))
+                    .orderDate(String.format("2024-01-%02d 10:00:00", i % 28 + 1))
+                    .status(statuses[i % statuses.length].name())
+                    .description("벤치마크 주문")
+                    .build();
+            if (i % dirtyEvery == 0) {
+                switch ((i / dirtyEvery) % 3) {
+                    case 0 -> orderRequest.setOrderDate("2024/01/01 10:00");
+                    case 1 -> orderRequest.setStatus("RETURNED");
+                    default -> orderRequest.setCustomerName("");
+                }
+            }
+            orderRequests.add(orderRequest);
+        }
+        return orderRequests;
+    }
+}
@@ -0,0 +1,93 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.domain.OrderStatus;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. Gradle 프로퍼티({@code -Ploadtest.*})가 시스템 프로퍼티로 전달된다.
+ */
+public record LoadTestConfig(
+        WorkloadModel model,
+        int concurrency,
+        double ratePerSecond,
+        Duration warmup,
+        Duration duration,
+        Map<LoadTestOperation, Integer> mix,
+        int importSize,
+        int importSeeds,
+        int exportBatchSize,
+        String faultProfile,
+        String targetUrl,
+        Path reportDirectory,
+        Path baseline,
+        double tolerance) {
+
+    public enum WorkloadModel {
+        /** 고정된 수의 가상 사용자가 응답을 받은 즉시 다음 요청을 보낸다 */
+        CLOSED,
+        /** 응답과 무관하게 고정된 도착률로 요청을 보낸다 */
+        OPEN
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                WorkloadModel.valueOf(property("model", "closed").toUpperCase()),
+                Integer.parseInt(property("concurrency", "32")),
+                Double.parseDouble(property("rate", "200")),
+                Duration.ofSeconds(Long.parseLong(property("warmupSeconds", "5"))),
+                Duration.ofSeconds(Long.parseLong(property("durationSeconds", "30"))),
+                parseMix(property("mix", "import:1,export:1,getById:6,listByStatus:2")),
+                Integer.parseInt(property("importSize", "100")),
+                Integer.parseInt(property("importSeeds", "10")),
+                Integer.parseInt(property("exportBatchSize", "10")),
+                property("faultProfile", "none"),
+                property("targetUrl", ""),
+                Path.of(property("reportDir", "build/reports/loadtest")),
+                property("baseline", "").isBlank() ? null : Path.of(property("baseline", "")),
+                Double.parseDouble(property("tolerance", "0.10")));
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("model", model);
+        description.put("concurrency", concurrency);
+        description.put("ratePerSecond", ratePerSecond);
+        description.put("warmupSeconds", warmup.toSeconds());
+        description.put("durationSeconds", duration.toSeconds());
+        description.put("mix", mix);
+        description.put("importSize", importSize);
+        description.put("importSeeds", importSeeds);
+        description.put("exportBatchSize", exportBatchSize);
+        description.put("faultProfile", faultProfile);
+        return description;
+    }
+
+    public String orderId(int seed, int index) {
+        return String.format("GEN-%d-%010d", seed, index);
+    }
+
+    public OrderStatus[] statuses() {
+        return OrderStatus.values();
+    }
+
+    private static Map<LoadTestOperation, Integer> parseMix(String mix) {
+        Map<LoadTestOperation, Integer> weights = new EnumMap<>(LoadTestOperation.class);
+        for (String token : mix.split(",")) {
+            String[] pair = token.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("잘못된 부하 비율 형식입니다: " + token);
+            }
+            weights.put(LoadTestOperation.fromKey(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,18 @@
+package com.humuson.orderintegration.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 대상 서버 주소와 요청 생성에 필요한 값을 묶는다
+ */
+public record LoadTestContext(LoadTestConfig config, String baseUrl, Duration requestTimeout) {
+
+    public String importEndpoint(int seed) {
+        return baseUrl + "/external-system/orders/generate?count=" + config.importSize() + "&seed=" + seed;
+    }
+
+    public String randomOrderId(ThreadLocalRandom random) {
+        return config.orderId(random.nextInt(config.importSeeds()), random.nextInt(config.importSize()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.domain.OrderStatus;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트에서 실행하는 API 호출 종류
+ */
+public enum LoadTestOperation {
+    IMPORT("import") {
+        @Override
+        HttpRequest createRequest(LoadTestContext context, ThreadLocalRandom random) {
+            String endpoint = context.importEndpoint(random.nextInt(context.config().importSeeds()));
+            return post(context, "/api/orders/import", "{\"endpoint\":\"" + endpoint + "\"}");
+        }
+    },
+    EXPORT("export") {
+        @Override
+        HttpRequest createRequest(LoadTestContext context, ThreadLocalRandom random) {
+            StringBuilder body = new StringBuilder("{\"endpoint\":\"")
+                    .append(context.baseUrl()).append("/external-system/orders\",\"orderIds\":[");
+            for (int i = 0; i < context.config().exportBatchSize(); i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                body.append('"').append(context.randomOrderId(random)).append('"');
+            }
+            body.append("]}");
+            return post(context, "/api/orders/export", body.toString());
+        }
+    },
+    GET_BY_ID("getById") {
+        @Override
+        HttpRequest createRequest(LoadTestContext context, ThreadLocalRandom random) {
+            return get(context, "/api/orders/" + context.randomOrderId(random));
+        }
+    },
+    LIST_BY_STATUS("listByStatus") {
+        @Override
+        HttpRequest createRequest(LoadTestContext context, ThreadLocalRandom random) {
+            OrderStatus[] statuses = context.config().statuses();
+            return get(context, "/api/orders/status/" + statuses[random.nextInt(statuses.length)].name());
+        }
+    };
+
+    private final String key;
+
+    LoadTestOperation(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    abstract HttpRequest createRequest(LoadTestContext context, ThreadLocalRandom random);
+
+    public static LoadTestOperation fromKey(String key) {
+        for (LoadTestOperation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 부하 테스트 작업입니다: " + key);
+    }
+
+    private static HttpRequest get(LoadTestContext context, String path) {
+        return HttpRequest.newBuilder(URI.create(context.baseUrl() + path))
+                .timeout(context.requestTimeout())
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest post(LoadTestContext context, String path, String json) {
+        return HttpRequest.newBuilder(URI.create(context.baseUrl() + path))
+                .timeout(context.requestTimeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
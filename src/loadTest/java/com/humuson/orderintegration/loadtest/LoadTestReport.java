@@ -0,0 +1,132 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 리포트. JSON으로 저장해 다음 실행의 기준선(baseline)으로 사용할 수 있다.
+ */
+public class LoadTestReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Map<String, Object> content;
+
+    private LoadTestReport(Map<String, Object> content) {
+        this.content = content;
+    }
+
+    public static LoadTestReport create(LoadTestConfig config, Map<LoadTestOperation, OperationStats> stats) {
+        double seconds = config.duration().toMillis() / 1000.0;
+        Histogram overall = new Histogram(3);
+        long overallErrors = 0;
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<LoadTestOperation, OperationStats> entry : stats.entrySet()) {
+            OperationStats operationStats = entry.getValue();
+            overall.add(operationStats.histogram());
+            overallErrors += operationStats.errors();
+            operations.put(entry.getKey().key(),
+                    OperationStats.summarize(operationStats.histogram(), operationStats.errors(), seconds));
+        }
+
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("createdAt", LocalDateTime.now().toString());
+        content.put("config", config.describe());
+        content.put("overall", OperationStats.summarize(overall, overallErrors, seconds));
+        content.put("operations", operations);
+        return new LoadTestReport(content);
+    }
+
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("loadtest-report.json");
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), content);
+        return file;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void print(PrintStream out) {
+        out.printf("%-14s %10s %10s %9s %10s %10s %10s %10s%n",
+                "operation", "requests", "req/s", "errors", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        printRow(out, "overall", (Map<String, Object>) content.get("overall"));
+        ((Map<String, Object>) content.get("operations"))
+                .forEach((name, summary) -> printRow(out, name, (Map<String, Object>) summary));
+    }
+
+    /**
+     * 기준선 대비 처리량 감소, p99 지연 증가, 오류율 증가가 허용 범위를 넘는 항목을 찾는다
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> compareWithBaseline(Path baselineFile, double tolerance) throws IOException {
+        Map<String, Object> baseline = MAPPER.readValue(baselineFile.toFile(), new TypeReference<>() {});
+        List<String> regressions = new ArrayList<>();
+
+        compare("overall", (Map<String, Object>) baseline.get("overall"),
+                (Map<String, Object>) content.get("overall"), tolerance, regressions);
+
+        Map<String, Object> baselineOperations = (Map<String, Object>) baseline.getOrDefault("operations", Map.of());
+        Map<String, Object> currentOperations = (Map<String, Object>) content.get("operations");
+        for (Map.Entry<String, Object> entry : baselineOperations.entrySet()) {
+            Map<String, Object> current = (Map<String, Object>) currentOperations.get(entry.getKey());
+            if (current != null) {
+                compare(entry.getKey(), (Map<String, Object>) entry.getValue(), current, tolerance, regressions);
+            }
+        }
+        return regressions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void compare(String name, Map<String, Object> baseline, Map<String, Object> current,
+                                double tolerance, List<String> regressions) {
+        if (baseline == null) {
+            return;
+        }
+        double baselineThroughput = number(baseline.get("throughput"));
+        double currentThroughput = number(current.get("throughput"));
+        if (currentThroughput < baselineThroughput * (1 - tolerance)) {
+            regressions.add(String.format("%s 처리량 감소: %.1f -> %.1f req/s", name, baselineThroughput, currentThroughput));
+        }
+
+        double baselineP99 = number(((Map<String, Object>) baseline.get("latencyMillis")).get("p99"));
+        double currentP99 = number(((Map<String, Object>) current.get("latencyMillis")).get("p99"));
+        if (currentP99 > baselineP99 * (1 + tolerance)) {
+            regressions.add(String.format("%s p99 지연 증가: %.2f -> %.2f ms", name, baselineP99, currentP99));
+        }
+
+        double baselineErrorRate = number(baseline.get("errorRate"));
+        double currentErrorRate = number(current.get("errorRate"));
+        if (currentErrorRate > baselineErrorRate + tolerance / 10) {
+            regressions.add(String.format("%s 오류율 증가: %.4f -> %.4f", name, baselineErrorRate, currentErrorRate));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printRow(PrintStream out, String name, Map<String, Object> summary) {
+        Map<String, Object> latency = (Map<String, Object>) summary.get("latencyMillis");
+        out.printf("%-14s %10d %10.1f %9d %10.2f %10.2f %10.2f %10.2f%n",
+                name,
+                ((Number) summary.get("requests")).longValue(),
+                number(summary.get("throughput")),
+                ((Number) summary.get("errors")).longValue(),
+                number(latency.get("p50")),
+                number(latency.get("p99")),
+                number(latency.get("p999")),
+                number(latency.get("max")));
+    }
+
+    private static double number(Object value) {
+        return value == null ? 0.0 : ((Number) value).doubleValue();
+    }
+}
@@ -0,0 +1,102 @@
+package com.humuson.orderintegration.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * 종단 간 부하 테스트 진입점. {@code ./gradlew loadTest -Ploadtest.model=open -Ploadtest.rate=500}
+ *
+ * <ol>
+ *     <li>대상 URL이 없으면 애플리케이션을 같은 JVM에서 기동한다</li>
+ *     <li>Mock 외부 시스템에서 주문을 가져와 조회/전송 대상 데이터를 적재한다</li>
+ *     <li>지정한 장애 프로필을 적용하고 작업 비율에 따라 부하를 발생시킨다</li>
+ *     <li>처리량, 오류율, 백분위 지연 시간 리포트를 저장하고 기준선과 비교한다</li>
+ * </ol>
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        int exitCode = 0;
+
+        EmbeddedApplication application = config.targetUrl().isBlank() ? EmbeddedApplication.start() : null;
+        String baseUrl = application != null ? application.baseUrl() : config.targetUrl();
+
+        try {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            LoadTestContext context = new LoadTestContext(config, baseUrl, Duration.ofSeconds(30));
+
+            preload(httpClient, context);
+            applyFaultProfile(httpClient, baseUrl, config.faultProfile());
+
+            System.out.printf("부하 테스트 시작: %s%n", config.describe());
+            WorkloadDriver driver = new WorkloadDriver(context, httpClient);
+            driver.run();
+
+            applyFaultProfile(httpClient, baseUrl, "none");
+
+            LoadTestReport report = LoadTestReport.create(config, driver.stats());
+            report.print(System.out);
+            Path file = report.write(config.reportDirectory());
+            System.out.println("리포트 저장: " + file.toAbsolutePath());
+
+            if (config.baseline() != null) {
+                List<String> regressions = report.compareWithBaseline(config.baseline(), config.tolerance());
+                if (regressions.isEmpty()) {
+                    System.out.println("기준선 대비 성능 저하 없음");
+                } else {
+                    regressions.forEach(regression -> System.out.println("성능 저하: " + regression));
+                    exitCode = 1;
+                }
+            }
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * 조회, 전송 작업이 존재하는 주문을 대상으로 하도록 모든 시드의 주문을 미리 가져온다
+     */
+    static void preload(HttpClient httpClient, LoadTestContext context) throws IOException, InterruptedException {
+        for (int seed = 0; seed < context.config().importSeeds(); seed++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(context.baseUrl() + "/api/orders/import"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"endpoint\":\"" + context.importEndpoint(seed) + "\"}"))
+                    .build();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("초기 데이터 적재 실패: HTTP " + response.statusCode());
+            }
+        }
+    }
+
+    private static void applyFaultProfile(HttpClient httpClient, String baseUrl, String profile)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/external-system/admin/fault-profile/" + profile))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("장애 프로필 적용 실패: " + profile + " (HTTP " + response.statusCode() + ")");
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.repository.OrderRepository;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장소에 주문을 채운 뒤 전체 주문 목록을 ApiResponse JSON과 NDJSON으로 각각 받아
+ * 첫 바이트까지의 시간(TTFB), 전체 수신 시간, 응답 크기, 응답 중 서버 힙 사용량 증가분을 비교한다.
+ * 애플리케이션과 같은 JVM에서 측정하므로 힙 증가분에는 클라이언트 수신 버퍼가 포함되지 않도록 본문을 읽으면서 버린다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=NdjsonListingBenchmark -Pbenchmark.orders=5000000 -Pbenchmark.heap=4g</pre>
+ */
+public final class NdjsonListingBenchmark {
+
+    private static final int SAVE_BATCH_SIZE = 100_000;
+
+    private NdjsonListingBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int orderCount = Integer.getInteger("benchmark.orders", 5_000_000);
+        String fields = System.getProperty("benchmark.fields", "");
+        String modes = System.getProperty("benchmark.modes", "ndjson,json");
+
+        try (EmbeddedApplication application = EmbeddedApplication.start()) {
+            fillRepository(application.context().getBean(OrderRepository.class), orderCount);
+            String url = application.baseUrl() + "/api/orders" + (fields.isBlank() ? "" : "?fields=" + fields);
+            HttpClient httpClient = HttpClient.newHttpClient();
+
+            System.out.printf("주문 %d건, fields=%s%n", orderCount, fields.isBlank() ? "(전체)" : fields);
+            System.out.printf("%-8s %10s %12s %14s %14s %16s%n",
+                    "mode", "TTFB(ms)", "total(ms)", "bytes", "lines", "heap delta(MB)");
+            for (String mode : modes.split(",")) {
+                String accept = mode.trim().equals("ndjson") ? "application/x-ndjson" : "application/json";
+                try {
+                    measure(httpClient, url, mode.trim(), accept);
+                } catch (Exception e) {
+                    System.out.printf("%-8s 실패: %s%n", mode.trim(), e);
+                }
+            }
+        }
+        System.exit(0);
+    }
+
+    private static void measure(HttpClient httpClient, String url, String mode, String accept) throws Exception {
+        System.gc();
+        long baselineHeap = usedHeap();
+        AtomicLong peakHeap = new AtomicLong(baselineHeap);
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        Thread sampler = Thread.ofPlatform().daemon().name("benchmark-heap-sampler").start(() -> {
+            while (sampling.get()) {
+                peakHeap.accumulateAndGet(usedHeap(), Math::max);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(10);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long start = System.nanoTime();
+        long firstByteNanos = -1;
+        long bytes = 0;
+        long lines = 0;
+        try {
+            HttpResponse<InputStream> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create(url)).header("Accept", accept).GET().build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("HTTP " + response.statusCode());
+            }
+            byte[] buffer = new byte[64 * 1024];
+            try (InputStream body = response.body()) {
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    if (firstByteNanos < 0) {
+                        firstByteNanos = System.nanoTime() - start;
+                    }
+                    bytes += read;
+                    for (int i = 0; i < read; i++) {
+                        if (buffer[i] == '\n') {
+                            lines++;
+                        }
+                    }
+                }
+            }
+        } finally {
+            sampling.set(false);
+            sampler.join();
+        }
+        long totalNanos = System.nanoTime() - start;
+
+        System.out.printf("%-8s %10.1f %12.1f %14d %14d %16.1f%n", mode,
+                firstByteNanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                totalNanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                bytes, lines, (peakHeap.get() - baselineHeap) / (1024.0 * 1024.0));
+    }
+
+    private static void fillRepository(OrderRepository repository, int orderCount) {
+        OrderStatus[] statuses = OrderStatus.values();
+        LocalDateTime baseDate = LocalDateTime.of(2024, 1, 1, 10, 0);
+        // 고객명, 주문일자는 같은 값을 공유해 저장소가 차지하는 힙을 줄인다
+        String[] customerNames = new String[1000];
+        for (int i = 0; i < customerNames.length; i++) {
+            customerNames[i] = "고객" + i;
+        }
+        LocalDateTime[] orderDates = new LocalDateTime[1440];
+        for (int i = 0; i < orderDates.length; i++) {
+            orderDates[i] = baseDate.plusMinutes(i);
+        }
+
+        for (int from = 0; from < orderCount; from += SAVE_BATCH_SIZE) {
+            int to = Math.min(from + SAVE_BATCH_SIZE, orderCount);
+            List<Order> orders = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                orders.add(Order.builder()
+                        .orderId(String.format("BENCH-%08d", i))
+                        .customerName(customerNames[i % customerNames.length])
+                        .orderDate(orderDates[i % orderDates.length])
+                        .status(statuses[i % statuses.length])
+                        .description("벤치마크 주문")
+                        .build());
+            }
+            repository.saveAll(orders);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,59 @@
+package com.humuson.orderintegration.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업 종류별 지연 시간 히스토그램(마이크로초)과 오류 건수
+ */
+public class OperationStats {
+
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+
+    public void record(long latencyNanos, boolean error) {
+        latencies.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    public long requests() {
+        return latencies.getTotalCount();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public Histogram histogram() {
+        return latencies;
+    }
+
+    /**
+     * 리포트에 기록할 처리량, 오류율, 백분위 지연 시간(밀리초)을 만든다
+     */
+    public static Map<String, Object> summarize(Histogram histogram, long errors, double seconds) {
+        long requests = histogram.getTotalCount();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", requests);
+        summary.put("errors", errors);
+        summary.put("errorRate", requests == 0 ? 0.0 : (double) errors / requests);
+        summary.put("throughput", seconds <= 0 ? 0.0 : requests / seconds);
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("mean", histogram.getMean() / 1000.0);
+        latency.put("p50", histogram.getValueAtPercentile(50.0) / 1000.0);
+        latency.put("p90", histogram.getValueAtPercentile(90.0) / 1000.0);
+        latency.put("p99", histogram.getValueAtPercentile(99.0) / 1000.0);
+        latency.put("p999", histogram.getValueAtPercentile(99.9) / 1000.0);
+        latency.put("max", histogram.getMaxValue() / 1000.0);
+        summary.put("latencyMillis", latency);
+        return summary;
+    }
+}
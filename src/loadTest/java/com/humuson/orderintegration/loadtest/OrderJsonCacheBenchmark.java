@@ -0,0 +1,211 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humuson.orderintegration.config.IntegrationConfig;
+import com.humuson.orderintegration.controller.OrderFieldProjection;
+import com.humuson.orderintegration.controller.OrderJsonCache;
+import com.humuson.orderintegration.controller.dto.ApiResponse;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.repository.InMemoryOrderRepository;
+import com.humuson.orderintegration.repository.OrderRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 주문 ID를 Zipf 분포(소수 주문에 조회가 몰림)로 골라 단건 조회 응답 본문을 만들 때,
+ * 매번 Jackson으로 직렬화하는 경우와 캐시된 주문 JSON 바이트를 쓰는 경우의 처리량, 건당 CPU 시간, 건당 할당량을 비교한다.
+ * 측정 중에는 쓰기 스레드가 초당 writesPerSecond건씩 임의 주문을 다시 저장해 캐시 항목을 비운다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=OrderJsonCacheBenchmark -Pbenchmark.orders=100000 -Pbenchmark.zipf=0.99</pre>
+ */
+public final class OrderJsonCacheBenchmark {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final String MESSAGE = "주문 조회 완료";
+
+    private OrderJsonCacheBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int orderCount = Integer.getInteger("benchmark.orders", 100_000);
+        double exponent = Double.parseDouble(System.getProperty("benchmark.zipf", "0.99"));
+        int cacheSize = Integer.getInteger("benchmark.cacheSize", 10_000);
+        int threads = Integer.getInteger("benchmark.threads", Runtime.getRuntime().availableProcessors());
+        int writesPerSecond = Integer.getInteger("benchmark.writesPerSecond", 1_000);
+        int durationSeconds = Integer.getInteger("benchmark.durationSeconds", 10);
+        int descriptionLength = Integer.getInteger("benchmark.descriptionLength", 200);
+
+        ObjectMapper objectMapper = new IntegrationConfig().objectMapper();
+        double[] cdf = zipfCdf(orderCount, exponent);
+
+        System.out.printf("주문 %d건, Zipf 지수 %.2f, 캐시 %d건, 조회 스레드 %d개, 초당 쓰기 %d건, 모드별 %d초%n",
+                orderCount, exponent, cacheSize, threads, writesPerSecond, durationSeconds);
+        System.out.printf("%-10s %14s %14s %16s %10s %14s%n", "mode", "ops/s", "CPU/op(us)", "alloc/op(B)",
+                "hit rate", "saved(ms)");
+        for (String mode : new String[]{"jackson", "cached"}) {
+            OrderRepository repository = new InMemoryOrderRepository();
+            for (int i = 0; i < orderCount; i++) {
+                repository.save(createOrder(i, descriptionLength));
+            }
+            MeterRegistry meterRegistry = new SimpleMeterRegistry();
+            OrderJsonCache cache = new OrderJsonCache(repository, objectMapper, meterRegistry, true, cacheSize);
+            ResponseWriter writer = mode.equals("cached")
+                    ? order -> cache.successResponse(MESSAGE, order)
+                    : order -> serialize(objectMapper, order);
+            run(mode, repository, writer, cdf, threads, writesPerSecond, durationSeconds, descriptionLength,
+                    meterRegistry);
+        }
+    }
+
+    private static void run(String mode, OrderRepository repository, ResponseWriter responseWriter, double[] cdf,
+                            int threads, int writesPerSecond, int durationSeconds, int descriptionLength,
+                            MeterRegistry meterRegistry) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicBoolean measuring = new AtomicBoolean(false);
+        LongAdder operations = new LongAdder();
+        LongAdder cpuNanos = new LongAdder();
+        LongAdder allocatedBytes = new LongAdder();
+        List<Thread> readers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            readers.add(Thread.ofPlatform().name("benchmark-reader-" + t).start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long sink = 0;
+                long count = 0;
+                long cpuStart = 0;
+                long allocatedStart = 0;
+                boolean started = false;
+                while (running.get()) {
+                    if (!started && measuring.get()) {
+                        started = true;
+                        cpuStart = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+                        allocatedStart = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+                    }
+                    Order order = repository.findById(orderId(sample(cdf, random))).orElseThrow();
+                    sink += responseWriter.write(order).length;
+                    if (started) {
+                        count++;
+                    }
+                }
+                operations.add(count);
+                cpuNanos.add(THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuStart);
+                allocatedBytes.add(THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedStart);
+                if (sink == Long.MIN_VALUE) {
+                    System.out.println(sink);
+                }
+            }));
+        }
+        Thread writer = Thread.ofPlatform().name("benchmark-writer").start(() -> {
+            long intervalNanos = writesPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / writesPerSecond : 0;
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running.get() && intervalNanos > 0) {
+                // 조회가 몰리는 주문도 바뀌도록 조회와 같은 분포로 고른다
+                repository.save(createOrder(sample(cdf, random), descriptionLength));
+                try {
+                    TimeUnit.NANOSECONDS.sleep(intervalNanos);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        // 워밍업 구간을 측정에서 뺀다
+        TimeUnit.SECONDS.sleep(Math.max(1, durationSeconds / 5));
+        double hitsBefore = counter(meterRegistry, "order.query.cache.requests", "hit");
+        double missesBefore = counter(meterRegistry, "order.query.cache.requests", "miss");
+        double savedBefore = counter(meterRegistry, "order.query.cache.serialization.saved", null);
+        measuring.set(true);
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        running.set(false);
+        long elapsed = System.nanoTime() - start;
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        writer.join();
+
+        long ops = Math.max(operations.sum(), 1);
+        double hits = counter(meterRegistry, "order.query.cache.requests", "hit") - hitsBefore;
+        double misses = counter(meterRegistry, "order.query.cache.requests", "miss") - missesBefore;
+        double saved = counter(meterRegistry, "order.query.cache.serialization.saved", null) - savedBefore;
+        System.out.printf("%-10s %14.0f %14.2f %16.0f %10s %14.1f%n", mode,
+                ops / (elapsed / (double) TimeUnit.SECONDS.toNanos(1)),
+                cpuNanos.sum() / (double) ops / 1000.0, allocatedBytes.sum() / (double) ops,
+                hits + misses == 0 ? "-" : String.format("%.1f%%", hits * 100 / (hits + misses)), saved * 1000);
+    }
+
+    private static double counter(MeterRegistry meterRegistry, String name, String result) {
+        Search search = meterRegistry.find(name);
+        if (result != null) {
+            search = search.tag("result", result);
+        }
+        return search.functionCounters().stream().mapToDouble(FunctionCounter::count).sum();
+    }
+
+    /**
+     * MappingJackson2HttpMessageConverter와 같이 ApiResponse를 매번 만들고 모든 필드 필터로 직렬화한다
+     */
+    private static byte[] serialize(ObjectMapper objectMapper, Order order) {
+        MappingJacksonValue value = OrderFieldProjection.apply(ApiResponse.success(MESSAGE, order), null);
+        try {
+            return objectMapper.writer(value.getFilters()).writeValueAsBytes(value.getValue());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 순위 k(0부터)의 주문이 1/(k+1)^exponent에 비례해 뽑히도록 누적 분포를 만든다
+     */
+    private static double[] zipfCdf(int count, double exponent) {
+        double[] cdf = new double[count];
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < count; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, ThreadLocalRandom random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+    }
+
+    private static Order createOrder(int index, int descriptionLength) {
+        OrderStatus[] statuses = OrderStatus.values();
+        return Order.builder()
+                .orderId(orderId(index))
+                .customerName("고객" + (index % 1000))
+                .orderDate(LocalDateTime.of(2024, 1, 1, 10, 0).plusMinutes(index))
+                .status(statuses[index % statuses.length])
+                .description("벤치마크 주문 설명 ".repeat(descriptionLength / 11 + 1).substring(0, descriptionLength))
+                .build();
+    }
+
+    private static String orderId(int index) {
+        return String.format("BENCH-%08d", index);
+    }
+
+    @FunctionalInterface
+    private interface ResponseWriter {
+        byte[] write(Order order);
+    }
+}
@@ -0,0 +1,168 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.repository.InMemoryOrderRepository;
+import com.humuson.orderintegration.search.OrderSearchIndex;
+import com.humuson.orderintegration.search.OrderSearchIndexSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품명 조합으로 만든 설명을 가진 주문을 저장소에 채운 뒤 설명 검색 색인을 만들고, 흔한 단어, 여러 단어 AND, 상태 제한,
+ * 드문 단어 검색의 응답 시간을 색인 검색과 전체 훑기로 비교한다. 색인 생성 시간, 색인 추정 메모리와 실제 힙 증가량,
+ * 색인이 있을 때와 없을 때의 주문 저장 시간(변경 리스너로 다시 색인하는 비용)도 출력한다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=OrderSearchBenchmark -Pbenchmark.orders=10000000 -Pbenchmark.heap=16g</pre>
+ */
+public final class OrderSearchBenchmark {
+
+    private static final String[] COLORS = {"블랙", "화이트", "네이비", "레드", "그레이", "베이지", "핑크", "그린"};
+    private static final String[] FEATURES = {"무선", "유선", "블루투스", "기계식", "저소음", "초경량", "방수", "고속충전",
+            "접이식", "대용량"};
+    private static final String[] PRODUCTS = {"키보드", "마우스", "이어폰", "헤드셋", "스피커", "보조배터리", "충전기",
+            "노트북 거치대", "모니터 받침대", "USB 허브", "웹캠", "마이크", "태블릿 케이스", "스마트워치 밴드", "공유기",
+            "외장하드", "메모리카드", "멀티탭", "케이블", "키보드 덮개"};
+    private static final String[] MEMOS = {"선물 포장 요청", "부재 시 경비실", "문 앞에 놓아주세요", "빠른 배송 부탁",
+            "파손 주의", "배송 전 연락", "주말 배송", "회사 수령", "재구매 고객", "교환 재발송"};
+
+    private static final int SAVE_BATCH_SIZE = 100_000;
+    private static final int UPDATES = 100_000;
+
+    private OrderSearchBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int orderCount = Integer.getInteger("benchmark.orders", 1_000_000);
+        int queries = Integer.getInteger("benchmark.queries", 2_000);
+        int scanQueries = Integer.getInteger("benchmark.scanQueries", 3);
+        int limit = Integer.getInteger("benchmark.limit", 100);
+
+        InMemoryOrderRepository repository = new InMemoryOrderRepository();
+        fillRepository(repository, orderCount);
+        double plainSaveMicros = saveMicros(repository, orderCount);
+
+        System.gc();
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+        OrderSearchIndex index = new OrderSearchIndex(repository, new SimpleMeterRegistry(), true, limit);
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        System.gc();
+        long heapAfter = usedHeap();
+        OrderSearchIndexSummary summary = index.getSummary();
+        double indexedSaveMicros = saveMicros(repository, orderCount);
+        // 저장은 색인 큐에 넣고 돌아가므로 검색을 재기 전에 반영이 끝나기를 기다린다
+        start = System.nanoTime();
+        index.flush(Duration.ofMinutes(5));
+        long catchUpMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        OrderSearchIndex scan = new OrderSearchIndex(repository, new SimpleMeterRegistry(), false, limit);
+
+        System.out.printf("주문 %d건, 검색 결과 최대 %d건%n", orderCount, limit);
+        System.out.printf("색인 생성 %dms, 문서 %d건, 2-gram %d개, 문서 번호 %d개%n", buildMillis,
+                summary.getDocuments(), summary.getTerms(), summary.getPostings());
+        System.out.printf("색인 추정 메모리 %.1fMB, 힙 증가 %.1fMB%n", summary.getEstimatedBytes() / (1024.0 * 1024.0),
+                (heapAfter - heapBefore) / (1024.0 * 1024.0));
+        System.out.printf("주문 저장 평균: 색인 없음 %.2fus, 색인 있음 %.2fus (색인 반영 대기 %dms)%n%n",
+                plainSaveMicros, indexedSaveMicros, catchUpMillis);
+
+        System.out.printf("%-28s %-10s %8s %14s %14s %14s %14s%n", "query", "status", "results", "index p50(ms)",
+                "index p99(ms)", "index max(ms)", "scan avg(ms)");
+        SplittableRandom random = new SplittableRandom(42);
+        measure(index, scan, "블루투스", null, limit, queries, scanQueries);
+        measure(index, scan, "블랙 기계식 키보드", null, limit, queries, scanQueries);
+        measure(index, scan, "무선 마우스", OrderStatus.CANCELLED, limit, queries, scanQueries);
+        measure(index, scan, "저소음 키보드 선물 포장", OrderStatus.SHIPPING, limit, queries, scanQueries);
+        // 주문마다 다른 상품 코드는 숫자 2-gram이 흔해서 후보가 많고 대부분 확인 단계에서 걸러진다
+        measure(index, scan, "P" + random.nextInt(orderCount), null, limit, queries, scanQueries);
+        // 색인에 없는 2-gram이 있으면 목록을 훑지 않고 끝난다
+        measure(index, scan, "냉장고", null, limit, queries, scanQueries);
+        index.close();
+    }
+
+    private static void measure(OrderSearchIndex index, OrderSearchIndex scan, String query, OrderStatus status,
+                                int limit, int queries, int scanQueries) {
+        // 워밍업 구간을 측정에서 뺀다
+        for (int i = 0; i < Math.max(10, queries / 10); i++) {
+            index.search(query, status, limit);
+        }
+        long[] nanos = new long[queries];
+        int results = 0;
+        for (int i = 0; i < queries; i++) {
+            long start = System.nanoTime();
+            results = index.search(query, status, limit).size();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        long scanNanos = 0;
+        for (int i = 0; i < scanQueries; i++) {
+            long start = System.nanoTime();
+            scan.search(query, status, limit);
+            scanNanos += System.nanoTime() - start;
+        }
+        System.out.printf("%-28s %-10s %8d %14.3f %14.3f %14.3f %14.1f%n", query, status == null ? "-" : status,
+                results, millis(nanos[queries / 2]), millis(nanos[(int) (queries * 0.99)]), millis(nanos[queries - 1]),
+                millis(scanNanos / Math.max(1, scanQueries)));
+    }
+
+    /**
+     * 기존 주문 UPDATES건의 상태를 바꿔 다시 저장하는 평균 시간 (설명은 그대로라 색인은 상태만 고친다)
+     */
+    private static double saveMicros(InMemoryOrderRepository repository, int orderCount) {
+        SplittableRandom random = new SplittableRandom(7);
+        List<Order> orders = new ArrayList<>(UPDATES);
+        for (int i = 0; i < UPDATES; i++) {
+            int index = random.nextInt(orderCount);
+            orders.add(createOrder(index, OrderStatus.values()[random.nextInt(OrderStatus.values().length)]));
+        }
+        long start = System.nanoTime();
+        repository.saveAll(orders);
+        return (System.nanoTime() - start) / (double) UPDATES / 1000.0;
+    }
+
+    private static void fillRepository(InMemoryOrderRepository repository, int orderCount) {
+        for (int from = 0; from < orderCount; from += SAVE_BATCH_SIZE) {
+            int to = Math.min(from + SAVE_BATCH_SIZE, orderCount);
+            List<Order> orders = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                orders.add(createOrder(i, OrderStatus.values()[i % OrderStatus.values().length]));
+            }
+            repository.saveAll(orders);
+        }
+    }
+
+    /**
+     * 주문 번호로 정해지는 설명 (예: "네이비 무선 키보드 2개, 파손 주의, P1234")이라 다시 저장해도 설명은 바뀌지 않는다
+     */
+    private static Order createOrder(int index, OrderStatus status) {
+        SplittableRandom random = new SplittableRandom(index);
+        String description = COLORS[random.nextInt(COLORS.length)] + " "
+                + FEATURES[random.nextInt(FEATURES.length)] + " "
+                + PRODUCTS[random.nextInt(PRODUCTS.length)] + " "
+                + (1 + random.nextInt(5)) + "개, "
+                + MEMOS[random.nextInt(MEMOS.length)] + ", P" + index;
+        return Order.builder()
+                .orderId(String.format("SEARCH-%010d", index))
+                .customerName("고객" + index % 10_000)
+                .orderDate(LocalDateTime.now())
+                .status(status)
+                .description(description)
+                .build();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,102 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.repository.InMemoryOrderRepository;
+import com.humuson.orderintegration.service.ParallelOrderImportService;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 병렬 가져오기의 변환, 검증, 저장 처리량을 병렬도(1, 2, 4, ... 코어 수)별로 측정해 코어 수 대비 처리량 곡선을 만든다.
+ * 외부 시스템 호출은 제외하고 미리 만든 원본 주문 데이터를 매번 새 저장소에 가져온다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=ParallelImportBenchmark -Pbenchmark.records=500000 -Pbenchmark.ordered=true</pre>
+ */
+public final class ParallelImportBenchmark {
+
+    private ParallelImportBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int recordCount = Integer.getInteger("benchmark.records", 500_000);
+        int chunkSize = Integer.getInteger("benchmark.chunkSize", 2048);
+        int iterations = Integer.getInteger("benchmark.iterations", 5);
+        int warmupIterations = Integer.getInteger("benchmark.warmupIterations", 3);
+        boolean ordered = Boolean.parseBoolean(System.getProperty("benchmark.ordered", "true"));
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        List<OrderRequest> orderRequests = createOrderRequests(recordCount);
+        System.out.printf("주문 %d건, 청크 %d, 순서 보장 %s, 코어 %d, 측정 %d회 (워밍업 %d회)%n",
+                recordCount, chunkSize, ordered, cores, iterations, warmupIterations);
+        System.out.printf("%-12s %14s %16s %10s%n", "parallelism", "mean(ms)", "records/s", "speedup");
+
+        try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = validatorFactory.getValidator();
+            double baseline = 0;
+            for (int parallelism : parallelismLevels(cores)) {
+                double meanMillis = measure(orderRequests, validator, parallelism, chunkSize, ordered,
+                        iterations, warmupIterations);
+                if (baseline == 0) {
+                    baseline = meanMillis;
+                }
+                System.out.printf("%-12d %14.1f %16.0f %10.2f%n", parallelism, meanMillis,
+                        recordCount / (meanMillis / 1000.0), baseline / meanMillis);
+            }
+        }
+    }
+
+    private static double measure(List<OrderRequest> orderRequests, Validator validator, int parallelism,
+                                  int chunkSize, boolean ordered, int iterations, int warmupIterations) {
+        long totalNanos = 0;
+        for (int i = 0; i < warmupIterations + iterations; i++) {
+            // 이전 실행의 저장 결과가 다음 측정에 섞이지 않도록 매번 새 저장소를 쓴다
+            ParallelOrderImportService service = new ParallelOrderImportService(
+                    null, new InMemoryOrderRepository(), validator, null, null, null, parallelism, chunkSize,
+                    ordered);
+            try {
+                long start = System.nanoTime();
+                int saved = service.process(orderRequests, ordered).size();
+                long elapsed = System.nanoTime() - start;
+                if (saved != orderRequests.size()) {
+                    throw new IllegalStateException("저장 건수가 다릅니다: " + saved);
+                }
+                if (i >= warmupIterations) {
+                    totalNanos += elapsed;
+                }
+            } finally {
+                service.shutdown();
+            }
+        }
+        return totalNanos / (double) iterations / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static List<Integer> parallelismLevels(int cores) {
+        List<Integer> levels = new ArrayList<>();
+        for (int level = 1; level < cores; level *= 2) {
+            levels.add(level);
+        }
+        levels.add(cores);
+        return levels;
+    }
+
+    private static List<OrderRequest> createOrderRequests(int count) {
+        OrderStatus[] statuses = OrderStatus.values();
+        List<OrderRequest> orderRequests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orderRequests.add(OrderRequest.builder()
+                    .orderId(String.format("BENCH-%08d", i))
+                    .customerName("고객" + (i % 1000))
+                    .orderDate(String.format("2024-01-%02d 10:00:00", i % 28 + 1))
+                    .status(statuses[i % statuses.length].name())
+                    .description("벤치마크 주문")
+                    .build());
+        }
+        return orderRequests;
+    }
+}
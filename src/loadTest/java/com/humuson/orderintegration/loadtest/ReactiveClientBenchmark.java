@@ -0,0 +1,97 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.client.HttpExternalSystemClient;
+import com.humuson.orderintegration.client.WebClientExternalSystemClient;
+import reactor.core.publisher.Flux;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mock 외부 시스템의 slow 프로필(로그 정규 분포 지연)에서 블로킹 클라이언트와 논블로킹 클라이언트의
+ * 동시 호출 처리 시간과 클라이언트 측 스레드 사용량을 비교한다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=ReactiveClientBenchmark -Pbenchmark.concurrency=400</pre>
+ */
+public final class ReactiveClientBenchmark {
+
+    private ReactiveClientBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("benchmark.concurrency", 400);
+        int rounds = Integer.getInteger("benchmark.rounds", 3);
+
+        // Mock 서버 측 지연이 Tomcat 스레드를 점유하므로, 서버가 병목이 되지 않도록 스레드를 넉넉히 둔다
+        try (EmbeddedApplication application = EmbeddedApplication.start(
+                "server.tomcat.threads.max=" + (concurrency * 2),
+                "order.client.reactive.max-connections=" + concurrency)) {
+
+            applyFaultProfile(application.baseUrl(), "slow");
+            String endpoint = application.baseUrl() + "/external-system/orders/generate?count=100&seed=1";
+
+            HttpExternalSystemClient blockingClient = application.context().getBean(HttpExternalSystemClient.class);
+            WebClientExternalSystemClient reactiveClient = application.context().getBean(WebClientExternalSystemClient.class);
+
+            System.out.printf("동시 호출 %d건, slow 프로필%n", concurrency);
+            System.out.printf("%-10s %6s %12s %16s%n", "client", "round", "elapsed(ms)", "client threads");
+            for (int round = 1; round <= rounds; round++) {
+                runBlocking(blockingClient, endpoint, concurrency, round);
+                runReactive(reactiveClient, endpoint, concurrency, round);
+            }
+        }
+        System.exit(0);
+    }
+
+    private static void runBlocking(HttpExternalSystemClient client, String endpoint, int concurrency, int round)
+            throws Exception {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(executor.submit(() -> client.fetchOrders(endpoint).size()));
+            }
+            for (Future<Integer> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        // 호출 하나가 응답을 기다리는 동안 스레드 하나를 점유한다
+        System.out.printf("%-10s %6d %12d %16d%n", "blocking", round, elapsed, concurrency);
+    }
+
+    private static void runReactive(WebClientExternalSystemClient client, String endpoint, int concurrency, int round) {
+        long start = System.nanoTime();
+        Flux.range(0, concurrency)
+                .flatMap(i -> client.fetchOrders(endpoint).count(), concurrency)
+                .blockLast();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long eventLoopThreads = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("reactor-http"))
+                .count();
+        System.out.printf("%-10s %6d %12d %16d%n", "reactive", round, elapsed, eventLoopThreads);
+    }
+
+    private static void applyFaultProfile(String baseUrl, String profile) throws Exception {
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/external-system/admin/fault-profile/" + profile))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("장애 프로필 적용 실패: HTTP " + response.statusCode());
+        }
+    }
+}
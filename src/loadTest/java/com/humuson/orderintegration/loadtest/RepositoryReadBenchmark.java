@@ -0,0 +1,111 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.repository.InMemoryOrderRepository;
+import com.humuson.orderintegration.repository.OrderRepository;
+import com.humuson.orderintegration.repository.SnapshotOrderRepository;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToLongFunction;
+
+/**
+ * 동시 쓰기가 진행되는 동안 기존 저장소(ConcurrentHashMap + 목록 복사)와 스냅샷 저장소(불변 해시 트라이)의
+ * 목록 조회 지연 시간과 호출당 할당량을 비교한다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=RepositoryReadBenchmark -Pbenchmark.orders=200000</pre>
+ */
+public final class RepositoryReadBenchmark {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private RepositoryReadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int orderCount = Integer.getInteger("benchmark.orders", 200_000);
+        int iterations = Integer.getInteger("benchmark.iterations", 50);
+        int warmupIterations = Integer.getInteger("benchmark.warmupIterations", 20);
+
+        System.out.printf("주문 %d건, 측정 %d회 (워밍업 %d회), 백그라운드 쓰기 스레드 1개%n",
+                orderCount, iterations, warmupIterations);
+        System.out.printf("%-10s %-28s %14s %14s %16s%n", "store", "operation", "mean(ms)", "max(ms)", "alloc/op(KB)");
+        run("memory", new InMemoryOrderRepository(), orderCount, iterations, warmupIterations);
+        run("snapshot", new SnapshotOrderRepository(), orderCount, iterations, warmupIterations);
+    }
+
+    private static void run(String name, OrderRepository repository, int orderCount, int iterations,
+                            int warmupIterations) throws InterruptedException {
+        List<Order> orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            orders.add(createOrder(i));
+        }
+        repository.saveAll(orders);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = Thread.ofPlatform().name("benchmark-writer").start(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running.get()) {
+                repository.save(createOrder(random.nextInt(orderCount)));
+            }
+        });
+        try {
+            measure(name, "findAll().size()", repository, iterations, warmupIterations,
+                    r -> r.findAll().size());
+            measure(name, "findByStatus().size()", repository, iterations, warmupIterations,
+                    r -> r.findByStatus(OrderStatus.SHIPPING).size());
+            // SIZED 스트림의 count()는 원소를 순회하지 않을 수 있으므로 모든 원소를 실제로 읽는다
+            measure(name, "streamAll()", repository, iterations, warmupIterations,
+                    r -> r.streamAll().mapToLong(order -> order.getOrderId().length()).sum());
+            measure(name, "streamByStatus()", repository, iterations, warmupIterations,
+                    r -> r.streamByStatus(OrderStatus.SHIPPING).mapToLong(order -> order.getOrderId().length()).sum());
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    private static void measure(String name, String operation, OrderRepository repository, int iterations,
+                                int warmupIterations, ToLongFunction<OrderRepository> read) {
+        long sink = 0;
+        for (int i = 0; i < warmupIterations; i++) {
+            sink += read.applyAsLong(repository);
+        }
+        long totalNanos = 0;
+        long maxNanos = 0;
+        long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            sink += read.applyAsLong(repository);
+            long elapsed = System.nanoTime() - start;
+            totalNanos += elapsed;
+            maxNanos = Math.max(maxNanos, elapsed);
+        }
+        long allocatedPerOp = (THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore) / iterations;
+        System.out.printf("%-10s %-28s %14.3f %14.3f %16.1f%n", name, operation,
+                totalNanos / (double) iterations / TimeUnit.MILLISECONDS.toNanos(1),
+                maxNanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                allocatedPerOp / 1024.0);
+        if (sink == Long.MIN_VALUE) {
+            System.out.println(sink);
+        }
+    }
+
+    private static Order createOrder(int index) {
+        OrderStatus[] statuses = OrderStatus.values();
+        return Order.builder()
+                .orderId(String.format("BENCH-%08d", index))
+                .customerName("고객" + (index % 1000))
+                .orderDate(LocalDateTime.now())
+                .status(statuses[ThreadLocalRandom.current().nextInt(statuses.length)])
+                .description("벤치마크 주문")
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.audit.AuditJournal;
+import com.humuson.orderintegration.client.ExternalSystemClient;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.client.dto.OrderSendResult;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.monitoring.OperationResourceUsage;
+import com.humuson.orderintegration.monitoring.ResourceAccounting;
+import com.humuson.orderintegration.repository.InMemoryOrderRepository;
+import com.humuson.orderintegration.service.OrderIntegrationServiceImpl;
+import com.humuson.orderintegration.service.ParallelOrderImportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 외부 시스템 호출을 고정 응답으로 대신한 Import와 병렬 Import를 반복하면서 작업별 사용량 집계를 끈 경우와 켠 경우의
+ * 처리량을 비교하고(측정 비용), 켠 경우에는 집계된 Import 한 건당, 레코드 한 건당 힙 할당량과 CPU 시간을 출력한다.
+ * 병렬 Import는 ForkJoinPool 작업 스레드의 사용량까지 호출한 작업에 더해진다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=ResourceAccountingBenchmark -Pbenchmark.orders=10000</pre>
+ */
+public final class ResourceAccountingBenchmark {
+
+    private static final String ENDPOINT = "http://partner.example.com/orders";
+
+    private ResourceAccountingBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int orderCount = Integer.getInteger("benchmark.orders", 10_000);
+        int durationSeconds = Integer.getInteger("benchmark.durationSeconds", 5);
+        int parallelism = Integer.getInteger("benchmark.parallelism", Runtime.getRuntime().availableProcessors());
+
+        List<OrderRequest> orderRequests = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            orderRequests.add(OrderRequest.builder()
+                    .orderId(String.format("USAGE-%08d", i))
+                    .customerName("고객" + i % 1000)
+                    .orderDate("2024-01-01 10:00:00")
+                    .status("PROCESSING")
+                    .description("벤치마크 주문 " + i)
+                    .build());
+        }
+
+        System.out.printf("Import당 주문 %d건, 병렬도 %d, 모드별 %d초%n", orderCount, parallelism, durationSeconds);
+        System.out.printf("%-10s %-18s %12s %14s%n", "accounting", "operation", "imports/s", "orders/s");
+        List<OperationResourceUsage> usage = List.of();
+        try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = validatorFactory.getValidator();
+            AuditJournal journal = new AuditJournal(new SimpleMeterRegistry(), false, System.getProperty("java.io.tmpdir"),
+                    null, 1000, 4, 100, Duration.ZERO);
+            for (boolean enabled : new boolean[]{false, true}) {
+                ResourceAccounting accounting = new ResourceAccounting(new SimpleMeterRegistry(), enabled, 100);
+                FixedResponseClient client = new FixedResponseClient(orderRequests);
+                OrderIntegrationServiceImpl service = new OrderIntegrationServiceImpl(new InMemoryOrderRepository(),
+                        client, validator, null, journal, accounting, 2, 50, Duration.ZERO, Duration.ZERO, false);
+                ParallelOrderImportService parallelService = new ParallelOrderImportService(client,
+                        new InMemoryOrderRepository(), validator, null, journal, accounting, parallelism, 2048, true);
+                try {
+                    measure(enabled, "import", orderCount, durationSeconds,
+                            () -> service.importOrdersFromExternal(ENDPOINT));
+                    measure(enabled, "import_parallel", orderCount, durationSeconds,
+                            () -> parallelService.importOrders(ENDPOINT, true));
+                } finally {
+                    parallelService.shutdown();
+                }
+                if (enabled) {
+                    usage = accounting.getUsage(null);
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-18s %8s %12s %16s %16s %14s %14s%n", "operation", "jobs", "records", "MB/job",
+                "bytes/record", "CPU ms/job", "CPU us/record");
+        for (OperationResourceUsage entry : usage) {
+            System.out.printf("%-18s %8d %12d %16.1f %16.1f %14.2f %14.3f%n", entry.getOperation(), entry.getJobs(),
+                    entry.getRecords(), entry.getAllocatedBytesPerJob() / (1 << 20), entry.getAllocatedBytesPerRecord(),
+                    entry.getCpuMillisPerJob(), entry.getCpuMicrosPerRecord());
+        }
+    }
+
+    private static void measure(boolean enabled, String operation, int orderCount, int durationSeconds,
+                                Runnable importer) {
+        // 워밍업 구간을 측정에서 뺀다
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(Math.max(1, durationSeconds / 5));
+        while (System.nanoTime() < warmupEnd) {
+            importer.run();
+        }
+        long imports = 0;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        while (System.nanoTime() < end) {
+            importer.run();
+            imports++;
+        }
+        double seconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+        System.out.printf("%-10s %-18s %12.1f %14.0f%n", enabled ? "on" : "off", operation, imports / seconds,
+                imports * orderCount / seconds);
+    }
+
+    /**
+     * 네트워크 비용 없이 가져오기 이후 단계만 재도록 항상 같은 원본 주문 목록을 돌려주는 외부 시스템 클라이언트
+     */
+    private static final class FixedResponseClient implements ExternalSystemClient {
+
+        private final List<OrderRequest> orderRequests;
+
+        private FixedResponseClient(List<OrderRequest> orderRequests) {
+            this.orderRequests = orderRequests;
+        }
+
+        @Override
+        public List<Order> fetchOrders(String endpoint) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<OrderRequest> fetchOrderRequests(String endpoint) {
+            return orderRequests;
+        }
+
+        @Override
+        public boolean sendOrder(String endpoint, Order order) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean sendOrders(String endpoint, List<Order> orders) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public OrderSendResult sendOrdersWithResults(String endpoint, List<Order> orders) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean sendOrderStream(String endpoint, Stream<Order> orders) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getSystemType() {
+            return "FIXED";
+        }
+    }
+}
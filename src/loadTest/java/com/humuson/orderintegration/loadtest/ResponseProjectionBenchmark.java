@@ -0,0 +1,100 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.humuson.orderintegration.config.IntegrationConfig;
+import com.humuson.orderintegration.controller.OrderFieldProjection;
+import com.humuson.orderintegration.controller.dto.ApiResponse;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 주문 목록 응답을 전체 필드, fields 지정(ApiResponse 포함), compact 모드로 각각 직렬화해
+ * 응답 크기와 직렬화 시간, 호출당 할당량을 비교한다. 컨트롤러와 같은 ObjectMapper 설정과 필드 필터를 사용한다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=ResponseProjectionBenchmark -Pbenchmark.orders=10000 -Pbenchmark.fields=orderId,status</pre>
+ */
+public final class ResponseProjectionBenchmark {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private ResponseProjectionBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int orderCount = Integer.getInteger("benchmark.orders", 10_000);
+        int descriptionLength = Integer.getInteger("benchmark.descriptionLength", 200);
+        String fields = System.getProperty("benchmark.fields", "orderId,status");
+        int iterations = Integer.getInteger("benchmark.iterations", 200);
+        int warmupIterations = Integer.getInteger("benchmark.warmupIterations", 100);
+
+        ObjectMapper objectMapper = new IntegrationConfig().objectMapper();
+        List<Order> orders = createOrders(orderCount, descriptionLength);
+        Set<String> selected = OrderFieldProjection.parse(fields);
+
+        System.out.printf("주문 %d건, 설명 %d자, fields=%s, 측정 %d회 (워밍업 %d회)%n",
+                orderCount, descriptionLength, fields, iterations, warmupIterations);
+        System.out.printf("%-10s %14s %12s %14s %16s%n", "mode", "bytes", "mean(ms)", "MB/s", "alloc/op(KB)");
+        measure("full", objectMapper, () -> ApiResponse.success("주문 목록 조회 완료", orders), null,
+                iterations, warmupIterations);
+        measure("fields", objectMapper, () -> ApiResponse.success("주문 목록 조회 완료", orders), selected,
+                iterations, warmupIterations);
+        measure("compact", objectMapper, () -> orders, selected, iterations, warmupIterations);
+    }
+
+    /**
+     * MappingJackson2HttpMessageConverter와 같이 응답 본문마다 필터를 적용한 ObjectWriter로 직렬화한다.
+     * ApiResponse 생성(timestamp 포함)도 요청마다 일어나므로 측정 구간에 넣는다
+     */
+    private static void measure(String mode, ObjectMapper objectMapper, Supplier<Object> body, Set<String> selected,
+                                int iterations, int warmupIterations) throws Exception {
+        int bytes = 0;
+        for (int i = 0; i < warmupIterations; i++) {
+            bytes = serialize(objectMapper, body.get(), selected).length;
+        }
+        long totalNanos = 0;
+        long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            bytes = serialize(objectMapper, body.get(), selected).length;
+            totalNanos += System.nanoTime() - start;
+        }
+        long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        double meanMillis = totalNanos / (double) iterations / TimeUnit.MILLISECONDS.toNanos(1);
+        System.out.printf("%-10s %14d %12.2f %14.1f %16.1f%n", mode, bytes, meanMillis,
+                bytes / (1024.0 * 1024.0) / (meanMillis / 1000.0), allocated / (double) iterations / 1024);
+    }
+
+    private static byte[] serialize(ObjectMapper objectMapper, Object body, Set<String> selected) throws Exception {
+        MappingJacksonValue value = OrderFieldProjection.apply(body, selected);
+        ObjectWriter writer = objectMapper.writer(value.getFilters());
+        return writer.writeValueAsBytes(value.getValue());
+    }
+
+    private static List<Order> createOrders(int count, int descriptionLength) {
+        OrderStatus[] statuses = OrderStatus.values();
+        String description = "벤치마크 주문 설명 ".repeat(descriptionLength / 11 + 1).substring(0, descriptionLength);
+        LocalDateTime baseDate = LocalDateTime.of(2024, 1, 1, 10, 0);
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(Order.builder()
+                    .orderId(String.format("BENCH-%08d", i))
+                    .customerName("고객" + (i % 1000))
+                    .orderDate(baseDate.plusMinutes(i))
+                    .status(statuses[i % statuses.length])
+                    .description(description)
+                    .build());
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,141 @@
+package com.humuson.orderintegration.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 실행 옵션(JIT, Spring AOT, AppCDS, AOT + AppCDS)별로 별도 JVM을 기동해
+ * 첫 번째 성공 응답까지의 시간과 정상 상태 처리량에 도달하기까지의 시간을 측정한다.
+ * 정상 상태는 측정 후반부 구간 처리량의 중앙값을 기준으로, 연속 3개 구간 평균이 그 90%를 처음 넘는 시점으로 본다.
+ *
+ * <pre>./gradlew startupBenchmark -Pbenchmark.modes=jit,aot,cds,aot-cds -Pbenchmark.repeats=3</pre>
+ */
+public final class StartupBenchmark {
+
+    private static final long WINDOW_MILLIS = 500;
+    private static final double STEADY_STATE_RATIO = 0.9;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path applicationJar = Path.of(System.getProperty("startup.applicationJar", "build/cds/application.jar"));
+        Path archive = Path.of(System.getProperty("startup.cdsArchive", "build/cds/application.jsa"));
+        Path aotArchive = Path.of(System.getProperty("startup.aotCdsArchive", "build/cds/application-aot.jsa"));
+        List<String> modes = Arrays.asList(System.getProperty("benchmark.modes", "jit,aot,cds,aot-cds").split(","));
+        int repeats = Integer.getInteger("benchmark.repeats", 3);
+        int concurrency = Integer.getInteger("benchmark.concurrency", 8);
+        int durationSeconds = Integer.getInteger("benchmark.durationSeconds", 30);
+
+        Map<String, List<String>> modeOptions = new LinkedHashMap<>();
+        modeOptions.put("jit", List.of());
+        modeOptions.put("aot", List.of("-Dspring.aot.enabled=true"));
+        modeOptions.put("cds", List.of("-XX:SharedArchiveFile=" + archive.toAbsolutePath()));
+        modeOptions.put("aot-cds", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + aotArchive.toAbsolutePath()));
+
+        System.out.printf("동시 사용자 %d, 측정 %d초, 반복 %d회%n", concurrency, durationSeconds, repeats);
+        System.out.printf("%-8s %6s %18s %20s %18s%n", "mode", "run", "first 200 (ms)", "steady state (ms)", "throughput (/s)");
+        for (String mode : modes) {
+            List<String> options = modeOptions.get(mode.trim());
+            if (options == null) {
+                throw new IllegalArgumentException("알 수 없는 실행 옵션입니다: " + mode);
+            }
+            for (int run = 1; run <= repeats; run++) {
+                Path logFile = applicationJar.resolveSibling("startup-" + mode.trim() + "-" + run + ".log");
+                measure(mode.trim(), run, applicationJar, options, logFile, concurrency, durationSeconds);
+            }
+        }
+        System.exit(0);
+    }
+
+    private static void measure(String mode, int run, Path applicationJar, List<String> options, Path logFile,
+                                int concurrency, int durationSeconds) throws Exception {
+        if (!Files.exists(applicationJar)) {
+            throw new IllegalStateException("추출한 애플리케이션이 없습니다. ./gradlew extractBootJar를 먼저 실행하세요: " + applicationJar);
+        }
+        try (ApplicationProcess application = ApplicationProcess.launch(applicationJar, options, logFile)) {
+            StartupWorkload workload = new StartupWorkload(application.baseUrl());
+            Duration firstSuccess = application.awaitFirstSuccess(workload.httpClient(), Duration.ofMinutes(2));
+            workload.preload();
+
+            int windowCount = (int) (TimeUnit.SECONDS.toMillis(durationSeconds) / WINDOW_MILLIS);
+            AtomicLongArray completedPerWindow = new AtomicLongArray(windowCount);
+            long loadStartNanos = System.nanoTime();
+            long loadEndNanos = loadStartNanos + TimeUnit.SECONDS.toNanos(durationSeconds);
+            AtomicBoolean running = new AtomicBoolean(true);
+
+            List<Thread> users = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                users.add(Thread.ofVirtual().start(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (running.get()) {
+                        try {
+                            if (workload.runOnce(random)) {
+                                long now = System.nanoTime();
+                                int window = (int) (TimeUnit.NANOSECONDS.toMillis(now - loadStartNanos) / WINDOW_MILLIS);
+                                if (now < loadEndNanos && window < windowCount) {
+                                    completedPerWindow.incrementAndGet(window);
+                                }
+                            }
+                        } catch (Exception e) {
+                            if (e instanceof InterruptedException) {
+                                return;
+                            }
+                        }
+                    }
+                }));
+            }
+            TimeUnit.NANOSECONDS.sleep(loadEndNanos - System.nanoTime());
+            running.set(false);
+            for (Thread user : users) {
+                user.join();
+            }
+
+            long[] windows = new long[windowCount];
+            for (int i = 0; i < windowCount; i++) {
+                windows[i] = completedPerWindow.get(i);
+            }
+            double steadyThroughput = steadyThroughput(windows);
+            int steadyWindow = steadyStateWindow(windows, steadyThroughput);
+            long loadStartMillis = TimeUnit.NANOSECONDS.toMillis(loadStartNanos - application.launchNanos());
+            String steadyState = steadyWindow < 0 ? "미도달"
+                    : String.valueOf(loadStartMillis + (steadyWindow + 1) * WINDOW_MILLIS);
+
+            System.out.printf("%-8s %6d %18d %20s %18.1f%n", mode, run, firstSuccess.toMillis(), steadyState,
+                    steadyThroughput * 1000 / WINDOW_MILLIS);
+        }
+    }
+
+    /**
+     * 후반 30% 구간 처리량의 중앙값 (구간당 완료 건수)
+     */
+    static double steadyThroughput(long[] windows) {
+        int from = (int) (windows.length * 0.7);
+        long[] tail = Arrays.copyOfRange(windows, from, windows.length);
+        Arrays.sort(tail);
+        return tail.length == 0 ? 0 : tail[tail.length / 2];
+    }
+
+    /**
+     * 연속 3개 구간 평균이 정상 상태 처리량의 90%를 처음 넘는 구간의 마지막 인덱스. 도달하지 못하면 -1
+     */
+    static int steadyStateWindow(long[] windows, double steadyThroughput) {
+        for (int i = 2; i < windows.length; i++) {
+            double average = (windows[i - 2] + windows[i - 1] + windows[i]) / 3.0;
+            if (average >= steadyThroughput * STEADY_STATE_RATIO) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
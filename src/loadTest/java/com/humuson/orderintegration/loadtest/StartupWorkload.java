@@ -0,0 +1,67 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.domain.OrderStatus;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * CDS 학습 실행과 시작 시간 벤치마크가 공통으로 사용하는 작업 부하.
+ * 부하 테스트의 Import, Export, 조회 요청에 스트리밍 Export를 더해 실제 요청 경로의 클래스를 모두 거치게 한다.
+ */
+final class StartupWorkload {
+
+    private static final LoadTestOperation[] OPERATIONS = LoadTestOperation.values();
+
+    private final HttpClient httpClient;
+    private final LoadTestContext context;
+
+    StartupWorkload(String baseUrl) {
+        this.httpClient = newHttpClient();
+        this.context = new LoadTestContext(LoadTestConfig.fromSystemProperties(), baseUrl, Duration.ofSeconds(30));
+    }
+
+    static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    HttpClient httpClient() {
+        return httpClient;
+    }
+
+    void preload() throws IOException, InterruptedException {
+        LoadTestRunner.preload(httpClient, context);
+    }
+
+    /**
+     * 작업 하나를 무작위로 골라 실행하고 성공 여부를 반환한다
+     */
+    boolean runOnce(ThreadLocalRandom random) throws IOException, InterruptedException {
+        HttpRequest request = random.nextInt(OPERATIONS.length + 1) == OPERATIONS.length
+                ? streamExportRequest(random)
+                : OPERATIONS[random.nextInt(OPERATIONS.length)].createRequest(context, random);
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() == 200;
+    }
+
+    private HttpRequest streamExportRequest(ThreadLocalRandom random) {
+        OrderStatus[] statuses = OrderStatus.values();
+        String body = "{\"endpoint\":\"" + context.baseUrl() + "/external-system/orders\",\"status\":\""
+                + statuses[random.nextInt(statuses.length)].name() + "\"}";
+        return HttpRequest.newBuilder(URI.create(context.baseUrl() + "/api/orders/export/stream"))
+                .timeout(context.requestTimeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.StatusTransitionResult;
+import com.humuson.orderintegration.repository.InMemoryOrderRepository;
+import com.humuson.orderintegration.repository.OrderRepository;
+import com.humuson.orderintegration.repository.SnapshotOrderRepository;
+import com.humuson.orderintegration.repository.TieredOrderRepository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 적은 수의 주문에 일괄 상태 전환(PROCESSING ↔ SHIPPING)과 Import(같은 주문 덮어쓰기)가 몰리는 상황에서
+ * 저장소별 전환 처리량, 전환/충돌 건수, Import 처리량을 측정하고, 끝난 뒤 통계 카운터가 실제 주문 상태와 맞는지 확인한다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=StatusTransitionBenchmark -Pbenchmark.orders=1000 -Pbenchmark.transitionThreads=8</pre>
+ */
+public final class StatusTransitionBenchmark {
+
+    private static final OrderStatus[] FLIPPED = {OrderStatus.PROCESSING, OrderStatus.SHIPPING};
+
+    private StatusTransitionBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int orderCount = Integer.getInteger("benchmark.orders", 1_000);
+        int transitionThreads = Integer.getInteger("benchmark.transitionThreads", 8);
+        int importThreads = Integer.getInteger("benchmark.importThreads", 2);
+        int batchSize = Integer.getInteger("benchmark.batchSize", 50);
+        int durationSeconds = Integer.getInteger("benchmark.durationSeconds", 10);
+
+        System.out.printf("주문 %d건, 전환 스레드 %d개 (%d건씩), Import 스레드 %d개, 저장소별 %d초%n",
+                orderCount, transitionThreads, batchSize, importThreads, durationSeconds);
+        System.out.printf("%-10s %14s %12s %12s %14s %12s%n", "store", "transitions/s", "applied", "conflicted",
+                "imports/s", "consistent");
+        run("memory", new InMemoryOrderRepository(), orderCount, transitionThreads, importThreads, batchSize,
+                durationSeconds);
+        run("snapshot", new SnapshotOrderRepository(), orderCount, transitionThreads, importThreads, batchSize,
+                durationSeconds);
+        Path segmentDir = Files.createTempDirectory("transition-benchmark");
+        TieredOrderRepository tiered = new TieredOrderRepository(Duration.ofDays(30),
+                List.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED), Duration.ZERO, segmentDir.toString(), 64, 100_000);
+        try {
+            run("tiered", tiered, orderCount, transitionThreads, importThreads, batchSize, durationSeconds);
+        } finally {
+            tiered.shutdown();
+            Files.deleteIfExists(segmentDir.resolve("segments-" + ProcessHandle.current().pid()));
+            Files.deleteIfExists(segmentDir);
+        }
+    }
+
+    private static void run(String name, OrderRepository repository, int orderCount, int transitionThreads,
+                            int importThreads, int batchSize, int durationSeconds) throws InterruptedException {
+        List<Order> initial = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            initial.add(createOrder(i, OrderStatus.PROCESSING));
+        }
+        repository.saveAll(initial);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder transitions = new LongAdder();
+        LongAdder applied = new LongAdder();
+        LongAdder conflicted = new LongAdder();
+        LongAdder imported = new LongAdder();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < transitionThreads; t++) {
+            threads.add(Thread.ofPlatform().name("benchmark-transition-" + t).start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    List<String> orderIds = new ArrayList<>(batchSize);
+                    for (int i = 0; i < batchSize; i++) {
+                        orderIds.add(orderId(random.nextInt(orderCount)));
+                    }
+                    // 스레드마다 방향을 임의로 골라 같은 주문을 서로 반대로 뒤집으려 하므로 충돌이 계속 생긴다
+                    boolean forward = random.nextBoolean();
+                    StatusTransitionResult result = repository.transitionStatus(orderIds,
+                            forward ? OrderStatus.PROCESSING : OrderStatus.SHIPPING,
+                            forward ? OrderStatus.SHIPPING : OrderStatus.PROCESSING);
+                    transitions.add(result.getRequestedCount());
+                    applied.add(result.getAppliedCount());
+                    conflicted.add(result.getConflictedCount());
+                }
+            }));
+        }
+        for (int t = 0; t < importThreads; t++) {
+            threads.add(Thread.ofPlatform().name("benchmark-import-" + t).start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    List<Order> orders = new ArrayList<>(batchSize);
+                    for (int i = 0; i < batchSize; i++) {
+                        orders.add(createOrder(random.nextInt(orderCount), FLIPPED[random.nextInt(FLIPPED.length)]));
+                    }
+                    repository.saveAll(orders);
+                    imported.add(orders.size());
+                }
+            }));
+        }
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        System.out.printf("%-10s %14.1f %12d %12d %14.1f %12s%n", name, transitions.sum() / (double) durationSeconds,
+                applied.sum(), conflicted.sum(), imported.sum() / (double) durationSeconds,
+                consistent(repository) ? "yes" : "NO");
+    }
+
+    /**
+     * 증분으로 유지한 상태별 통계가 저장된 주문을 다시 센 결과와 같은지 확인한다
+     */
+    private static boolean consistent(OrderRepository repository) {
+        Map<OrderStatus, Long> recount = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            recount.put(status, 0L);
+        }
+        long total = 0;
+        try (Stream<Order> orders = repository.streamAll()) {
+            for (Order order : (Iterable<Order>) orders::iterator) {
+                recount.merge(order.getStatus(), 1L, Long::sum);
+                total++;
+            }
+        }
+        OrderStatistics statistics = repository.getStatistics();
+        return statistics.getTotalCount() == total && recount.equals(statistics.getStatusCounts());
+    }
+
+    private static Order createOrder(int index, OrderStatus status) {
+        return Order.builder()
+                .orderId(orderId(index))
+                .customerName("고객" + index % 1000)
+                .orderDate(LocalDateTime.now())
+                .status(status)
+                .description("벤치마크 주문 " + index)
+                .build();
+    }
+
+    private static String orderId(int index) {
+        return String.format("CAS-%08d", index);
+    }
+}
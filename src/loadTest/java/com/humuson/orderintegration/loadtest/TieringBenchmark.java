@@ -0,0 +1,180 @@
+package com.humuson.orderintegration.loadtest;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.OrderTierSummary;
+import com.humuson.orderintegration.repository.TieredOrderRepository;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+/**
+ * 종료 상태 주문이 대부분인 저장소에서 콜드 세그먼트 이동 전후의 힙 사용량과 GC 영향을 비교한다.
+ * 각 단계마다 전체 GC 후 힙 사용량과 전체 GC 정지 시간을 재고, 새 주문 저장과 단건 조회를 섞은 부하를 주는 동안의
+ * GC 횟수, 누적 정지 시간, 핫/콜드 주문 단건 조회 평균 시간을 출력한다.
+ *
+ * <pre>./gradlew benchmark -Pbenchmark=TieringBenchmark -Pbenchmark.orders=2000000 -Pbenchmark.heap=4g</pre>
+ */
+public final class TieringBenchmark {
+
+    private static final int SAVE_BATCH_SIZE = 100_000;
+    private static final int LOOKUPS = 20_000;
+    private static final int WRITER_ORDERS = 100_000;
+
+    private TieringBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int orderCount = Integer.getInteger("benchmark.orders", 2_000_000);
+        int terminalPercent = Integer.getInteger("benchmark.terminalPercent", 80);
+        int durationSeconds = Integer.getInteger("benchmark.durationSeconds", 20);
+        Path segmentDir = Files.createTempDirectory("tiering-benchmark");
+
+        TieredOrderRepository repository = new TieredOrderRepository(Duration.ofDays(30),
+                List.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED), Duration.ZERO, segmentDir.toString(), 64, 100_000);
+        try {
+            fillRepository(repository, orderCount, terminalPercent);
+            System.out.printf("주문 %d건 (종료 상태 %d%%), 단계별 부하 %d초%n", orderCount, terminalPercent, durationSeconds);
+            System.out.printf("%-8s %10s %12s %10s %12s %14s %14s %14s%n", "phase", "heap(MB)", "fullGC(ms)",
+                    "GCs", "GC time(ms)", "segments(MB)", "hot get(us)", "cold get(us)");
+
+            measure("before", repository, orderCount, terminalPercent, durationSeconds);
+            long start = System.nanoTime();
+            int moved = repository.ageOut();
+            long ageOutMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            measure("after", repository, orderCount, terminalPercent, durationSeconds);
+            OrderTierSummary summary = repository.getTierSummary();
+            System.out.printf("콜드 세그먼트 이동: %d건, %dms (핫 %d건, 콜드 %d건, 세그먼트 %d개)%n", moved, ageOutMillis,
+                    summary.getHotCount(), summary.getColdCount(), summary.getSegmentCount());
+        } finally {
+            repository.shutdown();
+            Files.deleteIfExists(segmentDir.resolve("segments-" + ProcessHandle.current().pid()));
+            Files.deleteIfExists(segmentDir);
+        }
+        System.exit(0);
+    }
+
+    private static void measure(String phase, TieredOrderRepository repository, int orderCount, int terminalPercent,
+                                int durationSeconds) throws InterruptedException {
+        System.gc();
+        long heap = usedHeap();
+        long fullGcStart = System.nanoTime();
+        System.gc();
+        double fullGcMillis = (System.nanoTime() - fullGcStart) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTime();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger nextOrder = new AtomicInteger();
+        // 새 주문 WRITER_ORDERS건을 번갈아 덮어쓰며 저장해 저장소 크기는 유지하면서 영 GC를 일으킨다
+        Thread writer = Thread.ofPlatform().name("benchmark-writer").start(() -> {
+            while (running.get()) {
+                int index = orderCount + nextOrder.getAndIncrement() % WRITER_ORDERS;
+                repository.save(createOrder(index, OrderStatus.PROCESSING, LocalDateTime.now()));
+            }
+        });
+        Thread reader = Thread.ofPlatform().name("benchmark-reader").start(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running.get()) {
+                repository.findById(orderId(random.nextInt(orderCount)));
+            }
+        });
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        running.set(false);
+        writer.join();
+        reader.join();
+        long gcCount = gcCount() - gcCountBefore;
+        long gcTimeMillis = gcTime() - gcTimeBefore;
+
+        // 주문 번호 i의 상태는 i % 100 < terminalPercent이면 종료 상태이므로 핫/콜드 주문을 골라 조회할 수 있다
+        double hotMicros = lookupMicros(repository, orderCount, index -> index % 100 >= terminalPercent);
+        double coldMicros = lookupMicros(repository, orderCount, index -> index % 100 < terminalPercent);
+
+        System.out.printf("%-8s %10.1f %12.1f %10d %12d %14.1f %14.2f %14.2f%n", phase, heap / (1024.0 * 1024.0),
+                fullGcMillis, gcCount, gcTimeMillis, repository.getTierSummary().getSegmentBytes() / (1024.0 * 1024.0),
+                hotMicros, coldMicros);
+    }
+
+    private static double lookupMicros(TieredOrderRepository repository, int orderCount,
+                                       IntPredicate selector) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long elapsed = 0;
+        int lookups = 0;
+        while (lookups < LOOKUPS) {
+            int index = random.nextInt(orderCount);
+            if (!selector.test(index)) {
+                continue;
+            }
+            long start = System.nanoTime();
+            repository.findById(orderId(index)).orElseThrow();
+            elapsed += System.nanoTime() - start;
+            lookups++;
+        }
+        return elapsed / (double) lookups / 1000.0;
+    }
+
+    private static void fillRepository(TieredOrderRepository repository, int orderCount, int terminalPercent) {
+        LocalDateTime oldDate = LocalDateTime.now().minusDays(90);
+        for (int from = 0; from < orderCount; from += SAVE_BATCH_SIZE) {
+            int to = Math.min(from + SAVE_BATCH_SIZE, orderCount);
+            List<Order> orders = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                boolean terminal = i % 100 < terminalPercent;
+                OrderStatus status = terminal ? (i % 10 == 0 ? OrderStatus.CANCELLED : OrderStatus.COMPLETED)
+                        : (i % 2 == 0 ? OrderStatus.PROCESSING : OrderStatus.SHIPPING);
+                orders.add(createOrder(i, status, oldDate.plusSeconds(i % 86_400)));
+            }
+            repository.saveAll(orders);
+        }
+        // 부하 중 저장하는 새 주문도 미리 채워 두어 단계별 힙 사용량을 같은 주문 수로 비교한다
+        for (int i = 0; i < WRITER_ORDERS; i++) {
+            repository.save(createOrder(orderCount + i, OrderStatus.PROCESSING, LocalDateTime.now()));
+        }
+    }
+
+    private static Order createOrder(int index, OrderStatus status, LocalDateTime orderDate) {
+        return Order.builder()
+                .orderId(orderId(index))
+                .customerName("고객" + index % 10_000)
+                .orderDate(orderDate)
+                .status(status)
+                .description("벤치마크 주문 " + index)
+                .build();
+    }
+
+    private static String orderId(int index) {
+        return String.format("TIER-%010d", index);
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(bean.getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(bean.getCollectionTime(), 0);
+        }
+        return time;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,113 @@
+package com.humuson.orderintegration.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 닫힌(closed) 또는 열린(open) 부하 모델로 요청을 발생시키고 작업별 지연 시간을 기록한다.
+ * 요청은 모두 가상 스레드에서 실행한다. 열린 모델은 예정된 발생 시각부터 지연을 측정해
+ * 서버가 느려져 요청이 밀리는 구간(coordinated omission)도 결과에 반영한다.
+ */
+public class WorkloadDriver {
+
+    private final LoadTestContext context;
+    private final HttpClient httpClient;
+    private final LoadTestOperation[] operations;
+    private final int[] thresholds;
+    private final int weightTotal;
+    private final Map<LoadTestOperation, OperationStats> stats = new EnumMap<>(LoadTestOperation.class);
+
+    public WorkloadDriver(LoadTestContext context, HttpClient httpClient) {
+        this.context = context;
+        this.httpClient = httpClient;
+
+        Map<LoadTestOperation, Integer> mix = context.config().mix();
+        this.operations = new LoadTestOperation[mix.size()];
+        this.thresholds = new int[mix.size()];
+        int total = 0;
+        int index = 0;
+        for (Map.Entry<LoadTestOperation, Integer> entry : mix.entrySet()) {
+            total += entry.getValue();
+            operations[index] = entry.getKey();
+            thresholds[index] = total;
+            stats.put(entry.getKey(), new OperationStats());
+            index++;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("부하 비율의 합은 0보다 커야 합니다");
+        }
+        this.weightTotal = total;
+    }
+
+    public Map<LoadTestOperation, OperationStats> stats() {
+        return stats;
+    }
+
+    public void run() {
+        LoadTestConfig config = context.config();
+        long measureStart = System.nanoTime() + config.warmup().toNanos();
+        long end = measureStart + config.duration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (config.model() == LoadTestConfig.WorkloadModel.CLOSED) {
+                for (int i = 0; i < config.concurrency(); i++) {
+                    executor.submit(() -> {
+                        long start;
+                        while ((start = System.nanoTime()) < end) {
+                            execute(start, measureStart);
+                        }
+                    });
+                }
+            } else {
+                long interval = (long) (1_000_000_000L / config.ratePerSecond());
+                for (long next = System.nanoTime(); next < end; next += interval) {
+                    long wait = next - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    long intendedStart = next;
+                    executor.submit(() -> execute(intendedStart, measureStart));
+                }
+            }
+        }
+    }
+
+    private void execute(long intendedStart, long measureStart) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LoadTestOperation operation = pick(random);
+        HttpRequest request = operation.createRequest(context, random);
+
+        boolean error;
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            error = response.statusCode() >= 400;
+        } catch (IOException e) {
+            error = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (intendedStart >= measureStart) {
+            stats.get(operation).record(System.nanoTime() - intendedStart, error);
+        }
+    }
+
+    private LoadTestOperation pick(ThreadLocalRandom random) {
+        int value = random.nextInt(weightTotal);
+        for (int i = 0; i < thresholds.length; i++) {
+            if (value < thresholds[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+}
@@ -0,0 +1,209 @@
+package com.humuson.orderintegration.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humuson.orderintegration.controller.dto.ApiResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 주문 API 요청을 가져오기, 전송, 조회로 나눠 작업별 {@link AdmissionGate}를 거치게 한다.
+ * 외부 시스템을 기다리며 요청 스레드를 오래 붙잡는 가져오기, 전송이 몰려도 조회가 쓸 스레드가 남도록
+ * 작업별 동시 처리 수와 대기열을 따로 두고, 넘치는 요청은 429와 Retry-After 헤더로 바로 돌려보낸다.
+ * 비동기 가져오기, 전송은 응답이 끝날 때 허가를 반납하고, NDJSON 조회 스트리밍은 요청 스레드가 응답을 넘긴 시점에 반납한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final Map<AdmissionOperation, AdmissionGate> gates = new EnumMap<>(AdmissionOperation.class);
+    private final Map<AdmissionOperation, Timer> waitTimers = new EnumMap<>(AdmissionOperation.class);
+
+    public AdmissionControlFilter(ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${order.admission.enabled:true}") boolean enabled,
+                                  @Value("${order.admission.import.max-concurrent:16}") int importMaxConcurrent,
+                                  @Value("${order.admission.import.max-queue:32}") int importMaxQueue,
+                                  @Value("${order.admission.import.max-wait:2s}") Duration importMaxWait,
+                                  @Value("${order.admission.export.max-concurrent:16}") int exportMaxConcurrent,
+                                  @Value("${order.admission.export.max-queue:32}") int exportMaxQueue,
+                                  @Value("${order.admission.export.max-wait:2s}") Duration exportMaxWait,
+                                  @Value("${order.admission.read.max-concurrent:64}") int readMaxConcurrent,
+                                  @Value("${order.admission.read.max-queue:128}") int readMaxQueue,
+                                  @Value("${order.admission.read.max-wait:500ms}") Duration readMaxWait,
+                                  @Value("${order.admission.update.max-concurrent:8}") int updateMaxConcurrent,
+                                  @Value("${order.admission.update.max-queue:16}") int updateMaxQueue,
+                                  @Value("${order.admission.update.max-wait:1s}") Duration updateMaxWait,
+                                  @Value("${server.tomcat.threads.max:200}") int serverThreads) {
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        register(meterRegistry, new AdmissionGate(AdmissionOperation.IMPORT, importMaxConcurrent, importMaxQueue,
+                importMaxWait));
+        register(meterRegistry, new AdmissionGate(AdmissionOperation.EXPORT, exportMaxConcurrent, exportMaxQueue,
+                exportMaxWait));
+        register(meterRegistry, new AdmissionGate(AdmissionOperation.READ, readMaxConcurrent, readMaxQueue,
+                readMaxWait));
+        register(meterRegistry, new AdmissionGate(AdmissionOperation.UPDATE, updateMaxConcurrent, updateMaxQueue,
+                updateMaxWait));
+
+        // 가져오기, 전송, 변경이 처리 중이거나 대기하며 붙잡을 수 있는 스레드를 모두 빼고도 조회 한도만큼 스레드가 남아야 한다
+        int writeThreads = importMaxConcurrent + importMaxQueue + exportMaxConcurrent + exportMaxQueue
+                + updateMaxConcurrent + updateMaxQueue;
+        if (enabled && writeThreads + readMaxConcurrent > serverThreads) {
+            logger.warn("가져오기, 전송, 변경이 붙잡을 수 있는 스레드({})와 조회 동시 처리 한도({})의 합이 서버 스레드 수({})보다 많아 "
+                    + "쓰기 요청이 몰리면 조회가 서버 대기열에서 기다릴 수 있습니다", writeThreads, readMaxConcurrent,
+                    serverThreads);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public AdmissionGate getGate(AdmissionOperation operation) {
+        return gates.get(operation);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || operationOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AdmissionOperation operation = operationOf(request);
+        AdmissionGate gate = gates.get(operation);
+        AdmissionGate.Permit permit;
+        try {
+            permit = gate.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            permit = null;
+        }
+        if (permit == null) {
+            reject(response, gate);
+            return;
+        }
+        waitTimers.get(operation).record(permit.getWaitNanos(), TimeUnit.NANOSECONDS);
+
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            // 조회 스트리밍은 요청 스레드를 놓은 뒤 별도 스레드에서 쓰므로 넘겨준 시점에 반납한다.
+            // 클라이언트가 천천히 읽는 동안 조회 허가를 붙잡거나 긴 스트림 시간이 Retry-After 추정에 섞이지 않도록 한다
+            if (request.isAsyncStarted() && operation != AdmissionOperation.READ) {
+                request.getAsyncContext().addListener(new ReleasingListener(permit));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permit.release();
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response, AdmissionGate gate) throws IOException {
+        long retryAfter = gate.retryAfterSeconds();
+        String description = gate.getOperation().getDescription();
+        logger.debug("{} 요청 거절: 처리 중 {}, 대기 {}", description, gate.getActive(), gate.getQueued());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(String.format(
+                "%s 요청이 많아 처리할 수 없습니다. %d초 후 다시 시도하세요", description, retryAfter)));
+    }
+
+    private void register(MeterRegistry meterRegistry, AdmissionGate gate) {
+        AdmissionOperation operation = gate.getOperation();
+        gates.put(operation, gate);
+        String tag = operation.name().toLowerCase(Locale.ROOT);
+        requestCounter(meterRegistry, gate, tag, "admitted", AdmissionGate::getAdmittedCount);
+        requestCounter(meterRegistry, gate, tag, "queue_full", AdmissionGate::getQueueFullCount);
+        requestCounter(meterRegistry, gate, tag, "wait_timeout", AdmissionGate::getWaitTimeoutCount);
+        Gauge.builder("order.admission.active", gate, AdmissionGate::getActive)
+                .description("작업별 처리 중인 요청 수")
+                .tag("operation", tag)
+                .register(meterRegistry);
+        Gauge.builder("order.admission.queued", gate, AdmissionGate::getQueued)
+                .description("작업별 처리 허가를 기다리는 요청 수")
+                .tag("operation", tag)
+                .register(meterRegistry);
+        waitTimers.put(operation, Timer.builder("order.admission.wait")
+                .description("허가된 요청이 대기열에서 기다린 시간")
+                .tag("operation", tag)
+                .register(meterRegistry));
+    }
+
+    private static void requestCounter(MeterRegistry meterRegistry, AdmissionGate gate, String operation,
+                                       String result, ToDoubleFunction<AdmissionGate> count) {
+        FunctionCounter.builder("order.admission.requests", gate, count)
+                .description("작업별 입장 제어 결과 (admitted: 허가, queue_full/wait_timeout: 429로 거절)")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static AdmissionOperation operationOf(HttpServletRequest request) {
+        return AdmissionOperation.classify(request.getMethod(),
+                request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    /**
+     * 비동기 응답이 끝나면(완료, 오류, 시간 초과) 허가를 반납한다
+     */
+    private record ReleasingListener(AdmissionGate.Permit permit) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 비동기 처리가 다시 시작되면 리스너가 지워지므로 다시 등록한다
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
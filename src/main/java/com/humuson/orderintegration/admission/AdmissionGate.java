@@ -0,0 +1,135 @@
+package com.humuson.orderintegration.admission;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업 하나의 동시 처리 수를 maxConcurrent로 제한한다. 한도에 도달하면 maxQueue건까지 도착 순서대로 최대 maxWait 동안 기다리게 하고,
+ * 대기열이 가득 찼거나 대기 시간이 지나면 거절한다. 거절된 요청에는 최근 처리 시간으로 추정한 재시도 대기 시간을 알려준다.
+ */
+public class AdmissionGate {
+
+    private static final double HOLD_SMOOTHING = 0.2;
+    private static final long MAX_RETRY_AFTER_SECONDS = 60;
+
+    private final AdmissionOperation operation;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    // 공정 모드: 기다리는 요청이 있으면 새로 온 요청이 앞지르지 못한다
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder queueFull = new LongAdder();
+    private final LongAdder waitTimeout = new LongAdder();
+    private volatile double meanHoldNanos;
+
+    public AdmissionGate(AdmissionOperation operation, int maxConcurrent, int maxQueue, Duration maxWait) {
+        if (maxConcurrent < 1 || maxQueue < 0 || maxWait.isNegative()) {
+            throw new IllegalArgumentException("입장 제어 설정이 올바르지 않습니다 (" + operation + "): maxConcurrent="
+                    + maxConcurrent + ", maxQueue=" + maxQueue + ", maxWait=" + maxWait);
+        }
+        this.operation = operation;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * 처리 허가를 얻는다. 대기열이 가득 찼거나 maxWait 안에 허가를 얻지 못하면 null을 반환한다
+     */
+    public Permit tryAcquire() throws InterruptedException {
+        long start = System.nanoTime();
+        if (!permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+            int waiting = queued.incrementAndGet();
+            try {
+                if (waiting > maxQueue) {
+                    queueFull.increment();
+                    return null;
+                }
+                if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                    waitTimeout.increment();
+                    return null;
+                }
+            } finally {
+                queued.decrementAndGet();
+            }
+        }
+        admitted.increment();
+        return new Permit(System.nanoTime() - start);
+    }
+
+    /**
+     * 대기 중인 요청과 지금 요청이 모두 처리될 때까지 걸릴 시간(초)을 최근 평균 처리 시간으로 추정한다 (1 ~ 60초)
+     */
+    public long retryAfterSeconds() {
+        double expectedNanos = meanHoldNanos * (queued.get() + 1) / maxConcurrent;
+        long seconds = (long) Math.ceil(expectedNanos / TimeUnit.SECONDS.toNanos(1));
+        return Math.max(1, Math.min(seconds, MAX_RETRY_AFTER_SECONDS));
+    }
+
+    public AdmissionOperation getOperation() {
+        return operation;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getMaxQueue() {
+        return maxQueue;
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    public long getQueueFullCount() {
+        return queueFull.sum();
+    }
+
+    public long getWaitTimeoutCount() {
+        return waitTimeout.sum();
+    }
+
+    /**
+     * 허가된 요청 하나. 처리가 끝나면 release를 호출해야 하며 두 번째 호출부터는 무시된다
+     */
+    public final class Permit {
+        private final long waitNanos;
+        private final long acquiredNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long waitNanos) {
+            this.waitNanos = waitNanos;
+        }
+
+        public long getWaitNanos() {
+            return waitNanos;
+        }
+
+        public void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            long holdNanos = System.nanoTime() - acquiredNanos;
+            double mean = meanHoldNanos;
+            // 동시에 갱신되면 한쪽 표본이 빠질 수 있지만 재시도 시간 추정에만 쓰므로 잠금 없이 둔다
+            meanHoldNanos = mean == 0 ? holdNanos : mean + HOLD_SMOOTHING * (holdNanos - mean);
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.humuson.orderintegration.admission;
+
+/**
+ * 입장 제어 대상 작업 종류. 주문 API(/api/orders)와 실패 레코드 재처리 요청만 분류하고 나머지는 제한하지 않는다
+ */
+public enum AdmissionOperation {
+    IMPORT("가져오기"),
+    EXPORT("전송"),
+    READ("조회"),
+    UPDATE("변경");
+
+    private static final String ORDERS_PATH = "/api/orders";
+    private static final String DEAD_LETTER_REPLAY_PATH = "/api/admin/dead-letters/replay";
+
+    private final String description;
+
+    AdmissionOperation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 조회(GET), 가져오기(POST /import...), 전송(POST /export...)과 그 외 주문 변경(상태 전환 등) 요청을 분류한다.
+     * 실패 레코드 재처리 시작(POST /api/admin/dead-letters/replay)은 바로 202로 돌아가므로 변경으로 분류하고,
+     * 백그라운드 배치는 재처리 서비스가 가져오기, 전송 허가를 따로 얻는다. 그 외 요청은 null
+     */
+    public static AdmissionOperation classify(String method, String path) {
+        if ("POST".equals(method) && path.equals(DEAD_LETTER_REPLAY_PATH)) {
+            return UPDATE;
+        }
+        if (!path.equals(ORDERS_PATH) && !path.startsWith(ORDERS_PATH + "/")) {
+            return null;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return READ;
+        }
+        if ("POST".equals(method)) {
+            if (path.startsWith(ORDERS_PATH + "/import")) {
+                return IMPORT;
+            }
+            if (path.startsWith(ORDERS_PATH + "/export")) {
+                return EXPORT;
+            }
+        }
+        return UPDATE;
+    }
+}
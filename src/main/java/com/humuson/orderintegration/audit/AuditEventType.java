@@ -0,0 +1,16 @@
+package com.humuson.orderintegration.audit;
+
+public enum AuditEventType {
+    IMPORT("가져오기"),
+    EXPORT("전송");
+
+    private final String description;
+
+    AuditEventType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
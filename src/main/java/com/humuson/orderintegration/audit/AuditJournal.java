@@ -0,0 +1,716 @@
+package com.humuson.orderintegration.audit;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.exception.DataIntegrationException;
+import com.humuson.orderintegration.monitoring.RequestTimingContext;
+import com.humuson.orderintegration.monitoring.RequestTimings;
+import com.humuson.orderintegration.monitoring.TimingStage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * 가져오기, 전송 이력을 고정 길이(128 bytes) 바이너리 레코드로 메모리 매핑 파일에 남기는 감사 저널.
+ * 요청 스레드는 주문 필드 참조만 모아 큐에 넣고 바로 돌아가며, 단일 쓰기 스레드가 내용 해시(FNV-1a 64)를 계산해 파일에 기록한다.
+ * 레코드 시각은 쓰기 스레드가 기록할 때 뒤로 가지 않게 찍으므로 파일 안과 파일 사이 모두 시간 순서이다.
+ * 파일은 records-per-file건마다 새로 만들고 max-files개를 넘으면 오래된 파일부터 archive-dir로 옮긴다.
+ * archive-dir이 없으면 보관되지 않은 파일을 지우지 않고 그대로 둔다.
+ * 큐에서 기다리는 레코드가 queue-capacity건을 넘으면 요청 스레드가 최대 max-block 동안 기다리고,
+ * 그래도 자리가 나지 않으면 그 배치는 기록하지 않고 건수만 센다 (요약과 order.audit.dropped 지표로 노출).
+ * 디렉터리는 잠금 파일로 한 프로세스만 쓰며, 다른 프로세스가 쓰고 있으면 시작하지 않는다.
+ *
+ * <pre>
+ * 0  timestamp(ms)  8  batchId  16 contentHash  24 durationMicros  32 networkMicros(-1 = 없음)
+ * 40 endpointId  44 batchSize  48 type  49 outcome  50 flags  51 orderIdLength  52 orderId(UTF-8, 최대 76 bytes)
+ * </pre>
+ */
+@Component
+public class AuditJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditJournal.class);
+
+    static final int RECORD_SIZE = 128;
+    static final int ORDER_ID_CAPACITY = RECORD_SIZE - 52;
+    private static final int FLAG_ORDER_ID_TRUNCATED = 1;
+    private static final int FIELDS_PER_ORDER = 5;
+    private static final int READ_CHUNK_RECORDS = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final String FILE_PREFIX = "audit-";
+    private static final String FILE_SUFFIX = ".journal";
+    private static final String ENDPOINT_FILE = "endpoints";
+    private static final String LOCK_FILE = ".lock";
+    private static final AuditEventType[] TYPES = AuditEventType.values();
+    private static final AuditOutcome[] OUTCOMES = AuditOutcome.values();
+
+    private final boolean enabled;
+    private final Path dir;
+    private final Path archiveDir;
+    private final int recordsPerFile;
+    private final int maxFiles;
+    private final int queueCapacity;
+    private final long maxBlockNanos;
+    private final Queue<PendingBatch> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong batchIds = new AtomicLong(System.currentTimeMillis() << 16);
+    private final AtomicLong enqueuedBatches = new AtomicLong();
+    private final AtomicLong writtenBatches = new AtomicLong();
+    private final LongAdder droppedBatches = new LongAdder();
+    private final LongAdder droppedRecords = new LongAdder();
+    private final List<String> endpointNames = new CopyOnWriteArrayList<>();
+    private final Thread writer;
+    private volatile boolean running;
+    private volatile long writtenRecords;
+    // 상위 32비트는 쓰는 중인 파일 번호, 하위 32비트는 그 파일에 기록을 마친 레코드 수 (조회는 여기까지만 읽는다)
+    private volatile long committed;
+
+    // 아래 필드는 쓰기 스레드에서만 사용한다
+    private final Map<String, Integer> endpointIds = new HashMap<>();
+    private FileChannel lockChannel;
+    private FileChannel endpointChannel;
+    private MappedByteBuffer active;
+    private long activeSequence;
+    private int activeRecords;
+    private long lastTimestamp;
+    private boolean retentionWarned;
+
+    public AuditJournal(MeterRegistry meterRegistry,
+                        @Value("${order.audit.enabled:true}") boolean enabled,
+                        @Value("${order.audit.dir:${java.io.tmpdir}/order-audit}") String dir,
+                        @Value("${order.audit.archive-dir:}") String archiveDir,
+                        @Value("${order.audit.records-per-file:524288}") int recordsPerFile,
+                        @Value("${order.audit.max-files:16}") int maxFiles,
+                        @Value("${order.audit.queue-capacity:262144}") int queueCapacity,
+                        @Value("${order.audit.max-block:100ms}") Duration maxBlock) {
+        if (recordsPerFile < 1 || recordsPerFile > Integer.MAX_VALUE / RECORD_SIZE || maxFiles < 1 || queueCapacity < 1
+                || maxBlock.isNegative()) {
+            throw new IllegalArgumentException("감사 저널 설정이 올바르지 않습니다: recordsPerFile=" + recordsPerFile
+                    + ", maxFiles=" + maxFiles + ", queueCapacity=" + queueCapacity + ", maxBlock=" + maxBlock);
+        }
+        this.enabled = enabled;
+        this.dir = Paths.get(dir);
+        this.archiveDir = archiveDir == null || archiveDir.isBlank() ? null : Paths.get(archiveDir);
+        this.recordsPerFile = recordsPerFile;
+        this.maxFiles = maxFiles;
+        this.queueCapacity = queueCapacity;
+        this.maxBlockNanos = maxBlock.toNanos();
+
+        FunctionCounter.builder("order.audit.dropped", droppedBatches, LongAdder::sum)
+                .description("큐가 가득 차거나 기록에 실패해 버린 감사 배치 수")
+                .tag("unit", "batches")
+                .register(meterRegistry);
+        FunctionCounter.builder("order.audit.dropped", droppedRecords, LongAdder::sum)
+                .description("큐가 가득 차거나 기록에 실패해 버린 감사 레코드 수")
+                .tag("unit", "records")
+                .register(meterRegistry);
+        Gauge.builder("order.audit.pending", queued, AtomicInteger::get)
+                .description("쓰기를 기다리는 감사 레코드 수")
+                .register(meterRegistry);
+        if (!enabled) {
+            this.writer = null;
+            return;
+        }
+        try {
+            open();
+        } catch (IOException e) {
+            throw new DataIntegrationException("감사 저널을 열 수 없습니다: " + dir, e);
+        }
+        this.running = true;
+        this.writer = Thread.ofPlatform().name("order-audit-writer").daemon().start(this::runWriter);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 여러 번에 나눠 기록하는 가져오기, 전송(스트리밍 청크, 성공/실패 주문 분리)을 하나로 묶을 배치 ID를 발급한다
+     */
+    public long nextBatchId() {
+        return batchIds.incrementAndGet();
+    }
+
+    /**
+     * 새 배치 ID로 주문마다 레코드를 남긴다. 주문이 없으면 주문 ID 없는 레코드 한 건을 남긴다
+     */
+    public void record(AuditEventType type, String endpoint, AuditOutcome outcome, long startNanos,
+                       List<Order> orders) {
+        record(nextBatchId(), type, endpoint, outcome, startNanos, orders);
+    }
+
+    /**
+     * 주문마다 레코드를 남긴다. 소요 시간은 startNanos부터, 외부 시스템 대기 시간은 현재 요청의 network 단계 누적값이다
+     */
+    public void record(long batchId, AuditEventType type, String endpoint, AuditOutcome outcome, long startNanos,
+                       List<Order> orders) {
+        if (!enabled) {
+            return;
+        }
+        long durationNanos = System.nanoTime() - startNanos;
+        int recordCount = Math.max(orders.size(), 1);
+        if (!reserve(recordCount)) {
+            droppedBatches.increment();
+            droppedRecords.add(recordCount);
+            return;
+        }
+        RequestTimings timings = RequestTimingContext.current();
+        long networkNanos = timings != null ? timings.stageNanos(TimingStage.NETWORK) : -1;
+        // 해시는 쓰기 스레드에서 계산하되, 기록 뒤 주문 객체가 바뀌어도 지금 내용이 남도록 필드 참조만 떠 둔다
+        Object[] fields = new Object[orders.size() * FIELDS_PER_ORDER];
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            int base = i * FIELDS_PER_ORDER;
+            fields[base] = order.getOrderId();
+            fields[base + 1] = order.getCustomerName();
+            fields[base + 2] = order.getOrderDate();
+            fields[base + 3] = order.getStatus();
+            fields[base + 4] = order.getDescription();
+        }
+        queue.offer(new PendingBatch(batchId, type, outcome, endpoint, durationNanos,
+                networkNanos, fields));
+        enqueuedBatches.incrementAndGet();
+    }
+
+    /**
+     * 큐에 레코드 수만큼 자리를 잡는다. 한도는 배치가 아니라 레코드 수로 센다 (큰 Import 몇 건이 큐를 차지해 메모리를 키우지 않도록).
+     * 큐가 비어 있으면 한도보다 큰 배치도 받고, 가득 차 있으면 쓰기 스레드가 비울 때까지 최대 max-block 동안 기다린다
+     */
+    private boolean reserve(int recordCount) {
+        long deadline = System.nanoTime() + maxBlockNanos;
+        while (true) {
+            int pending = queued.addAndGet(recordCount);
+            if (pending <= queueCapacity || pending == recordCount) {
+                return true;
+            }
+            queued.addAndGet(-recordCount);
+            if (!running || System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+        }
+    }
+
+    /**
+     * 지금까지 큐에 넣은 배치가 모두 파일에 기록될 때까지 기다린다
+     */
+    public boolean flush(Duration timeout) {
+        long target = enqueuedBatches.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (writtenBatches.get() < target) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+        }
+        return true;
+    }
+
+    /**
+     * 주문 ID(null이면 전체)와 기간으로 기록된 레코드를 오래된 순서로 limit건까지 조회한다. 큐에서 기다리는 레코드는 포함하지 않는다
+     */
+    public List<AuditRecord> query(String orderId, LocalDateTime from, LocalDateTime to, int limit) {
+        List<AuditRecord> records = new ArrayList<>();
+        if (!enabled || limit <= 0) {
+            return records;
+        }
+        long fromMillis = from != null ? toEpochMillis(from) : Long.MIN_VALUE;
+        long toMillis = to != null ? toEpochMillis(to) : Long.MAX_VALUE;
+        byte[] orderIdBytes = orderId != null ? orderId.getBytes(StandardCharsets.UTF_8) : null;
+        long committedSnapshot = committed;
+        long activeFile = committedSnapshot >>> 32;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(READ_CHUNK_RECORDS * RECORD_SIZE);
+        for (Path file : journalFiles()) {
+            long sequence = sequenceOf(file);
+            if (sequence > activeFile) {
+                break;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                int count = sequence == activeFile ? (int) committedSnapshot : writtenCount(channel);
+                if (count == 0) {
+                    continue;
+                }
+                // 파일 안의 레코드는 시간 순서이므로 첫/마지막 레코드 시각으로 파일 단위로 건너뛴다
+                if (timestampAt(channel, 0) > toMillis) {
+                    break;
+                }
+                if (timestampAt(channel, count - 1) < fromMillis) {
+                    continue;
+                }
+                if (scan(channel, count, buffer, orderIdBytes, fromMillis, toMillis, records, limit)) {
+                    break;
+                }
+            } catch (NoSuchFileException e) {
+                // 조회 중 archive-dir로 옮겨진 파일
+            } catch (IOException e) {
+                throw new DataIntegrationException("감사 저널을 읽을 수 없습니다: " + file, e);
+            }
+        }
+        return records;
+    }
+
+    public AuditJournalSummary getSummary() {
+        List<Path> files = enabled ? journalFiles() : List.of();
+        long fileBytes = 0;
+        String oldestRecordAt = null;
+        for (Path file : files) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                fileBytes += channel.size();
+                if (oldestRecordAt == null && channel.size() >= RECORD_SIZE) {
+                    long timestamp = timestampAt(channel, 0);
+                    if (timestamp != 0) {
+                        oldestRecordAt = formatTimestamp(timestamp);
+                    }
+                }
+            } catch (IOException e) {
+                // 요약 조회 중 지워진 파일은 건너뛴다
+            }
+        }
+        return AuditJournalSummary.builder()
+                .enabled(enabled)
+                .fileCount(files.size())
+                .fileBytes(fileBytes)
+                .writtenRecords(writtenRecords)
+                .pendingRecords(queued.get())
+                .droppedBatches(droppedBatches.sum())
+                .droppedRecords(droppedRecords.sum())
+                .oldestRecordAt(oldestRecordAt)
+                .build();
+    }
+
+    /**
+     * 큐에 남은 배치를 모두 기록하고 파일 내용을 디스크에 내린다
+     */
+    @PreDestroy
+    public void close() {
+        if (writer == null || !running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warn("감사 저널 쓰기 스레드가 제시간에 끝나지 않았습니다 (대기 레코드 {}건)", queued.get());
+            return;
+        }
+        active.force();
+        try {
+            endpointChannel.close();
+        } catch (IOException e) {
+            logger.warn("감사 저널 엔드포인트 파일 닫기 실패: {}", e.getMessage());
+        }
+        releaseLock();
+    }
+
+    private void runWriter() {
+        while (running || !queue.isEmpty()) {
+            PendingBatch batch = queue.poll();
+            if (batch == null) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            queued.addAndGet(-Math.max(batch.fields().length / FIELDS_PER_ORDER, 1));
+            try {
+                write(batch);
+            } catch (IOException | RuntimeException e) {
+                logger.error("감사 저널 기록 실패 (배치 {}): {}", batch.batchId(), e.getMessage());
+                droppedBatches.increment();
+                droppedRecords.add(Math.max(batch.fields().length / FIELDS_PER_ORDER, 1));
+            }
+            writtenBatches.incrementAndGet();
+        }
+    }
+
+    private void write(PendingBatch batch) throws IOException {
+        int endpointId = endpointId(batch.endpoint());
+        Object[] fields = batch.fields();
+        int orderCount = fields.length / FIELDS_PER_ORDER;
+        // 시각은 요청 스레드가 아니라 여기서 찍고 뒤로 가지 않게 하여 파일 안의 레코드가 시간 순서가 되게 한다
+        // (조회가 첫/마지막 레코드 시각으로 파일을 건너뛴다)
+        long timestamp = Math.max(lastTimestamp, Math.max(System.currentTimeMillis(), 1));
+        lastTimestamp = timestamp;
+        if (orderCount == 0) {
+            writeRecord(batch, timestamp, endpointId, 0, null, 0);
+        }
+        for (int i = 0; i < orderCount; i++) {
+            int base = i * FIELDS_PER_ORDER;
+            writeRecord(batch, timestamp, endpointId, orderCount, (String) fields[base], contentHash(fields, base));
+        }
+        committed = (activeSequence << 32) | activeRecords;
+    }
+
+    private void writeRecord(PendingBatch batch, long timestamp, int endpointId, int batchSize, String orderId,
+                             long contentHash) throws IOException {
+        if (activeRecords == recordsPerFile) {
+            roll();
+        }
+        int offset = activeRecords * RECORD_SIZE;
+        active.putLong(offset + 8, batch.batchId());
+        active.putLong(offset + 16, contentHash);
+        active.putLong(offset + 24, TimeUnit.NANOSECONDS.toMicros(batch.durationNanos()));
+        active.putLong(offset + 32, batch.networkNanos() < 0 ? -1 : TimeUnit.NANOSECONDS.toMicros(batch.networkNanos()));
+        active.putInt(offset + 40, endpointId);
+        active.putInt(offset + 44, batchSize);
+        active.put(offset + 48, (byte) batch.type().ordinal());
+        active.put(offset + 49, (byte) batch.outcome().ordinal());
+        int length = orderId != null ? putOrderId(offset + 52, orderId) : 0;
+        active.put(offset + 50, (byte) (length > ORDER_ID_CAPACITY ? FLAG_ORDER_ID_TRUNCATED : 0));
+        active.put(offset + 51, (byte) Math.min(length, ORDER_ID_CAPACITY));
+        // 시각이 0인 레코드는 비어 있는 자리로 보므로 마지막에 쓴다
+        active.putLong(offset, timestamp);
+        activeRecords++;
+        writtenRecords++;
+    }
+
+    /**
+     * 주문 ID를 UTF-8로 최대 ORDER_ID_CAPACITY bytes까지 쓰고 전체 UTF-8 길이를 반환한다 (ASCII는 배열을 만들지 않고 바로 쓴다)
+     */
+    private int putOrderId(int position, String orderId) {
+        int length = orderId.length();
+        for (int i = 0; i < length; i++) {
+            if (orderId.charAt(i) >= 0x80) {
+                byte[] bytes = orderId.getBytes(StandardCharsets.UTF_8);
+                active.put(position, bytes, 0, Math.min(bytes.length, ORDER_ID_CAPACITY));
+                return bytes.length;
+            }
+        }
+        for (int i = 0; i < Math.min(length, ORDER_ID_CAPACITY); i++) {
+            active.put(position + i, (byte) orderId.charAt(i));
+        }
+        return length;
+    }
+
+    private boolean scan(FileChannel channel, int count, ByteBuffer buffer, byte[] orderId, long fromMillis,
+                         long toMillis, List<AuditRecord> records, int limit) throws IOException {
+        for (int start = 0; start < count; start += READ_CHUNK_RECORDS) {
+            int chunk = Math.min(READ_CHUNK_RECORDS, count - start);
+            readFully(channel, buffer.clear().limit(chunk * RECORD_SIZE), (long) start * RECORD_SIZE);
+            for (int i = 0; i < chunk; i++) {
+                int offset = i * RECORD_SIZE;
+                long timestamp = buffer.getLong(offset);
+                if (timestamp < fromMillis || timestamp > toMillis || !matches(buffer, offset, orderId)) {
+                    continue;
+                }
+                records.add(decode(buffer, offset));
+                if (records.size() >= limit) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 주문 ID 바이트를 문자열로 바꾸지 않고 비교한다. 잘린 주문 ID는 앞부분이 같으면 일치로 본다
+     */
+    private static boolean matches(ByteBuffer buffer, int offset, byte[] orderId) {
+        if (orderId == null) {
+            return true;
+        }
+        int length = buffer.get(offset + 51) & 0xff;
+        boolean truncated = (buffer.get(offset + 50) & FLAG_ORDER_ID_TRUNCATED) != 0;
+        if (truncated ? orderId.length <= length : orderId.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + 52 + i) != orderId[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private AuditRecord decode(ByteBuffer buffer, int offset) {
+        int endpointId = buffer.getInt(offset + 40);
+        long networkMicros = buffer.getLong(offset + 32);
+        int length = buffer.get(offset + 51) & 0xff;
+        byte[] id = new byte[length];
+        buffer.get(offset + 52, id);
+        return AuditRecord.builder()
+                .timestamp(formatTimestamp(buffer.getLong(offset)))
+                .batchId(buffer.getLong(offset + 8))
+                .type(TYPES[buffer.get(offset + 48)])
+                .outcome(OUTCOMES[buffer.get(offset + 49)])
+                .endpoint(endpointId >= 0 && endpointId < endpointNames.size() ? endpointNames.get(endpointId) : null)
+                .orderId(length > 0 ? new String(id, StandardCharsets.UTF_8) : null)
+                .orderIdTruncated((buffer.get(offset + 50) & FLAG_ORDER_ID_TRUNCATED) != 0)
+                .contentHash(length > 0 ? String.format("%016x", buffer.getLong(offset + 16)) : null)
+                .durationMillis(buffer.getLong(offset + 24) / 1000.0)
+                .networkMillis(networkMicros < 0 ? null : networkMicros / 1000.0)
+                .batchSize(buffer.getInt(offset + 44))
+                .build();
+    }
+
+    /**
+     * 주문 ID, 고객명, 주문일자, 상태, 설명의 FNV-1a 64 해시. 문자열은 문자 단위로, 주문일자는 epoch 초와 나노초로 섞고
+     * 필드마다 구분자를 넣는다 (null은 구분자만 들어간다)
+     */
+    private static long contentHash(Object[] fields, int base) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < FIELDS_PER_ORDER; i++) {
+            Object field = fields[base + i];
+            if (field instanceof LocalDateTime dateTime) {
+                hash = mix(hash, dateTime.toEpochSecond(ZoneOffset.UTC));
+                hash = mix(hash, dateTime.getNano());
+            } else if (field != null) {
+                String value = field instanceof Enum<?> e ? e.name() : field.toString();
+                for (int c = 0; c < value.length(); c++) {
+                    hash = (hash ^ value.charAt(c)) * FNV_PRIME;
+                }
+            }
+            hash = (hash ^ 0x1f) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private int endpointId(String endpoint) throws IOException {
+        if (endpoint == null) {
+            return -1;
+        }
+        Integer id = endpointIds.get(endpoint);
+        if (id != null) {
+            return id;
+        }
+        // 엔드포인트는 한 줄에 하나씩 추가 순서대로 기록하고 줄 번호를 ID로 쓴다
+        String line = endpoint.replace('\n', ' ').replace('\r', ' ') + "\n";
+        ByteBuffer bytes = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            endpointChannel.write(bytes);
+        }
+        id = endpointNames.size();
+        endpointNames.add(endpoint);
+        endpointIds.put(endpoint, id);
+        return id;
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(dir);
+        lock();
+        try {
+            openFiles();
+        } catch (IOException | RuntimeException e) {
+            releaseLock();
+            throw e;
+        }
+    }
+
+    /**
+     * 두 프로세스가 같은 디렉터리의 같은 파일에 이어 쓰면 레코드가 섞이므로 잠금을 잡지 못하면 바로 실패한다
+     */
+    private void lock() throws IOException {
+        lockChannel = FileChannel.open(dir.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            lockChannel = null;
+            throw new DataIntegrationException("감사 저널 디렉터리를 다른 프로세스가 사용 중입니다: " + dir);
+        }
+    }
+
+    private void releaseLock() {
+        if (lockChannel == null) {
+            return;
+        }
+        try {
+            // 채널을 닫으면 잠금도 풀린다
+            lockChannel.close();
+        } catch (IOException e) {
+            logger.warn("감사 저널 잠금 해제 실패: {}", e.getMessage());
+        }
+        lockChannel = null;
+    }
+
+    private void openFiles() throws IOException {
+        Path endpointFile = dir.resolve(ENDPOINT_FILE);
+        if (Files.exists(endpointFile)) {
+            for (String endpoint : Files.readAllLines(endpointFile, StandardCharsets.UTF_8)) {
+                endpointIds.put(endpoint, endpointNames.size());
+                endpointNames.add(endpoint);
+            }
+        }
+        endpointChannel = FileChannel.open(endpointFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+
+        List<Path> files = journalFiles();
+        if (files.isEmpty()) {
+            map(1);
+        } else {
+            // 재시작하면 마지막 파일의 빈 자리부터 이어서 쓴다
+            Path last = files.get(files.size() - 1);
+            try (FileChannel channel = FileChannel.open(last, StandardOpenOption.READ)) {
+                int count = writtenCount(channel);
+                if (count > 0) {
+                    // 시계가 뒤로 갔어도 이어 쓰는 레코드가 이전 레코드보다 앞선 시각이 되지 않도록 한다
+                    lastTimestamp = timestampAt(channel, count - 1);
+                }
+                activeRecords = channel.size() == (long) recordsPerFile * RECORD_SIZE ? count : -1;
+            }
+            if (activeRecords < 0) {
+                // 파일 크기 설정이 바뀌었으면 기존 파일은 그대로 두고 새 파일부터 쓴다
+                map(sequenceOf(last) + 1);
+            } else {
+                int recovered = activeRecords;
+                map(sequenceOf(last));
+                activeRecords = recovered;
+            }
+        }
+        committed = (activeSequence << 32) | activeRecords;
+        logger.info("감사 저널 열림: {} (파일 {}개, 현재 파일 {}건)", dir, Math.max(files.size(), 1), activeRecords);
+    }
+
+    private void roll() throws IOException {
+        // 매핑된 내용은 프로세스가 죽어도 OS가 파일에 내리므로 넘길 때마다 force하지 않는다 (디스크 동기화는 종료 시에만)
+        map(activeSequence + 1);
+        committed = activeSequence << 32;
+        List<Path> files = journalFiles();
+        int excess = files.size() - maxFiles;
+        if (excess <= 0) {
+            return;
+        }
+        if (archiveDir == null) {
+            // 보관되지 않은 감사 기록은 지우지 않는다. 디스크 사용량은 운영자가 정리한다
+            if (!retentionWarned) {
+                logger.warn("감사 저널 파일이 {}개로 max-files({})를 넘었지만 archive-dir이 없어 지우지 않습니다: {}",
+                        files.size(), maxFiles, dir);
+                retentionWarned = true;
+            }
+            return;
+        }
+        Files.createDirectories(archiveDir);
+        // 옮긴 파일의 엔드포인트 ID를 풀 수 있도록 엔드포인트 목록도 함께 둔다
+        Files.copy(dir.resolve(ENDPOINT_FILE), archiveDir.resolve(ENDPOINT_FILE), StandardCopyOption.REPLACE_EXISTING);
+        for (int i = 0; i < excess; i++) {
+            Path file = files.get(i);
+            Files.move(file, archiveDir.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void map(long sequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(fileOf(sequence), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            active = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerFile * RECORD_SIZE);
+        }
+        activeSequence = sequence;
+        activeRecords = 0;
+    }
+
+    /**
+     * 레코드는 앞에서부터 채워지므로 시각이 0인 첫 레코드를 이분 탐색으로 찾아 기록된 건수를 구한다
+     */
+    private int writtenCount(FileChannel channel) throws IOException {
+        int low = 0;
+        int high = (int) (channel.size() / RECORD_SIZE);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestampAt(channel, mid) != 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long timestampAt(FileChannel channel, int index) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        readFully(channel, buffer, (long) index * RECORD_SIZE);
+        return buffer.getLong(0);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("파일이 예상보다 짧습니다");
+            }
+            position += read;
+        }
+    }
+
+    private List<Path> journalFiles() {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(AuditJournal::sequenceOf))
+                    .toList();
+        } catch (IOException e) {
+            throw new DataIntegrationException("감사 저널 디렉터리를 읽을 수 없습니다: " + dir, e);
+        }
+    }
+
+    private Path fileOf(long sequence) {
+        return dir.resolve(String.format("%s%010d%s", FILE_PREFIX, sequence, FILE_SUFFIX));
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String formatTimestamp(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()).toString();
+    }
+
+    private record PendingBatch(long batchId, AuditEventType type, AuditOutcome outcome,
+                                String endpoint, long durationNanos, long networkNanos, Object[] fields) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.humuson.orderintegration.audit;
+
+import com.humuson.orderintegration.controller.dto.ApiResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가져오기, 전송 감사 저널 조회용 관리 엔드포인트
+ */
+@RestController
+@RequestMapping("/api/admin/audit")
+public class AuditJournalController {
+
+    private final AuditJournal auditJournal;
+
+    public AuditJournalController(AuditJournal auditJournal) {
+        this.auditJournal = auditJournal;
+    }
+
+    /**
+     * 주문 ID, 기간(from 이상 to 이하, ISO 형식)으로 감사 레코드를 오래된 순서로 조회 (조건 미지정 시 전체)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<AuditRecord>>> getRecords(
+            @RequestParam(required = false) String orderId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(ApiResponse.success("감사 레코드 조회 완료",
+                auditJournal.query(orderId, from, to, Math.min(Math.max(limit, 0), 10000))));
+    }
+
+    /**
+     * 파일 수와 크기, 기록 건수, 대기 중인 레코드 수, 큐가 가득 차 버린 건수 조회
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse<AuditJournalSummary>> getSummary() {
+        return ResponseEntity.ok(ApiResponse.success("감사 저널 요약 조회 완료", auditJournal.getSummary()));
+    }
+}
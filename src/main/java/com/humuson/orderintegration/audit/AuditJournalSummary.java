@@ -0,0 +1,21 @@
+package com.humuson.orderintegration.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditJournalSummary {
+    private boolean enabled;
+    private int fileCount;
+    private long fileBytes;
+    private long writtenRecords;
+    private long pendingRecords;
+    private long droppedBatches;
+    private long droppedRecords;
+    private String oldestRecordAt;
+}
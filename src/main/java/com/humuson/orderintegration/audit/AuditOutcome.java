@@ -0,0 +1,17 @@
+package com.humuson.orderintegration.audit;
+
+public enum AuditOutcome {
+    SUCCESS("성공"),
+    FAILURE("실패"),
+    STREAMED("스트리밍 전송됨 (결과는 같은 배치의 요약 레코드)");
+
+    private final String description;
+
+    AuditOutcome(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,28 @@
+package com.humuson.orderintegration.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 감사 저널 레코드 한 건. 가져오기, 전송 한 번(batchId)이 주문마다 레코드를 남기며,
+ * 주문이 없는 레코드(orderId null)는 가져오기 실패나 스트리밍 전송 요약이다
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditRecord {
+    private String timestamp;
+    private long batchId;
+    private AuditEventType type;
+    private AuditOutcome outcome;
+    private String endpoint;
+    private String orderId;
+    private boolean orderIdTruncated;
+    private String contentHash;
+    private double durationMillis;
+    private Double networkMillis;
+    private int batchSize;
+}
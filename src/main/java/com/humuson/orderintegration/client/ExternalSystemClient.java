@@ -1,16 +1,25 @@
 package com.humuson.orderintegration.client;
 
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.client.dto.OrderSendResult;
 import com.humuson.orderintegration.domain.Order;
 import com.humuson.orderintegration.exception.ExternalSystemException;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ExternalSystemClient {
     /**
-     * 외부 시스템에서 주문 데이터를 가져온다
+     * 외부 시스템에서 주문 데이터를 가져온다. 변환할 수 없는 레코드(주문 ID 누락, 알 수 없는 상태, 날짜 형식 오류)는
+     * 건너뛰므로, 제외 사유가 필요하면 fetchOrderRequests로 원본을 받아 건별로 분류한다
      */
     List<Order> fetchOrders(String endpoint) throws ExternalSystemException;
 
+    /**
+     * 외부 시스템에서 주문 데이터를 변환하지 않은 원본 형태로 가져온다
+     */
+    List<OrderRequest> fetchOrderRequests(String endpoint) throws ExternalSystemException;
+
     /**
      * 외부 시스템으로 주문 데이터를 전송한다
      */
@@ -21,6 +30,16 @@ public interface ExternalSystemClient {
      */
     boolean sendOrders(String endpoint, List<Order> orders) throws ExternalSystemException;
 
+    /**
+     * 외부 시스템으로 여러 주문 데이터를 전송하고 건별 처리 결과를 반환한다 (207 부분 실패 포함)
+     */
+    OrderSendResult sendOrdersWithResults(String endpoint, List<Order> orders) throws ExternalSystemException;
+
+    /**
+     * 주문 스트림을 모으지 않고 요청 본문에 바로 기록하며 외부 시스템으로 전송한다
+     */
+    boolean sendOrderStream(String endpoint, Stream<Order> orders) throws ExternalSystemException;
+
     /**
      * 시스템 타입을 반환한다
      */
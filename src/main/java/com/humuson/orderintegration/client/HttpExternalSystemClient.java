@@ -1,31 +1,52 @@
 package com.humuson.orderintegration.client;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.humuson.orderintegration.client.dto.ExternalSystemResponse;
+import com.humuson.orderintegration.client.dto.OrderItemResult;
 import com.humuson.orderintegration.client.dto.OrderRequest;
 import com.humuson.orderintegration.client.dto.OrderResponse;
+import com.humuson.orderintegration.client.dto.OrderSendResult;
 import com.humuson.orderintegration.domain.Order;
-import com.humuson.orderintegration.domain.OrderStatus;
 import com.humuson.orderintegration.exception.ExternalSystemException;
+import com.humuson.orderintegration.monitoring.RequestTimingContext;
+import com.humuson.orderintegration.monitoring.TimingStage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class HttpExternalSystemClient implements ExternalSystemClient {
 
+    private static final Logger logger = LoggerFactory.getLogger(HttpExternalSystemClient.class);
+
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private static final String SYSTEM_TYPE = "HTTP";
+    private static final OrderRejectionSink LOG_REJECTION = (index, orderId, code, reason) ->
+            logger.warn("주문 변환 제외 [{}] (위치 {}): {} {}", orderId, index, code.getDescription(),
+                    reason != null ? reason : "");
 
     public HttpExternalSystemClient(RestTemplate restTemplate, ObjectMapper objectMapper) {
         this.restTemplate = restTemplate;
@@ -34,18 +55,33 @@ public class HttpExternalSystemClient implements ExternalSystemClient {
 
     @Override
     public List<Order> fetchOrders(String endpoint) throws ExternalSystemException {
+        return toOrders(fetchOrderRequests(endpoint));
+    }
+
+    @Override
+    public List<OrderRequest> fetchOrderRequests(String endpoint) throws ExternalSystemException {
+        return parseOrderRequests(fetchBody(endpoint));
+    }
+
+    /**
+     * 주문 조회 응답 본문을 받는다. 네트워크 구간만 수행하며 해석은 parseOrderRequests가 한다
+     */
+    public String fetchBody(String endpoint) throws ExternalSystemException {
         try {
             HttpHeaders headers = createHeaders();
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
+            long networkStart = RequestTimingContext.start();
             ResponseEntity<String> response = restTemplate.exchange(endpoint, HttpMethod.GET, entity, String.class);
+            RequestTimingContext.record(TimingStage.NETWORK, networkStart);
 
             if (response.getStatusCode() != HttpStatus.OK) {
                 throw new ExternalSystemException(SYSTEM_TYPE, "HTTP 요청 실패: " + response.getStatusCode());
             }
+            return response.getBody();
 
-            return parseOrdersFromResponse(response.getBody());
-
+        } catch (ExternalSystemException e) {
+            throw e;
         } catch (HttpClientErrorException e) {
             throw new ExternalSystemException(SYSTEM_TYPE, "HTTP 클라이언트 오류: " + e.getStatusCode(), e);
         } catch (ResourceAccessException e) {
@@ -62,24 +98,55 @@ public class HttpExternalSystemClient implements ExternalSystemClient {
 
     @Override
     public boolean sendOrders(String endpoint, List<Order> orders) throws ExternalSystemException {
+        return sendOrdersWithResults(endpoint, orders).isSuccess();
+    }
+
+    @Override
+    public OrderSendResult sendOrdersWithResults(String endpoint, List<Order> orders) throws ExternalSystemException {
+        // 직렬화와 네트워크 대기 시간을 나누어 기록하기 위해 요청 본문을 미리 직렬화한다
+        return sendSerialized(endpoint, orders, serializeOrders(orders));
+    }
+
+    /**
+     * 전송할 주문 목록을 요청 본문으로 직렬화한다
+     */
+    public byte[] serializeOrders(List<Order> orders) throws ExternalSystemException {
+        long serializationStart = RequestTimingContext.start();
         try {
             List<OrderResponse> orderResponses = orders.stream()
-                    .map(this::convertToOrderResponse)
+                    .map(OrderConverter::toOrderResponse)
                     .collect(Collectors.toList());
+            return objectMapper.writeValueAsBytes(orderResponses);
+        } catch (Exception e) {
+            throw new ExternalSystemException(SYSTEM_TYPE, "데이터 전송 중 오류 발생", e);
+        } finally {
+            RequestTimingContext.record(TimingStage.SERIALIZATION, serializationStart);
+        }
+    }
 
+    /**
+     * serializeOrders로 직렬화한 요청 본문을 전송하고 건별 처리 결과를 반환한다
+     */
+    public OrderSendResult sendSerialized(String endpoint, List<Order> orders, byte[] requestBody)
+            throws ExternalSystemException {
+        try {
             HttpHeaders headers = createHeaders();
-            HttpEntity<List<OrderResponse>> entity = new HttpEntity<>(orderResponses, headers);
+            HttpEntity<byte[]> entity = new HttpEntity<>(requestBody, headers);
 
+            long networkStart = RequestTimingContext.start();
             ResponseEntity<ExternalSystemResponse> response = restTemplate.exchange(
                     endpoint, HttpMethod.POST, entity, ExternalSystemResponse.class);
+            RequestTimingContext.record(TimingStage.NETWORK, networkStart);
 
-            if (response.getStatusCode() != HttpStatus.OK) {
+            boolean multiStatus = response.getStatusCode().isSameCodeAs(HttpStatus.MULTI_STATUS);
+            if (response.getStatusCode() != HttpStatus.OK && !multiStatus) {
                 throw new ExternalSystemException(SYSTEM_TYPE, "데이터 전송 실패: " + response.getStatusCode());
             }
 
-            ExternalSystemResponse<?> responseBody = response.getBody();
-            return responseBody != null && responseBody.isSuccess();
+            return toSendResult(orders, response.getBody(), multiStatus);
 
+        } catch (ExternalSystemException e) {
+            throw e;
         } catch (HttpClientErrorException e) {
             throw new ExternalSystemException(SYSTEM_TYPE, "HTTP 클라이언트 오류: " + e.getStatusCode(), e);
         } catch (ResourceAccessException e) {
@@ -89,6 +156,41 @@ public class HttpExternalSystemClient implements ExternalSystemClient {
         }
     }
 
+    @Override
+    public boolean sendOrderStream(String endpoint, Stream<Order> orders) throws ExternalSystemException {
+        try {
+            // 주문마다 flush하지 않도록 하여 출력 버퍼 단위(chunk)로 전송되게 한다
+            ObjectWriter orderWriter = objectMapper.writerFor(OrderResponse.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+            // 스트리밍 전송은 직렬화와 전송이 겹치므로 전체를 네트워크 단계로 기록한다
+            long networkStart = RequestTimingContext.start();
+            Boolean result = restTemplate.execute(endpoint, HttpMethod.POST,
+                    request -> {
+                        request.getHeaders().putAll(createHeaders());
+                        // Content-Length를 정하지 않으므로 chunked 전송 인코딩으로 보내진다
+                        if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+                            streamingRequest.setBody(body -> writeOrders(body, orders, orderWriter));
+                        } else {
+                            writeOrders(request.getBody(), orders, orderWriter);
+                        }
+                    },
+                    this::readSendResult);
+            RequestTimingContext.record(TimingStage.NETWORK, networkStart);
+
+            return Boolean.TRUE.equals(result);
+
+        } catch (ExternalSystemException e) {
+            throw e;
+        } catch (HttpClientErrorException e) {
+            throw new ExternalSystemException(SYSTEM_TYPE, "HTTP 클라이언트 오류: " + e.getStatusCode(), e);
+        } catch (ResourceAccessException e) {
+            throw new ExternalSystemException(SYSTEM_TYPE, "네트워크 연결 오류", e);
+        } catch (Exception e) {
+            throw new ExternalSystemException(SYSTEM_TYPE, "데이터 스트리밍 전송 중 오류 발생", e);
+        }
+    }
+
     @Override
     public String getSystemType() {
         return SYSTEM_TYPE;
@@ -101,51 +203,92 @@ public class HttpExternalSystemClient implements ExternalSystemClient {
         return headers;
     }
 
-    private List<Order> parseOrdersFromResponse(String responseBody) throws Exception {
-        try {
-            // 외부 시스템에서 OrderRequest 형태로 데이터가 온다고 가정
-            List<OrderRequest> orderRequests = objectMapper.readValue(
-                    responseBody, new TypeReference<List<OrderRequest>>() {});
-
-            return orderRequests.stream()
-                    .map(this::convertToOrder)
-                    .collect(Collectors.toList());
-
-        } catch (Exception e) {
-            throw new ExternalSystemException(SYSTEM_TYPE, "응답 데이터 파싱 오류", e);
+    private void writeOrders(OutputStream body, Stream<Order> orders, ObjectWriter orderWriter) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(body)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                orderWriter.writeValue(generator, OrderConverter.toOrderResponse(iterator.next()));
+            }
+            generator.writeEndArray();
         }
     }
 
-    private Order convertToOrder(OrderRequest request) {
-        return Order.builder()
-                .orderId(request.getOrderId())
-                .customerName(request.getCustomerName())
-                .orderDate(parseDateTime(request.getOrderDate()))
-                .status(OrderStatus.valueOf(request.getStatus().toUpperCase()))
-                .description(request.getDescription())
-                .build();
+    private Boolean readSendResult(ClientHttpResponse response) throws IOException {
+        if (response.getStatusCode() != HttpStatus.OK) {
+            throw new ExternalSystemException(SYSTEM_TYPE, "데이터 전송 실패: " + response.getStatusCode());
+        }
+        ExternalSystemResponse<?> responseBody = objectMapper.readValue(response.getBody(), ExternalSystemResponse.class);
+        return responseBody != null && responseBody.isSuccess();
     }
 
-    private OrderResponse convertToOrderResponse(Order order) {
-        return OrderResponse.builder()
-                .orderId(order.getOrderId())
-                .customerName(order.getCustomerName())
-                .orderDate(formatDateTime(order.getOrderDate()))
-                .status(order.getStatus().name())
-                .description(order.getDescription())
-                .processedAt(formatDateTime(LocalDateTime.now()))
+    /**
+     * 외부 시스템 응답을 보낸 주문 순서대로 건별 결과로 맞춘다.
+     * 건별 결과가 없으면 응답 전체의 성공 여부를 모든 주문에 적용하고, 207 응답에서 빠진 주문은 실패로 본다
+     */
+    private OrderSendResult toSendResult(List<Order> orders, ExternalSystemResponse<?> responseBody, boolean multiStatus) {
+        boolean batchSuccess = responseBody != null && responseBody.isSuccess() && !multiStatus;
+        String batchMessage = responseBody != null ? responseBody.getMessage() : "응답 본문이 없습니다";
+
+        // 같은 주문 ID가 여러 번 전송될 수 있어 ID별로 받은 순서대로 쌓아 두고 보낸 순서대로 하나씩 꺼낸다
+        Map<String, Deque<OrderItemResult>> itemsByOrderId = new HashMap<>();
+        if (responseBody != null && responseBody.getItems() != null) {
+            for (OrderItemResult item : responseBody.getItems()) {
+                itemsByOrderId.computeIfAbsent(item.getOrderId(), orderId -> new ArrayDeque<>()).add(item);
+            }
+        }
+
+        List<OrderItemResult> items = new ArrayList<>(orders.size());
+        boolean allSucceeded = true;
+        for (Order order : orders) {
+            Deque<OrderItemResult> received = itemsByOrderId.get(order.getOrderId());
+            OrderItemResult item = received != null ? received.poll() : null;
+            if (item == null) {
+                item = OrderItemResult.builder()
+                        .orderId(order.getOrderId())
+                        .success(batchSuccess)
+                        .message(batchMessage)
+                        .build();
+            }
+            allSucceeded &= item.isSuccess();
+            items.add(item);
+        }
+        return OrderSendResult.builder()
+                .success(allSucceeded)
+                .message(batchMessage)
+                .items(items)
                 .build();
     }
 
-    private LocalDateTime parseDateTime(String dateTime) {
+    /**
+     * 주문 조회 응답 본문을 원본 주문 목록으로 해석한다
+     */
+    public List<OrderRequest> parseOrderRequests(String responseBody) throws ExternalSystemException {
+        long parseStart = RequestTimingContext.start();
         try {
-            return LocalDateTime.parse(dateTime, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+            // 외부 시스템에서 OrderRequest 형태로 데이터가 온다고 가정
+            return objectMapper.readValue(responseBody, new TypeReference<List<OrderRequest>>() {});
         } catch (Exception e) {
-            return LocalDateTime.now();
+            throw new ExternalSystemException(SYSTEM_TYPE, "응답 데이터 파싱 오류", e);
+        } finally {
+            RequestTimingContext.record(TimingStage.PARSE, parseStart);
         }
     }
 
-    private String formatDateTime(LocalDateTime dateTime) {
-        return dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    /**
+     * 원본 주문 목록을 주문으로 변환한다. 변환할 수 없는 레코드는 건너뛰고 경고 로그를 남긴다
+     */
+    public List<Order> toOrders(List<OrderRequest> orderRequests) {
+        long convertStart = RequestTimingContext.start();
+        List<Order> orders = new ArrayList<>(orderRequests.size());
+        for (int i = 0; i < orderRequests.size(); i++) {
+            Order order = OrderConverter.classify(orderRequests.get(i), i, LOG_REJECTION);
+            if (order != null) {
+                orders.add(order);
+            }
+        }
+        RequestTimingContext.record(TimingStage.PARSE, convertStart);
+        return orders;
     }
 }
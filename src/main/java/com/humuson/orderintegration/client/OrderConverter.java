@@ -0,0 +1,138 @@
+package com.humuson.orderintegration.client;
+
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.client.dto.OrderResponse;
+import com.humuson.orderintegration.domain.ImportResultCode;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 외부 시스템 연동 DTO와 도메인 주문 간 변환을 담당한다
+ */
+public final class OrderConverter {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int DATE_TIME_LENGTH = "yyyy-MM-dd HH:mm:ss".length();
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private OrderConverter() {
+    }
+
+    /**
+     * 원본 주문 한 건을 예외 없이 변환한다. 주문 ID 누락, 알 수 없는 상태, 날짜 형식 오류면 결과 코드와 사유를
+     * rejections에 넘기고 null을 반환한다. 잘못된 날짜를 현재 시각으로 바꾸지 않는다
+     */
+    public static Order classify(OrderRequest request, int index, OrderRejectionSink rejections) {
+        String orderId = request.getOrderId();
+        if (orderId == null || orderId.isBlank()) {
+            rejections.reject(index, orderId, ImportResultCode.MISSING_ORDER_ID, null);
+            return null;
+        }
+        OrderStatus status = findStatus(request.getStatus());
+        if (status == null) {
+            rejections.reject(index, orderId, ImportResultCode.UNKNOWN_STATUS, request.getStatus());
+            return null;
+        }
+        LocalDateTime orderDate = tryParseDateTime(request.getOrderDate());
+        if (orderDate == null) {
+            rejections.reject(index, orderId, ImportResultCode.INVALID_ORDER_DATE, request.getOrderDate());
+            return null;
+        }
+        return toOrder(request, orderDate, status);
+    }
+
+    /**
+     * 이미 해석한 주문 날짜와 상태로 주문을 만든다
+     */
+    public static Order toOrder(OrderRequest request, LocalDateTime orderDate, OrderStatus status) {
+        return Order.builder()
+                .orderId(request.getOrderId())
+                .customerName(request.getCustomerName())
+                .orderDate(orderDate)
+                .status(status)
+                .description(request.getDescription())
+                .build();
+    }
+
+    public static OrderRequest toOrderRequest(Order order) {
+        return OrderRequest.builder()
+                .orderId(order.getOrderId())
+                .customerName(order.getCustomerName())
+                .orderDate(order.getOrderDate() != null ? formatDateTime(order.getOrderDate()) : null)
+                .status(order.getStatus() != null ? order.getStatus().name() : null)
+                .description(order.getDescription())
+                .build();
+    }
+
+    public static OrderResponse toOrderResponse(Order order) {
+        return OrderResponse.builder()
+                .orderId(order.getOrderId())
+                .customerName(order.getCustomerName())
+                .orderDate(formatDateTime(order.getOrderDate()))
+                .status(order.getStatus().name())
+                .description(order.getDescription())
+                .processedAt(formatDateTime(LocalDateTime.now()))
+                .build();
+    }
+
+    /**
+     * "yyyy-MM-dd HH:mm:ss" 형식을 예외 없이 해석하고, 형식이 맞지 않으면 null을 반환한다.
+     * 잘못된 데이터가 많은 피드에서 건마다 예외를 만드는 비용을 피하기 위해 직접 해석한다.
+     * 월의 마지막 날을 넘는 일자(2월 30일 등)는 DateTimeFormatter 기본 해석과 같이 마지막 날로 맞춘다
+     */
+    public static LocalDateTime tryParseDateTime(String dateTime) {
+        if (dateTime == null || dateTime.length() != DATE_TIME_LENGTH
+                || dateTime.charAt(4) != '-' || dateTime.charAt(7) != '-' || dateTime.charAt(10) != ' '
+                || dateTime.charAt(13) != ':' || dateTime.charAt(16) != ':') {
+            return null;
+        }
+        int year = digits(dateTime, 0, 4);
+        int month = digits(dateTime, 5, 7);
+        int day = digits(dateTime, 8, 10);
+        int hour = digits(dateTime, 11, 13);
+        int minute = digits(dateTime, 14, 16);
+        int second = digits(dateTime, 17, 19);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        int lastDay = month == 2 && Year.isLeap(year) ? 29 : DAYS_IN_MONTH[month - 1];
+        return LocalDateTime.of(year, month, Math.min(day, lastDay), hour, minute, second);
+    }
+
+    /**
+     * 대소문자 구분 없이 주문 상태를 찾고, 없으면 null을 반환한다 (OrderStatus.valueOf와 달리 예외를 던지지 않는다)
+     */
+    public static OrderStatus findStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        for (OrderStatus candidate : STATUSES) {
+            if (candidate.name().equalsIgnoreCase(status)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    public static String formatDateTime(LocalDateTime dateTime) {
+        return dateTime.format(DATE_FORMATTER);
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
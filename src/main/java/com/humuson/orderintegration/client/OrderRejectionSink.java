@@ -0,0 +1,12 @@
+package com.humuson.orderintegration.client;
+
+import com.humuson.orderintegration.domain.ImportResultCode;
+
+/**
+ * 건별 분류에서 제외된 원본 주문을 받는다. index는 입력 목록(또는 스트림)에서의 위치이다
+ */
+@FunctionalInterface
+public interface OrderRejectionSink {
+
+    void reject(int index, String orderId, ImportResultCode code, String reason);
+}
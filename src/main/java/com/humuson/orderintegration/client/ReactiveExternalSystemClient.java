@@ -0,0 +1,29 @@
+package com.humuson.orderintegration.client;
+
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.domain.Order;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveExternalSystemClient {
+    /**
+     * 외부 시스템의 주문 배열을 한 건씩 디코딩하여 스트림으로 가져온다. 변환할 수 없는 레코드는 스트림을 끝내지 않고 건너뛴다
+     */
+    Flux<Order> fetchOrders(String endpoint);
+
+    /**
+     * 외부 시스템의 주문 배열을 변환하지 않은 원본 형태로 한 건씩 디코딩하여 스트림으로 가져온다
+     */
+    Flux<OrderRequest> fetchOrderRequests(String endpoint);
+
+    /**
+     * 주문 스트림을 외부 시스템으로 전송한다
+     */
+    Mono<Boolean> sendOrders(String endpoint, Publisher<Order> orders);
+
+    /**
+     * 시스템 타입을 반환한다
+     */
+    String getSystemType();
+}
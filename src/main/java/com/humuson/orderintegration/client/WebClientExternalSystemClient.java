@@ -0,0 +1,99 @@
+package com.humuson.orderintegration.client;
+
+import com.humuson.orderintegration.client.dto.ExternalSystemResponse;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.client.dto.OrderResponse;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.exception.ExternalSystemException;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.codec.CodecException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactor Netty 기반 논블로킹 외부 시스템 클라이언트.
+ * 응답 대기 중 스레드를 점유하지 않으므로 적은 수의 이벤트 루프 스레드로 많은 동시 호출을 처리한다.
+ */
+@Component
+public class WebClientExternalSystemClient implements ReactiveExternalSystemClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebClientExternalSystemClient.class);
+    private static final String SYSTEM_TYPE = "HTTP-REACTIVE";
+    private static final OrderRejectionSink LOG_REJECTION = (index, orderId, code, reason) ->
+            logger.warn("주문 변환 제외 [{}] (위치 {}): {} {}", orderId, index, code.getDescription(),
+                    reason != null ? reason : "");
+
+    private final WebClient webClient;
+
+    public WebClientExternalSystemClient(WebClient externalSystemWebClient) {
+        this.webClient = externalSystemWebClient;
+    }
+
+    @Override
+    public Flux<Order> fetchOrders(String endpoint) {
+        return Flux.defer(() -> {
+            // 구독마다 입력 위치를 센다 (handle은 한 번에 한 건씩 호출된다)
+            int[] position = {0};
+            return fetchOrderRequests(endpoint).<Order>handle((request, sink) -> {
+                Order order = OrderConverter.classify(request, position[0]++, LOG_REJECTION);
+                if (order != null) {
+                    sink.next(order);
+                }
+            });
+        });
+    }
+
+    @Override
+    public Flux<OrderRequest> fetchOrderRequests(String endpoint) {
+        return webClient.get()
+                .uri(endpoint)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToFlux(OrderRequest.class)
+                .onErrorMap(e -> toExternalSystemException(e, "데이터 조회 중 오류 발생"));
+    }
+
+    @Override
+    public Mono<Boolean> sendOrders(String endpoint, Publisher<Order> orders) {
+        Flux<OrderResponse> body = Flux.from(orders).map(OrderConverter::toOrderResponse);
+
+        return webClient.post()
+                .uri(endpoint)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .body(body, OrderResponse.class)
+                .retrieve()
+                .bodyToMono(ExternalSystemResponse.class)
+                .map(ExternalSystemResponse::isSuccess)
+                .defaultIfEmpty(false)
+                .onErrorMap(e -> toExternalSystemException(e, "데이터 전송 중 오류 발생"));
+    }
+
+    @Override
+    public String getSystemType() {
+        return SYSTEM_TYPE;
+    }
+
+    private Throwable toExternalSystemException(Throwable e, String defaultMessage) {
+        if (e instanceof ExternalSystemException) {
+            return e;
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            return new ExternalSystemException(SYSTEM_TYPE, "HTTP 오류: " + responseException.getStatusCode(), e);
+        }
+        if (e instanceof WebClientRequestException) {
+            return new ExternalSystemException(SYSTEM_TYPE, "네트워크 연결 오류", e);
+        }
+        if (e instanceof CodecException) {
+            return new ExternalSystemException(SYSTEM_TYPE, "응답 데이터 파싱 오류", e);
+        }
+        return new ExternalSystemException(SYSTEM_TYPE, defaultMessage, e);
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -14,4 +16,9 @@ public class ExternalSystemResponse<T> {
     private String message;
     private T data;
     private String timestamp;
+
+    /**
+     * 주문 전송에 대한 건별 처리 결과 (부분 실패 시 207 응답에 포함, 없으면 success가 전체 결과)
+     */
+    private List<OrderItemResult> items;
 }
@@ -0,0 +1,19 @@
+package com.humuson.orderintegration.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부 시스템이 전송받은 주문 한 건의 처리 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderItemResult {
+    private String orderId;
+    private boolean success;
+    private String message;
+}
@@ -0,0 +1,28 @@
+package com.humuson.orderintegration.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 주문 전송 결과. items는 보낸 주문 순서대로 한 건씩 담긴다
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSendResult {
+    private boolean success;
+    private String message;
+    private List<OrderItemResult> items;
+
+    public List<OrderItemResult> failedItems() {
+        return items.stream()
+                .filter(item -> !item.isSuccess())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,101 @@
+package com.humuson.orderintegration.client.limit;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나에 대한 동시 호출 수를 {@link GradientLimit} 한도 이내로 제한한다.
+ * 한도를 넘는 호출은 대기시키지 않고 즉시 거절하여 외부 시스템 앞에 큐가 쌓이지 않게 한다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final GradientLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public AdaptiveConcurrencyLimiter(String name, GradientLimit limit) {
+        this.name = name;
+        this.limit = limit;
+    }
+
+    /**
+     * 호출 허가를 얻는다. 한도에 도달한 경우 빈 값을 반환한다.
+     */
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.getLimit()) {
+                rejected.increment();
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(current + 1));
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * 허가된 호출 하나. 호출 결과에 맞는 메서드를 한 번만 호출해야 한다.
+     */
+    public final class Permit {
+        private final long startNanos = System.nanoTime();
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * 정상 응답: RTT를 한도 계산에 반영한다
+         */
+        public void onSuccess() {
+            if (release()) {
+                limit.onSample(System.nanoTime() - startNanos, inFlightAtStart);
+            }
+        }
+
+        /**
+         * 과부하 응답(429, 5xx, 타임아웃): 한도를 줄인다
+         */
+        public void onDropped() {
+            if (release()) {
+                limit.onDropped();
+            }
+        }
+
+        /**
+         * 한도와 무관한 실패(잘못된 요청 등): 동시 호출 수만 반환한다
+         */
+        public void onIgnore() {
+            release();
+        }
+
+        private boolean release() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+}
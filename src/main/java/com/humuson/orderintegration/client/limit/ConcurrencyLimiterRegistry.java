@@ -0,0 +1,98 @@
+package com.humuson.orderintegration.client.limit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 시스템 HTTP 메서드와 엔드포인트(호스트 + 경로)별 동시 호출 제한기를 생성, 보관하고 Micrometer 지표로 노출한다.
+ */
+@Component
+public class ConcurrencyLimiterRegistry {
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double backoffRatio;
+
+    public ConcurrencyLimiterRegistry(MeterRegistry meterRegistry,
+                                      @Value("${order.client.limit.initial:20}") int initialLimit,
+                                      @Value("${order.client.limit.min:1}") int minLimit,
+                                      @Value("${order.client.limit.max:200}") int maxLimit,
+                                      @Value("${order.client.limit.smoothing:0.2}") double smoothing,
+                                      @Value("${order.client.limit.rtt-tolerance:1.5}") double rttTolerance,
+                                      @Value("${order.client.limit.backoff-ratio:0.9}") double backoffRatio) {
+        this.meterRegistry = meterRegistry;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * 같은 엔드포인트라도 조회(GET)와 전송(POST)은 응답 시간이 달라 제한기를 따로 둔다
+     */
+    public AdaptiveConcurrencyLimiter limiterFor(String method, String endpoint) {
+        String endpointKey = endpointKey(endpoint);
+        String key = method + " " + endpointKey;
+        AdaptiveConcurrencyLimiter limiter = limiters.get(key);
+        if (limiter != null) {
+            return limiter;
+        }
+        return limiters.computeIfAbsent(key, k -> createLimiter(k, method, endpointKey));
+    }
+
+    public Collection<AdaptiveConcurrencyLimiter> getLimiters() {
+        return limiters.values();
+    }
+
+    private AdaptiveConcurrencyLimiter createLimiter(String key, String method, String endpointKey) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(key,
+                new GradientLimit(initialLimit, minLimit, maxLimit, smoothing, rttTolerance, backoffRatio));
+        Gauge.builder("order.client.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("외부 시스템 메서드, 엔드포인트별 현재 동시 호출 한도")
+                .tag("method", method)
+                .tag("endpoint", endpointKey)
+                .register(meterRegistry);
+        Gauge.builder("order.client.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("외부 시스템 메서드, 엔드포인트별 진행 중인 호출 수")
+                .tag("method", method)
+                .tag("endpoint", endpointKey)
+                .register(meterRegistry);
+        FunctionCounter.builder("order.client.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejectedCount)
+                .description("동시 호출 한도 초과로 거절된 호출 수")
+                .tag("method", method)
+                .tag("endpoint", endpointKey)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    /**
+     * 쿼리 문자열을 제외한 호스트, 포트, 경로를 키로 사용한다
+     */
+    public static String endpointKey(String endpoint) {
+        try {
+            URI uri = URI.create(endpoint);
+            if (uri.getHost() == null) {
+                return endpoint;
+            }
+            String authority = uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+            return authority + (uri.getPath() == null ? "" : uri.getPath());
+        } catch (IllegalArgumentException e) {
+            return endpoint;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.humuson.orderintegration.client.limit;
+
+/**
+ * 관측한 응답 시간(RTT)으로 동시 호출 한도를 조정하는 gradient 방식 알고리즘.
+ * 단기 RTT가 장기 RTT 기준선과 비슷하면 한도를 sqrt(limit)만큼 늘리고, 큐잉으로 단기 RTT가 늘어나면
+ * 두 값의 비율(gradient)만큼 줄인다. 과부하 응답(429, 5xx, 타임아웃)을 받으면 한도를 즉시 곱셈으로 줄인다.
+ */
+public class GradientLimit {
+
+    private static final double SHORT_WINDOW_ALPHA = 2.0 / (10 + 1);
+    private static final double LONG_WINDOW_ALPHA = 2.0 / (600 + 1);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double backoffRatio;
+
+    private double estimatedLimit;
+    private double shortRtt;
+    private double longRtt;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit,
+                         double smoothing, double rttTolerance, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("동시 호출 한도 설정이 올바르지 않습니다: initial=" + initialLimit
+                    + ", min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.backoffRatio = backoffRatio;
+        this.estimatedLimit = initialLimit;
+    }
+
+    public synchronized int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    /**
+     * 정상 응답의 RTT와 호출 시작 시점의 동시 호출 수로 한도를 갱신한다.
+     */
+    public synchronized void onSample(long rttNanos, int inFlight) {
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+        } else {
+            shortRtt += SHORT_WINDOW_ALPHA * (rttNanos - shortRtt);
+            longRtt += LONG_WINDOW_ALPHA * (shortRtt - longRtt);
+        }
+
+        // 부하가 줄어 기준선이 단기 RTT보다 크게 높아진 경우 기준선을 빠르게 끌어내린다
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // 한도의 절반도 사용하지 않는 상태에서는 RTT가 한도의 적정성을 알려주지 못한다
+        if (inFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = clamp(newLimit);
+    }
+
+    /**
+     * 과부하 응답을 받았을 때 한도를 곱셈으로 줄인다.
+     */
+    public synchronized void onDropped() {
+        estimatedLimit = clamp(estimatedLimit * backoffRatio);
+    }
+
+    synchronized double getShortRttMillis() {
+        return shortRtt / 1_000_000.0;
+    }
+
+    synchronized double getLongRttMillis() {
+        return longRtt / 1_000_000.0;
+    }
+
+    private double clamp(double limit) {
+        return Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+}
@@ -0,0 +1,118 @@
+package com.humuson.orderintegration.client.limit;
+
+import com.humuson.orderintegration.client.ExternalSystemClient;
+import com.humuson.orderintegration.client.HttpExternalSystemClient;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.client.dto.OrderSendResult;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.exception.ConcurrencyLimitExceededException;
+import com.humuson.orderintegration.exception.ExternalSystemException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * {@link HttpExternalSystemClient} 호출을 HTTP 메서드와 엔드포인트별 적응형 동시 호출 한도로 감싼다.
+ * 허가는 원격 호출 구간에만 잡고 직렬화와 응답 해석은 허가 밖에서 한다.
+ * 한도를 넘는 호출은 외부 시스템으로 보내지 않고 {@link ConcurrencyLimitExceededException}으로 즉시 실패시킨다.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "order.client.limit.enabled", havingValue = "true", matchIfMissing = true)
+public class LimitingExternalSystemClient implements ExternalSystemClient {
+
+    private final HttpExternalSystemClient delegate;
+    private final ConcurrencyLimiterRegistry limiterRegistry;
+
+    public LimitingExternalSystemClient(HttpExternalSystemClient delegate,
+                                        ConcurrencyLimiterRegistry limiterRegistry) {
+        this.delegate = delegate;
+        this.limiterRegistry = limiterRegistry;
+    }
+
+    @Override
+    public List<Order> fetchOrders(String endpoint) throws ExternalSystemException {
+        return delegate.toOrders(fetchOrderRequests(endpoint));
+    }
+
+    @Override
+    public List<OrderRequest> fetchOrderRequests(String endpoint) throws ExternalSystemException {
+        // 응답 해석은 허가를 돌려준 뒤에 해서 RTT에 CPU 시간이 섞이지 않게 한다
+        String body = call(HttpMethod.GET, endpoint, true, () -> delegate.fetchBody(endpoint));
+        return delegate.parseOrderRequests(body);
+    }
+
+    @Override
+    public boolean sendOrder(String endpoint, Order order) throws ExternalSystemException {
+        return sendOrders(endpoint, List.of(order));
+    }
+
+    @Override
+    public boolean sendOrders(String endpoint, List<Order> orders) throws ExternalSystemException {
+        return sendOrdersWithResults(endpoint, orders).isSuccess();
+    }
+
+    @Override
+    public OrderSendResult sendOrdersWithResults(String endpoint, List<Order> orders) throws ExternalSystemException {
+        byte[] body = delegate.serializeOrders(orders);
+        return call(HttpMethod.POST, endpoint, true, () -> delegate.sendSerialized(endpoint, orders, body));
+    }
+
+    /**
+     * 스트리밍 전송은 직렬화와 전송이 섞여 있어 RTT 표본으로 쓰지 않고 동시 호출 수만 제한한다
+     */
+    @Override
+    public boolean sendOrderStream(String endpoint, Stream<Order> orders) throws ExternalSystemException {
+        return call(HttpMethod.POST, endpoint, false, () -> delegate.sendOrderStream(endpoint, orders));
+    }
+
+    @Override
+    public String getSystemType() {
+        return delegate.getSystemType();
+    }
+
+    private <T> T call(HttpMethod method, String endpoint, boolean sampleRtt, Supplier<T> action) {
+        AdaptiveConcurrencyLimiter limiter = limiterRegistry.limiterFor(method.name(), endpoint);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire()
+                .orElseThrow(() -> new ConcurrencyLimitExceededException(getSystemType(), limiter.getName(), limiter.getLimit()));
+        try {
+            T result = action.get();
+            if (sampleRtt) {
+                permit.onSuccess();
+            }
+            return result;
+        } catch (RuntimeException e) {
+            if (isOverload(e)) {
+                permit.onDropped();
+            }
+            throw e;
+        } finally {
+            // 이미 반환된 허가는 무시되므로 Error가 나거나 RTT를 반영하지 않는 경우에도 동시 호출 수가 남지 않는다
+            permit.onIgnore();
+        }
+    }
+
+    /**
+     * 429, 5xx 응답과 연결/응답 타임아웃은 외부 시스템 과부하 신호로 본다
+     */
+    static boolean isOverload(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ResourceAccessException) {
+                return true;
+            }
+            if (cause instanceof HttpStatusCodeException statusError) {
+                return statusError.getStatusCode().is5xxServerError()
+                        || statusError.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,74 @@
+package com.humuson.orderintegration.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humuson.orderintegration.controller.dto.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 노드 간 호출 경로(/internal/cluster/**)는 order.cluster.secret 값을 X-Cluster-Secret 헤더로 보낸 요청만 통과시킨다.
+ * 노드 간 엔드포인트는 라우팅 없이 로컬 저장소를 바로 저장, 삭제하므로 공개 포트로 들어온 외부 요청은 401로 막는다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "order.repository.type", havingValue = "cluster")
+public class ClusterAuthFilter extends OncePerRequestFilter {
+
+    public static final String SECRET_HEADER = "X-Cluster-Secret";
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterAuthFilter.class);
+    private static final String INTERNAL_PATH = "/internal/cluster";
+
+    private final ObjectMapper objectMapper;
+    private final byte[] secret;
+
+    public ClusterAuthFilter(ObjectMapper objectMapper, @Value("${order.cluster.secret:}") String secret) {
+        if (secret.isBlank()) {
+            throw new IllegalArgumentException("클러스터 모드에는 노드 간 호출용 order.cluster.secret 설정이 필요합니다");
+        }
+        this.objectMapper = objectMapper;
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 요청 URI가 아닌 정규화된 서블릿 경로로 판단한다 (경로 매개변수(;)나 // 로 우회하지 못하도록)
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return !path.equals(INTERNAL_PATH) && !path.startsWith(INTERNAL_PATH + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String provided = request.getHeader(SECRET_HEADER);
+        // 비교 시간으로 비밀값을 추측하지 못하도록 보낸 값과 무관하게 일정한 시간에 비교한다
+        if (provided == null || !MessageDigest.isEqual(secret, provided.getBytes(StandardCharsets.UTF_8))) {
+            logger.warn("노드 간 호출 인증 실패: {} {} ({})", request.getMethod(), request.getRequestURI(),
+                    request.getRemoteAddr());
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("노드 간 호출 인증에 실패했습니다"));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
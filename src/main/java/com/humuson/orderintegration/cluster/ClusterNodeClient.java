@@ -0,0 +1,204 @@
+package com.humuson.orderintegration.cluster;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.humuson.orderintegration.controller.OrderNdjsonWriter;
+import com.humuson.orderintegration.controller.dto.StatusTransitionRequest;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.StatusTransitionResult;
+import com.humuson.orderintegration.exception.ClusterNodeException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 다른 노드의 로컬 저장소({@link ClusterNodeController})를 호출한다.
+ * 모든 호출에 order.cluster.secret을 {@link ClusterAuthFilter#SECRET_HEADER} 헤더로 싣는다.
+ * 호출 실패는 노드 주소를 담은 {@link ClusterNodeException}으로 바꿔 던진다.
+ */
+@Component
+@ConditionalOnProperty(name = "order.repository.type", havingValue = "cluster")
+public class ClusterNodeClient {
+
+    private static final String ORDERS_PATH = "/internal/cluster/orders";
+    private static final String SEARCH_PATH = "/internal/cluster/search";
+
+    private final RestTemplate restTemplate;
+    private final ObjectReader orderReader;
+
+    public ClusterNodeClient(RestTemplate restTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${order.cluster.secret:}") String secret) {
+        // 외부 시스템 호출에 비밀값이 실리지 않도록 공용 RestTemplate에 인터셉터를 붙이지 않고 노드 간 호출용을 따로 만든다
+        this.restTemplate = new RestTemplate(restTemplate.getRequestFactory());
+        this.restTemplate.setMessageConverters(restTemplate.getMessageConverters());
+        this.restTemplate.getInterceptors().add((request, body, execution) -> {
+            request.getHeaders().set(ClusterAuthFilter.SECRET_HEADER, secret);
+            return execution.execute(request, body);
+        });
+        this.orderReader = objectMapper.readerFor(Order.class);
+    }
+
+    public Optional<Order> findById(String node, String orderId) {
+        try {
+            return Optional.ofNullable(restTemplate.getForObject(node + ORDERS_PATH + "/{orderId}", Order.class, orderId));
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
+        } catch (RestClientException e) {
+            throw new ClusterNodeException(node, "주문 조회 실패: " + orderId, e);
+        }
+    }
+
+    /**
+     * status가 null이면 노드의 전체 주문을 조회한다
+     */
+    public List<Order> find(String node, OrderStatus status) {
+        try {
+            Order[] orders = status == null
+                    ? restTemplate.getForObject(node + ORDERS_PATH, Order[].class)
+                    : restTemplate.getForObject(node + ORDERS_PATH + "?status={status}", Order[].class, status);
+            return orders == null ? List.of() : Arrays.asList(orders);
+        } catch (RestClientException e) {
+            throw new ClusterNodeException(node, "주문 목록 조회 실패", e);
+        }
+    }
+
+    /**
+     * 노드의 검색 색인에서 최대 limit건을 조회한다 (status가 null이면 모든 상태)
+     */
+    public List<Order> search(String node, String query, OrderStatus status, int limit) {
+        try {
+            Order[] orders = status == null
+                    ? restTemplate.getForObject(node + SEARCH_PATH + "?q={q}&limit={limit}", Order[].class,
+                            query, limit)
+                    : restTemplate.getForObject(node + SEARCH_PATH + "?q={q}&status={status}&limit={limit}",
+                            Order[].class, query, status, limit);
+            return orders == null ? List.of() : Arrays.asList(orders);
+        } catch (RestClientException e) {
+            throw new ClusterNodeException(node, "주문 검색 실패", e);
+        }
+    }
+
+    /**
+     * 노드의 주문을 NDJSON으로 받아 한 건씩 읽는 스트림을 연다. 목록 전체를 메모리에 올리지 않으며,
+     * 스트림을 닫으면 연결도 닫는다 (status가 null이면 전체 주문)
+     */
+    public Stream<Order> stream(String node, OrderStatus status) {
+        URI uri = status == null
+                ? restTemplate.getUriTemplateHandler().expand(node + ORDERS_PATH)
+                : restTemplate.getUriTemplateHandler().expand(node + ORDERS_PATH + "?status={status}", status);
+        ClientHttpResponse response = null;
+        try {
+            // RestTemplate 호출은 응답을 다 읽은 뒤 연결을 닫으므로 요청 팩토리로 직접 열어 둔다 (인터셉터는 그대로 적용된다)
+            ClientHttpRequest request = restTemplate.getRequestFactory().createRequest(uri, HttpMethod.GET);
+            request.getHeaders().setAccept(List.of(OrderNdjsonWriter.APPLICATION_NDJSON));
+            response = request.execute();
+            if (response.getStatusCode().isError()) {
+                throw new ClusterNodeException(node, "주문 스트림 조회 실패: HTTP " + response.getStatusCode().value(), null);
+            }
+            MappingIterator<Order> orders = orderReader.readValues(response.getBody());
+            ClientHttpResponse opened = response;
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new NodeOrderIterator(node, orders),
+                    Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(() -> {
+                        try {
+                            orders.close();
+                        } catch (IOException e) {
+                            // 연결을 닫는 중 오류는 무시한다
+                        } finally {
+                            opened.close();
+                        }
+                    });
+        } catch (IOException | RuntimeException e) {
+            if (response != null) {
+                response.close();
+            }
+            if (e instanceof ClusterNodeException clusterNodeException) {
+                throw clusterNodeException;
+            }
+            throw new ClusterNodeException(node, "주문 스트림 조회 실패", e);
+        }
+    }
+
+    public void saveAll(String node, List<Order> orders) {
+        try {
+            restTemplate.postForObject(node + ORDERS_PATH + "/batch", orders, Integer.class);
+        } catch (RestClientException e) {
+            throw new ClusterNodeException(node, "주문 " + orders.size() + "건 저장 실패", e);
+        }
+    }
+
+    public StatusTransitionResult transitionStatus(String node, List<String> orderIds, OrderStatus expectedStatus,
+                                                   OrderStatus newStatus) {
+        try {
+            StatusTransitionResult result = restTemplate.postForObject(node + ORDERS_PATH + "/transition",
+                    new StatusTransitionRequest(orderIds, expectedStatus, newStatus), StatusTransitionResult.class);
+            if (result == null) {
+                throw new ClusterNodeException(node, "주문 상태 전환 응답이 비어 있습니다", null);
+            }
+            return result;
+        } catch (RestClientException e) {
+            throw new ClusterNodeException(node, "주문 " + orderIds.size() + "건 상태 전환 실패", e);
+        }
+    }
+
+    public void deleteById(String node, String orderId) {
+        try {
+            restTemplate.delete(node + ORDERS_PATH + "/{orderId}", orderId);
+        } catch (RestClientException e) {
+            throw new ClusterNodeException(node, "주문 삭제 실패: " + orderId, e);
+        }
+    }
+
+    public OrderStatistics getStatistics(String node) {
+        try {
+            return restTemplate.getForObject(node + ORDERS_PATH + "/stats", OrderStatistics.class);
+        } catch (RestClientException e) {
+            throw new ClusterNodeException(node, "주문 통계 조회 실패", e);
+        }
+    }
+
+    /**
+     * 스트림을 읽는 중 연결이 끊기거나 응답이 잘린 경우를 노드 호출 실패로 바꿔 던진다
+     */
+    private record NodeOrderIterator(String node, MappingIterator<Order> orders) implements Iterator<Order> {
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return orders.hasNextValue();
+            } catch (IOException e) {
+                throw new ClusterNodeException(node, "주문 스트림 읽기 실패", e);
+            }
+        }
+
+        @Override
+        public Order next() {
+            try {
+                return orders.nextValue();
+            } catch (IOException e) {
+                throw new ClusterNodeException(node, "주문 스트림 읽기 실패", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.humuson.orderintegration.cluster;
+
+import com.humuson.orderintegration.controller.OrderNdjsonWriter;
+import com.humuson.orderintegration.controller.dto.ApiResponse;
+import com.humuson.orderintegration.controller.dto.StatusTransitionRequest;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.StatusTransitionResult;
+import com.humuson.orderintegration.repository.OrderRepository;
+import com.humuson.orderintegration.search.OrderSearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노드 간 호출용 엔드포인트. 라우팅 없이 이 노드의 로컬 저장소만 읽고 쓴다 ({@link ClusterAuthFilter}로 인증된 요청만)
+ */
+@RestController
+@RequestMapping("/internal/cluster")
+@ConditionalOnProperty(name = "order.repository.type", havingValue = "cluster")
+public class ClusterNodeController {
+
+    private final ClusteredOrderRepository clusteredOrderRepository;
+    private final OrderRepository local;
+    private final OrderNdjsonWriter orderNdjsonWriter;
+    private final OrderSearchIndex orderSearchIndex;
+
+    public ClusterNodeController(ClusteredOrderRepository clusteredOrderRepository,
+                                 OrderNdjsonWriter orderNdjsonWriter,
+                                 OrderSearchIndex orderSearchIndex) {
+        this.clusteredOrderRepository = clusteredOrderRepository;
+        this.local = clusteredOrderRepository.local();
+        this.orderNdjsonWriter = orderNdjsonWriter;
+        this.orderSearchIndex = orderSearchIndex;
+    }
+
+    @GetMapping("/orders/{orderId}")
+    public ResponseEntity<Order> getOrder(@PathVariable String orderId) {
+        return local.findById(orderId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/orders")
+    public List<Order> getOrders(@RequestParam(required = false) OrderStatus status) {
+        return status == null ? local.findAll() : local.findByStatus(status);
+    }
+
+    /**
+     * 로컬 주문을 NDJSON으로 스트리밍한다. 다른 노드의 스트리밍 조회가 목록 전체를 한 번에 받지 않도록 쓴다
+     */
+    @GetMapping(value = "/orders", produces = OrderNdjsonWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOrders(@RequestParam(required = false) OrderStatus status) {
+        return ResponseEntity.ok()
+                .contentType(OrderNdjsonWriter.APPLICATION_NDJSON)
+                .body(orderNdjsonWriter.write(() -> status == null ? local.streamAll() : local.streamByStatus(status),
+                        null));
+    }
+
+    @PostMapping("/orders/batch")
+    public int saveOrders(@RequestBody List<Order> orders) {
+        local.saveAll(orders);
+        return orders.size();
+    }
+
+    @PostMapping("/orders/transition")
+    public StatusTransitionResult transitionStatus(@RequestBody StatusTransitionRequest request) {
+        return local.transitionStatus(request.getOrderIds(), request.getExpectedStatus(), request.getNewStatus());
+    }
+
+    @DeleteMapping("/orders/{orderId}")
+    public ResponseEntity<Void> deleteOrder(@PathVariable String orderId) {
+        local.deleteById(orderId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 이 노드의 검색 색인만 조회한다. 다른 노드가 검색 결과를 합칠 때 쓴다
+     */
+    @GetMapping("/search")
+    public List<Order> search(@RequestParam String q,
+                              @RequestParam(required = false) OrderStatus status,
+                              @RequestParam int limit) {
+        return orderSearchIndex.searchLocal(q, status, limit);
+    }
+
+    @GetMapping("/orders/stats")
+    public OrderStatistics getStatistics() {
+        return local.getStatistics();
+    }
+
+    /**
+     * 노드 목록, 이 노드 주소, 노드별 해시 구간 비율과 로컬 주문 건수 조회
+     */
+    @GetMapping("/ring")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRing() {
+        ConsistentHashRing ring = clusteredOrderRepository.ring();
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("self", clusteredOrderRepository.self());
+        info.put("nodes", ring.nodes());
+        info.put("ownership", ring.ownership());
+        info.put("localOrderCount", local.getStatistics().getTotalCount());
+        return ResponseEntity.ok(ApiResponse.success("클러스터 구성 조회 완료", info));
+    }
+}
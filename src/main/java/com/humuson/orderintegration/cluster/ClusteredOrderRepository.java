@@ -0,0 +1,391 @@
+package com.humuson.orderintegration.cluster;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.StatusTransitionOutcome;
+import com.humuson.orderintegration.domain.StatusTransitionResult;
+import com.humuson.orderintegration.exception.ClusterNodeException;
+import com.humuson.orderintegration.repository.InMemoryOrderRepository;
+import com.humuson.orderintegration.repository.OrderChangeListener;
+import com.humuson.orderintegration.repository.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 여러 애플리케이션 인스턴스가 orderId 해시 구간을 나눠 갖는 저장소 (order.repository.type=cluster).
+ * 각 노드는 자신이 소유한 주문만 로컬 메모리 저장소에 두고, 다른 노드 소유 주문은 소유 노드로 보낸다.
+ * <ul>
+ *     <li>save, findById, existsById, deleteById: 소유 노드 한 곳으로 보낸다</li>
+ *     <li>saveAll: 소유 노드별로 묶어 batch-size건씩 노드마다 동시에 보낸다</li>
+ *     <li>findAll, findByStatus, getStatistics: 모든 노드에 동시에 묻고 결과를 합친다</li>
+ *     <li>streamAll, streamByStatus: 로컬 주문 뒤에 다른 노드의 NDJSON 스트림을 노드 하나씩 차례로 이어 읽는다</li>
+ * </ul>
+ * 모든 노드는 같은 order.cluster.nodes 목록을 가져야 같은 소유 노드를 계산한다.
+ */
+@Repository
+@ConditionalOnProperty(name = "order.repository.type", havingValue = "cluster")
+public class ClusteredOrderRepository implements OrderRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusteredOrderRepository.class);
+
+    private final OrderRepository local = new InMemoryOrderRepository();
+    private final ClusterNodeClient clusterNodeClient;
+    private final ConsistentHashRing ring;
+    private final String self;
+    private final int batchSize;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ClusteredOrderRepository(ClusterNodeClient clusterNodeClient,
+                                    @Value("${order.cluster.nodes}") List<String> nodes,
+                                    @Value("${order.cluster.self:http://localhost:${server.port:8080}}") String self,
+                                    @Value("${order.cluster.virtual-nodes:160}") int virtualNodes,
+                                    @Value("${order.cluster.batch-size:1000}") int batchSize) {
+        List<String> normalizedNodes = nodes.stream()
+                .map(ClusteredOrderRepository::normalize)
+                .distinct()
+                .collect(Collectors.toList());
+        String normalizedSelf = normalize(self);
+        if (!normalizedNodes.contains(normalizedSelf) || batchSize < 1) {
+            throw new IllegalArgumentException("클러스터 설정이 올바르지 않습니다: self=" + self
+                    + ", nodes=" + nodes + ", batchSize=" + batchSize);
+        }
+        this.clusterNodeClient = clusterNodeClient;
+        this.ring = new ConsistentHashRing(normalizedNodes, virtualNodes);
+        this.self = normalizedSelf;
+        this.batchSize = batchSize;
+        logger.info("클러스터 저장소 시작: self={}, nodes={}, 노드별 구간 비율={}", self, normalizedNodes, ring.ownership());
+    }
+
+    /**
+     * 이 노드가 소유한 주문만 담은 로컬 저장소 (노드 간 호출용)
+     */
+    public OrderRepository local() {
+        return local;
+    }
+
+    public ConsistentHashRing ring() {
+        return ring;
+    }
+
+    public String self() {
+        return self;
+    }
+
+    @Override
+    public Order save(Order order) {
+        validate(order);
+        String owner = ring.ownerOf(order.getOrderId());
+        if (owner.equals(self)) {
+            return local.save(order);
+        }
+        clusterNodeClient.saveAll(owner, List.of(order));
+        return order;
+    }
+
+    /**
+     * 소유 노드별로 묶어 로컬 몫은 바로 저장하고 원격 몫은 batch-size건씩 나눠 동시에 보낸다.
+     * 일부 노드 저장이 실패해도 나머지 노드 저장은 끝까지 진행한 뒤 첫 실패를 던진다
+     */
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        Map<String, List<Order>> ordersByOwner = new LinkedHashMap<>();
+        for (Order order : orders) {
+            validate(order);
+            ordersByOwner.computeIfAbsent(ring.ownerOf(order.getOrderId()), node -> new ArrayList<>()).add(order);
+        }
+
+        List<Future<Void>> futures = new ArrayList<>();
+        ordersByOwner.forEach((node, nodeOrders) -> {
+            if (node.equals(self)) {
+                return;
+            }
+            for (int from = 0; from < nodeOrders.size(); from += batchSize) {
+                List<Order> batch = nodeOrders.subList(from, Math.min(from + batchSize, nodeOrders.size()));
+                futures.add(executor.submit(() -> {
+                    clusterNodeClient.saveAll(node, batch);
+                    return null;
+                }));
+            }
+        });
+        List<Order> localOrders = ordersByOwner.get(self);
+        if (localOrders != null) {
+            local.saveAll(localOrders);
+        }
+        awaitAll(futures);
+        return orders;
+    }
+
+    @Override
+    public Optional<Order> findById(String orderId) {
+        String owner = ring.ownerOf(orderId);
+        return owner.equals(self) ? local.findById(orderId) : clusterNodeClient.findById(owner, orderId);
+    }
+
+    @Override
+    public List<Order> findAll() {
+        return merge(scatter(node -> node.equals(self) ? local.findAll() : clusterNodeClient.find(node, null)));
+    }
+
+    @Override
+    public List<Order> findByStatus(OrderStatus status) {
+        return merge(scatter(node -> node.equals(self)
+                ? local.findByStatus(status)
+                : clusterNodeClient.find(node, status)));
+    }
+
+    /**
+     * 로컬 주문을 먼저 스트리밍하고, 다른 노드의 주문은 노드 하나씩 차례로 스트림을 열어 이어 읽는다
+     */
+    @Override
+    public Stream<Order> streamAll() {
+        return Stream.concat(local.streamAll(), remoteStream(null));
+    }
+
+    @Override
+    public Stream<Order> streamByStatus(OrderStatus status) {
+        return Stream.concat(local.streamByStatus(status), remoteStream(status));
+    }
+
+    @Override
+    public boolean existsById(String orderId) {
+        String owner = ring.ownerOf(orderId);
+        return owner.equals(self) ? local.existsById(orderId) : clusterNodeClient.findById(owner, orderId).isPresent();
+    }
+
+    @Override
+    public void deleteById(String orderId) {
+        String owner = ring.ownerOf(orderId);
+        if (owner.equals(self)) {
+            local.deleteById(orderId);
+        } else {
+            clusterNodeClient.deleteById(owner, orderId);
+        }
+    }
+
+    @Override
+    public OrderStatistics getStatistics() {
+        long totalCount = 0;
+        Map<OrderStatus, Long> statusCounts = new EnumMap<>(OrderStatus.class);
+        Map<LocalDate, Long> dailyCounts = new TreeMap<>();
+        for (OrderStatistics statistics : scatter(node -> node.equals(self)
+                ? local.getStatistics()
+                : clusterNodeClient.getStatistics(node))) {
+            totalCount += statistics.getTotalCount();
+            statistics.getStatusCounts().forEach((status, count) -> statusCounts.merge(status, count, Long::sum));
+            statistics.getDailyCounts().forEach((day, count) -> dailyCounts.merge(day, count, Long::sum));
+        }
+        return OrderStatistics.builder()
+                .totalCount(totalCount)
+                .statusCounts(statusCounts)
+                .dailyCounts(dailyCounts)
+                .build();
+    }
+
+    /**
+     * 이 노드가 소유한 주문의 변경만 알린다. 다른 노드 소유 주문은 이 노드에서 변경을 알 수 없다
+     */
+    @Override
+    public void addChangeListener(OrderChangeListener listener) {
+        local.addChangeListener(listener);
+    }
+
+    @Override
+    public StatusTransitionOutcome compareAndSetStatus(String orderId, OrderStatus expectedStatus, OrderStatus newStatus) {
+        String owner = ring.ownerOf(orderId);
+        if (owner.equals(self)) {
+            return local.compareAndSetStatus(orderId, expectedStatus, newStatus);
+        }
+        StatusTransitionResult result = clusterNodeClient.transitionStatus(owner, List.of(orderId), expectedStatus, newStatus);
+        return result.getAppliedCount() == 1 ? StatusTransitionOutcome.APPLIED
+                : result.getConflictedCount() == 1 ? StatusTransitionOutcome.CONFLICTED
+                : StatusTransitionOutcome.MISSING;
+    }
+
+    /**
+     * 소유 노드별로 묶어 batch-size건씩 노드마다 동시에 전환하고 결과를 합친다
+     */
+    @Override
+    public StatusTransitionResult transitionStatus(List<String> orderIds, OrderStatus expectedStatus,
+                                                   OrderStatus newStatus) {
+        Map<String, List<String>> idsByOwner = new LinkedHashMap<>();
+        for (String orderId : orderIds) {
+            idsByOwner.computeIfAbsent(ring.ownerOf(orderId), node -> new ArrayList<>()).add(orderId);
+        }
+
+        List<Future<StatusTransitionResult>> futures = new ArrayList<>();
+        idsByOwner.forEach((node, nodeIds) -> {
+            if (node.equals(self)) {
+                return;
+            }
+            for (int from = 0; from < nodeIds.size(); from += batchSize) {
+                List<String> batch = nodeIds.subList(from, Math.min(from + batchSize, nodeIds.size()));
+                futures.add(executor.submit(() -> clusterNodeClient.transitionStatus(node, batch, expectedStatus, newStatus)));
+            }
+        });
+        StatusTransitionResult result = local.transitionStatus(idsByOwner.getOrDefault(self, List.of()),
+                expectedStatus, newStatus);
+        awaitAll(futures).forEach(result::merge);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 저장소 밖의 노드별 기능(검색 색인 등)을 모든 노드에 동시에 호출하고 nodes 순서대로 결과를 반환한다
+     */
+    public <T> List<T> scatterGather(Supplier<T> localCall, BiFunction<ClusterNodeClient, String, T> remoteCall) {
+        return scatter(node -> node.equals(self) ? localCall.get() : remoteCall.apply(clusterNodeClient, node));
+    }
+
+    /**
+     * 모든 노드에 동시에 호출하고 nodes 순서대로 결과를 반환한다. 로컬 노드는 호출 스레드에서 바로 처리한다
+     */
+    private <T> List<T> scatter(Function<String, T> call) {
+        List<Future<T>> futures = remoteNodes()
+                .map(node -> executor.submit(() -> call.apply(node)))
+                .collect(Collectors.toList());
+        T localResult = call.apply(self);
+        List<T> remoteResults = awaitAll(futures);
+
+        List<T> results = new ArrayList<>(ring.nodes().size());
+        int remoteIndex = 0;
+        for (String node : ring.nodes()) {
+            results.add(node.equals(self) ? localResult : remoteResults.get(remoteIndex++));
+        }
+        return results;
+    }
+
+    /**
+     * 모든 작업이 끝날 때까지 기다린 뒤 결과를 반환한다. 실패한 작업이 있으면 첫 실패를 던진다
+     */
+    private <T> List<T> awaitAll(List<Future<T>> futures) {
+        List<T> results = new ArrayList<>(futures.size());
+        RuntimeException failure = null;
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                results.add(null);
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtimeException
+                            ? runtimeException
+                            : new ClusterNodeException(self, "노드 호출 실패", e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ClusterNodeException(self, "노드 호출 대기 중 인터럽트", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    /**
+     * flatMap은 iterator로 읽을 때 노드 하나의 주문을 모두 버퍼에 담으므로 쓰지 않고, 앞 노드를 다 읽은 뒤에 다음 노드 스트림을 연다
+     */
+    private Stream<Order> remoteStream(OrderStatus status) {
+        RemoteOrderIterator orders = new RemoteOrderIterator(remoteNodes().iterator(),
+                node -> clusterNodeClient.stream(node, status));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(orders,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(orders::close);
+    }
+
+    private Stream<String> remoteNodes() {
+        return ring.nodes().stream().filter(node -> !node.equals(self));
+    }
+
+    private static <T> List<T> merge(List<List<T>> lists) {
+        List<T> merged = new ArrayList<>(lists.stream().mapToInt(List::size).sum());
+        lists.forEach(merged::addAll);
+        return merged;
+    }
+
+    private static void validate(Order order) {
+        if (order == null || order.getOrderId() == null) {
+            throw new IllegalArgumentException("주문 또는 주문 ID가 null입니다");
+        }
+    }
+
+    private static String normalize(String node) {
+        String trimmed = node.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    /**
+     * 노드 스트림을 하나씩 열어 읽고, 다 읽은 스트림은 닫은 뒤 다음 노드로 넘어간다
+     */
+    private static final class RemoteOrderIterator implements Iterator<Order> {
+
+        private final Iterator<String> nodes;
+        private final Function<String, Stream<Order>> open;
+        private Stream<Order> current;
+        private Iterator<Order> currentOrders;
+
+        private RemoteOrderIterator(Iterator<String> nodes, Function<String, Stream<Order>> open) {
+            this.nodes = nodes;
+            this.open = open;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (currentOrders == null || !currentOrders.hasNext()) {
+                close();
+                if (!nodes.hasNext()) {
+                    return false;
+                }
+                current = open.apply(nodes.next());
+                currentOrders = current.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public Order next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return currentOrders.next();
+        }
+
+        private void close() {
+            if (current != null) {
+                current.close();
+                current = null;
+                currentOrders = null;
+            }
+        }
+    }
+}
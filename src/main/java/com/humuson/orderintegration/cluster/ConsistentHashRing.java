@@ -0,0 +1,98 @@
+package com.humuson.orderintegration.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 노드마다 virtualNodes개의 지점을 64비트 해시 링에 두고, 키의 해시 다음에 오는 지점의 노드를 소유 노드로 정한다.
+ * 모든 노드가 같은 노드 목록으로 같은 링을 만들어야 하므로 JVM에 따라 달라지지 않는 해시(FNV-1a + murmur3 finalizer)를 쓴다.
+ * 링은 불변이고 조회는 정렬된 배열의 이진 탐색이다.
+ */
+public final class ConsistentHashRing {
+
+    private final List<String> nodes;
+    private final long[] points;
+    private final int[] owners;
+
+    public ConsistentHashRing(List<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty() || virtualNodes < 1) {
+            throw new IllegalArgumentException("해시 링 설정이 올바르지 않습니다: nodes=" + nodes
+                    + ", virtualNodes=" + virtualNodes);
+        }
+        this.nodes = List.copyOf(nodes);
+
+        int size = nodes.size() * virtualNodes;
+        long[][] entries = new long[size][];
+        for (int node = 0; node < nodes.size(); node++) {
+            for (int i = 0; i < virtualNodes; i++) {
+                entries[node * virtualNodes + i] = new long[]{hash(nodes.get(node) + "#" + i), node};
+            }
+        }
+        Arrays.sort(entries, (a, b) -> Long.compare(a[0], b[0]));
+        this.points = new long[size];
+        this.owners = new int[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = entries[i][0];
+            owners[i] = (int) entries[i][1];
+        }
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    /**
+     * 키를 소유한 노드를 반환한다
+     */
+    public String ownerOf(String key) {
+        return nodes.get(ownerIndexOf(key));
+    }
+
+    /**
+     * 키를 소유한 노드의 nodes() 내 위치를 반환한다
+     */
+    public int ownerIndexOf(String key) {
+        int index = Arrays.binarySearch(points, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    /**
+     * 노드별로 링에서 차지하는 구간 비율을 nodes() 순서로 반환한다
+     */
+    public List<Double> ownership() {
+        double[] shares = new double[nodes.size()];
+        if (points.length == 1) {
+            shares[owners[0]] = 1.0;
+        }
+        for (int i = 0; points.length > 1 && i < points.length; i++) {
+            // 각 지점은 바로 앞 지점 다음부터 자신까지의 구간을 소유한다 (부호 없는 64비트 차이)
+            long span = points[i] - points[i == 0 ? points.length - 1 : i - 1];
+            shares[owners[i]] += ((span >>> 1) * 2.0 + (span & 1)) / 0x1p64;
+        }
+        List<Double> ownership = new ArrayList<>(shares.length);
+        for (double share : shares) {
+            ownership.add(share);
+        }
+        return ownership;
+    }
+
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        // FNV-1a만으로는 접두사가 같은 키(GEN-42-...)의 상위 비트가 고르지 않으므로 한 번 더 섞는다
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -2,12 +2,21 @@ package com.humuson.orderintegration.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.humuson.orderintegration.controller.OrderFieldProjection;
+import io.netty.channel.ChannelOption;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class IntegrationConfig {
@@ -17,10 +26,29 @@ public class IntegrationConfig {
         return new RestTemplate();
     }
 
+    @Bean
+    public WebClient externalSystemWebClient(
+            WebClient.Builder builder,
+            @Value("${order.client.reactive.max-connections:500}") int maxConnections,
+            @Value("${order.client.reactive.response-timeout:30s}") Duration responseTimeout) {
+        // 동시 호출 수만큼 커넥션을 열 수 있어야 느린 외부 시스템 응답을 기다리는 동안 요청이 줄 서지 않는다
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("external-system")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(maxConnections * 4)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
+                .responseTimeout(responseTimeout);
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
+        OrderFieldProjection.register(mapper);
         return mapper;
     }
 
@@ -0,0 +1,83 @@
+package com.humuson.orderintegration.controller;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.exception.BadRequestException;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 주문 조회 응답의 fields 파라미터로 필요한 주문 필드만 직렬화한다.
+ * 주문에 Jackson 필터를 연결해 두고 요청마다 필터만 바꾸므로, 중간 Map을 만들지 않고 직렬화 중에 필드를 건너뛴다.
+ */
+public final class OrderFieldProjection {
+
+    static final String FILTER_ID = "orderFields";
+
+    /**
+     * fields에 지정할 수 있는 주문 필드
+     */
+    static final Set<String> FIELDS = Set.of("orderId", "customerName", "orderDate", "status", "description");
+
+    private static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+            .addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll());
+
+    private OrderFieldProjection() {
+    }
+
+    /**
+     * 주문에 필드 필터를 연결하고, fields가 없는 응답은 모든 필드를 쓰도록 기본 필터를 등록한다
+     */
+    public static void register(ObjectMapper mapper) {
+        mapper.addMixIn(Order.class, OrderFilterMixin.class);
+        mapper.setFilterProvider(ALL_FIELDS);
+    }
+
+    /**
+     * "orderId,status" 형식의 fields 파라미터를 해석한다. 비어 있으면 null(모든 필드)을 반환한다
+     */
+    public static Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!FIELDS.contains(name)) {
+                throw new BadRequestException("알 수 없는 주문 필드입니다: " + name);
+            }
+            selected.add(name);
+        }
+        return selected.isEmpty() ? null : selected;
+    }
+
+    /**
+     * 응답 본문에 필드 필터를 적용한다. selected가 null이면 모든 필드를 쓴다
+     */
+    public static MappingJacksonValue apply(Object body, Set<String> selected) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(filters(selected));
+        return value;
+    }
+
+    /**
+     * selected 필드만 쓰는 필터를 반환한다. selected가 null이면 모든 필드를 쓴다
+     */
+    public static FilterProvider filters(Set<String> selected) {
+        return selected == null ? ALL_FIELDS : new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(selected));
+    }
+
+    @JsonFilter(FILTER_ID)
+    interface OrderFilterMixin {
+    }
+}
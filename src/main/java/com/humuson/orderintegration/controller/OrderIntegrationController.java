@@ -4,25 +4,64 @@ import com.humuson.orderintegration.controller.dto.ApiResponse;
 import com.humuson.orderintegration.controller.dto.ExportOrderRequest;
 import com.humuson.orderintegration.controller.dto.ExportOrdersRequest;
 import com.humuson.orderintegration.controller.dto.ImportOrdersRequest;
+import com.humuson.orderintegration.controller.dto.StatusTransitionRequest;
+import com.humuson.orderintegration.controller.dto.StreamExportRequest;
+import com.humuson.orderintegration.domain.ExportResult;
+import com.humuson.orderintegration.domain.ImportReport;
 import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
 import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.StatusTransitionResult;
+import com.humuson.orderintegration.exception.BadRequestException;
+import com.humuson.orderintegration.exception.ConcurrencyLimitExceededException;
 import com.humuson.orderintegration.exception.OrderNotFoundException;
+import com.humuson.orderintegration.search.OrderSearchIndex;
+import com.humuson.orderintegration.service.OrderImportReportService;
 import com.humuson.orderintegration.service.OrderIntegrationService;
+import com.humuson.orderintegration.service.ParallelOrderImportService;
+import com.humuson.orderintegration.service.ReactiveOrderImportService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/orders")
 public class OrderIntegrationController {
 
+    // 동시 호출 한도는 외부 호출이 끝날 때마다 다시 계산되므로 짧게 기다렸다 다시 시도하게 한다
+    private static final long LIMIT_RETRY_AFTER_SECONDS = 1;
+
     private final OrderIntegrationService orderIntegrationService;
+    private final ReactiveOrderImportService reactiveOrderImportService;
+    private final ParallelOrderImportService parallelOrderImportService;
+    private final OrderImportReportService orderImportReportService;
+    private final OrderNdjsonWriter orderNdjsonWriter;
+    private final OrderJsonCache orderJsonCache;
+    private final OrderSearchIndex orderSearchIndex;
 
-    public OrderIntegrationController(OrderIntegrationService orderIntegrationService) {
+    public OrderIntegrationController(OrderIntegrationService orderIntegrationService,
+                                      ReactiveOrderImportService reactiveOrderImportService,
+                                      ParallelOrderImportService parallelOrderImportService,
+                                      OrderImportReportService orderImportReportService,
+                                      OrderNdjsonWriter orderNdjsonWriter,
+                                      OrderJsonCache orderJsonCache,
+                                      OrderSearchIndex orderSearchIndex) {
         this.orderIntegrationService = orderIntegrationService;
+        this.reactiveOrderImportService = reactiveOrderImportService;
+        this.parallelOrderImportService = parallelOrderImportService;
+        this.orderImportReportService = orderImportReportService;
+        this.orderNdjsonWriter = orderNdjsonWriter;
+        this.orderJsonCache = orderJsonCache;
+        this.orderSearchIndex = orderSearchIndex;
     }
 
     /**
@@ -34,12 +73,61 @@ public class OrderIntegrationController {
         try {
             List<Order> orders = orderIntegrationService.importOrdersFromExternal(request.getEndpoint());
             return ResponseEntity.ok(ApiResponse.success("주문 데이터 가져오기 완료", orders));
+        } catch (ConcurrencyLimitExceededException e) {
+            return limitExceeded(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("주문 데이터 가져오기 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 외부 시스템에서 주문 데이터를 가져와 변환, 검증을 병렬로 처리 (ordered=false면 결과 순서 미보장)
+     */
+    @PostMapping("/import/parallel")
+    public ResponseEntity<ApiResponse<List<Order>>> importOrdersParallel(
+            @Valid @RequestBody ImportOrdersRequest request,
+            @RequestParam(required = false) Boolean ordered) {
+        try {
+            List<Order> orders = parallelOrderImportService.importOrders(request.getEndpoint(), ordered);
+            return ResponseEntity.ok(ApiResponse.success("주문 데이터 병렬 가져오기 완료", orders));
+        } catch (ConcurrencyLimitExceededException e) {
+            return limitExceeded(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("주문 데이터 가져오기 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 외부 시스템에서 주문 데이터를 가져오고 건별 처리 결과(제외된 주문의 위치, 주문 ID, 사유) 리포트 반환
+     */
+    @PostMapping("/import/report")
+    public ResponseEntity<ApiResponse<ImportReport>> importOrdersWithReport(
+            @Valid @RequestBody ImportOrdersRequest request) {
+        try {
+            ImportReport report = orderImportReportService.importOrders(request.getEndpoint());
+            return ResponseEntity.ok(ApiResponse.success("주문 데이터 가져오기 완료", report));
+        } catch (ConcurrencyLimitExceededException e) {
+            return limitExceeded(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("주문 데이터 가져오기 실패: " + e.getMessage()));
         }
     }
 
+    /**
+     * 외부 시스템에서 주문 데이터를 논블로킹 스트리밍으로 가져오기 (저장 건수 반환)
+     */
+    @PostMapping("/import/reactive")
+    public Mono<ResponseEntity<ApiResponse<Long>>> importOrdersReactive(
+            @Valid @RequestBody ImportOrdersRequest request) {
+        return reactiveOrderImportService.importOrders(request.getEndpoint())
+                .map(saved -> ResponseEntity.ok(ApiResponse.success("주문 데이터 스트리밍 가져오기 완료", saved)))
+                .onErrorResume(e -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(ApiResponse.<Long>error("주문 데이터 가져오기 실패: " + e.getMessage()))));
+    }
+
     /**
      * 주문 데이터를 외부 시스템으로 전송
      */
@@ -53,6 +141,8 @@ public class OrderIntegrationController {
         } catch (OrderNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponse.error(e.getMessage()));
+        } catch (ConcurrencyLimitExceededException e) {
+            return limitExceeded(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("주문 데이터 전송 실패: " + e.getMessage()));
@@ -60,15 +150,17 @@ public class OrderIntegrationController {
     }
 
     /**
-     * 여러 주문 데이터를 외부 시스템으로 전송
+     * 여러 주문 데이터를 외부 시스템으로 전송 (일부 실패 시 실패한 주문만 재전송하고 건별 결과 반환)
      */
     @PostMapping("/export")
-    public ResponseEntity<ApiResponse<Boolean>> exportOrders(
+    public ResponseEntity<ApiResponse<ExportResult>> exportOrders(
             @Valid @RequestBody ExportOrdersRequest request) {
         try {
-            boolean result = orderIntegrationService.exportOrdersToExternal(
+            ExportResult result = orderIntegrationService.exportOrdersToExternal(
                     request.getEndpoint(), request.getOrderIds());
             return ResponseEntity.ok(ApiResponse.success("여러 주문 데이터 전송 완료", result));
+        } catch (ConcurrencyLimitExceededException e) {
+            return limitExceeded(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("여러 주문 데이터 전송 실패: " + e.getMessage()));
@@ -76,34 +168,178 @@ public class OrderIntegrationController {
     }
 
     /**
-     * 모든 주문 조회
+     * 주문 데이터를 메모리에 모으지 않고 외부 시스템으로 스트리밍 전송 (전송 건수 반환)
+     */
+    @PostMapping("/export/stream")
+    public ResponseEntity<ApiResponse<Long>> exportOrdersStreaming(
+            @Valid @RequestBody StreamExportRequest request) {
+        try {
+            long sent = orderIntegrationService.exportOrdersStreaming(
+                    request.getEndpoint(), request.getOrderIds(), request.getStatus());
+            return ResponseEntity.ok(ApiResponse.success("주문 데이터 스트리밍 전송 완료", sent));
+        } catch (ConcurrencyLimitExceededException e) {
+            return limitExceeded(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("주문 데이터 스트리밍 전송 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 모든 주문 조회 (fields: 응답에 담을 주문 필드, compact: ApiResponse 없이 주문 목록만 응답)
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Order>>> getAllOrders() {
+    public ResponseEntity<MappingJacksonValue> getAllOrders(
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean compact) {
+        Set<String> selected;
+        try {
+            selected = OrderFieldProjection.parse(fields);
+        } catch (BadRequestException e) {
+            return badRequest(e);
+        }
         List<Order> orders = orderIntegrationService.getAllOrders();
-        return ResponseEntity.ok(ApiResponse.success("주문 목록 조회 완료", orders));
+        return projected("주문 목록 조회 완료", orders, selected, compact);
     }
 
     /**
-     * 특정 주문 조회
+     * 모든 주문을 NDJSON으로 스트리밍 조회 (Accept: application/x-ndjson, 한 줄에 주문 하나)
+     */
+    @GetMapping(produces = OrderNdjsonWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllOrders(@RequestParam(required = false) String fields) {
+        return streamOrders(null, fields);
+    }
+
+    /**
+     * 주문 설명 검색 (q의 공백으로 나뉜 단어가 모두 들어 있는 주문을 최근 변경 순으로 최대 limit건, status로 상태 제한,
+     * fields, compact는 목록 조회와 같다)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<MappingJacksonValue> searchOrders(
+            @RequestParam String q,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean compact) {
+        Set<String> selected;
+        List<Order> orders;
+        try {
+            selected = OrderFieldProjection.parse(fields);
+            orders = orderSearchIndex.search(q, status, limit);
+        } catch (BadRequestException e) {
+            return badRequest(e);
+        }
+        return projected("주문 검색 완료", orders, selected, compact);
+    }
+
+    /**
+     * 특정 주문 조회 (fields, compact는 목록 조회와 같다).
+     * fields, compact 없는 기본 조회는 캐시된 주문 JSON 바이트로 응답 본문을 만들어 그대로 쓴다
      */
     @GetMapping("/{orderId}")
-    public ResponseEntity<ApiResponse<Order>> getOrder(@PathVariable String orderId) {
+    public ResponseEntity<?> getOrder(
+            @PathVariable String orderId,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean compact) {
+        Set<String> selected;
+        try {
+            selected = OrderFieldProjection.parse(fields);
+        } catch (BadRequestException e) {
+            return badRequest(e);
+        }
         try {
             Order order = orderIntegrationService.getOrderById(orderId);
-            return ResponseEntity.ok(ApiResponse.success("주문 조회 완료", order));
+            if (selected == null && !compact && orderJsonCache.isEnabled()) {
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(orderJsonCache.successResponse("주문 조회 완료", order));
+            }
+            return projected("주문 조회 완료", order, selected, compact);
         } catch (OrderNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error(e.getMessage()));
+                    .body(new MappingJacksonValue(ApiResponse.error(e.getMessage())));
         }
     }
 
     /**
-     * 상태별 주문 조회
+     * 상태별 주문 조회 (fields, compact는 목록 조회와 같다)
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<ApiResponse<List<Order>>> getOrdersByStatus(@PathVariable OrderStatus status) {
+    public ResponseEntity<MappingJacksonValue> getOrdersByStatus(
+            @PathVariable OrderStatus status,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean compact) {
+        Set<String> selected;
+        try {
+            selected = OrderFieldProjection.parse(fields);
+        } catch (BadRequestException e) {
+            return badRequest(e);
+        }
         List<Order> orders = orderIntegrationService.getOrdersByStatus(status);
-        return ResponseEntity.ok(ApiResponse.success("상태별 주문 조회 완료", orders));
+        return projected("상태별 주문 조회 완료", orders, selected, compact);
+    }
+
+    /**
+     * 상태별 주문을 NDJSON으로 스트리밍 조회 (Accept: application/x-ndjson, 한 줄에 주문 하나)
+     */
+    @GetMapping(value = "/status/{status}", produces = OrderNdjsonWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOrdersByStatus(
+            @PathVariable OrderStatus status,
+            @RequestParam(required = false) String fields) {
+        return streamOrders(status, fields);
+    }
+
+    /**
+     * 상태별, 주문일자별 주문 건수 통계 조회
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<OrderStatistics>> getOrderStatistics() {
+        OrderStatistics statistics = orderIntegrationService.getOrderStatistics();
+        return ResponseEntity.ok(ApiResponse.success("주문 통계 조회 완료", statistics));
+    }
+
+    /**
+     * 주문 상태 일괄 전환 (주문별로 현재 상태가 expectedStatus일 때만 newStatus로 바꾸고 전환/충돌/없음 건수 반환)
+     */
+    @PostMapping("/status/transition")
+    public ResponseEntity<ApiResponse<StatusTransitionResult>> transitionOrderStatus(
+            @Valid @RequestBody StatusTransitionRequest request) {
+        StatusTransitionResult result = orderIntegrationService.transitionOrderStatus(
+                request.getOrderIds(), request.getExpectedStatus(), request.getNewStatus());
+        return ResponseEntity.ok(ApiResponse.success("주문 상태 일괄 전환 완료", result));
+    }
+
+    private ResponseEntity<MappingJacksonValue> projected(String message, Object data, Set<String> selected,
+                                                          boolean compact) {
+        Object body = compact ? data : ApiResponse.success(message, data);
+        return ResponseEntity.ok(OrderFieldProjection.apply(body, selected));
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamOrders(OrderStatus status, String fields) {
+        Set<String> selected;
+        try {
+            selected = OrderFieldProjection.parse(fields);
+        } catch (BadRequestException e) {
+            // Accept가 NDJSON이어도 오류는 다른 조회와 같은 ApiResponse JSON으로 응답한다
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(orderNdjsonWriter.writeError(e.getMessage()));
+        }
+        return ResponseEntity.ok()
+                .contentType(OrderNdjsonWriter.APPLICATION_NDJSON)
+                .body(orderNdjsonWriter.write(() -> orderIntegrationService.streamOrders(status), selected));
+    }
+
+    /**
+     * 외부 시스템 동시 호출 한도에 걸린 요청은 처리 실패가 아니라 물러나라는 신호이므로 503과 Retry-After로 응답한다
+     */
+    private <T> ResponseEntity<ApiResponse<T>> limitExceeded(ConcurrencyLimitExceededException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(LIMIT_RETRY_AFTER_SECONDS))
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
+    private ResponseEntity<MappingJacksonValue> badRequest(BadRequestException e) {
+        return ResponseEntity.badRequest().body(new MappingJacksonValue(ApiResponse.error(e.getMessage())));
     }
 }
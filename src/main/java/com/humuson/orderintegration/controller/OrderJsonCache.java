@@ -0,0 +1,126 @@
+package com.humuson.orderintegration.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.exception.DataIntegrationException;
+import com.humuson.orderintegration.repository.OrderRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단건 주문 조회 응답에 들어갈 주문 JSON을 바이트로 인코딩해 주문 ID별로 보관한다.
+ * 크기 제한 캐시(Caffeine, W-TinyLFU)라서 조회가 몰리는 일부 주문만 남고, 저장소 변경 리스너로 저장, 상태 전환, 삭제 때 비운다.
+ * 항목은 인코딩한 주문 객체와 함께 두고 저장소가 돌려준 주문과 같은 객체일 때만 쓴다. 따라서 비운 직후 끼어든 이전 버전이나
+ * 조회마다 새로 만들어지는 주문(콜드 세그먼트, 다른 클러스터 노드 소유 주문)은 다시 인코딩된다.
+ */
+@Component
+public class OrderJsonCache {
+
+    private final Cache<String, EncodedOrder> cache;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder savedNanos = new LongAdder();
+
+    public OrderJsonCache(OrderRepository orderRepository,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${order.query.cache.enabled:true}") boolean enabled,
+                          @Value("${order.query.cache.maximum-size:10000}") long maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("주문 응답 캐시 크기는 1 이상이어야 합니다: " + maximumSize);
+        }
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        orderRepository.addChangeListener(cache::invalidate);
+
+        FunctionCounter.builder("order.query.cache.requests", hits, LongAdder::sum)
+                .description("주문 응답 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("order.query.cache.requests", misses, LongAdder::sum)
+                .description("주문 응답 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("order.query.cache.serialization.saved", savedNanos,
+                        adder -> adder.sum() / (double) TimeUnit.SECONDS.toNanos(1))
+                .description("캐시 적중으로 생략한 주문 직렬화 시간 합계 (항목을 인코딩할 때 잰 시간 기준)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("order.query.cache.size", cache, Cache::estimatedSize)
+                .description("주문 응답 캐시 항목 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("order.query.cache.evictions", cache, c -> c.stats().evictionCount())
+                .description("크기 제한으로 밀려난 주문 응답 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * ApiResponse.success(message, order)와 같은 형식의 응답 본문을 만든다. 주문 부분은 캐시된 바이트를 그대로 쓰고,
+     * timestamp는 응답마다 새로 채운다.
+     */
+    public byte[] successResponse(String message, Order order) {
+        byte[] orderJson = encode(order);
+        byte[] prefix = ("{\"success\":true,\"message\":" + writeString(message) + ",\"data\":")
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] suffix = (",\"timestamp\":\"" + LocalDateTime.now() + "\"}").getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[prefix.length + orderJson.length + suffix.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(orderJson, 0, body, prefix.length, orderJson.length);
+        System.arraycopy(suffix, 0, body, prefix.length + orderJson.length, suffix.length);
+        return body;
+    }
+
+    /**
+     * 주문을 JSON 바이트로 인코딩한다. 같은 주문 객체를 인코딩한 항목이 있으면 그 바이트를 반환한다
+     */
+    byte[] encode(Order order) {
+        EncodedOrder cached = cache.getIfPresent(order.getOrderId());
+        if (cached != null && cached.order() == order) {
+            hits.increment();
+            savedNanos.add(cached.encodeNanos());
+            return cached.json();
+        }
+        misses.increment();
+        long start = System.nanoTime();
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(order);
+        } catch (JsonProcessingException e) {
+            throw new DataIntegrationException("주문 응답 직렬화 실패: " + order.getOrderId(), e);
+        }
+        cache.put(order.getOrderId(), new EncodedOrder(order, json, System.nanoTime() - start));
+        return json;
+    }
+
+    private String writeString(String value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new DataIntegrationException("주문 응답 직렬화 실패", e);
+        }
+    }
+
+    private record EncodedOrder(Order order, byte[] json, long encodeNanos) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.humuson.orderintegration.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.humuson.orderintegration.controller.dto.ApiResponse;
+import com.humuson.orderintegration.domain.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 주문을 한 줄에 하나씩 NDJSON(application/x-ndjson)으로 응답 스트림에 바로 쓴다.
+ * 저장소 스트림을 한 건씩 직렬화하므로 주문 건수와 무관하게 서버 메모리 사용량이 일정하다.
+ * 첫 줄은 바로 보내고, 이후에는 flush-records건 또는 flush-interval마다 내보낸다.
+ * 클라이언트가 연결을 끊으면 다음 flush에서 쓰기가 실패하므로 그 시점에 저장소 스트림을 닫고 멈춘다.
+ * 주문 직렬화 실패(Jackson 처리 예외)는 연결 종료와 구분해 오류로 남기고 응답을 중단시킨다.
+ */
+@Component
+public class OrderNdjsonWriter {
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(APPLICATION_NDJSON_VALUE);
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderNdjsonWriter.class);
+
+    private final ObjectMapper objectMapper;
+    private final long flushIntervalNanos;
+    private final int flushRecords;
+
+    public OrderNdjsonWriter(ObjectMapper objectMapper,
+                             @Value("${order.query.ndjson.flush-interval:200ms}") Duration flushInterval,
+                             @Value("${order.query.ndjson.flush-records:1000}") int flushRecords) {
+        if (flushInterval.isNegative() || flushRecords < 1) {
+            throw new IllegalArgumentException("NDJSON 응답 설정이 올바르지 않습니다: flushInterval="
+                    + flushInterval + ", flushRecords=" + flushRecords);
+        }
+        this.objectMapper = objectMapper;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.flushRecords = flushRecords;
+    }
+
+    /**
+     * 응답을 쓰는 시점에 저장소 스트림을 열어 주문을 한 줄씩 쓰는 응답 본문을 만든다. selected가 null이면 모든 필드를 쓴다
+     */
+    public StreamingResponseBody write(Supplier<Stream<Order>> orders, Set<String> selected) {
+        // 주문마다 flush하지 않도록 하여 flush 시점을 직접 정한다
+        ObjectWriter orderWriter = objectMapper.writer(OrderFieldProjection.filters(selected))
+                .forType(Order.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        return outputStream -> {
+            long written = 0;
+            try (Stream<Order> stream = orders.get();
+                 JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)) {
+                jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // 값 사이에 기본 구분자(공백)가 들어가지 않도록 하고 줄바꿈은 직접 쓴다
+                jsonGenerator.setRootValueSeparator(null);
+                long lastFlush = System.nanoTime();
+                long unflushed = 0;
+                for (Order order : (Iterable<Order>) stream::iterator) {
+                    orderWriter.writeValue(jsonGenerator, order);
+                    jsonGenerator.writeRaw('\n');
+                    written++;
+                    unflushed++;
+                    long now = System.nanoTime();
+                    if (written == 1 || unflushed >= flushRecords || now - lastFlush >= flushIntervalNanos) {
+                        jsonGenerator.flush();
+                        lastFlush = now;
+                        unflushed = 0;
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                // 주문을 직렬화하지 못한 것은 연결 종료가 아니라 서버 오류다. 응답을 중간에 끊어 클라이언트가 잘린 응답을 완료로 보지 않게 한다
+                logger.error("NDJSON 주문 응답 직렬화 실패: {} 건 전송 후 중단", written, e);
+                throw e;
+            } catch (IOException e) {
+                // 클라이언트 연결 종료(ClientAbortException 등)는 오류가 아니므로 남은 주문을 읽지 않고 끝낸다
+                logger.info("NDJSON 주문 응답 중단: {} 건 전송 후 연결 종료 ({})", written, e.getMessage());
+                return;
+            }
+            logger.debug("NDJSON 주문 응답 완료: {} 건", written);
+        };
+    }
+
+    /**
+     * 스트리밍 조회 요청이 잘못된 경우 ApiResponse 오류를 JSON으로 쓰는 응답 본문을 만든다
+     */
+    public StreamingResponseBody writeError(String message) {
+        return outputStream -> objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValue(outputStream, ApiResponse.error(message));
+    }
+}
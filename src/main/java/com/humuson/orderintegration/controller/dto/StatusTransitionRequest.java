@@ -0,0 +1,24 @@
+package com.humuson.orderintegration.controller.dto;
+
+import com.humuson.orderintegration.domain.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionRequest {
+    @NotEmpty(message = "주문 ID 목록은 필수입니다")
+    private List<String> orderIds;
+
+    @NotNull(message = "기대 상태는 필수입니다")
+    private OrderStatus expectedStatus;
+
+    @NotNull(message = "변경할 상태는 필수입니다")
+    private OrderStatus newStatus;
+}
@@ -0,0 +1,27 @@
+package com.humuson.orderintegration.controller.dto;
+
+import com.humuson.orderintegration.domain.OrderStatus;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamExportRequest {
+    @NotBlank(message = "엔드포인트는 필수입니다")
+    private String endpoint;
+
+    /**
+     * 전송할 주문 ID 목록 (지정하지 않으면 status 조건 사용)
+     */
+    private List<String> orderIds;
+
+    /**
+     * 전송할 주문 상태 (orderIds와 status가 모두 없으면 전체 주문 전송)
+     */
+    private OrderStatus status;
+}
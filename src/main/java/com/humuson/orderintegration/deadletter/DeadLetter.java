@@ -0,0 +1,25 @@
+package com.humuson.orderintegration.deadletter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가져오기 또는 전송에 실패한 주문 한 건 (원본 레코드 JSON, 연동 엔드포인트, 실패 사유, 시도 횟수)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetter {
+    private long id;
+    private DeadLetterType type;
+    private String endpoint;
+    private String orderId;
+    private String payload;
+    private String reason;
+    private int attempts;
+    private String firstFailedAt;
+    private String lastFailedAt;
+}
@@ -0,0 +1,108 @@
+package com.humuson.orderintegration.deadletter;
+
+import com.humuson.orderintegration.controller.dto.ApiResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 실패 레코드 조회, 재처리용 관리 엔드포인트
+ */
+@RestController
+@RequestMapping("/api/admin/dead-letters")
+public class DeadLetterController {
+
+    private final DeadLetterStore deadLetterStore;
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    public DeadLetterController(DeadLetterStore deadLetterStore, DeadLetterReplayService deadLetterReplayService) {
+        this.deadLetterStore = deadLetterStore;
+        this.deadLetterReplayService = deadLetterReplayService;
+    }
+
+    /**
+     * 실패 레코드를 보관 순서대로 조회 (type 미지정 시 모든 유형)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<DeadLetter>>> getDeadLetters(
+            @RequestParam(required = false) DeadLetterType type,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(ApiResponse.success("실패 레코드 조회 완료",
+                deadLetterStore.find(type, Math.max(offset, 0), Math.min(Math.max(limit, 0), 1000))));
+    }
+
+    /**
+     * 유형별 건수, 메모리/파일 보관 건수, 한도 초과로 버린 건수 조회
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse<DeadLetterSummary>> getSummary() {
+        return ResponseEntity.ok(ApiResponse.success("실패 레코드 요약 조회 완료", deadLetterStore.getSummary()));
+    }
+
+    /**
+     * 실패 레코드 단건 조회
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<DeadLetter>> getDeadLetter(@PathVariable long id) {
+        return deadLetterStore.findById(id)
+                .map(deadLetter -> ResponseEntity.ok(ApiResponse.success("실패 레코드 조회 완료", deadLetter)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("실패 레코드를 찾을 수 없습니다: " + id)));
+    }
+
+    /**
+     * 선택한 실패 레코드를 일반 가져오기, 전송 경로로 일괄 재처리. 백그라운드에서 진행하며 상태는 GET /replay로 조회한다
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<ApiResponse<DeadLetterReplayJob>> replay(
+            @Valid @RequestBody DeadLetterReplayRequest request) {
+        return deadLetterReplayService.start(request.getIds(), request.getType(), request.getLimit())
+                .map(job -> ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .body(ApiResponse.success("실패 레코드 재처리 시작", job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(ApiResponse.error("이미 진행 중인 실패 레코드 재처리가 있습니다")));
+    }
+
+    /**
+     * 가장 최근 재처리 작업의 상태와 결과 조회
+     */
+    @GetMapping("/replay")
+    public ResponseEntity<ApiResponse<DeadLetterReplayJob>> getReplay() {
+        return deadLetterReplayService.getLastJob()
+                .map(job -> ResponseEntity.ok(ApiResponse.success("실패 레코드 재처리 상태 조회 완료", job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("실패 레코드 재처리 기록이 없습니다")));
+    }
+
+    /**
+     * 실패 레코드 단건 삭제
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteDeadLetter(@PathVariable long id) {
+        if (!deadLetterStore.remove(id)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("실패 레코드를 찾을 수 없습니다: " + id));
+        }
+        return ResponseEntity.ok(ApiResponse.success("실패 레코드 삭제 완료", null));
+    }
+
+    /**
+     * 보관 중인 실패 레코드 전체 삭제
+     */
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Void>> clearDeadLetters() {
+        deadLetterStore.clear();
+        return ResponseEntity.ok(ApiResponse.success("실패 레코드 전체 삭제 완료", null));
+    }
+}
@@ -0,0 +1,22 @@
+package com.humuson.orderintegration.deadletter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 백그라운드에서 진행하는 재처리 작업 하나의 상태 (완료되면 result, 실패하면 error가 채워진다)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterReplayJob {
+    private long jobId;
+    private DeadLetterReplayStatus status;
+    private String startedAt;
+    private String completedAt;
+    private DeadLetterReplayResult result;
+    private String error;
+}
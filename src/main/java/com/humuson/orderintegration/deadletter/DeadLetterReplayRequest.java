@@ -0,0 +1,28 @@
+package com.humuson.orderintegration.deadletter;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterReplayRequest {
+    /**
+     * 재처리할 항목 ID 목록 (지정하지 않으면 type 조건으로 오래된 순서대로 limit 건)
+     */
+    private List<Long> ids;
+
+    /**
+     * 재처리할 유형 (ids와 type이 모두 없으면 모든 유형)
+     */
+    private DeadLetterType type;
+
+    @Min(value = 1, message = "재처리 건수는 1 이상이어야 합니다")
+    @Max(value = 10000, message = "재처리 건수는 10000 이하여야 합니다")
+    private int limit = 100;
+}
@@ -0,0 +1,18 @@
+package com.humuson.orderintegration.deadletter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterReplayResult {
+    private int requestedCount;
+    private int succeededCount;
+    private int failedCount;
+    private int notFoundCount;
+    private long elapsedMillis;
+}
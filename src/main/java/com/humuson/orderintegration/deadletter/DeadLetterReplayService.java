@@ -0,0 +1,347 @@
+package com.humuson.orderintegration.deadletter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humuson.orderintegration.admission.AdmissionControlFilter;
+import com.humuson.orderintegration.admission.AdmissionGate;
+import com.humuson.orderintegration.admission.AdmissionOperation;
+import com.humuson.orderintegration.audit.AuditEventType;
+import com.humuson.orderintegration.audit.AuditJournal;
+import com.humuson.orderintegration.audit.AuditOutcome;
+import com.humuson.orderintegration.client.ExternalSystemClient;
+import com.humuson.orderintegration.client.dto.OrderItemResult;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.client.dto.OrderSendResult;
+import com.humuson.orderintegration.domain.ImportRejection;
+import com.humuson.orderintegration.domain.ImportReport;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.exception.ExternalSystemException;
+import com.humuson.orderintegration.repository.OrderRepository;
+import com.humuson.orderintegration.service.OrderImportReportService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 보관된 실패 레코드를 일반 가져오기, 전송 경로로 다시 처리한다.
+ * 유형, 엔드포인트별로 batch-size 건씩 묶어 처리하고, 초당 records-per-second 건을 넘지 않도록 배치 사이에 대기한다.
+ * 배치마다 일반 요청과 같은 입장 제어 한도(가져오기, 전송)를 얻어 처리하고, 처리한 주문은 원래 엔드포인트로 감사 저널에 남긴다.
+ * 성공한 항목은 저장소에서 지우고, 다시 실패한 항목은 시도 횟수와 사유를 갱신해 남긴다.
+ * 관리 API의 재처리는 요청 스레드를 붙잡지 않도록 전용 스레드(dead-letter-replay)에서 한 번에 하나씩 진행한다.
+ */
+@Service
+public class DeadLetterReplayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadLetterReplayService.class);
+
+    private final DeadLetterStore deadLetterStore;
+    private final OrderImportReportService orderImportReportService;
+    private final OrderRepository orderRepository;
+    private final ExternalSystemClient externalSystemClient;
+    private final ObjectMapper objectMapper;
+    private final AuditJournal auditJournal;
+    private final AdmissionControlFilter admissionControl;
+    private final int batchSize;
+    private final int recordsPerSecond;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("dead-letter-replay").daemon().factory());
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong jobSequence = new AtomicLong();
+    private volatile DeadLetterReplayJob lastJob;
+
+    public DeadLetterReplayService(DeadLetterStore deadLetterStore,
+                                   OrderImportReportService orderImportReportService,
+                                   OrderRepository orderRepository,
+                                   ExternalSystemClient externalSystemClient,
+                                   ObjectMapper objectMapper,
+                                   AuditJournal auditJournal,
+                                   AdmissionControlFilter admissionControl,
+                                   @Value("${order.dead-letter.replay.batch-size:100}") int batchSize,
+                                   @Value("${order.dead-letter.replay.records-per-second:200}") int recordsPerSecond) {
+        if (batchSize < 1 || recordsPerSecond < 1) {
+            throw new IllegalArgumentException("실패 레코드 재처리 설정이 올바르지 않습니다: batchSize="
+                    + batchSize + ", recordsPerSecond=" + recordsPerSecond);
+        }
+        this.deadLetterStore = deadLetterStore;
+        this.orderImportReportService = orderImportReportService;
+        this.orderRepository = orderRepository;
+        this.externalSystemClient = externalSystemClient;
+        this.objectMapper = objectMapper;
+        this.auditJournal = auditJournal;
+        this.admissionControl = admissionControl;
+        this.batchSize = batchSize;
+        this.recordsPerSecond = recordsPerSecond;
+    }
+
+    /**
+     * 재처리를 백그라운드에서 시작한다. 이미 진행 중인 재처리가 있으면 시작하지 않고 빈 값을 반환한다
+     */
+    public Optional<DeadLetterReplayJob> start(List<Long> ids, DeadLetterType type, int limit) {
+        if (!running.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        DeadLetterReplayJob job = DeadLetterReplayJob.builder()
+                .jobId(jobSequence.incrementAndGet())
+                .status(DeadLetterReplayStatus.RUNNING)
+                .startedAt(LocalDateTime.now().toString())
+                .build();
+        lastJob = job;
+        try {
+            executor.execute(() -> run(job, ids, type, limit));
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return Optional.of(job);
+    }
+
+    /**
+     * 가장 최근에 시작한 재처리 작업의 상태
+     */
+    public Optional<DeadLetterReplayJob> getLastJob() {
+        return Optional.ofNullable(lastJob);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 배치 사이 대기나 입장 대기 중이면 인터럽트로 중단되고, 처리한 배치까지의 결과가 남는다
+        executor.shutdownNow();
+    }
+
+    private void run(DeadLetterReplayJob job, List<Long> ids, DeadLetterType type, int limit) {
+        DeadLetterReplayJob.DeadLetterReplayJobBuilder completed = DeadLetterReplayJob.builder()
+                .jobId(job.getJobId())
+                .startedAt(job.getStartedAt());
+        try {
+            completed.status(DeadLetterReplayStatus.COMPLETED).result(replay(ids, type, limit));
+        } catch (RuntimeException e) {
+            logger.error("실패 레코드 재처리 실패", e);
+            completed.status(DeadLetterReplayStatus.FAILED).error(e.getMessage());
+        } finally {
+            lastJob = completed.completedAt(LocalDateTime.now().toString()).build();
+            running.set(false);
+        }
+    }
+
+    /**
+     * 지정한 항목(ids) 또는 유형별로 오래된 항목부터 limit 건을 호출한 스레드에서 재처리한다
+     */
+    public DeadLetterReplayResult replay(List<Long> ids, DeadLetterType type, int limit) {
+        long startNanos = System.nanoTime();
+        boolean byIds = ids != null && !ids.isEmpty();
+        List<DeadLetter> deadLetters = byIds ? deadLetterStore.findAllById(ids) : deadLetterStore.find(type, 0, limit);
+        logger.info("실패 레코드 재처리 시작: {} 건", deadLetters.size());
+
+        // 같은 유형, 엔드포인트끼리 묶어야 한 번의 가져오기, 전송 호출로 처리할 수 있다
+        Map<String, List<DeadLetter>> groups = new LinkedHashMap<>();
+        for (DeadLetter deadLetter : deadLetters) {
+            groups.computeIfAbsent(deadLetter.getType() + "|" + deadLetter.getEndpoint(), key -> new ArrayList<>())
+                    .add(deadLetter);
+        }
+
+        int[] outcome = new int[2];
+        int processed = 0;
+        boolean interrupted = false;
+        for (List<DeadLetter> group : groups.values()) {
+            for (int from = 0; from < group.size() && !interrupted; from += batchSize) {
+                // 앞서 처리한 건수가 허용 속도를 앞서면 다음 배치 전에 기다린다
+                if (processed > 0 && !pace(processed, startNanos)) {
+                    interrupted = true;
+                    break;
+                }
+                List<DeadLetter> batch = group.subList(from, Math.min(from + batchSize, group.size()));
+                AdmissionGate.Permit permit = null;
+                if (admissionControl.isEnabled()) {
+                    permit = admit(batch.get(0).getType());
+                    if (permit == null) {
+                        interrupted = true;
+                        break;
+                    }
+                }
+                try {
+                    if (batch.get(0).getType() == DeadLetterType.IMPORT) {
+                        replayImport(batch, outcome);
+                    } else {
+                        replayExport(batch, outcome);
+                    }
+                } finally {
+                    if (permit != null) {
+                        permit.release();
+                    }
+                }
+                processed += batch.size();
+            }
+            if (interrupted) {
+                logger.warn("실패 레코드 재처리 중단: {} / {} 건 처리", processed, deadLetters.size());
+                break;
+            }
+        }
+
+        DeadLetterReplayResult result = DeadLetterReplayResult.builder()
+                .requestedCount(byIds ? ids.size() : deadLetters.size())
+                .succeededCount(outcome[0])
+                .failedCount(outcome[1])
+                .notFoundCount(byIds ? ids.size() - deadLetters.size() : 0)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                .build();
+        logger.info("실패 레코드 재처리 완료: 성공 {} 건, 실패 {} 건", result.getSucceededCount(), result.getFailedCount());
+        return result;
+    }
+
+    /**
+     * 일반 요청과 같은 입장 제어 한도를 얻는다. 거절되면 재처리가 물러나 재시도 대기 시간만큼 기다렸다 다시 시도하고,
+     * 대기 중 인터럽트되면 null을 반환한다
+     */
+    private AdmissionGate.Permit admit(DeadLetterType type) {
+        AdmissionGate gate = admissionControl.getGate(
+                type == DeadLetterType.IMPORT ? AdmissionOperation.IMPORT : AdmissionOperation.EXPORT);
+        try {
+            AdmissionGate.Permit permit = gate.tryAcquire();
+            while (permit == null) {
+                TimeUnit.SECONDS.sleep(gate.retryAfterSeconds());
+                permit = gate.tryAcquire();
+            }
+            return permit;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void replayImport(List<DeadLetter> batch, int[] outcome) {
+        List<DeadLetter> parsed = new ArrayList<>(batch.size());
+        List<OrderRequest> orderRequests = new ArrayList<>(batch.size());
+        for (DeadLetter deadLetter : batch) {
+            try {
+                orderRequests.add(objectMapper.readValue(deadLetter.getPayload(), OrderRequest.class));
+                parsed.add(deadLetter);
+            } catch (Exception e) {
+                fail(deadLetter, "원본 레코드를 읽을 수 없습니다: " + e.getMessage(), outcome);
+            }
+        }
+        if (orderRequests.isEmpty()) {
+            return;
+        }
+
+        ImportReport report = orderImportReportService.replayRecords(batch.get(0).getEndpoint(), orderRequests);
+        Map<Integer, ImportRejection> rejections = new HashMap<>();
+        for (ImportRejection rejection : report.getRejections()) {
+            rejections.put(rejection.getIndex(), rejection);
+        }
+        for (int i = 0; i < parsed.size(); i++) {
+            ImportRejection rejection = rejections.get(i);
+            if (rejection == null) {
+                succeed(parsed.get(i), outcome);
+            } else {
+                fail(parsed.get(i), rejection.getReason() != null
+                        ? rejection.getCode().name() + ": " + rejection.getReason()
+                        : rejection.getCode().name(), outcome);
+            }
+        }
+    }
+
+    /**
+     * 전송은 보관 시점의 값이 아니라 저장소의 현재 주문을 다시 보낸다
+     */
+    private void replayExport(List<DeadLetter> batch, int[] outcome) {
+        String endpoint = batch.get(0).getEndpoint();
+        List<DeadLetter> found = new ArrayList<>(batch.size());
+        List<Order> orders = new ArrayList<>(batch.size());
+        for (DeadLetter deadLetter : batch) {
+            Optional<Order> order = deadLetter.getOrderId() != null
+                    ? orderRepository.findById(deadLetter.getOrderId())
+                    : Optional.empty();
+            if (order.isPresent()) {
+                found.add(deadLetter);
+                orders.add(order.get());
+            } else {
+                fail(deadLetter, "주문을 찾을 수 없습니다: " + deadLetter.getOrderId(), outcome);
+            }
+        }
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        OrderSendResult sendResult;
+        try {
+            sendResult = externalSystemClient.sendOrdersWithResults(endpoint, orders);
+        } catch (ExternalSystemException e) {
+            auditJournal.record(AuditEventType.EXPORT, endpoint, AuditOutcome.FAILURE, start, orders);
+            found.forEach(deadLetter -> fail(deadLetter, e.getMessage(), outcome));
+            return;
+        }
+        // 외부 시스템이 건별 결과를 돌려주므로 성공한 주문만 지우고 실패한 주문은 사유와 함께 남긴다
+        Map<String, OrderItemResult> failedItems = new HashMap<>();
+        for (OrderItemResult item : sendResult.failedItems()) {
+            failedItems.put(item.getOrderId(), item);
+        }
+        List<Order> sent = new ArrayList<>(orders.size());
+        List<Order> failed = new ArrayList<>(failedItems.size());
+        for (Order order : orders) {
+            if (failedItems.containsKey(order.getOrderId())) {
+                failed.add(order);
+            } else {
+                sent.add(order);
+            }
+        }
+        long batchId = auditJournal.nextBatchId();
+        if (!sent.isEmpty()) {
+            auditJournal.record(batchId, AuditEventType.EXPORT, endpoint, AuditOutcome.SUCCESS, start, sent);
+        }
+        if (!failed.isEmpty()) {
+            auditJournal.record(batchId, AuditEventType.EXPORT, endpoint, AuditOutcome.FAILURE, start, failed);
+        }
+        for (DeadLetter deadLetter : found) {
+            OrderItemResult failedItem = failedItems.get(deadLetter.getOrderId());
+            if (failedItem == null) {
+                succeed(deadLetter, outcome);
+            } else {
+                fail(deadLetter, failedItem.getMessage() != null
+                        ? failedItem.getMessage() : "외부 시스템이 전송을 처리하지 못했습니다", outcome);
+            }
+        }
+    }
+
+    private void succeed(DeadLetter deadLetter, int[] outcome) {
+        deadLetterStore.remove(deadLetter.getId());
+        outcome[0]++;
+    }
+
+    private void fail(DeadLetter deadLetter, String reason, int[] outcome) {
+        deadLetterStore.markFailed(deadLetter.getId(), reason);
+        outcome[1]++;
+    }
+
+    /**
+     * 처리한 건수가 허용 속도를 앞서면 그만큼 기다린다. 대기 중 인터럽트되면 false를 반환한다
+     */
+    private boolean pace(int processed, long startNanos) {
+        long dueNanos = startNanos + processed * TimeUnit.SECONDS.toNanos(1) / recordsPerSecond;
+        long waitNanos = dueNanos - System.nanoTime();
+        if (waitNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.humuson.orderintegration.deadletter;
+
+public enum DeadLetterReplayStatus {
+    RUNNING("처리 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    DeadLetterReplayStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,643 @@
+package com.humuson.orderintegration.deadletter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humuson.orderintegration.exception.DataIntegrationException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가져오기, 전송에 실패한 주문을 보관한다.
+ * 메모리에는 memory-capacity 건까지만 두고 나머지는 JSON Lines 파일로 내려 보내며(spill), 전체 max-entries 건을 넘으면 새 항목을 버리고 건수만 센다.
+ * 파일 쓰기, 비우기, 정리는 전용 스레드(dead-letter-spill)가 맡아 보관을 요청한 가져오기 경로(요청 스레드, 이벤트 루프,
+ * 병렬 가져오기 작업자)가 디스크 입출력을 기다리지 않는다. 파일에 기록되기 전까지는 메모리에 두고 조회에 포함한다.
+ * 디스크 입출력은 모두 모니터 밖에서 한다. 파일 항목 읽기는 fileLock 읽기 잠금을, 정리의 채널 교체와 비우기는 쓰기 잠금을 잡으며,
+ * 두 잠금을 함께 잡을 때는 fileLock을 먼저 잡는다.
+ * 같은 유형, 엔드포인트, 주문 ID로 다시 실패하면 새 항목을 만들지 않고 시도 횟수를 늘린다.
+ * 디스크 파일은 메모리 초과분을 담는 용도이며 재시작 시 비워진다.
+ */
+@Component
+public class DeadLetterStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadLetterStore.class);
+    private static final long COMPACT_MIN_BYTES = 1024 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final int memoryCapacity;
+    private final int maxEntries;
+    private final Path spillFile;
+
+    // 파일 기록을 기다리는 항목도 memory에 두고 ID만 pendingIds에 따로 표시한다
+    private final TreeMap<Long, DeadLetter> memory = new TreeMap<>();
+    private final Set<Long> pendingIds = new LinkedHashSet<>();
+    private final TreeMap<Long, SpillPointer> spilled = new TreeMap<>();
+    private final Map<String, Long> idsByKey = new HashMap<>();
+    // 파일 쓰기, 비우기, 정리는 writer 스레드만 한다. 조회는 fileLock 읽기 잠금을 잡고 위치 지정 읽기만 한다
+    private final ReentrantReadWriteLock fileLock = new ReentrantReadWriteLock();
+    private volatile FileChannel channel;
+    private Thread writer;
+    private boolean running = true;
+    private boolean writing;
+    private boolean maintenanceRequested;
+    private long liveSpillBytes;
+    private long nextId = 1;
+    private long droppedCount;
+
+    public DeadLetterStore(ObjectMapper objectMapper,
+                           @Value("${order.dead-letter.memory-capacity:1000}") int memoryCapacity,
+                           @Value("${order.dead-letter.max-entries:100000}") int maxEntries,
+                           @Value("${order.dead-letter.spill-dir:${java.io.tmpdir}/order-dead-letters}") String spillDir) {
+        if (memoryCapacity < 0 || maxEntries < memoryCapacity) {
+            throw new IllegalArgumentException("실패 레코드 보관 설정이 올바르지 않습니다: memoryCapacity="
+                    + memoryCapacity + ", maxEntries=" + maxEntries);
+        }
+        this.objectMapper = objectMapper;
+        this.memoryCapacity = memoryCapacity;
+        this.maxEntries = maxEntries;
+        this.spillFile = Path.of(spillDir).resolve("dead-letters-" + ProcessHandle.current().pid() + ".ndjson");
+    }
+
+    /**
+     * 실패한 레코드를 보관한다. 원본 레코드는 JSON으로 저장하며, 보관에 실패해도 호출한 처리 흐름은 계속된다
+     */
+    public void add(DeadLetterType type, String endpoint, String orderId, Object record, String reason) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            payload = String.valueOf(record);
+        }
+        String now = LocalDateTime.now().toString();
+        String key = keyOf(type, endpoint, orderId);
+
+        while (true) {
+            Long existingId;
+            SpillPointer pointer;
+            synchronized (this) {
+                existingId = key != null ? idsByKey.get(key) : null;
+                if (existingId == null) {
+                    addNew(type, endpoint, orderId, payload, reason, now, key);
+                    return;
+                }
+                pointer = spilled.get(existingId);
+                if (pointer == null) {
+                    updateInMemory(existingId, payload, reason, now);
+                    return;
+                }
+            }
+            // 파일에 있는 항목은 모니터 밖에서 읽어 올린다. 그사이 지워지거나 옮겨졌으면 처음부터 다시 확인한다
+            if (promote(existingId, pointer, payload, reason, now)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 재처리에 다시 실패한 항목의 시도 횟수를 늘리고 사유를 갱신한다
+     */
+    public void markFailed(long id, String reason) {
+        String now = LocalDateTime.now().toString();
+        while (true) {
+            SpillPointer pointer;
+            synchronized (this) {
+                if (memory.containsKey(id)) {
+                    updateInMemory(id, null, reason, now);
+                    return;
+                }
+                pointer = spilled.get(id);
+                if (pointer == null) {
+                    return;
+                }
+            }
+            if (promote(id, pointer, null, reason, now)) {
+                return;
+            }
+        }
+    }
+
+    public synchronized boolean remove(long id) {
+        DeadLetter deadLetter = memory.remove(id);
+        if (deadLetter != null) {
+            pendingIds.remove(id);
+            idsByKey.remove(keyOf(deadLetter.getType(), deadLetter.getEndpoint(), deadLetter.getOrderId()), id);
+            return true;
+        }
+        SpillPointer pointer = spilled.remove(id);
+        if (pointer == null) {
+            return false;
+        }
+        if (pointer.key() != null) {
+            idsByKey.remove(pointer.key(), id);
+        }
+        liveSpillBytes -= pointer.length();
+        requestMaintenance();
+        return true;
+    }
+
+    public Optional<DeadLetter> findById(long id) {
+        fileLock.readLock().lock();
+        try {
+            SpillPointer pointer;
+            FileChannel fileChannel;
+            synchronized (this) {
+                DeadLetter deadLetter = memory.get(id);
+                if (deadLetter != null) {
+                    return Optional.of(copyOf(deadLetter));
+                }
+                pointer = spilled.get(id);
+                fileChannel = channel;
+            }
+            return pointer != null ? Optional.of(read(fileChannel, pointer)) : Optional.empty();
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    public List<DeadLetter> findAllById(Collection<Long> ids) {
+        List<DeadLetter> deadLetters = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            findById(id).ifPresent(deadLetters::add);
+        }
+        return deadLetters;
+    }
+
+    /**
+     * 보관 순서(ID 오름차순)대로 조회한다. type이 null이면 모든 유형을 조회한다.
+     * 모니터 안에서는 메모리 항목 복사본과 파일 위치만 모으고, 파일 항목은 모니터를 놓은 뒤 읽는다
+     */
+    public List<DeadLetter> find(DeadLetterType type, int offset, int limit) {
+        fileLock.readLock().lock();
+        try {
+            List<DeadLetter> deadLetters = new ArrayList<>(Math.min(Math.max(limit, 0), 1000));
+            Map<Integer, SpillPointer> spilledSlots = new HashMap<>();
+            FileChannel fileChannel;
+            synchronized (this) {
+                Iterator<Map.Entry<Long, DeadLetter>> memoryIterator = memory.entrySet().iterator();
+                Iterator<Map.Entry<Long, SpillPointer>> spilledIterator = spilled.entrySet().iterator();
+                Map.Entry<Long, DeadLetter> memoryEntry = next(memoryIterator);
+                Map.Entry<Long, SpillPointer> spilledEntry = next(spilledIterator);
+                int skipped = 0;
+                while (deadLetters.size() < limit && (memoryEntry != null || spilledEntry != null)) {
+                    boolean fromMemory = spilledEntry == null
+                            || (memoryEntry != null && memoryEntry.getKey() < spilledEntry.getKey());
+                    DeadLetterType entryType = fromMemory
+                            ? memoryEntry.getValue().getType()
+                            : spilledEntry.getValue().type();
+                    if (type == null || type == entryType) {
+                        if (skipped < offset) {
+                            skipped++;
+                        } else if (fromMemory) {
+                            deadLetters.add(copyOf(memoryEntry.getValue()));
+                        } else {
+                            spilledSlots.put(deadLetters.size(), spilledEntry.getValue());
+                            deadLetters.add(null);
+                        }
+                    }
+                    if (fromMemory) {
+                        memoryEntry = next(memoryIterator);
+                    } else {
+                        spilledEntry = next(spilledIterator);
+                    }
+                }
+                fileChannel = channel;
+            }
+            spilledSlots.forEach((slot, pointer) -> deadLetters.set(slot, read(fileChannel, pointer)));
+            return deadLetters;
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    public synchronized DeadLetterSummary getSummary() {
+        Map<DeadLetterType, Integer> typeCounts = new EnumMap<>(DeadLetterType.class);
+        memory.values().forEach(deadLetter -> typeCounts.merge(deadLetter.getType(), 1, Integer::sum));
+        spilled.values().forEach(pointer -> typeCounts.merge(pointer.type(), 1, Integer::sum));
+        long spillFileBytes;
+        try {
+            spillFileBytes = channel != null ? channel.size() : 0;
+        } catch (IOException e) {
+            spillFileBytes = -1;
+        }
+        return DeadLetterSummary.builder()
+                .totalCount(memory.size() + spilled.size())
+                .memoryCount(memory.size() - pendingIds.size())
+                .pendingSpillCount(pendingIds.size())
+                .spilledCount(spilled.size())
+                .spillFileBytes(spillFileBytes)
+                .droppedCount(droppedCount)
+                .typeCounts(typeCounts)
+                .build();
+    }
+
+    public synchronized void clear() {
+        memory.clear();
+        pendingIds.clear();
+        spilled.clear();
+        idsByKey.clear();
+        liveSpillBytes = 0;
+        requestMaintenance();
+    }
+
+    /**
+     * 파일 기록을 기다리는 항목과 정리 작업이 모두 끝날 때까지 기다린다
+     */
+    public synchronized boolean flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!pendingIds.isEmpty() || maintenanceRequested || writing) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) {
+                return false;
+            }
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void close() {
+        Thread spillWriter;
+        synchronized (this) {
+            running = false;
+            notifyAll();
+            spillWriter = writer;
+        }
+        if (spillWriter != null) {
+            try {
+                spillWriter.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        fileLock.writeLock().lock();
+        try {
+            synchronized (this) {
+                if (channel == null) {
+                    return;
+                }
+                try {
+                    channel.close();
+                    Files.deleteIfExists(spillFile);
+                } catch (IOException e) {
+                    logger.warn("실패 레코드 파일 정리 실패: {}", e.getMessage());
+                }
+                channel = null;
+            }
+        } finally {
+            fileLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모니터를 잡고 호출한다
+     */
+    private void addNew(DeadLetterType type, String endpoint, String orderId, String payload, String reason,
+                        String now, String key) {
+        if (memory.size() + spilled.size() >= maxEntries) {
+            droppedCount++;
+            logger.warn("실패 레코드 보관 한도 초과로 버림 [{} {}]: {}", type, orderId, reason);
+            return;
+        }
+        DeadLetter deadLetter = DeadLetter.builder()
+                .id(nextId++)
+                .type(type)
+                .endpoint(endpoint)
+                .orderId(orderId)
+                .payload(payload)
+                .reason(reason)
+                .attempts(1)
+                .firstFailedAt(now)
+                .lastFailedAt(now)
+                .build();
+        memory.put(deadLetter.getId(), deadLetter);
+        if (memory.size() - pendingIds.size() > memoryCapacity) {
+            markPending(deadLetter.getId());
+        }
+        if (key != null) {
+            idsByKey.put(key, deadLetter.getId());
+        }
+    }
+
+    /**
+     * 모니터를 잡고 호출한다. 메모리(기록 대기 포함)에 있는 항목을 고친다
+     */
+    private void updateInMemory(long id, String payload, String reason, String failedAt) {
+        DeadLetter deadLetter = memory.get(id);
+        if (pendingIds.contains(id)) {
+            // writer가 기록 중인 객체는 고치지 않고 바꿔 끼워, 기록이 끝나도 바뀐 값이 다시 기록되게 한다
+            deadLetter = copyOf(deadLetter);
+            memory.put(id, deadLetter);
+        }
+        applyFailure(deadLetter, payload, reason, failedAt);
+    }
+
+    /**
+     * 파일 항목은 제자리에서 고치지 않고 메모리로 올려 writer가 끝에 다시 쓰게 한다.
+     * 읽기는 fileLock 읽기 잠금만 잡고 하며, 그사이 항목이 지워지거나 정리로 위치가 바뀌었으면 false를 반환한다
+     */
+    private boolean promote(long id, SpillPointer pointer, String payload, String reason, String failedAt) {
+        fileLock.readLock().lock();
+        try {
+            FileChannel fileChannel;
+            synchronized (this) {
+                if (spilled.get(id) != pointer) {
+                    return false;
+                }
+                fileChannel = channel;
+            }
+            DeadLetter deadLetter = read(fileChannel, pointer);
+            synchronized (this) {
+                if (!spilled.remove(id, pointer)) {
+                    return false;
+                }
+                liveSpillBytes -= pointer.length();
+                applyFailure(deadLetter, payload, reason, failedAt);
+                memory.put(id, deadLetter);
+                markPending(id);
+                requestMaintenance();
+                return true;
+            }
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    private static void applyFailure(DeadLetter deadLetter, String payload, String reason, String failedAt) {
+        if (payload != null) {
+            deadLetter.setPayload(payload);
+        }
+        deadLetter.setReason(reason);
+        deadLetter.setAttempts(deadLetter.getAttempts() + 1);
+        deadLetter.setLastFailedAt(failedAt);
+    }
+
+    private void markPending(long id) {
+        pendingIds.add(id);
+        startWriter();
+        notifyAll();
+    }
+
+    private void requestMaintenance() {
+        maintenanceRequested = true;
+        startWriter();
+        notifyAll();
+    }
+
+    private void startWriter() {
+        if (writer == null && running) {
+            writer = Thread.ofPlatform().name("dead-letter-spill").daemon().start(this::runWriter);
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            List<DeadLetter> originals;
+            List<DeadLetter> copies;
+            boolean maintenance;
+            synchronized (this) {
+                while (running && pendingIds.isEmpty() && !maintenanceRequested) {
+                    writing = false;
+                    notifyAll();
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (!running) {
+                    writing = false;
+                    notifyAll();
+                    return;
+                }
+                writing = true;
+                maintenance = maintenanceRequested;
+                maintenanceRequested = false;
+                originals = new ArrayList<>(pendingIds.size());
+                copies = new ArrayList<>(pendingIds.size());
+                for (Long id : pendingIds) {
+                    DeadLetter deadLetter = memory.get(id);
+                    originals.add(deadLetter);
+                    copies.add(copyOf(deadLetter));
+                }
+            }
+            // 정리와 기록은 모니터 밖에서 하므로 그동안에도 보관, 조회가 막히지 않는다
+            if (maintenance) {
+                compactIfNeeded();
+            }
+            if (!originals.isEmpty()) {
+                spill(originals, copies);
+            }
+        }
+    }
+
+    /**
+     * 잠금 없이 파일 끝에 이어 쓰고, 쓰는 동안 지워지거나 바뀌지 않은 항목만 파일 위치로 옮긴다.
+     * 지워지거나 바뀐 항목의 줄은 죽은 영역으로 남아 다음 정리 때 사라진다
+     */
+    private void spill(List<DeadLetter> originals, List<DeadLetter> copies) {
+        List<SpillPointer> pointers = new ArrayList<>(copies.size());
+        boolean written = false;
+        try {
+            FileChannel fileChannel = openChannel();
+            long offset = fileChannel.size();
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (DeadLetter deadLetter : copies) {
+                byte[] line = objectMapper.writeValueAsBytes(deadLetter);
+                pointers.add(new SpillPointer(offset + lines.size(), line.length, deadLetter.getType(),
+                        keyOf(deadLetter.getType(), deadLetter.getEndpoint(), deadLetter.getOrderId())));
+                lines.write(line);
+                lines.write('\n');
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                position += fileChannel.write(buffer, position);
+            }
+            written = true;
+        } catch (IOException e) {
+            logger.error("실패 레코드 파일 기록 실패 ({} 건): {}", copies.size(), e.getMessage());
+        }
+
+        synchronized (this) {
+            for (int i = 0; i < originals.size(); i++) {
+                DeadLetter original = originals.get(i);
+                long id = original.getId();
+                if (memory.get(id) != original) {
+                    continue;
+                }
+                memory.remove(id);
+                pendingIds.remove(id);
+                if (written) {
+                    spilled.put(id, pointers.get(i));
+                    liveSpillBytes += pointers.get(i).length();
+                } else {
+                    idsByKey.remove(keyOf(original.getType(), original.getEndpoint(), original.getOrderId()), id);
+                    droppedCount++;
+                }
+            }
+        }
+    }
+
+    /**
+     * fileLock 읽기 잠금을 잡고 호출한다 (잡은 동안에는 정리가 채널과 위치를 바꾸지 못한다)
+     */
+    private DeadLetter read(FileChannel fileChannel, SpillPointer pointer) {
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(pointer.length());
+            long position = pointer.offset();
+            while (buffer.hasRemaining()) {
+                int read = fileChannel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("파일이 예상보다 짧습니다");
+                }
+                position += read;
+            }
+            return objectMapper.readValue(buffer.array(), DeadLetter.class);
+        } catch (IOException e) {
+            throw new DataIntegrationException("보관된 실패 레코드를 읽을 수 없습니다", e);
+        }
+    }
+
+    /**
+     * writer 스레드에서만 호출한다. 파일 항목이 모두 지워지면 파일을 비우고, 지워진 항목이 살아 있는 항목보다 많아지면 살아 있는 항목만 새 파일로 옮긴다.
+     * 파일 위치는 writer만 추가하므로, 모니터 안에서 위치를 복사한 뒤 모니터 밖에서 옮기고
+     * 쓰기 잠금과 모니터를 잡고 그동안 지워지거나 다시 올라가지 않은 항목의 위치만 바꾼다
+     */
+    private void compactIfNeeded() {
+        Map<Long, SpillPointer> snapshot;
+        FileChannel source;
+        long liveBytes;
+        synchronized (this) {
+            if (channel == null) {
+                return;
+            }
+            snapshot = spilled.isEmpty() ? null : new TreeMap<>(spilled);
+            source = channel;
+            liveBytes = liveSpillBytes;
+        }
+        if (snapshot == null) {
+            truncateSpillFile();
+            return;
+        }
+        try {
+            long fileSize = source.size();
+            if (fileSize < COMPACT_MIN_BYTES || fileSize < liveBytes * 2) {
+                return;
+            }
+            Path compacted = spillFile.resolveSibling(spillFile.getFileName() + ".compact");
+            Map<Long, SpillPointer> moved = new HashMap<>();
+            try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long position = 0;
+                for (Map.Entry<Long, SpillPointer> entry : snapshot.entrySet()) {
+                    SpillPointer pointer = entry.getValue();
+                    long lineLength = pointer.length() + 1;
+                    long transferred = 0;
+                    while (transferred < lineLength) {
+                        transferred += source.transferTo(pointer.offset() + transferred,
+                                lineLength - transferred, target);
+                    }
+                    moved.put(entry.getKey(), new SpillPointer(position, pointer.length(), pointer.type(), pointer.key()));
+                    position += lineLength;
+                }
+            }
+            // 새 파일이 완성된 뒤에만 위치를 바꾸므로 중간에 실패해도 기존 파일로 계속 동작한다.
+            // 이미 열린 채널로 읽는 조회는 바꾸기 전 파일을 계속 읽는다
+            Files.move(compacted, spillFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            FileChannel reopened = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            fileLock.writeLock().lock();
+            try {
+                synchronized (this) {
+                    moved.forEach((id, pointer) -> spilled.replace(id, snapshot.get(id), pointer));
+                    channel = reopened;
+                }
+                source.close();
+            } finally {
+                fileLock.writeLock().unlock();
+            }
+            logger.info("실패 레코드 파일 정리: {} bytes -> {} bytes", fileSize, reopened.size());
+        } catch (IOException e) {
+            logger.error("실패 레코드 파일 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 파일 항목이 하나도 없을 때만 호출한다. 위치를 추가하는 것은 writer뿐이라 비우는 동안 새 항목이 생기지 않는다
+     */
+    private void truncateSpillFile() {
+        fileLock.writeLock().lock();
+        try {
+            channel.truncate(0);
+        } catch (IOException e) {
+            logger.warn("실패 레코드 파일 비우기 실패: {}", e.getMessage());
+        } finally {
+            fileLock.writeLock().unlock();
+        }
+    }
+
+    private FileChannel openChannel() throws IOException {
+        if (channel == null) {
+            Files.createDirectories(spillFile.getParent());
+            channel = FileChannel.open(spillFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            logger.info("실패 레코드 메모리 한도({}) 초과분을 파일에 보관: {}", memoryCapacity, spillFile);
+        }
+        return channel;
+    }
+
+    private static String keyOf(DeadLetterType type, String endpoint, String orderId) {
+        return orderId != null ? type + "|" + endpoint + "|" + orderId : null;
+    }
+
+    private static DeadLetter copyOf(DeadLetter deadLetter) {
+        return DeadLetter.builder()
+                .id(deadLetter.getId())
+                .type(deadLetter.getType())
+                .endpoint(deadLetter.getEndpoint())
+                .orderId(deadLetter.getOrderId())
+                .payload(deadLetter.getPayload())
+                .reason(deadLetter.getReason())
+                .attempts(deadLetter.getAttempts())
+                .firstFailedAt(deadLetter.getFirstFailedAt())
+                .lastFailedAt(deadLetter.getLastFailedAt())
+                .build();
+    }
+
+    private static <T> T next(Iterator<T> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private record SpillPointer(long offset, int length, DeadLetterType type, String key) {
+    }
+}
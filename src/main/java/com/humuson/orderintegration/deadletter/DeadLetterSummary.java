@@ -0,0 +1,22 @@
+package com.humuson.orderintegration.deadletter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterSummary {
+    private int totalCount;
+    private int memoryCount;
+    private int pendingSpillCount;
+    private int spilledCount;
+    private long spillFileBytes;
+    private long droppedCount;
+    private Map<DeadLetterType, Integer> typeCounts;
+}
@@ -0,0 +1,16 @@
+package com.humuson.orderintegration.deadletter;
+
+public enum DeadLetterType {
+    IMPORT("가져오기"),
+    EXPORT("전송");
+
+    private final String description;
+
+    DeadLetterType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
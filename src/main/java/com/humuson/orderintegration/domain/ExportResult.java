@@ -0,0 +1,26 @@
+package com.humuson.orderintegration.domain;
+
+import com.humuson.orderintegration.client.dto.OrderItemResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 주문 전송 결과: 재전송까지 마친 뒤의 성공/실패 건수와 끝내 실패한 주문의 건별 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportResult {
+    private boolean success;
+    private int requestedCount;
+    private int sentCount;
+    private int failedCount;
+    private int attempts;
+    private List<String> notFoundOrderIds;
+    private List<OrderItemResult> failedItems;
+}
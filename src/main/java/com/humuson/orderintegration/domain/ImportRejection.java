@@ -0,0 +1,20 @@
+package com.humuson.orderintegration.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가져오기에서 제외된 주문 한 건 (원본 응답 배열의 위치, 주문 ID, 결과 코드, 사유)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportRejection {
+    private int index;
+    private String orderId;
+    private ImportResultCode code;
+    private String reason;
+}
@@ -0,0 +1,25 @@
+package com.humuson.orderintegration.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가져오기 결과 요약: 결과 코드별 건수와 제외된 주문 목록 (목록은 최대 건수까지만 담는다)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReport {
+    private int receivedCount;
+    private int savedCount;
+    private int rejectedCount;
+    private Map<ImportResultCode, Integer> resultCounts;
+    private List<ImportRejection> rejections;
+    private boolean rejectionsTruncated;
+}
@@ -0,0 +1,23 @@
+package com.humuson.orderintegration.domain;
+
+/**
+ * 가져오기 대상 주문 한 건의 처리 결과 코드
+ */
+public enum ImportResultCode {
+    ACCEPTED("저장"),
+    MISSING_ORDER_ID("주문 ID 누락"),
+    INVALID_ORDER_DATE("주문 날짜 형식 오류"),
+    UNKNOWN_STATUS("알 수 없는 주문 상태"),
+    VALIDATION_FAILED("검증 실패"),
+    SAVE_FAILED("저장 실패");
+
+    private final String description;
+
+    ImportResultCode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
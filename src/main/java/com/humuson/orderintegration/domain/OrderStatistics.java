@@ -0,0 +1,22 @@
+package com.humuson.orderintegration.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 상태별, 주문일자별 주문 건수 통계
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatistics {
+    private long totalCount;
+    private Map<OrderStatus, Long> statusCounts;
+    private Map<LocalDate, Long> dailyCounts;
+}
@@ -0,0 +1,20 @@
+package com.humuson.orderintegration.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계층화 저장소의 메모리(핫), 세그먼트 파일(콜드) 주문 건수와 세그먼트 크기
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderTierSummary {
+    private long hotCount;
+    private long coldCount;
+    private int segmentCount;
+    private long segmentBytes;
+}
@@ -0,0 +1,20 @@
+package com.humuson.orderintegration.domain;
+
+/**
+ * 주문 한 건의 상태 전환(expectedStatus → newStatus) 결과
+ */
+public enum StatusTransitionOutcome {
+    APPLIED("전환"),
+    CONFLICTED("현재 상태가 기대 상태와 다름"),
+    MISSING("주문 없음");
+
+    private final String description;
+
+    StatusTransitionOutcome(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,58 @@
+package com.humuson.orderintegration.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 상태 전환 결과: 전환, 충돌(현재 상태가 기대 상태와 다름), 없음 건수와 전환하지 못한 주문 ID
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionResult {
+    private OrderStatus expectedStatus;
+    private OrderStatus newStatus;
+    private int requestedCount;
+    private int appliedCount;
+    private int conflictedCount;
+    private int missingCount;
+    private List<String> conflictedOrderIds;
+    private List<String> missingOrderIds;
+
+    public static StatusTransitionResult empty(OrderStatus expectedStatus, OrderStatus newStatus) {
+        return new StatusTransitionResult(expectedStatus, newStatus, 0, 0, 0, 0, new ArrayList<>(), new ArrayList<>());
+    }
+
+    public void record(String orderId, StatusTransitionOutcome outcome) {
+        requestedCount++;
+        switch (outcome) {
+            case APPLIED -> appliedCount++;
+            case CONFLICTED -> {
+                conflictedCount++;
+                conflictedOrderIds.add(orderId);
+            }
+            case MISSING -> {
+                missingCount++;
+                missingOrderIds.add(orderId);
+            }
+        }
+    }
+
+    /**
+     * 다른 결과(노드별 결과 등)를 합친다
+     */
+    public void merge(StatusTransitionResult other) {
+        requestedCount += other.requestedCount;
+        appliedCount += other.appliedCount;
+        conflictedCount += other.conflictedCount;
+        missingCount += other.missingCount;
+        conflictedOrderIds.addAll(other.conflictedOrderIds);
+        missingOrderIds.addAll(other.missingOrderIds);
+    }
+}
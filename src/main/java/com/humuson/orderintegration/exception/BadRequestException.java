@@ -0,0 +1,14 @@
+package com.humuson.orderintegration.exception;
+
+/**
+ * 클라이언트가 보낸 요청 파라미터나 본문이 잘못된 경우. 메시지가 400 응답에 그대로 담기므로 요청 값만 설명한다.
+ */
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.humuson.orderintegration.exception;
+
+/**
+ * 클러스터 모드에서 다른 노드의 저장소 호출이 실패한 경우
+ */
+public class ClusterNodeException extends DataIntegrationException {
+    private final String node;
+
+    public ClusterNodeException(String node, String message, Throwable cause) {
+        super(String.format("[%s] %s", node, message), cause);
+        this.node = node;
+    }
+
+    public String getNode() {
+        return node;
+    }
+}
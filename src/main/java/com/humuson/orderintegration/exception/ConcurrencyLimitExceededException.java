@@ -0,0 +1,7 @@
+package com.humuson.orderintegration.exception;
+
+public class ConcurrencyLimitExceededException extends ExternalSystemException {
+    public ConcurrencyLimitExceededException(String systemType, String endpoint, int limit) {
+        super(systemType, String.format("동시 호출 한도 초과 (엔드포인트: %s, 한도: %d)", endpoint, limit));
+    }
+}
@@ -23,6 +23,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(e.getMessage()));
     }
 
+    @ExceptionHandler(ClusterNodeException.class)
+    public ResponseEntity<ApiResponse<Object>> handleClusterNodeException(ClusterNodeException e) {
+        logger.error("클러스터 노드 호출 실패: {}", e.getMessage(), e);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
     @ExceptionHandler(ExternalSystemException.class)
     public ResponseEntity<ApiResponse<Object>> handleExternalSystemException(ExternalSystemException e) {
         logger.error("외부 시스템 연동 오류: {}", e.getMessage(), e);
@@ -51,6 +58,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("데이터 검증에 실패했습니다"));
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ApiResponse<Object>> handleBadRequestException(BadRequestException e) {
+        logger.warn("잘못된 요청 파라미터: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Object>> handleGenericException(Exception e) {
         logger.error("예상치 못한 오류 발생", e);
@@ -1,15 +1,22 @@
 package com.humuson.orderintegration.external;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.humuson.orderintegration.client.dto.ExternalSystemResponse;
+import com.humuson.orderintegration.client.dto.OrderItemResult;
 import com.humuson.orderintegration.client.dto.OrderRequest;
 import com.humuson.orderintegration.client.dto.OrderResponse;
+import com.humuson.orderintegration.exception.BadRequestException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -23,6 +30,14 @@ public class ExternalSystemMockController {
     private static final Logger logger = LoggerFactory.getLogger(ExternalSystemMockController.class);
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    private final ObjectMapper objectMapper;
+    private final FaultInjector faultInjector;
+
+    public ExternalSystemMockController(ObjectMapper objectMapper, FaultInjector faultInjector) {
+        this.objectMapper = objectMapper;
+        this.faultInjector = faultInjector;
+    }
+
     /**
      * 외부 시스템에서 주문 데이터를 제공하는 엔드포인트 (Import 테스트용)
      * GET /external-system/orders
@@ -60,6 +75,38 @@ public class ExternalSystemMockController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * 대용량 가상 주문 데이터를 스트리밍으로 제공하는 엔드포인트 (부하 테스트용)
+     * GET /external-system/orders/generate?count=1000000&seed=42&statusMix=PROCESSING:40,SHIPPING:30
+     */
+    @GetMapping("/orders/generate")
+    public ResponseEntity<StreamingResponseBody> generateOrders(
+            @RequestParam(defaultValue = "1000") long count,
+            @RequestParam(defaultValue = "42") long seed,
+            @RequestParam(required = false) String statusMix,
+            @RequestParam(defaultValue = "1000") int nameCardinality,
+            @RequestParam(defaultValue = "40") int descriptionLength) {
+
+        if (count < 0) {
+            throw new BadRequestException("생성 건수는 0 이상이어야 합니다");
+        }
+        SyntheticOrderGenerator generator = new SyntheticOrderGenerator(
+                seed, SyntheticOrderGenerator.parseStatusMix(statusMix), nameCardinality, descriptionLength);
+        logger.info("외부 시스템: 가상 주문 데이터 {} 건 생성 요청 (seed={})", count, seed);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)) {
+                jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeTo(jsonGenerator, count);
+            }
+            logger.info("외부 시스템: 가상 주문 데이터 {} 건 전송 완료", count);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     /**
      * 외부 시스템에서 주문 데이터를 수신하는 엔드포인트 (Export 테스트용)
      * POST /external-system/orders
@@ -79,6 +126,21 @@ public class ExternalSystemMockController {
                     order.getProcessedAt());
         }
 
+        // 장애 프로필에 부분 실패 비율이 설정된 경우 건별로 실패 여부 결정
+        List<OrderItemResult> items = new ArrayList<>(orders.size());
+        int failedCount = 0;
+        for (OrderResponse order : orders) {
+            boolean failed = faultInjector.sampleItemFailure();
+            if (failed) {
+                failedCount++;
+            }
+            items.add(itemResult(order, !failed, failed ? "처리 실패 (장애 주입)" : null));
+        }
+        if (failedCount > 0) {
+            logger.warn("외부 시스템: 장애 주입 - {} 건 중 {} 건 처리 실패", orders.size(), failedCount);
+            return ResponseEntity.status(207).body(partialFailureResponse(items, failedCount)); // 207 Multi-Status
+        }
+
         // 성공 응답 반환
         ExternalSystemResponse<String> response = ExternalSystemResponse.<String>builder()
                 .success(true)
@@ -161,14 +223,31 @@ public class ExternalSystemMockController {
 
         logger.warn("외부 시스템: 부분적 실패 시뮬레이션");
 
-        ExternalSystemResponse<String> response = ExternalSystemResponse.<String>builder()
+        // 마지막 주문만 실패로 처리하고 건별 결과에 실패 주문을 알린다
+        List<OrderItemResult> items = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            boolean failed = i == orders.size() - 1;
+            items.add(itemResult(orders.get(i), !failed, failed ? "재고 확인 실패" : null));
+        }
+        return ResponseEntity.status(207).body(partialFailureResponse(items, orders.isEmpty() ? 0 : 1)); // 207 Multi-Status
+    }
+
+    private OrderItemResult itemResult(OrderResponse order, boolean success, String message) {
+        return OrderItemResult.builder()
+                .orderId(order.getOrderId())
+                .success(success)
+                .message(message)
+                .build();
+    }
+
+    private ExternalSystemResponse<String> partialFailureResponse(List<OrderItemResult> items, int failedCount) {
+        return ExternalSystemResponse.<String>builder()
                 .success(false)
-                .message("일부 주문 처리에 실패했습니다. 성공: " + (orders.size() - 1) + "건, 실패: 1건")
+                .message("일부 주문 처리에 실패했습니다. 성공: " + (items.size() - failedCount)
+                        + "건, 실패: " + failedCount + "건")
                 .data("부분적 처리 완료")
                 .timestamp(LocalDateTime.now().format(DATE_FORMATTER))
+                .items(items)
                 .build();
-
-        return ResponseEntity.status(207).body(response); // 207 Multi-Status
     }
-
 }
@@ -0,0 +1,199 @@
+package com.humuson.orderintegration.external;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Mock 외부 시스템 요청에 {@link FaultInjector}의 지연, 오류 응답, 연결 끊김, 느린 본문 전송을 적용한다.
+ * 장애 프로필 관리용 admin 경로에는 적용하지 않는다.
+ */
+@Component
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaultInjectionFilter.class);
+    private static final String MOCK_PATH_PREFIX = "/external-system/";
+    private static final String ADMIN_PATH_PREFIX = "/external-system/admin/";
+    private static final int RESET_DECLARED_LENGTH = 4096;
+    private static final byte[] RESET_PARTIAL_BODY = "[{\"orderId\":\"".getBytes(StandardCharsets.UTF_8);
+
+    private final FaultInjector faultInjector;
+
+    public FaultInjectionFilter(FaultInjector faultInjector) {
+        this.faultInjector = faultInjector;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(MOCK_PATH_PREFIX) || path.startsWith(ADMIN_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (faultInjector.isInactive()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        faultInjector.sleep(faultInjector.sampleLatencyMillis());
+
+        FaultInjector.FaultDecision decision = faultInjector.sampleFault();
+        switch (decision.type()) {
+            case ERROR -> {
+                logger.warn("외부 시스템: 장애 주입 - HTTP {} 응답 ({})", decision.statusCode(), request.getRequestURI());
+                response.setStatus(decision.statusCode());
+                response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+                response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                response.getWriter().write("Injected fault: HTTP " + decision.statusCode());
+                return;
+            }
+            case CONNECTION_RESET -> {
+                logger.warn("외부 시스템: 장애 주입 - 연결 끊김 ({})", request.getRequestURI());
+                simulateConnectionReset(response);
+                return;
+            }
+            default -> {
+            }
+        }
+
+        FaultProfile profile = faultInjector.getProfile();
+        if (profile.getSlowDripChunkBytes() > 0) {
+            filterChain.doFilter(request, new SlowDripResponse(response,
+                    profile.getSlowDripChunkBytes(), profile.getSlowDripIntervalMillis()));
+        } else {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * 선언한 Content-Length보다 적은 본문만 보낸 뒤 예외로 요청 처리를 중단한다.
+     * 응답이 이미 커밋되었으므로 서버는 연결을 닫고, 클라이언트는 본문 도중 연결이 끊긴 것으로 인지한다.
+     */
+    private void simulateConnectionReset(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(RESET_DECLARED_LENGTH);
+        ServletOutputStream outputStream = response.getOutputStream();
+        outputStream.write(RESET_PARTIAL_BODY);
+        outputStream.flush();
+        throw new IOException("Injected fault: connection reset");
+    }
+
+    /**
+     * 응답 본문을 일정 크기로 나누어 간격을 두고 전송하는 응답 래퍼
+     */
+    private final class SlowDripResponse extends HttpServletResponseWrapper {
+        private final int chunkBytes;
+        private final long intervalMillis;
+        private SlowDripOutputStream outputStream;
+        private PrintWriter writer;
+
+        private SlowDripResponse(HttpServletResponse response, int chunkBytes, long intervalMillis) {
+            super(response);
+            this.chunkBytes = chunkBytes;
+            this.intervalMillis = intervalMillis;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new SlowDripOutputStream(super.getOutputStream(), chunkBytes, intervalMillis);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), encoding));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+    }
+
+    private final class SlowDripOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+        private final int chunkBytes;
+        private final long intervalMillis;
+        private int writtenInChunk;
+
+        private SlowDripOutputStream(ServletOutputStream delegate, int chunkBytes, long intervalMillis) {
+            this.delegate = delegate;
+            this.chunkBytes = chunkBytes;
+            this.intervalMillis = intervalMillis;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (++writtenInChunk >= chunkBytes) {
+                drip();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                int size = Math.min(length, chunkBytes - writtenInChunk);
+                delegate.write(bytes, offset, size);
+                offset += size;
+                length -= size;
+                writtenInChunk += size;
+                if (writtenInChunk >= chunkBytes) {
+                    drip();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        private void drip() throws IOException {
+            delegate.flush();
+            writtenInChunk = 0;
+            faultInjector.sleep(intervalMillis);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.humuson.orderintegration.external;
+
+import com.humuson.orderintegration.exception.BadRequestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 현재 적용 중인 {@link FaultProfile}에 따라 지연, 오류 응답, 연결 끊김, 부분 실패 여부를 결정한다.
+ * 프로필 교체 시 시드로 난수 생성기를 다시 만들어, 같은 순서의 요청에 같은 결과를 재현한다.
+ */
+@Component
+public class FaultInjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaultInjector.class);
+    private static final long DEFAULT_SEED = 42L;
+
+    private static final Map<String, FaultProfile> PRESETS = createPresets();
+
+    private final AtomicReference<ActiveProfile> active = new AtomicReference<>(new ActiveProfile(PRESETS.get("none")));
+
+    /**
+     * 요청 한 건에 적용할 장애 유형
+     */
+    public enum FaultType {
+        NONE,
+        ERROR,
+        CONNECTION_RESET
+    }
+
+    public record FaultDecision(FaultType type, int statusCode) {
+        private static final FaultDecision NONE = new FaultDecision(FaultType.NONE, 0);
+    }
+
+    public FaultProfile getProfile() {
+        return active.get().profile;
+    }
+
+    public Map<String, FaultProfile> getPresets() {
+        return PRESETS;
+    }
+
+    public FaultProfile apply(FaultProfile profile) {
+        profile.validate();
+        active.set(new ActiveProfile(profile));
+        logger.info("외부 시스템: 장애 프로필 적용 - {}", profile);
+        return profile;
+    }
+
+    public FaultProfile applyPreset(String name) {
+        FaultProfile preset = PRESETS.get(name);
+        if (preset == null) {
+            throw new BadRequestException("존재하지 않는 장애 프로필입니다: " + name);
+        }
+        return apply(preset);
+    }
+
+    public FaultProfile reset() {
+        return applyPreset("none");
+    }
+
+    /**
+     * 장애가 전혀 설정되지 않은 상태인지 확인한다. 요청마다 난수를 뽑지 않기 위한 빠른 경로이다.
+     */
+    public boolean isInactive() {
+        return active.get().inactive;
+    }
+
+    public long sampleLatencyMillis() {
+        ActiveProfile current = active.get();
+        FaultProfile profile = current.profile;
+        LatencyDistribution distribution = profile.getLatency();
+        if (distribution == null || distribution == LatencyDistribution.NONE) {
+            return 0;
+        }
+        switch (distribution) {
+            case FIXED:
+                return profile.getLatencyMillis();
+            case UNIFORM: {
+                long range = profile.getLatencyMaxMillis() - profile.getLatencyMinMillis();
+                return profile.getLatencyMinMillis() + (long) (current.nextDouble() * (range + 1));
+            }
+            case LOG_NORMAL: {
+                double millis = profile.getLatencyMillis() * Math.exp(profile.getLatencySigma() * current.nextGaussian());
+                if (profile.getTailProbability() > 0 && current.nextDouble() < profile.getTailProbability()) {
+                    millis *= profile.getTailMultiplier();
+                }
+                if (profile.getLatencyMaxMillis() > 0) {
+                    millis = Math.min(millis, profile.getLatencyMaxMillis());
+                }
+                return Math.round(millis);
+            }
+            default:
+                return 0;
+        }
+    }
+
+    public FaultDecision sampleFault() {
+        ActiveProfile current = active.get();
+        if (current.faultRateTotal <= 0) {
+            return FaultDecision.NONE;
+        }
+
+        double pick = current.nextDouble() * 100;
+        for (int i = 0; i < current.errorCodes.length; i++) {
+            if (pick < current.errorThresholds[i]) {
+                return new FaultDecision(FaultType.ERROR, current.errorCodes[i]);
+            }
+        }
+        if (pick < current.faultRateTotal) {
+            return new FaultDecision(FaultType.CONNECTION_RESET, 0);
+        }
+        return FaultDecision.NONE;
+    }
+
+    /**
+     * POST 요청의 주문 한 건이 실패 처리될지 결정한다
+     */
+    public boolean sampleItemFailure() {
+        ActiveProfile current = active.get();
+        double ratio = current.profile.getPartialFailureRatio();
+        return ratio > 0 && current.nextDouble() < ratio;
+    }
+
+    public void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("장애 주입 지연 중 인터럽트 발생");
+        }
+    }
+
+    private static Map<String, FaultProfile> createPresets() {
+        Map<String, FaultProfile> presets = new LinkedHashMap<>();
+        presets.put("none", FaultProfile.builder()
+                .name("none")
+                .latency(LatencyDistribution.NONE)
+                .build());
+        presets.put("slow", FaultProfile.builder()
+                .name("slow")
+                .latency(LatencyDistribution.LOG_NORMAL)
+                .latencyMillis(300)
+                .latencySigma(0.6)
+                .tailProbability(0.02)
+                .tailMultiplier(8)
+                .latencyMaxMillis(5000)
+                .build());
+        presets.put("flaky", FaultProfile.builder()
+                .name("flaky")
+                .latency(LatencyDistribution.FIXED)
+                .latencyMillis(20)
+                .errorRates(Map.of(500, 5.0, 503, 3.0))
+                .connectionResetRate(1.0)
+                .build());
+        presets.put("drip", FaultProfile.builder()
+                .name("drip")
+                .latency(LatencyDistribution.NONE)
+                .slowDripChunkBytes(256)
+                .slowDripIntervalMillis(50)
+                .build());
+        presets.put("partial", FaultProfile.builder()
+                .name("partial")
+                .latency(LatencyDistribution.NONE)
+                .partialFailureRatio(0.2)
+                .build());
+        presets.put("chaos", FaultProfile.builder()
+                .name("chaos")
+                .latency(LatencyDistribution.UNIFORM)
+                .latencyMinMillis(10)
+                .latencyMaxMillis(500)
+                .errorRates(Map.of(500, 2.0, 429, 2.0))
+                .connectionResetRate(1.0)
+                .partialFailureRatio(0.1)
+                .build());
+        return Collections.unmodifiableMap(presets);
+    }
+
+    private static final class ActiveProfile {
+        private final FaultProfile profile;
+        private final boolean inactive;
+        private final Random random;
+        // 상태 코드 순으로 정렬한 누적 비율로, 같은 시드에서 항상 같은 판정을 내린다
+        private final int[] errorCodes;
+        private final double[] errorThresholds;
+        private final double faultRateTotal;
+
+        private ActiveProfile(FaultProfile profile) {
+            this.profile = profile;
+            this.random = new Random(profile.getSeed() != null ? profile.getSeed() : DEFAULT_SEED);
+
+            Map<Integer, Double> sortedRates = profile.getErrorRates() != null
+                    ? new TreeMap<>(profile.getErrorRates())
+                    : Collections.emptyMap();
+            this.errorCodes = new int[sortedRates.size()];
+            this.errorThresholds = new double[sortedRates.size()];
+            double cumulative = 0;
+            int index = 0;
+            for (Map.Entry<Integer, Double> entry : sortedRates.entrySet()) {
+                cumulative += entry.getValue();
+                errorCodes[index] = entry.getKey();
+                errorThresholds[index] = cumulative;
+                index++;
+            }
+            this.faultRateTotal = cumulative + profile.getConnectionResetRate();
+
+            this.inactive = (profile.getLatency() == null || profile.getLatency() == LatencyDistribution.NONE)
+                    && faultRateTotal <= 0
+                    && profile.getSlowDripChunkBytes() <= 0
+                    && profile.getPartialFailureRatio() <= 0;
+        }
+
+        private double nextDouble() {
+            return random.nextDouble();
+        }
+
+        private double nextGaussian() {
+            return random.nextGaussian();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.humuson.orderintegration.external;
+
+import com.humuson.orderintegration.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Mock 외부 시스템에 주입할 지연 및 장애 설정.
+ * 비율 중 errorRates, connectionResetRate는 백분율(0~100), partialFailureRatio는 건별 실패 확률(0~1)이다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FaultProfile {
+    private String name;
+
+    private LatencyDistribution latency;
+    // FIXED 지연 값 또는 LOG_NORMAL 중앙값
+    private long latencyMillis;
+    private long latencyMinMillis;
+    // UNIFORM 상한이자 LOG_NORMAL 최댓값 (0이면 제한 없음)
+    private long latencyMaxMillis;
+    private double latencySigma;
+    private double tailProbability;
+    private double tailMultiplier;
+
+    // HTTP 상태 코드별 오류 응답 비율
+    private Map<Integer, Double> errorRates;
+    private double connectionResetRate;
+
+    // 0보다 크면 응답 본문을 지정한 크기로 나누어 간격을 두고 전송
+    private int slowDripChunkBytes;
+    private long slowDripIntervalMillis;
+
+    private double partialFailureRatio;
+
+    private Long seed;
+
+    public void validate() {
+        if (latencyMillis < 0 || latencyMinMillis < 0 || latencyMaxMillis < 0 || slowDripIntervalMillis < 0) {
+            throw new BadRequestException("지연 시간은 음수일 수 없습니다");
+        }
+        if (latency == LatencyDistribution.UNIFORM && latencyMaxMillis < latencyMinMillis) {
+            throw new BadRequestException("균등 분포의 최댓값은 최솟값보다 작을 수 없습니다");
+        }
+        if (latencySigma < 0 || tailProbability < 0 || tailProbability > 1 || tailMultiplier < 0) {
+            throw new BadRequestException("로그 정규 분포 설정이 올바르지 않습니다");
+        }
+        double errorRateSum = 0;
+        if (errorRates != null) {
+            for (Map.Entry<Integer, Double> entry : errorRates.entrySet()) {
+                if (entry.getKey() < 400 || entry.getKey() > 599) {
+                    throw new BadRequestException("오류 상태 코드는 4xx 또는 5xx여야 합니다: " + entry.getKey());
+                }
+                if (entry.getValue() == null || entry.getValue() < 0) {
+                    throw new BadRequestException("오류 비율은 0 이상이어야 합니다: " + entry.getKey());
+                }
+                errorRateSum += entry.getValue();
+            }
+        }
+        if (errorRateSum + connectionResetRate > 100 || connectionResetRate < 0) {
+            throw new BadRequestException("오류 및 연결 끊김 비율의 합은 0~100 사이여야 합니다");
+        }
+        if (slowDripChunkBytes < 0) {
+            throw new BadRequestException("지연 전송 단위는 음수일 수 없습니다");
+        }
+        if (partialFailureRatio < 0 || partialFailureRatio > 1) {
+            throw new BadRequestException("부분 실패 비율은 0~1 사이여야 합니다");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.humuson.orderintegration.external;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Mock 외부 시스템의 장애 프로필을 실행 중에 조회, 교체하는 관리용 컨트롤러
+ */
+@RestController
+@RequestMapping("/external-system/admin/fault-profile")
+public class FaultProfileAdminController {
+
+    private final FaultInjector faultInjector;
+
+    public FaultProfileAdminController(FaultInjector faultInjector) {
+        this.faultInjector = faultInjector;
+    }
+
+    /**
+     * 현재 적용 중인 장애 프로필 조회
+     * GET /external-system/admin/fault-profile
+     */
+    @GetMapping
+    public ResponseEntity<FaultProfile> getProfile() {
+        return ResponseEntity.ok(faultInjector.getProfile());
+    }
+
+    /**
+     * 미리 정의된 장애 프로필 목록 조회
+     * GET /external-system/admin/fault-profile/presets
+     */
+    @GetMapping("/presets")
+    public ResponseEntity<Map<String, FaultProfile>> getPresets() {
+        return ResponseEntity.ok(faultInjector.getPresets());
+    }
+
+    /**
+     * 장애 프로필 직접 지정
+     * PUT /external-system/admin/fault-profile
+     */
+    @PutMapping
+    public ResponseEntity<FaultProfile> applyProfile(@RequestBody FaultProfile profile) {
+        return ResponseEntity.ok(faultInjector.apply(profile));
+    }
+
+    /**
+     * 미리 정의된 장애 프로필 적용
+     * POST /external-system/admin/fault-profile/{preset}
+     */
+    @PostMapping("/{preset}")
+    public ResponseEntity<FaultProfile> applyPreset(@PathVariable String preset) {
+        return ResponseEntity.ok(faultInjector.applyPreset(preset));
+    }
+
+    /**
+     * 장애 주입 해제
+     * DELETE /external-system/admin/fault-profile
+     */
+    @DeleteMapping
+    public ResponseEntity<FaultProfile> reset() {
+        return ResponseEntity.ok(faultInjector.reset());
+    }
+}
@@ -0,0 +1,11 @@
+package com.humuson.orderintegration.external;
+
+/**
+ * Mock 외부 시스템의 응답 지연 분포
+ */
+public enum LatencyDistribution {
+    NONE,
+    FIXED,
+    UNIFORM,
+    LOG_NORMAL
+}
@@ -0,0 +1,156 @@
+package com.humuson.orderintegration.external;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.exception.BadRequestException;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 시드 기반으로 재현 가능한 가상 주문 데이터를 생성한다.
+ * 주문 목록을 메모리에 만들지 않고 {@link JsonGenerator}로 한 건씩 바로 기록하므로
+ * 생성 건수와 무관하게 일정한 메모리만 사용한다.
+ */
+public class SyntheticOrderGenerator {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+    private static final int DATE_RANGE_SECONDS = 365 * 24 * 60 * 60;
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "시우", "하은", "주원", "지민"};
+    private static final String[] DESCRIPTION_WORDS = {
+            "무선", "이어폰", "노트북", "거치대", "블루투스", "키보드", "마우스", "충전기",
+            "케이블", "모니터", "선물", "포장", "요청", "빠른", "배송", "부탁드립니다"
+    };
+
+    private final long seed;
+    private final int[] statusThresholds;
+    private final int statusWeightTotal;
+    private final int nameCardinality;
+    private final int descriptionLength;
+
+    public SyntheticOrderGenerator(long seed, int[] statusWeights, int nameCardinality, int descriptionLength) {
+        if (statusWeights.length != STATUSES.length) {
+            throw new BadRequestException("상태별 비율은 " + STATUSES.length + "개여야 합니다");
+        }
+        if (nameCardinality < 1) {
+            throw new BadRequestException("고객명 종류 수는 1 이상이어야 합니다");
+        }
+        if (descriptionLength < 0) {
+            throw new BadRequestException("설명 길이는 0 이상이어야 합니다");
+        }
+        this.seed = seed;
+        this.statusThresholds = new int[statusWeights.length];
+        int total = 0;
+        for (int i = 0; i < statusWeights.length; i++) {
+            if (statusWeights[i] < 0) {
+                throw new BadRequestException("상태별 비율은 음수일 수 없습니다");
+            }
+            total += statusWeights[i];
+            statusThresholds[i] = total;
+        }
+        if (total == 0) {
+            throw new BadRequestException("상태별 비율의 합은 0보다 커야 합니다");
+        }
+        this.statusWeightTotal = total;
+        this.nameCardinality = nameCardinality;
+        this.descriptionLength = descriptionLength;
+    }
+
+    /**
+     * "PROCESSING:40,SHIPPING:30" 형식의 상태 비율 문자열을 해석한다. 지정하지 않은 상태의 비율은 0이다.
+     * 값이 비어 있으면 모든 상태를 같은 비율로 생성한다.
+     */
+    public static int[] parseStatusMix(String statusMix) {
+        int[] weights = new int[STATUSES.length];
+        if (statusMix == null || statusMix.isBlank()) {
+            Arrays.fill(weights, 1);
+            return weights;
+        }
+        for (String token : statusMix.split(",")) {
+            String[] pair = token.trim().split(":");
+            if (pair.length != 2) {
+                throw new BadRequestException("잘못된 상태 비율 형식입니다: " + token);
+            }
+            try {
+                OrderStatus status = OrderStatus.valueOf(pair[0].trim().toUpperCase());
+                weights[status.ordinal()] = Integer.parseInt(pair[1].trim());
+            } catch (IllegalArgumentException e) {
+                // 알 수 없는 상태 이름과 숫자가 아닌 비율 (NumberFormatException)
+                throw new BadRequestException("잘못된 상태 비율 형식입니다: " + token, e);
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * 주문 {@code count}건을 JSON 배열로 기록한다
+     */
+    public void writeTo(JsonGenerator generator, long count) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder buffer = new StringBuilder(Math.max(32, descriptionLength + 16));
+
+        generator.writeStartArray();
+        for (long i = 0; i < count; i++) {
+            generator.writeStartObject();
+            generator.writeStringField("orderId", orderId(buffer, i));
+            generator.writeStringField("customerName", customerName(buffer, random.nextInt(nameCardinality)));
+            generator.writeStringField("orderDate",
+                    BASE_DATE.plusSeconds(random.nextInt(DATE_RANGE_SECONDS)).format(DATE_FORMATTER));
+            generator.writeStringField("status", nextStatus(random).name());
+            generator.writeStringField("description", description(buffer, random));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    private String orderId(StringBuilder buffer, long index) {
+        buffer.setLength(0);
+        buffer.append("GEN-").append(seed).append('-');
+        String number = Long.toString(index);
+        for (int pad = number.length(); pad < 10; pad++) {
+            buffer.append('0');
+        }
+        return buffer.append(number).toString();
+    }
+
+    private String customerName(StringBuilder buffer, int nameIndex) {
+        buffer.setLength(0);
+        int combinations = SURNAMES.length * GIVEN_NAMES.length;
+        int base = nameIndex % combinations;
+        buffer.append(SURNAMES[base % SURNAMES.length]).append(GIVEN_NAMES[base / SURNAMES.length]);
+        if (nameIndex >= combinations) {
+            buffer.append(nameIndex / combinations);
+        }
+        return buffer.toString();
+    }
+
+    private OrderStatus nextStatus(SplittableRandom random) {
+        int pick = random.nextInt(statusWeightTotal);
+        for (int i = 0; i < statusThresholds.length; i++) {
+            if (pick < statusThresholds[i]) {
+                return STATUSES[i];
+            }
+        }
+        return STATUSES[STATUSES.length - 1];
+    }
+
+    private String description(StringBuilder buffer, SplittableRandom random) {
+        buffer.setLength(0);
+        while (buffer.length() < descriptionLength) {
+            if (buffer.length() > 0) {
+                buffer.append(' ');
+            }
+            buffer.append(DESCRIPTION_WORDS[random.nextInt(DESCRIPTION_WORDS.length)]);
+        }
+        buffer.setLength(Math.min(buffer.length(), descriptionLength));
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.humuson.orderintegration.monitoring;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OperationResourceUsage {
+    private ResourceOperation operation;
+    private String endpoint;
+    private long jobs;
+    private long records;
+    private long allocatedBytes;
+    private double cpuMillis;
+    private double allocatedBytesPerRecord;
+    private double cpuMicrosPerRecord;
+    private double allocatedBytesPerJob;
+    private double cpuMillisPerJob;
+}
@@ -0,0 +1,51 @@
+package com.humuson.orderintegration.monitoring;
+
+/**
+ * 현재 스레드에서 처리 중인 요청의 {@link RequestTimings}를 보관한다.
+ * 요청 밖(배치, 테스트 등)에서 호출하면 기록하지 않으므로 서비스 코드에서 조건 없이 사용할 수 있다.
+ *
+ * <pre>
+ * long start = RequestTimingContext.start();
+ * ... 작업 ...
+ * RequestTimingContext.record(TimingStage.PARSE, start);
+ * </pre>
+ */
+public final class RequestTimingContext {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private RequestTimingContext() {
+    }
+
+    static RequestTimings begin(String traceId) {
+        RequestTimings timings = new RequestTimings(traceId, System.nanoTime());
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * async 디스패치처럼 다른 스레드에서 이어 처리할 때 같은 기록을 다시 연결한다
+     */
+    static void resume(RequestTimings timings) {
+        CURRENT.set(timings);
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    public static void record(TimingStage stage, long startNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(stage, System.nanoTime() - startNanos);
+        }
+    }
+}
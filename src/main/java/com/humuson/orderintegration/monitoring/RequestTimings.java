@@ -0,0 +1,93 @@
+package com.humuson.orderintegration.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 요청 하나의 단계별 누적 소요 시간과 호출 횟수. 요청을 처리 중인 스레드에서만 변경한다 (비동기 요청은 디스패치마다 스레드가 바뀔 수 있다).
+ */
+public class RequestTimings {
+
+    private static final TimingStage[] STAGES = TimingStage.values();
+
+    private final String traceId;
+    private final long startNanos;
+    private final long[] stageNanos = new long[STAGES.length];
+    private final int[] stageCounts = new int[STAGES.length];
+    private boolean headerWritten;
+
+    RequestTimings(String traceId, long startNanos) {
+        this.traceId = traceId;
+        this.startNanos = startNanos;
+    }
+
+    void add(TimingStage stage, long nanos) {
+        stageNanos[stage.ordinal()] += nanos;
+        stageCounts[stage.ordinal()]++;
+    }
+
+    /**
+     * 단계의 누적 소요 시간(ns), 기록이 없으면 0
+     */
+    public long stageNanos(TimingStage stage) {
+        return stageNanos[stage.ordinal()];
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    boolean isHeaderWritten() {
+        return headerWritten;
+    }
+
+    void markHeaderWritten() {
+        headerWritten = true;
+    }
+
+    /**
+     * 기록된 단계별 소요 시간(ms)을 단계 순서대로 반환한다
+     */
+    public Map<String, Double> stageMillis() {
+        Map<String, Double> stages = new LinkedHashMap<>();
+        for (TimingStage stage : STAGES) {
+            if (stageCounts[stage.ordinal()] > 0) {
+                stages.put(stage.getMetricName(), toMillis(stageNanos[stage.ordinal()]));
+            }
+        }
+        return stages;
+    }
+
+    /**
+     * W3C Server-Timing 헤더 값을 만든다.
+     * 예: {@code network;dur=120.5, parse;dur=3.2;desc="count=1", total;dur=130.1, trace;desc="4bf92f35..."}
+     */
+    public String toServerTimingHeader() {
+        StringBuilder header = new StringBuilder(128);
+        for (TimingStage stage : STAGES) {
+            int count = stageCounts[stage.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            header.append(stage.getMetricName())
+                    .append(";dur=").append(formatMillis(stageNanos[stage.ordinal()]))
+                    .append(";desc=\"count=").append(count).append("\", ");
+        }
+        header.append("total;dur=").append(formatMillis(elapsedNanos()))
+                .append(", trace;desc=\"").append(traceId).append('"');
+        return header.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,154 @@
+package com.humuson.orderintegration.monitoring;
+
+import com.humuson.orderintegration.client.limit.ConcurrencyLimiterRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가져오기, 전송 작업이 쓴 힙 할당량과 CPU 시간을 작업 종류, 외부 시스템 엔드포인트(호스트 + 경로)별로 누적하고
+ * 레코드당 사용량으로 조회하거나 Micrometer 지표로 노출한다.
+ * 엔드포인트는 요청마다 달라질 수 있으므로 작업 종류, 엔드포인트 조합이 max-entries개에 이르면 새 엔드포인트는 "other"로 묶는다.
+ */
+@Component
+public class ResourceAccounting {
+
+    static final String OTHER_ENDPOINT = "other";
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, Totals> totals = new ConcurrentHashMap<>();
+
+    public ResourceAccounting(MeterRegistry meterRegistry,
+                              @Value("${order.monitoring.resource-usage.enabled:true}") boolean enabled,
+                              @Value("${order.monitoring.resource-usage.max-entries:500}") int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("작업 사용량 집계 항목 수는 1 이상이어야 합니다: " + maxEntries);
+        }
+        this.enabled = enabled && ResourceUsageContext.isSupported();
+        this.maxEntries = maxEntries;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 작업 측정을 시작한다. 반환된 작업은 같은 스레드에서 {@link ResourceUsage#finish()}로 끝내야 한다
+     */
+    public ResourceUsage begin(ResourceOperation operation, String endpoint) {
+        if (!enabled) {
+            return ResourceUsage.DISABLED;
+        }
+        return new ResourceUsage(operation, endpoint, this::complete).start();
+    }
+
+    /**
+     * 현재 스레드에 걸지 않고 작업 측정을 시작한다. 리액티브 파이프라인처럼 시작, 종료 스레드가 정해지지 않은 작업용으로,
+     * 측정할 구간은 {@link ResourceUsageContext#track}으로 감싸고 {@link ResourceUsage#finish()}는 어느 스레드에서든 호출할 수 있다
+     */
+    public ResourceUsage beginDetached(ResourceOperation operation, String endpoint) {
+        if (!enabled) {
+            return ResourceUsage.DISABLED;
+        }
+        return new ResourceUsage(operation, endpoint, this::complete);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 작업 종류, 엔드포인트별 누적 사용량을 할당량이 큰 순서로 반환한다. operation이 null이면 모든 작업
+     */
+    public List<OperationResourceUsage> getUsage(ResourceOperation operation) {
+        List<OperationResourceUsage> usage = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> {
+            if (operation == null || key.operation == operation) {
+                usage.add(total.toUsage(key));
+            }
+        });
+        usage.sort(Comparator.comparingLong(OperationResourceUsage::getAllocatedBytes).reversed());
+        return usage;
+    }
+
+    private void complete(ResourceUsage usage) {
+        String endpoint = usage.getEndpoint() == null
+                ? OTHER_ENDPOINT : ConcurrencyLimiterRegistry.endpointKey(usage.getEndpoint());
+        Key key = new Key(usage.getOperation(), endpoint);
+        Totals total = totals.get(key);
+        if (total == null) {
+            if (totals.size() >= maxEntries) {
+                key = new Key(usage.getOperation(), OTHER_ENDPOINT);
+            }
+            total = totals.computeIfAbsent(key, this::register);
+        }
+        total.jobs.increment();
+        total.records.add(usage.getRecords());
+        total.allocatedBytes.add(usage.getAllocatedBytes());
+        total.cpuNanos.add(usage.getCpuNanos());
+    }
+
+    private Totals register(Key key) {
+        Totals total = new Totals();
+        Tags tags = Tags.of("operation", key.operation.name().toLowerCase(Locale.ROOT), "endpoint", key.endpoint);
+        FunctionCounter.builder("order.resource.jobs", total, value -> value.jobs.sum())
+                .description("사용량을 집계한 가져오기, 전송 작업 수")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("order.resource.records", total, value -> value.records.sum())
+                .description("가져오기, 전송 작업이 처리한 레코드 수")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("order.resource.allocated", total, value -> value.allocatedBytes.sum())
+                .description("가져오기, 전송 작업이 사용한 스레드들의 힙 할당량")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("order.resource.cpu", total,
+                        value -> value.cpuNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1))
+                .description("가져오기, 전송 작업이 사용한 스레드들의 CPU 시간")
+                .baseUnit("seconds")
+                .tags(tags)
+                .register(meterRegistry);
+        return total;
+    }
+
+    private record Key(ResourceOperation operation, String endpoint) {
+    }
+
+    private static final class Totals {
+        private final LongAdder jobs = new LongAdder();
+        private final LongAdder records = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+
+        private OperationResourceUsage toUsage(Key key) {
+            long jobCount = jobs.sum();
+            long recordCount = records.sum();
+            long bytes = allocatedBytes.sum();
+            long nanos = cpuNanos.sum();
+            return OperationResourceUsage.builder()
+                    .operation(key.operation)
+                    .endpoint(key.endpoint)
+                    .jobs(jobCount)
+                    .records(recordCount)
+                    .allocatedBytes(bytes)
+                    .cpuMillis(nanos / 1_000_000.0)
+                    .allocatedBytesPerRecord(recordCount == 0 ? 0 : bytes / (double) recordCount)
+                    .cpuMicrosPerRecord(recordCount == 0 ? 0 : nanos / 1_000.0 / recordCount)
+                    .allocatedBytesPerJob(jobCount == 0 ? 0 : bytes / (double) jobCount)
+                    .cpuMillisPerJob(jobCount == 0 ? 0 : nanos / 1_000_000.0 / jobCount)
+                    .build();
+        }
+    }
+}
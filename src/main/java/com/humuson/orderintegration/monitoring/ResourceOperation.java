@@ -0,0 +1,24 @@
+package com.humuson.orderintegration.monitoring;
+
+/**
+ * 할당량, CPU 시간을 집계하는 가져오기, 전송 작업 종류
+ */
+public enum ResourceOperation {
+    IMPORT("가져오기"),
+    IMPORT_PARALLEL("병렬 가져오기"),
+    IMPORT_REPORT("리포트 가져오기"),
+    IMPORT_REACTIVE("논블로킹 가져오기"),
+    EXPORT("단건 전송"),
+    EXPORT_BATCH("다중 전송"),
+    EXPORT_STREAM("스트리밍 전송");
+
+    private final String description;
+
+    ResourceOperation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,102 @@
+package com.humuson.orderintegration.monitoring;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 가져오기, 전송 작업 하나가 쓴 힙 할당량과 CPU 시간. 작업을 시작한 스레드와 {@link ResourceUsageContext}로
+ * 작업을 넘겨받은 스레드가 각자 쓴 만큼 더한다. 작업을 시작한 스레드에서 {@link #finish()}를 호출하면 집계된다.
+ *
+ * <pre>
+ * ResourceUsage usage = resourceAccounting.begin(ResourceOperation.IMPORT, endpoint);
+ * try {
+ *     ... 작업 ...
+ *     usage.setRecords(orders.size());
+ * } finally {
+ *     usage.finish();
+ * }
+ * </pre>
+ */
+public class ResourceUsage {
+
+    /**
+     * 측정하지 않는 작업 (집계가 꺼져 있거나 JVM이 스레드별 측정을 지원하지 않을 때)
+     */
+    static final ResourceUsage DISABLED = new ResourceUsage(null, null, null);
+
+    private final ResourceOperation operation;
+    private final String endpoint;
+    private final Consumer<ResourceUsage> onFinish;
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder cpuNanos = new LongAdder();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private volatile long records;
+    private boolean attached;
+
+    ResourceUsage(ResourceOperation operation, String endpoint, Consumer<ResourceUsage> onFinish) {
+        this.operation = operation;
+        this.endpoint = endpoint;
+        this.onFinish = onFinish;
+    }
+
+    /**
+     * 작업을 현재 스레드에 걸고 측정을 시작한다
+     */
+    ResourceUsage start() {
+        if (isTracked()) {
+            ResourceUsageContext.enter(this);
+            attached = true;
+        }
+        return this;
+    }
+
+    /**
+     * 작업이 처리한 레코드 수 (레코드당 할당량, CPU 시간 계산에 쓴다)
+     */
+    public void setRecords(long records) {
+        this.records = records;
+    }
+
+    /**
+     * 현재 스레드의 측정을 끝내고 집계한다 (스레드에 걸지 않고 시작한 작업은 집계만 한다). 두 번째 호출부터는 무시된다
+     */
+    public void finish() {
+        if (!isTracked() || !finished.compareAndSet(false, true)) {
+            return;
+        }
+        if (attached) {
+            ResourceUsageContext.exit(this);
+        }
+        onFinish.accept(this);
+    }
+
+    boolean isTracked() {
+        return onFinish != null;
+    }
+
+    void add(long bytes, long nanos) {
+        allocatedBytes.add(bytes);
+        cpuNanos.add(nanos);
+    }
+
+    public ResourceOperation getOperation() {
+        return operation;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    public long getCpuNanos() {
+        return cpuNanos.sum();
+    }
+}
@@ -0,0 +1,150 @@
+package com.humuson.orderintegration.monitoring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에서 측정 중인 {@link ResourceUsage}를 보관하고, 스레드가 쓴 힙 할당량과 CPU 시간을
+ * {@code ThreadMXBean.getCurrentThreadAllocatedBytes/getCurrentThreadCpuTime} 차이로 작업에 더한다.
+ * 작업을 다른 스레드(ForkJoinPool 등)에 넘길 때는 {@link #track}이나 {@link #wrap}으로 감싸면 그 스레드의 사용량도 같은 작업에 더해진다.
+ * <p>
+ * 한 스레드에서 다른 작업이 겹쳐 실행되면(작업 훔치기 등) 안쪽 작업이 시작될 때까지의 사용량을 바깥 작업에 먼저 더하고
+ * 안쪽 작업이 끝나면 바깥 작업 측정을 다시 시작하므로 두 작업에 중복으로 더해지지 않는다.
+ * 가상 스레드는 JVM이 스레드별 사용량을 제공하지 않아(-1) 0으로 더해진다.
+ */
+public final class ResourceUsageContext {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceUsageContext.class);
+    private static final com.sun.management.ThreadMXBean THREADS = initThreadMXBean();
+    private static final ThreadLocal<Frame> CURRENT = new ThreadLocal<>();
+
+    private ResourceUsageContext() {
+    }
+
+    /**
+     * 이 JVM에서 스레드별 할당량, CPU 시간을 측정할 수 있는지 여부
+     */
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * 현재 스레드에서 측정 중인 작업, 없으면 null
+     */
+    public static ResourceUsage current() {
+        Frame frame = CURRENT.get();
+        return frame == null ? null : frame.usage;
+    }
+
+    /**
+     * task를 실행하는 동안 현재 스레드의 사용량을 usage에 더한다. usage가 null이거나 이미 현재 스레드에서 측정 중이면 그대로 실행한다
+     */
+    public static <T> T track(ResourceUsage usage, Supplier<T> task) {
+        if (usage == null || !usage.isTracked() || current() == usage) {
+            return task.get();
+        }
+        enter(usage);
+        try {
+            return task.get();
+        } finally {
+            exit(usage);
+        }
+    }
+
+    /**
+     * 현재 스레드에서 측정 중인 작업을 task를 실행할 스레드로 넘긴다
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        ResourceUsage usage = current();
+        if (usage == null) {
+            return task;
+        }
+        return () -> {
+            if (current() == usage) {
+                return task.call();
+            }
+            enter(usage);
+            try {
+                return task.call();
+            } finally {
+                exit(usage);
+            }
+        };
+    }
+
+    static void enter(ResourceUsage usage) {
+        long bytes = allocatedBytes();
+        long cpu = cpuNanos();
+        Frame outer = CURRENT.get();
+        if (outer != null) {
+            outer.usage.add(bytes - outer.startBytes, cpu - outer.startCpuNanos);
+        }
+        CURRENT.set(new Frame(usage, outer, bytes, cpu));
+    }
+
+    static void exit(ResourceUsage usage) {
+        Frame frame = CURRENT.get();
+        if (frame == null || frame.usage != usage) {
+            logger.warn("측정을 시작한 스레드가 아닌 곳에서 작업 사용량 측정을 끝냈습니다: {} {}", usage.getOperation(),
+                    usage.getEndpoint());
+            return;
+        }
+        long bytes = allocatedBytes();
+        long cpu = cpuNanos();
+        usage.add(bytes - frame.startBytes, cpu - frame.startCpuNanos);
+        Frame outer = frame.outer;
+        if (outer == null) {
+            CURRENT.remove();
+            return;
+        }
+        outer.startBytes = bytes;
+        outer.startCpuNanos = cpu;
+        CURRENT.set(outer);
+    }
+
+    private static long allocatedBytes() {
+        return THREADS == null ? 0 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private static long cpuNanos() {
+        return THREADS == null ? 0 : THREADS.getCurrentThreadCpuTime();
+    }
+
+    private static com.sun.management.ThreadMXBean initThreadMXBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported() || !threads.isCurrentThreadCpuTimeSupported()) {
+            logger.warn("이 JVM은 스레드별 할당량, CPU 시간 측정을 지원하지 않아 작업별 사용량을 집계하지 않습니다");
+            return null;
+        }
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        if (!threads.isThreadCpuTimeEnabled()) {
+            threads.setThreadCpuTimeEnabled(true);
+        }
+        return threads;
+    }
+
+    /**
+     * 스레드에서 측정 중인 작업과 측정을 시작(또는 다시 시작)한 시점의 누적 사용량
+     */
+    private static final class Frame {
+        private final ResourceUsage usage;
+        private final Frame outer;
+        private long startBytes;
+        private long startCpuNanos;
+
+        private Frame(ResourceUsage usage, Frame outer, long startBytes, long startCpuNanos) {
+            this.usage = usage;
+            this.outer = outer;
+            this.startBytes = startBytes;
+            this.startCpuNanos = startCpuNanos;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.humuson.orderintegration.monitoring;
+
+import com.humuson.orderintegration.controller.dto.ApiResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 가져오기, 전송 작업별 할당량, CPU 시간 조회용 관리 엔드포인트
+ */
+@RestController
+@RequestMapping("/api/admin/resource-usage")
+public class ResourceUsageController {
+
+    private final ResourceAccounting resourceAccounting;
+
+    public ResourceUsageController(ResourceAccounting resourceAccounting) {
+        this.resourceAccounting = resourceAccounting;
+    }
+
+    /**
+     * 작업 종류, 엔드포인트별 누적 사용량과 레코드당 사용량을 할당량이 큰 순서로 조회
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<OperationResourceUsage>>> getResourceUsage(
+            @RequestParam(required = false) ResourceOperation operation) {
+        return ResponseEntity.ok(ApiResponse.success("작업별 사용량 조회 완료",
+                resourceAccounting.getUsage(operation)));
+    }
+}
@@ -0,0 +1,141 @@
+package com.humuson.orderintegration.monitoring;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청마다 단계별 소요 시간 기록을 시작하고, 응답에 Server-Timing 헤더와 trace id를 붙인다.
+ * 컨트롤러 응답은 본문을 쓰기 직전 {@link ServerTimingResponseAdvice}가 헤더를 채우고,
+ * 그 외 응답은 체인이 끝난 뒤 커밋 전이면 이 필터가 채운다. Mock 외부 시스템 경로에는 적용하지 않는다.
+ * 비동기 요청(Mono 반환 등)은 기록을 요청 속성에 두고 async 디스패치에서 이어 쓰며,
+ * 느린 요청 기록은 요청이 완료될 때 남긴다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    private static final String TRACEPARENT_HEADER = "traceparent";
+    private static final String MOCK_PATH_PREFIX = "/external-system/";
+    static final String TIMINGS_ATTRIBUTE = ServerTimingFilter.class.getName() + ".TIMINGS";
+
+    private final SlowRequestRecorder slowRequestRecorder;
+
+    public ServerTimingFilter(SlowRequestRecorder slowRequestRecorder) {
+        this.slowRequestRecorder = slowRequestRecorder;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith(MOCK_PATH_PREFIX);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestTimings timings;
+        if (isAsyncDispatch(request)) {
+            timings = (RequestTimings) request.getAttribute(TIMINGS_ATTRIBUTE);
+            if (timings == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            RequestTimingContext.resume(timings);
+        } else {
+            timings = RequestTimingContext.begin(resolveTraceId(request));
+            request.setAttribute(TIMINGS_ATTRIBUTE, timings);
+            response.setHeader(TRACE_ID_HEADER, timings.getTraceId());
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (isAsyncStarted(request)) {
+                if (!isAsyncDispatch(request)) {
+                    request.getAsyncContext().addListener(new SlowRequestListener(timings, request, response));
+                }
+            } else {
+                if (!timings.isHeaderWritten() && !response.isCommitted()) {
+                    response.setHeader(SERVER_TIMING_HEADER, timings.toServerTimingHeader());
+                }
+                if (!isAsyncDispatch(request)) {
+                    recordSlowRequest(timings, request, response);
+                }
+            }
+            RequestTimingContext.end();
+        }
+    }
+
+    private void recordSlowRequest(RequestTimings timings, HttpServletRequest request, HttpServletResponse response) {
+        slowRequestRecorder.record(timings, request.getMethod(), request.getRequestURI(),
+                response.getStatus(), timings.elapsedNanos());
+    }
+
+    /**
+     * W3C traceparent 헤더가 있으면 그 trace id를 이어 쓰고, 없으면 새로 만든다
+     */
+    static String resolveTraceId(HttpServletRequest request) {
+        String traceparent = request.getHeader(TRACEPARENT_HEADER);
+        if (traceparent != null && traceparent.length() >= 35 && traceparent.charAt(2) == '-'
+                && traceparent.charAt(35) == '-') {
+            String traceId = traceparent.substring(3, 35);
+            if (traceId.chars().allMatch(c -> (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))
+                    && !traceId.equals("00000000000000000000000000000000")) {
+                return traceId;
+            }
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return String.format("%016x%016x", random.nextLong(), random.nextLong());
+    }
+
+    /**
+     * 비동기 요청이 완료(타임아웃, 오류 포함)되면 전체 소요 시간으로 느린 요청을 기록한다
+     */
+    private final class SlowRequestListener implements AsyncListener {
+
+        private final RequestTimings timings;
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+
+        private SlowRequestListener(RequestTimings timings, HttpServletRequest request,
+                                    HttpServletResponse response) {
+            this.timings = timings;
+            this.request = request;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            recordSlowRequest(timings, request, response);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
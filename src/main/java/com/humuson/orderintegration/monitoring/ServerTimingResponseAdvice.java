@@ -0,0 +1,34 @@
+package com.humuson.orderintegration.monitoring;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 컨트롤러 응답 본문을 쓰기 직전에 Server-Timing 헤더를 채운다.
+ * 이 시점까지의 단계별 시간이 모두 기록되어 있고 응답은 아직 커밋되지 않았다.
+ */
+@ControllerAdvice
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTimings timings = RequestTimingContext.current();
+        if (timings != null) {
+            response.getHeaders().set(ServerTimingFilter.SERVER_TIMING_HEADER, timings.toServerTimingHeader());
+            timings.markHeaderWritten();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,22 @@
+package com.humuson.orderintegration.monitoring;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowRequest {
+    private String traceId;
+    private String method;
+    private String uri;
+    private int status;
+    private double totalMillis;
+    private Map<String, Double> stageMillis;
+    private String completedAt;
+}
@@ -0,0 +1,43 @@
+package com.humuson.orderintegration.monitoring;
+
+import com.humuson.orderintegration.controller.dto.ApiResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 최근 느린 요청 조회용 관리 엔드포인트
+ */
+@RestController
+@RequestMapping("/api/admin/slow-requests")
+public class SlowRequestController {
+
+    private final SlowRequestRecorder slowRequestRecorder;
+
+    public SlowRequestController(SlowRequestRecorder slowRequestRecorder) {
+        this.slowRequestRecorder = slowRequestRecorder;
+    }
+
+    /**
+     * 최근 느린 요청을 소요 시간이 긴 순서로 조회
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SlowRequest>>> getSlowRequests(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success("느린 요청 조회 완료", slowRequestRecorder.getSlowest(limit)));
+    }
+
+    /**
+     * 보관 중인 느린 요청 기록 삭제
+     */
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Void>> clearSlowRequests() {
+        slowRequestRecorder.clear();
+        return ResponseEntity.ok(ApiResponse.success("느린 요청 기록 삭제 완료", null));
+    }
+}
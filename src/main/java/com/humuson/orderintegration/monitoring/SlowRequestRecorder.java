@@ -0,0 +1,83 @@
+package com.humuson.orderintegration.monitoring;
+
+import com.humuson.orderintegration.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 임계값보다 오래 걸린 최근 요청을 고정 크기 링 버퍼에 보관한다.
+ * 임계값 미만 요청은 비교 한 번으로 끝나고, 기록 시에도 잠금 없이 가장 오래된 항목을 덮어쓴다.
+ */
+@Component
+public class SlowRequestRecorder {
+
+    private final boolean enabled;
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<SlowRequest> ring;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowRequestRecorder(@Value("${order.monitoring.slow-requests.enabled:true}") boolean enabled,
+                               @Value("${order.monitoring.slow-requests.threshold:500ms}") Duration threshold,
+                               @Value("${order.monitoring.slow-requests.capacity:100}") int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("느린 요청 보관 개수는 1 이상이어야 합니다: " + capacity);
+        }
+        this.enabled = enabled;
+        this.thresholdNanos = threshold.toNanos();
+        this.ring = new AtomicReferenceArray<>(capacity);
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return enabled && elapsedNanos >= thresholdNanos;
+    }
+
+    public void record(RequestTimings timings, String method, String uri, int status, long elapsedNanos) {
+        if (!isSlow(elapsedNanos)) {
+            return;
+        }
+        SlowRequest slowRequest = SlowRequest.builder()
+                .traceId(timings.getTraceId())
+                .method(method)
+                .uri(uri)
+                .status(status)
+                .totalMillis(elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1))
+                .stageMillis(timings.stageMillis())
+                .completedAt(LocalDateTime.now().toString())
+                .build();
+        int index = (int) (sequence.getAndIncrement() % ring.length());
+        ring.set(index, slowRequest);
+    }
+
+    /**
+     * 보관 중인 느린 요청을 소요 시간이 긴 순서로 반환한다. 보관 개수보다 큰 limit은 보관 개수로 줄인다
+     */
+    public List<SlowRequest> getSlowest(int limit) {
+        if (limit < 0) {
+            throw new BadRequestException("조회 건수는 0 이상이어야 합니다: " + limit);
+        }
+        List<SlowRequest> requests = new ArrayList<>(ring.length());
+        for (int i = 0; i < ring.length(); i++) {
+            SlowRequest request = ring.get(i);
+            if (request != null) {
+                requests.add(request);
+            }
+        }
+        requests.sort(Comparator.comparingDouble(SlowRequest::getTotalMillis).reversed());
+        return requests.size() > limit ? new ArrayList<>(requests.subList(0, limit)) : requests;
+    }
+
+    public void clear() {
+        for (int i = 0; i < ring.length(); i++) {
+            ring.set(i, null);
+        }
+    }
+}
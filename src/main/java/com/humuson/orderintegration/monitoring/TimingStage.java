@@ -0,0 +1,23 @@
+package com.humuson.orderintegration.monitoring;
+
+/**
+ * Server-Timing 헤더에 기록하는 요청 처리 단계
+ */
+public enum TimingStage {
+    REPOSITORY("repository"),
+    SERIALIZATION("serialize"),
+    NETWORK("network"),
+    PARSE("parse"),
+    VALIDATION("validate"),
+    SAVE("save");
+
+    private final String metricName;
+
+    TimingStage(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+}
@@ -0,0 +1,489 @@
+package com.humuson.orderintegration.repository;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 문자열 키를 사용하는 불변(persistent) 해시 트라이(HAMT, CHAMP 배치).
+ * 변경 연산은 루트에서 수정 지점까지의 경로만 복사한 새 맵을 반환하고 기존 맵은 그대로 유지되므로,
+ * 한 번 얻은 맵은 복사 없이 일관된 스냅샷으로 순회할 수 있다.
+ */
+public final class HashTrieMap<V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_SHIFT = 30;
+
+    @SuppressWarnings("rawtypes")
+    private static final HashTrieMap EMPTY = new HashTrieMap<>(new BitmapNode<>(0, 0, new Object[0]), 0);
+
+    private final Node<V> root;
+    private final int size;
+
+    private HashTrieMap(Node<V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> HashTrieMap<V> empty() {
+        return (HashTrieMap<V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public V get(String key) {
+        return root.get(key, hash(key), 0);
+    }
+
+    public boolean containsKey(String key) {
+        return get(key) != null;
+    }
+
+    /**
+     * 키에 값을 저장한 새 맵을 반환한다. 대체된 이전 값은 {@code change}에 기록된다.
+     */
+    public HashTrieMap<V> put(String key, V value, Change<V> change) {
+        change.reset();
+        Node<V> newRoot = root.put(key, hash(key), value, 0, change);
+        if (newRoot == root) {
+            return this;
+        }
+        return new HashTrieMap<>(newRoot, change.previous == null ? size + 1 : size);
+    }
+
+    /**
+     * 키를 제거한 새 맵을 반환한다. 제거된 값은 {@code change}에 기록된다.
+     */
+    public HashTrieMap<V> remove(String key, Change<V> change) {
+        change.reset();
+        Node<V> newRoot = root.remove(key, hash(key), 0, change);
+        if (newRoot == root) {
+            return this;
+        }
+        return new HashTrieMap<>(newRoot, size - 1);
+    }
+
+    public void forEach(Consumer<? super V> action) {
+        root.forEach(action);
+    }
+
+    public Iterator<V> iterator() {
+        return new ValueIterator<>(root);
+    }
+
+    public Stream<V> values() {
+        Spliterator<V> spliterator = Spliterators.spliterator(iterator(), size,
+                Spliterator.SIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 변경 연산의 결과(대체되거나 제거된 이전 값)를 전달받는다. 스레드마다 재사용할 수 있다.
+     */
+    public static final class Change<V> {
+        private V previous;
+
+        public V previous() {
+            return previous;
+        }
+
+        private void reset() {
+            previous = null;
+        }
+    }
+
+    private abstract static class Node<V> {
+        abstract V get(String key, int hash, int shift);
+
+        abstract Node<V> put(String key, int hash, V value, int shift, Change<V> change);
+
+        abstract Node<V> remove(String key, int hash, int shift, Change<V> change);
+
+        abstract void forEach(Consumer<? super V> action);
+
+        abstract int dataCount();
+
+        abstract int nodeCount();
+
+        abstract String keyAt(int index);
+
+        abstract V valueAt(int index);
+
+        abstract Node<V> nodeAt(int index);
+    }
+
+    /**
+     * 비트맵 노드. content 앞쪽에는 (키, 값) 쌍을, 뒤쪽에는 하위 노드를 역순으로 둔다.
+     */
+    private static final class BitmapNode<V> extends Node<V> {
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] content;
+
+        private BitmapNode(int dataMap, int nodeMap, Object[] content) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V get(String key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                return key.equals(content[2 * index]) ? (V) content[2 * index + 1] : null;
+            }
+            if ((nodeMap & bit) != 0) {
+                return subNode(bit).get(key, hash, shift + BITS);
+            }
+            return null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<V> put(String key, int hash, V value, int shift, Change<V> change) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                String existingKey = (String) content[2 * index];
+                V existingValue = (V) content[2 * index + 1];
+                if (existingKey.equals(key)) {
+                    change.previous = existingValue;
+                    if (existingValue == value) {
+                        return this;
+                    }
+                    Object[] copy = content.clone();
+                    copy[2 * index + 1] = value;
+                    return new BitmapNode<>(dataMap, nodeMap, copy);
+                }
+                Node<V> merged = merge(existingKey, hash(existingKey), existingValue, key, hash, value, shift + BITS);
+                return migrateToNode(bit, index, merged);
+            }
+            if ((nodeMap & bit) != 0) {
+                Node<V> subNode = subNode(bit);
+                Node<V> newSubNode = subNode.put(key, hash, value, shift + BITS, change);
+                return newSubNode == subNode ? this : replaceNode(bit, newSubNode);
+            }
+            return insertData(bit, key, value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<V> remove(String key, int hash, int shift, Change<V> change) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                if (!key.equals(content[2 * index])) {
+                    return this;
+                }
+                change.previous = (V) content[2 * index + 1];
+                return removeData(bit, index);
+            }
+            if ((nodeMap & bit) != 0) {
+                Node<V> subNode = subNode(bit);
+                Node<V> newSubNode = subNode.remove(key, hash, shift + BITS, change);
+                if (newSubNode == subNode) {
+                    return this;
+                }
+                // 항목이 하나만 남은 하위 노드는 현재 노드로 끌어올려 트라이를 정규 형태로 유지한다
+                if (newSubNode.nodeCount() == 0 && newSubNode.dataCount() == 1) {
+                    return migrateToData(bit, newSubNode.keyAt(0), newSubNode.valueAt(0));
+                }
+                return replaceNode(bit, newSubNode);
+            }
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void forEach(Consumer<? super V> action) {
+            int dataCount = dataCount();
+            for (int i = 0; i < dataCount; i++) {
+                action.accept((V) content[2 * i + 1]);
+            }
+            for (int i = 2 * dataCount; i < content.length; i++) {
+                ((Node<V>) content[i]).forEach(action);
+            }
+        }
+
+        @Override
+        int dataCount() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        int nodeCount() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        String keyAt(int index) {
+            return (String) content[2 * index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V valueAt(int index) {
+            return (V) content[2 * index + 1];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<V> nodeAt(int index) {
+            return (Node<V>) content[content.length - 1 - index];
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node<V> subNode(int bit) {
+            return (Node<V>) content[content.length - 1 - index(nodeMap, bit)];
+        }
+
+        private Node<V> insertData(int bit, String key, V value) {
+            int index = 2 * index(dataMap, bit);
+            Object[] copy = new Object[content.length + 2];
+            System.arraycopy(content, 0, copy, 0, index);
+            copy[index] = key;
+            copy[index + 1] = value;
+            System.arraycopy(content, index, copy, index + 2, content.length - index);
+            return new BitmapNode<>(dataMap | bit, nodeMap, copy);
+        }
+
+        private Node<V> removeData(int bit, int index) {
+            Object[] copy = new Object[content.length - 2];
+            System.arraycopy(content, 0, copy, 0, 2 * index);
+            System.arraycopy(content, 2 * index + 2, copy, 2 * index, content.length - 2 * index - 2);
+            return new BitmapNode<>(dataMap ^ bit, nodeMap, copy);
+        }
+
+        private Node<V> replaceNode(int bit, Node<V> node) {
+            Object[] copy = content.clone();
+            copy[content.length - 1 - index(nodeMap, bit)] = node;
+            return new BitmapNode<>(dataMap, nodeMap, copy);
+        }
+
+        private Node<V> migrateToNode(int bit, int dataIndex, Node<V> node) {
+            // (키, 값) 쌍 하나를 빼고 하위 노드 하나를 뒤쪽 노드 영역에 끼워 넣는다
+            int oldDataPosition = 2 * dataIndex;
+            int newNodePosition = content.length - 2 - index(nodeMap, bit);
+            Object[] copy = new Object[content.length - 1];
+            System.arraycopy(content, 0, copy, 0, oldDataPosition);
+            System.arraycopy(content, oldDataPosition + 2, copy, oldDataPosition, newNodePosition - oldDataPosition);
+            copy[newNodePosition] = node;
+            System.arraycopy(content, newNodePosition + 2, copy, newNodePosition + 1, content.length - newNodePosition - 2);
+            return new BitmapNode<>(dataMap ^ bit, nodeMap | bit, copy);
+        }
+
+        private Node<V> migrateToData(int bit, String key, V value) {
+            int oldNodePosition = content.length - 1 - index(nodeMap, bit);
+            int newDataPosition = 2 * index(dataMap, bit);
+            Object[] copy = new Object[content.length + 1];
+            System.arraycopy(content, 0, copy, 0, newDataPosition);
+            copy[newDataPosition] = key;
+            copy[newDataPosition + 1] = value;
+            System.arraycopy(content, newDataPosition, copy, newDataPosition + 2, oldNodePosition - newDataPosition);
+            System.arraycopy(content, oldNodePosition + 1, copy, oldNodePosition + 2, content.length - oldNodePosition - 1);
+            return new BitmapNode<>(dataMap | bit, nodeMap ^ bit, copy);
+        }
+    }
+
+    /**
+     * 32비트 해시가 모두 같은 키들을 선형으로 보관하는 노드
+     */
+    private static final class CollisionNode<V> extends Node<V> {
+        private final String[] keys;
+        private final Object[] values;
+
+        private CollisionNode(String[] keys, Object[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V get(String key, int hash, int shift) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return (V) values[i];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<V> put(String key, int hash, V value, int shift, Change<V> change) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    change.previous = (V) values[i];
+                    if (values[i] == value) {
+                        return this;
+                    }
+                    Object[] newValues = values.clone();
+                    newValues[i] = value;
+                    return new CollisionNode<>(keys, newValues);
+                }
+            }
+            String[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+            Object[] newValues = Arrays.copyOf(values, values.length + 1);
+            newKeys[keys.length] = key;
+            newValues[values.length] = value;
+            return new CollisionNode<>(newKeys, newValues);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<V> remove(String key, int hash, int shift, Change<V> change) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    change.previous = (V) values[i];
+                    if (keys.length == 2) {
+                        // 남은 한 항목은 상위 노드가 데이터 영역으로 끌어올린다
+                        int remaining = 1 - i;
+                        return new BitmapNode<>(1, 0, new Object[]{keys[remaining], values[remaining]});
+                    }
+                    String[] newKeys = new String[keys.length - 1];
+                    Object[] newValues = new Object[values.length - 1];
+                    System.arraycopy(keys, 0, newKeys, 0, i);
+                    System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+                    System.arraycopy(values, 0, newValues, 0, i);
+                    System.arraycopy(values, i + 1, newValues, i, values.length - i - 1);
+                    return new CollisionNode<>(newKeys, newValues);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void forEach(Consumer<? super V> action) {
+            for (Object value : values) {
+                action.accept((V) value);
+            }
+        }
+
+        @Override
+        int dataCount() {
+            return keys.length;
+        }
+
+        @Override
+        int nodeCount() {
+            return 0;
+        }
+
+        @Override
+        String keyAt(int index) {
+            return keys[index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V valueAt(int index) {
+            return (V) values[index];
+        }
+
+        @Override
+        Node<V> nodeAt(int index) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private static <V> Node<V> merge(String key0, int hash0, V value0, String key1, int hash1, V value1, int shift) {
+        if (shift > MAX_SHIFT) {
+            return new CollisionNode<>(new String[]{key0, key1}, new Object[]{value0, value1});
+        }
+        int mask0 = (hash0 >>> shift) & MASK;
+        int mask1 = (hash1 >>> shift) & MASK;
+        if (mask0 != mask1) {
+            int dataMap = (1 << mask0) | (1 << mask1);
+            Object[] content = mask0 < mask1
+                    ? new Object[]{key0, value0, key1, value1}
+                    : new Object[]{key1, value1, key0, value0};
+            return new BitmapNode<>(dataMap, 0, content);
+        }
+        Node<V> subNode = merge(key0, hash0, value0, key1, hash1, value1, shift + BITS);
+        return new BitmapNode<>(0, 1 << mask0, new Object[]{subNode});
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static int index(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    /**
+     * 깊이 우선으로 값을 순회하는 반복자. 트라이 깊이만큼의 스택만 사용한다.
+     */
+    private static final class ValueIterator<V> implements Iterator<V> {
+        private static final int MAX_DEPTH = MAX_SHIFT / BITS + 3;
+
+        private final Node<?>[] nodes = new Node<?>[MAX_DEPTH];
+        private final int[] dataCursor = new int[MAX_DEPTH];
+        private final int[] nodeCursor = new int[MAX_DEPTH];
+        private int depth;
+        private V next;
+
+        private ValueIterator(Node<V> root) {
+            nodes[0] = root;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public V next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            V value = next;
+            advance();
+            return value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            while (depth >= 0) {
+                Node<V> node = (Node<V>) nodes[depth];
+                if (dataCursor[depth] < node.dataCount()) {
+                    next = node.valueAt(dataCursor[depth]++);
+                    return;
+                }
+                if (nodeCursor[depth] < node.nodeCount()) {
+                    Node<V> child = node.nodeAt(nodeCursor[depth]++);
+                    depth++;
+                    nodes[depth] = child;
+                    dataCursor[depth] = 0;
+                    nodeCursor[depth] = 0;
+                    continue;
+                }
+                nodes[depth] = null;
+                depth--;
+            }
+            next = null;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.humuson.orderintegration.repository;
 
 import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
 import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.StatusTransitionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
@@ -9,36 +12,74 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
+@ConditionalOnProperty(name = "order.repository.type", havingValue = "memory", matchIfMissing = true)
 public class InMemoryOrderRepository implements OrderRepository {
-    private final Map<String, Order> orderStore = new ConcurrentHashMap<>();
+    private final Map<String, OrderEntry> orderStore = new ConcurrentHashMap<>();
+    private final OrderStatisticsCounter statistics = new OrderStatisticsCounter();
+    private final OrderChangeListeners changeListeners = new OrderChangeListeners();
 
     @Override
     public Order save(Order order) {
         if (order == null || order.getOrderId() == null) {
             throw new IllegalArgumentException("주문 또는 주문 ID가 null입니다");
         }
-        orderStore.put(order.getOrderId(), order);
+        OrderEntry entry = new OrderEntry(order);
+        OrderEntry previous = orderStore.put(order.getOrderId(), entry);
+        if (previous != null) {
+            statistics.decrement(previous.status, previous.orderDay);
+        }
+        statistics.increment(entry.status, entry.orderDay);
+        changeListeners.changed(order.getOrderId());
         return order;
     }
 
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        for (Order order : orders) {
+            save(order);
+        }
+        return orders;
+    }
+
     @Override
     public Optional<Order> findById(String orderId) {
-        return Optional.ofNullable(orderStore.get(orderId));
+        OrderEntry entry = orderStore.get(orderId);
+        return entry == null ? Optional.empty() : Optional.of(entry.order);
     }
 
     @Override
     public List<Order> findAll() {
-        return new ArrayList<>(orderStore.values());
+        List<Order> orders = new ArrayList<>(orderStore.size());
+        for (OrderEntry entry : orderStore.values()) {
+            orders.add(entry.order);
+        }
+        return orders;
     }
 
     @Override
     public List<Order> findByStatus(OrderStatus status) {
+        List<Order> orders = new ArrayList<>();
+        for (OrderEntry entry : orderStore.values()) {
+            if (entry.status == status) {
+                orders.add(entry.order);
+            }
+        }
+        return orders;
+    }
+
+    @Override
+    public Stream<Order> streamAll() {
+        return orderStore.values().stream().map(entry -> entry.order);
+    }
+
+    @Override
+    public Stream<Order> streamByStatus(OrderStatus status) {
         return orderStore.values().stream()
-                .filter(order -> order.getStatus() == status)
-                .collect(Collectors.toList());
+                .filter(entry -> entry.status == status)
+                .map(entry -> entry.order);
     }
 
     @Override
@@ -48,6 +89,41 @@ public class InMemoryOrderRepository implements OrderRepository {
 
     @Override
     public void deleteById(String orderId) {
-        orderStore.remove(orderId);
+        OrderEntry removed = orderStore.remove(orderId);
+        if (removed != null) {
+            statistics.decrement(removed.status, removed.orderDay);
+            changeListeners.changed(orderId);
+        }
+    }
+
+    @Override
+    public OrderStatistics getStatistics() {
+        return statistics.snapshot();
+    }
+
+    @Override
+    public void addChangeListener(OrderChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public StatusTransitionOutcome compareAndSetStatus(String orderId, OrderStatus expectedStatus, OrderStatus newStatus) {
+        while (true) {
+            OrderEntry current = orderStore.get(orderId);
+            if (current == null) {
+                return StatusTransitionOutcome.MISSING;
+            }
+            if (current.status != expectedStatus) {
+                return StatusTransitionOutcome.CONFLICTED;
+            }
+            OrderEntry next = current.withStatus(newStatus);
+            // 그 사이 Import 등으로 다른 버전이 저장됐으면 새 버전을 기준으로 다시 확인한다
+            if (orderStore.replace(orderId, current, next)) {
+                statistics.decrement(current.status, current.orderDay);
+                statistics.increment(next.status, next.orderDay);
+                changeListeners.changed(orderId);
+                return StatusTransitionOutcome.APPLIED;
+            }
+        }
     }
 }
@@ -0,0 +1,11 @@
+package com.humuson.orderintegration.repository;
+
+/**
+ * 저장소의 주문이 저장, 상태 전환, 삭제된 뒤 호출된다. 변경이 조회에 보이게 된 다음에 호출되며,
+ * 저장소에 쓰는 스레드에서 바로 실행되므로 가볍게 처리해야 한다.
+ */
+@FunctionalInterface
+public interface OrderChangeListener {
+
+    void orderChanged(String orderId);
+}
@@ -0,0 +1,22 @@
+package com.humuson.orderintegration.repository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 저장소 구현이 공통으로 쓰는 변경 리스너 목록. 리스너는 기동 시 한 번 등록하고 변경마다 순회하므로 복사 후 쓰기 목록을 쓴다.
+ */
+final class OrderChangeListeners {
+
+    private final List<OrderChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    void add(OrderChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    void changed(String orderId) {
+        for (OrderChangeListener listener : listeners) {
+            listener.orderChanged(orderId);
+        }
+    }
+}
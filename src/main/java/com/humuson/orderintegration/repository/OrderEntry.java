@@ -0,0 +1,35 @@
+package com.humuson.orderintegration.repository;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 저장 시점의 상태와 주문일자를 함께 보관한다.
+ * 저장된 주문 객체가 외부에서 변경되더라도 통계 카운터를 정확히 되돌릴 수 있다.
+ */
+final class OrderEntry {
+    final Order order;
+    final OrderStatus status;
+    final LocalDate orderDay;
+
+    OrderEntry(Order order) {
+        this.order = order;
+        this.status = order.getStatus();
+        this.orderDay = order.getOrderDate() != null ? order.getOrderDate().toLocalDate() : null;
+    }
+
+    /**
+     * 상태만 바꾼 새 주문 버전을 만든다. 저장된 주문 객체는 다른 스레드가 읽고 있을 수 있으므로 변경하지 않는다
+     */
+    OrderEntry withStatus(OrderStatus newStatus) {
+        return new OrderEntry(Order.builder()
+                .orderId(order.getOrderId())
+                .customerName(order.getCustomerName())
+                .orderDate(order.getOrderDate())
+                .status(newStatus)
+                .description(order.getDescription())
+                .build());
+    }
+}
@@ -1,16 +1,47 @@
 package com.humuson.orderintegration.repository;
 
 import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
 import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.StatusTransitionOutcome;
+import com.humuson.orderintegration.domain.StatusTransitionResult;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository {
     Order save(Order order);
+    List<Order> saveAll(List<Order> orders);
     Optional<Order> findById(String orderId);
     List<Order> findAll();
     List<Order> findByStatus(OrderStatus status);
+    Stream<Order> streamAll();
+    Stream<Order> streamByStatus(OrderStatus status);
     boolean existsById(String orderId);
     void deleteById(String orderId);
+    OrderStatistics getStatistics();
+
+    /**
+     * 주문이 저장, 상태 전환, 삭제될 때마다 주문 ID로 호출할 리스너를 등록한다
+     */
+    void addChangeListener(OrderChangeListener listener);
+
+    /**
+     * 주문의 현재 상태가 expectedStatus일 때만 newStatus로 바꾼 새 주문으로 원자적으로 교체한다.
+     * 저장된 주문 객체는 변경하지 않으므로 이미 조회한 쪽은 이전 상태를 그대로 본다
+     */
+    StatusTransitionOutcome compareAndSetStatus(String orderId, OrderStatus expectedStatus, OrderStatus newStatus);
+
+    /**
+     * 주문마다 {@link #compareAndSetStatus}를 적용하고 결과를 집계한다. 주문 단위로 원자적이며 전체가 한 번에 적용되지는 않는다
+     */
+    default StatusTransitionResult transitionStatus(List<String> orderIds, OrderStatus expectedStatus,
+                                                    OrderStatus newStatus) {
+        StatusTransitionResult result = StatusTransitionResult.empty(expectedStatus, newStatus);
+        for (String orderId : orderIds) {
+            result.record(orderId, compareAndSetStatus(orderId, expectedStatus, newStatus));
+        }
+        return result;
+    }
 }
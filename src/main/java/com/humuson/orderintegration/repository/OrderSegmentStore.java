@@ -0,0 +1,470 @@
+package com.humuson.orderintegration.repository;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.exception.DataIntegrationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 오래된 주문을 압축된 불변 세그먼트 파일에 보관하는 콜드 저장소.
+ * 세그먼트는 주문 blockSize건씩 묶어 Deflate로 압축한 블록들이다. 메모리에는 세그먼트마다 주문 ID의 64비트 해시를 정렬한
+ * 배열과 해시별 블록 번호, 지워진 항목 비트셋만 두므로 콜드 주문 한 건이 차지하는 힙은 약 12바이트다.
+ * 단건 조회는 해시로 블록을 찾아 압축을 풀고 주문 ID를 확인하며(해시 충돌 처리), 상태별 조회는 해당 상태가 없는 블록을 건너뛴다.
+ * 덮어쓰거나 삭제한 주문은 파일에 남지만 조회되지 않으며, 살아 있는 주문이 없는 세그먼트는 파일을 지운다.
+ */
+final class OrderSegmentStore implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderSegmentStore.class);
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final Path directory;
+    private final int blockSize;
+    // 최신 세그먼트가 앞에 온다
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextSegmentId = new AtomicInteger();
+
+    OrderSegmentStore(Path directory, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("세그먼트 블록 크기는 1 이상이어야 합니다: " + blockSize);
+        }
+        this.directory = directory;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 주문을 새 세그먼트 파일에 쓴다. 아직 조회되지 않으며 {@link #publish}로 공개한다.
+     * 주문은 해시 순서로 위치를 정하고, 블록은 상태별로 모아 상태별 조회가 읽는 블록 수를 줄인다.
+     */
+    Segment write(List<Order> orders) throws IOException {
+        int size = orders.size();
+        long[] orderHashes = new long[size];
+        for (int i = 0; i < size; i++) {
+            orderHashes[i] = hash(orders.get(i).getOrderId());
+        }
+        Integer[] byHash = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            byHash[i] = i;
+        }
+        Arrays.sort(byHash, Comparator.comparingLong(i -> orderHashes[i]));
+        long[] hashes = new long[size];
+        String[] orderIds = new String[size];
+        int[] positionOf = new int[size];
+        for (int position = 0; position < size; position++) {
+            hashes[position] = orderHashes[byHash[position]];
+            orderIds[position] = orders.get(byHash[position]).getOrderId();
+            positionOf[byHash[position]] = position;
+        }
+
+        List<Integer> byStatus = new ArrayList<>(IntStream.range(0, size).boxed().toList());
+        byStatus.sort(Comparator.comparing(i -> orders.get(i).getStatus(), Comparator.nullsLast(Comparator.naturalOrder())));
+
+        int segmentId = nextSegmentId.getAndIncrement();
+        Files.createDirectories(directory);
+        Path file = directory.resolve(String.format("orders-%06d.seg", segmentId));
+        int blockCount = (size + blockSize - 1) / blockSize;
+        long[] offsets = new long[blockCount + 1];
+        byte[] statusMasks = new byte[blockCount];
+        int[] blocks = new int[size];
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long offset = 0;
+            for (int block = 0; block < blockCount; block++) {
+                List<Integer> members = byStatus.subList(block * blockSize, Math.min((block + 1) * blockSize, size));
+                List<Order> blockOrders = new ArrayList<>(members.size());
+                int[] positions = new int[members.size()];
+                for (int i = 0; i < members.size(); i++) {
+                    Order order = orders.get(members.get(i));
+                    blockOrders.add(order);
+                    positions[i] = positionOf[members.get(i)];
+                    blocks[positions[i]] = block;
+                    if (order.getStatus() != null) {
+                        statusMasks[block] |= (byte) (1 << order.getStatus().ordinal());
+                    }
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(encode(blockOrders, positions));
+                while (buffer.hasRemaining()) {
+                    offset += channel.write(buffer, offset);
+                }
+                offsets[block + 1] = offset;
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new Segment(file, FileChannel.open(file, StandardOpenOption.READ), hashes, blocks, offsets,
+                statusMasks, orderIds);
+    }
+
+    /**
+     * 세그먼트를 공개한다. 이전 세그먼트에 같은 주문이 남아 있으면 지운 것으로 표시한다
+     */
+    void publish(Segment segment) {
+        for (int position = 0; position < segment.size(); position++) {
+            Location previous = locate(segment.orderId(position));
+            if (previous != null) {
+                markDead(previous.segment(), previous.position());
+            }
+        }
+        segments.add(0, segment);
+    }
+
+    /**
+     * 세그먼트의 해당 위치 주문을 지운 것으로 표시한다 (핫 저장소 쪽이 더 최신인 경우)
+     */
+    void unpublish(Segment segment, int position) {
+        markDead(segment, position);
+    }
+
+    /**
+     * 주문을 지운 것으로 표시하고 지운 주문을 반환한다 (통계 보정용)
+     */
+    Optional<Order> remove(String orderId) {
+        Location location = locate(orderId);
+        if (location == null || !markDead(location.segment(), location.position())) {
+            return Optional.empty();
+        }
+        return Optional.of(location.order());
+    }
+
+    Optional<Order> find(String orderId) {
+        Location location = locate(orderId);
+        return location == null ? Optional.empty() : Optional.of(location.order());
+    }
+
+    boolean contains(String orderId) {
+        return locate(orderId) != null;
+    }
+
+    /**
+     * 살아 있는 주문을 오래된 세그먼트부터 블록 순으로 읽는다. status가 null이면 모든 상태를 읽는다
+     */
+    Stream<Order> stream(OrderStatus status) {
+        List<Segment> snapshot = new ArrayList<>(segments);
+        return IntStream.range(0, snapshot.size())
+                .mapToObj(i -> snapshot.get(snapshot.size() - 1 - i))
+                .flatMap(segment -> IntStream.range(0, segment.blockCount())
+                        .filter(block -> status == null || (segment.statusMasks[block] & (1 << status.ordinal())) != 0)
+                        .mapToObj(block -> readBlock(segment, block))
+                        .flatMap(block -> IntStream.range(0, block.orders().size())
+                                .filter(i -> status == null || block.orders().get(i).getStatus() == status)
+                                .filter(i -> segment.isLive(block.positions()[i]))
+                                .mapToObj(i -> block.orders().get(i))));
+    }
+
+    long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.liveCount();
+        }
+        return size;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    long segmentBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += segment.offsets[segment.offsets.length - 1];
+        }
+        return bytes;
+    }
+
+    /**
+     * 세그먼트 파일을 모두 지운다 (콜드 주문은 프로세스 수명 동안만 보관한다)
+     */
+    @Override
+    public void close() {
+        for (Segment segment : segments) {
+            delete(segment);
+        }
+        segments.clear();
+    }
+
+    /**
+     * 최신 세그먼트부터 해시가 같은 위치의 블록을 읽어 주문 ID가 같고 살아 있는 항목을 찾는다
+     */
+    private Location locate(String orderId) {
+        long hash = hash(orderId);
+        for (Segment segment : segments) {
+            int found = Arrays.binarySearch(segment.hashes, hash);
+            if (found < 0) {
+                continue;
+            }
+            int first = found;
+            while (first > 0 && segment.hashes[first - 1] == hash) {
+                first--;
+            }
+            for (int position = first; position < segment.size() && segment.hashes[position] == hash; position++) {
+                if (!segment.isLive(position)) {
+                    continue;
+                }
+                LoadedBlock block = readBlock(segment, segment.blocks[position]);
+                for (int i = 0; i < block.orders().size(); i++) {
+                    if (block.positions()[i] == position && block.orders().get(i).getOrderId().equals(orderId)) {
+                        return new Location(segment, position, block.orders().get(i));
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 처음 지운 경우에만 true를 반환한다. 살아 있는 주문이 없어진 세그먼트는 파일을 지운다
+     */
+    private boolean markDead(Segment segment, int position) {
+        if (!segment.markDead(position)) {
+            return false;
+        }
+        if (segment.liveCount() == 0 && segments.remove(segment)) {
+            delete(segment);
+        }
+        return true;
+    }
+
+    /**
+     * 블록 하나를 읽어 압축을 푼다. 읽는 중 세그먼트가 지워졌으면 빈 블록을 반환한다
+     */
+    private LoadedBlock readBlock(Segment segment, int block) {
+        int length = (int) (segment.offsets[block + 1] - segment.offsets[block]);
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        try {
+            long offset = segment.offsets[block];
+            while (buffer.hasRemaining()) {
+                int read = segment.channel.read(buffer, offset);
+                if (read < 0) {
+                    throw new IOException("세그먼트 파일이 예상보다 짧습니다");
+                }
+                offset += read;
+            }
+            return decode(buffer.array());
+        } catch (IOException e) {
+            if (!segments.contains(segment)) {
+                return new LoadedBlock(List.of(), new int[0]);
+            }
+            throw new DataIntegrationException("콜드 주문 세그먼트를 읽을 수 없습니다: " + segment.file, e);
+        }
+    }
+
+    private static void delete(Segment segment) {
+        try {
+            segment.channel.close();
+            Files.deleteIfExists(segment.file);
+        } catch (IOException e) {
+            logger.warn("콜드 주문 세그먼트 삭제 실패 [{}]: {}", segment.file, e.getMessage());
+        }
+    }
+
+    /**
+     * 블록 형식: 압축 전 길이(int) + Deflate로 압축한 (주문 수, [세그먼트 내 위치, 주문 필드]...)
+     */
+    static byte[] encode(List<Order> orders, int[] positions) throws IOException {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(orders.size() * 96);
+        try (DataOutputStream out = new DataOutputStream(raw)) {
+            out.writeInt(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                Order order = orders.get(i);
+                out.writeInt(positions[i]);
+                writeString(out, order.getOrderId());
+                writeString(out, order.getCustomerName());
+                LocalDateTime orderDate = order.getOrderDate();
+                out.writeLong(orderDate != null ? orderDate.toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE);
+                out.writeInt(orderDate != null ? orderDate.getNano() : 0);
+                out.writeByte(order.getStatus() != null ? order.getStatus().ordinal() : -1);
+                writeString(out, order.getDescription());
+            }
+        }
+        byte[] input = raw.toByteArray();
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(input.length / 2 + 16);
+            new DataOutputStream(compressed).writeInt(input.length);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                compressed.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static LoadedBlock decode(byte[] block) throws IOException {
+        byte[] raw = new byte[ByteBuffer.wrap(block).getInt()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(block, Integer.BYTES, block.length - Integer.BYTES);
+            int inflated = 0;
+            while (inflated < raw.length) {
+                int count = inflater.inflate(raw, inflated, raw.length - inflated);
+                if (count == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IOException("세그먼트 블록이 손상되었습니다");
+                }
+                inflated += count;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("세그먼트 블록 압축을 풀 수 없습니다", e);
+        } finally {
+            inflater.end();
+        }
+
+        ByteBuffer in = ByteBuffer.wrap(raw);
+        int count = in.getInt();
+        List<Order> orders = new ArrayList<>(count);
+        int[] positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = in.getInt();
+            String orderId = readString(in);
+            String customerName = readString(in);
+            long epochSecond = in.getLong();
+            int nano = in.getInt();
+            byte status = in.get();
+            String description = readString(in);
+            orders.add(Order.builder()
+                    .orderId(orderId)
+                    .customerName(customerName)
+                    .orderDate(epochSecond == Long.MIN_VALUE ? null
+                            : LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC))
+                    .status(status < 0 ? null : STATUSES[status])
+                    .description(description)
+                    .build());
+        }
+        return new LoadedBlock(orders, positions);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    /**
+     * FNV-1a에 murmur3 finalizer를 더한 64비트 해시. 같은 프로세스 안에서만 쓰므로 문자 단위로 섞는다
+     */
+    static long hash(String orderId) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < orderId.length(); i++) {
+            hash ^= orderId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * 쓰기가 끝난 세그먼트 파일. 위치 i의 주문은 해시가 hashes[i]이고 blocks[i]번 블록에 있으며,
+     * 블록 b는 파일의 offsets[b] ~ offsets[b + 1] 구간이다
+     */
+    static final class Segment {
+        private final Path file;
+        private final FileChannel channel;
+        private final long[] hashes;
+        private final int[] blocks;
+        private final long[] offsets;
+        private final byte[] statusMasks;
+        private final BitSet dead;
+        private int deadCount;
+        // 공개와 핫 저장소 정리에만 쓰고 이후에는 놓아 힙에 남지 않게 한다
+        private String[] orderIds;
+
+        private Segment(Path file, FileChannel channel, long[] hashes, int[] blocks, long[] offsets,
+                        byte[] statusMasks, String[] orderIds) {
+            this.file = file;
+            this.channel = channel;
+            this.hashes = hashes;
+            this.blocks = blocks;
+            this.offsets = offsets;
+            this.statusMasks = statusMasks;
+            this.dead = new BitSet(hashes.length);
+            this.orderIds = orderIds;
+        }
+
+        int size() {
+            return hashes.length;
+        }
+
+        int blockCount() {
+            return statusMasks.length;
+        }
+
+        String orderId(int position) {
+            return orderIds[position];
+        }
+
+        void releaseOrderIds() {
+            orderIds = null;
+        }
+
+        synchronized boolean isLive(int position) {
+            return !dead.get(position);
+        }
+
+        synchronized int liveCount() {
+            return hashes.length - deadCount;
+        }
+
+        private synchronized boolean markDead(int position) {
+            if (dead.get(position)) {
+                return false;
+            }
+            dead.set(position);
+            deadCount++;
+            return true;
+        }
+    }
+
+    record LoadedBlock(List<Order> orders, int[] positions) {
+    }
+
+    private record Location(Segment segment, int position, Order order) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.humuson.orderintegration.repository;
+
+import com.humuson.orderintegration.domain.OrderStatistics;
+import com.humuson.orderintegration.domain.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 저장소 변경 시점마다 갱신되는 상태별/주문일자별 카운터.
+ * 조회 시 주문 객체를 순회하지 않고 카운터 값만 합산한다.
+ */
+public class OrderStatisticsCounter {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder[] statusCounts = new LongAdder[STATUSES.length];
+    private final Map<LocalDate, LongAdder> dailyCounts = new ConcurrentHashMap<>();
+
+    public OrderStatisticsCounter() {
+        for (int i = 0; i < statusCounts.length; i++) {
+            statusCounts[i] = new LongAdder();
+        }
+    }
+
+    public void increment(OrderStatus status, LocalDate orderDay) {
+        add(status, orderDay, 1);
+    }
+
+    public void decrement(OrderStatus status, LocalDate orderDay) {
+        add(status, orderDay, -1);
+    }
+
+    public OrderStatistics snapshot() {
+        Map<OrderStatus, Long> statuses = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : STATUSES) {
+            statuses.put(status, statusCounts[status.ordinal()].sum());
+        }
+
+        Map<LocalDate, Long> days = new TreeMap<>();
+        dailyCounts.forEach((day, count) -> {
+            long sum = count.sum();
+            if (sum > 0) {
+                days.put(day, sum);
+            }
+        });
+
+        return OrderStatistics.builder()
+                .totalCount(totalCount.sum())
+                .statusCounts(statuses)
+                .dailyCounts(days)
+                .build();
+    }
+
+    private void add(OrderStatus status, LocalDate orderDay, long delta) {
+        totalCount.add(delta);
+        if (status != null) {
+            statusCounts[status.ordinal()].add(delta);
+        }
+        if (orderDay != null) {
+            LongAdder dayCount = dailyCounts.get(orderDay);
+            if (dayCount == null) {
+                dayCount = dailyCounts.computeIfAbsent(orderDay, day -> new LongAdder());
+            }
+            dayCount.add(delta);
+        }
+    }
+}
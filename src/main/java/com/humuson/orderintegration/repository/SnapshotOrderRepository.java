@@ -0,0 +1,170 @@
+package com.humuson.orderintegration.repository;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.StatusTransitionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * 불변 해시 트라이를 원자적 루트 참조로 공개하는 저장소.
+ * 읽기는 루트 하나를 읽는 것만으로 일관된 스냅샷을 얻으므로 목록 조회 시 저장소를 복사하지 않고,
+ * 쓰기는 경로 복사로 만든 새 루트를 CAS로 교체한다. saveAll은 전체 주문을 하나의 루트 교체로 공개한다.
+ */
+@Repository
+@ConditionalOnProperty(name = "order.repository.type", havingValue = "snapshot")
+public class SnapshotOrderRepository implements OrderRepository {
+    private final AtomicReference<HashTrieMap<OrderEntry>> root = new AtomicReference<>(HashTrieMap.empty());
+    private final OrderStatisticsCounter statistics = new OrderStatisticsCounter();
+    private final OrderChangeListeners changeListeners = new OrderChangeListeners();
+
+    @Override
+    public Order save(Order order) {
+        validate(order);
+        OrderEntry entry = new OrderEntry(order);
+        HashTrieMap.Change<OrderEntry> change = new HashTrieMap.Change<>();
+        HashTrieMap<OrderEntry> current;
+        do {
+            current = root.get();
+        } while (!root.compareAndSet(current, current.put(order.getOrderId(), entry, change)));
+        applyStatistics(change.previous(), entry);
+        changeListeners.changed(order.getOrderId());
+        return order;
+    }
+
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        List<OrderEntry> entries = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            validate(order);
+            entries.add(new OrderEntry(order));
+        }
+        HashTrieMap.Change<OrderEntry> change = new HashTrieMap.Change<>();
+        OrderEntry[] previous = new OrderEntry[entries.size()];
+        HashTrieMap<OrderEntry> current;
+        HashTrieMap<OrderEntry> next;
+        do {
+            current = root.get();
+            next = current;
+            for (int i = 0; i < entries.size(); i++) {
+                OrderEntry entry = entries.get(i);
+                next = next.put(entry.order.getOrderId(), entry, change);
+                previous[i] = change.previous();
+            }
+        } while (!root.compareAndSet(current, next));
+        for (int i = 0; i < entries.size(); i++) {
+            applyStatistics(previous[i], entries.get(i));
+            changeListeners.changed(entries.get(i).order.getOrderId());
+        }
+        return orders;
+    }
+
+    @Override
+    public Optional<Order> findById(String orderId) {
+        OrderEntry entry = root.get().get(orderId);
+        return entry == null ? Optional.empty() : Optional.of(entry.order);
+    }
+
+    @Override
+    public List<Order> findAll() {
+        HashTrieMap<OrderEntry> snapshot = root.get();
+        List<Order> orders = new ArrayList<>(snapshot.size());
+        snapshot.forEach(entry -> orders.add(entry.order));
+        return orders;
+    }
+
+    @Override
+    public List<Order> findByStatus(OrderStatus status) {
+        List<Order> orders = new ArrayList<>();
+        root.get().forEach(entry -> {
+            if (entry.status == status) {
+                orders.add(entry.order);
+            }
+        });
+        return orders;
+    }
+
+    @Override
+    public Stream<Order> streamAll() {
+        return root.get().values().map(entry -> entry.order);
+    }
+
+    @Override
+    public Stream<Order> streamByStatus(OrderStatus status) {
+        return root.get().values()
+                .filter(entry -> entry.status == status)
+                .map(entry -> entry.order);
+    }
+
+    @Override
+    public boolean existsById(String orderId) {
+        return root.get().containsKey(orderId);
+    }
+
+    @Override
+    public void deleteById(String orderId) {
+        HashTrieMap.Change<OrderEntry> change = new HashTrieMap.Change<>();
+        HashTrieMap<OrderEntry> current;
+        HashTrieMap<OrderEntry> next;
+        do {
+            current = root.get();
+            next = current.remove(orderId, change);
+        } while (next != current && !root.compareAndSet(current, next));
+        OrderEntry removed = change.previous();
+        if (removed != null) {
+            statistics.decrement(removed.status, removed.orderDay);
+            changeListeners.changed(orderId);
+        }
+    }
+
+    @Override
+    public OrderStatistics getStatistics() {
+        return statistics.snapshot();
+    }
+
+    @Override
+    public void addChangeListener(OrderChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public StatusTransitionOutcome compareAndSetStatus(String orderId, OrderStatus expectedStatus, OrderStatus newStatus) {
+        HashTrieMap.Change<OrderEntry> change = new HashTrieMap.Change<>();
+        while (true) {
+            HashTrieMap<OrderEntry> current = root.get();
+            OrderEntry entry = current.get(orderId);
+            if (entry == null) {
+                return StatusTransitionOutcome.MISSING;
+            }
+            if (entry.status != expectedStatus) {
+                return StatusTransitionOutcome.CONFLICTED;
+            }
+            OrderEntry next = entry.withStatus(newStatus);
+            if (root.compareAndSet(current, current.put(orderId, next, change))) {
+                applyStatistics(entry, next);
+                changeListeners.changed(orderId);
+                return StatusTransitionOutcome.APPLIED;
+            }
+        }
+    }
+
+    private void validate(Order order) {
+        if (order == null || order.getOrderId() == null) {
+            throw new IllegalArgumentException("주문 또는 주문 ID가 null입니다");
+        }
+    }
+
+    private void applyStatistics(OrderEntry previous, OrderEntry entry) {
+        if (previous != null) {
+            statistics.decrement(previous.status, previous.orderDay);
+        }
+        statistics.increment(entry.status, entry.orderDay);
+    }
+}
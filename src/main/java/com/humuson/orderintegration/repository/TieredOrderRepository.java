@@ -0,0 +1,322 @@
+package com.humuson.orderintegration.repository;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.OrderTierSummary;
+import com.humuson.orderintegration.domain.StatusTransitionOutcome;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 최근 주문은 메모리(핫)에, 종료 상태로 max-age보다 오래된 주문은 압축 세그먼트 파일(콜드)에 두는 저장소.
+ * interval마다 핫 저장소에서 대상 주문을 골라 세그먼트로 옮기며, 조회는 두 계층을 함께 보므로 호출하는 쪽은 위치를 몰라도 된다.
+ * 콜드 주문의 단건 조회는 블록 하나를 읽고 압축을 풀어야 하므로 핫 주문보다 느리다.
+ * 주문 나이는 주문일자(orderDate) 기준이며, 콜드 주문을 다시 저장하면 핫 저장소로 돌아온다.
+ */
+@Repository
+@ConditionalOnProperty(name = "order.repository.type", havingValue = "tiered")
+public class TieredOrderRepository implements OrderRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(TieredOrderRepository.class);
+
+    private final Map<String, OrderEntry> hot = new ConcurrentHashMap<>();
+    private final OrderStatisticsCounter statistics = new OrderStatisticsCounter();
+    private final OrderChangeListeners changeListeners = new OrderChangeListeners();
+    private final OrderSegmentStore cold;
+    private final Duration maxAge;
+    private final Set<OrderStatus> coldStatuses;
+    private final int segmentSize;
+    private final ScheduledExecutorService scheduler;
+
+    public TieredOrderRepository(@Value("${order.repository.tiering.max-age:30d}") Duration maxAge,
+                                 @Value("${order.repository.tiering.statuses:COMPLETED,CANCELLED}") List<OrderStatus> coldStatuses,
+                                 @Value("${order.repository.tiering.interval:1m}") Duration interval,
+                                 @Value("${order.repository.tiering.segment-dir:${java.io.tmpdir}/order-segments}") String segmentDir,
+                                 @Value("${order.repository.tiering.block-size:64}") int blockSize,
+                                 @Value("${order.repository.tiering.segment-size:100000}") int segmentSize) {
+        if (maxAge.isNegative() || coldStatuses.isEmpty() || segmentSize < 1) {
+            throw new IllegalArgumentException("주문 계층화 설정이 올바르지 않습니다: maxAge=" + maxAge
+                    + ", statuses=" + coldStatuses + ", segmentSize=" + segmentSize);
+        }
+        this.maxAge = maxAge;
+        this.coldStatuses = EnumSet.copyOf(coldStatuses);
+        this.segmentSize = segmentSize;
+        this.cold = new OrderSegmentStore(Path.of(segmentDir).resolve("segments-" + ProcessHandle.current().pid()),
+                blockSize);
+        if (interval.isZero() || interval.isNegative()) {
+            this.scheduler = null;
+        } else {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("order-tiering").daemon().factory());
+            scheduler.scheduleWithFixedDelay(this::ageOutSafely, interval.toMillis(), interval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Order save(Order order) {
+        validate(order);
+        OrderEntry entry = new OrderEntry(order);
+        OrderEntry previous = hot.put(order.getOrderId(), entry);
+        if (previous != null) {
+            statistics.decrement(previous.status, previous.orderDay);
+        } else {
+            cold.remove(order.getOrderId()).ifPresent(this::decrement);
+        }
+        statistics.increment(entry.status, entry.orderDay);
+        changeListeners.changed(order.getOrderId());
+        return order;
+    }
+
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        for (Order order : orders) {
+            save(order);
+        }
+        return orders;
+    }
+
+    @Override
+    public Optional<Order> findById(String orderId) {
+        OrderEntry entry = hot.get(orderId);
+        return entry != null ? Optional.of(entry.order) : cold.find(orderId);
+    }
+
+    @Override
+    public List<Order> findAll() {
+        List<Order> orders = new ArrayList<>((int) Math.min(Integer.MAX_VALUE - 8, hot.size() + cold.size()));
+        try (Stream<Order> stream = streamAll()) {
+            stream.forEach(orders::add);
+        }
+        return orders;
+    }
+
+    @Override
+    public List<Order> findByStatus(OrderStatus status) {
+        try (Stream<Order> stream = streamByStatus(status)) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Stream<Order> streamAll() {
+        return Stream.concat(hot.values().stream().map(entry -> entry.order), coldOrders(null));
+    }
+
+    @Override
+    public Stream<Order> streamByStatus(OrderStatus status) {
+        Stream<Order> hotOrders = hot.values().stream()
+                .filter(entry -> entry.status == status)
+                .map(entry -> entry.order);
+        return coldStatuses.contains(status) ? Stream.concat(hotOrders, coldOrders(status)) : hotOrders;
+    }
+
+    @Override
+    public boolean existsById(String orderId) {
+        return hot.containsKey(orderId) || cold.contains(orderId);
+    }
+
+    @Override
+    public void deleteById(String orderId) {
+        OrderEntry removed = hot.remove(orderId);
+        if (removed != null) {
+            statistics.decrement(removed.status, removed.orderDay);
+            changeListeners.changed(orderId);
+        } else {
+            cold.remove(orderId).ifPresent(order -> {
+                decrement(order);
+                changeListeners.changed(orderId);
+            });
+        }
+    }
+
+    @Override
+    public OrderStatistics getStatistics() {
+        return statistics.snapshot();
+    }
+
+    @Override
+    public void addChangeListener(OrderChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * 핫 주문은 새 버전으로 교체하고, 콜드 주문은 상태를 바꾼 새 버전을 핫 저장소에 넣은 뒤 세그먼트 쪽을 지운다
+     */
+    @Override
+    public StatusTransitionOutcome compareAndSetStatus(String orderId, OrderStatus expectedStatus, OrderStatus newStatus) {
+        while (true) {
+            OrderEntry current = hot.get(orderId);
+            if (current != null) {
+                if (current.status != expectedStatus) {
+                    return StatusTransitionOutcome.CONFLICTED;
+                }
+                OrderEntry next = current.withStatus(newStatus);
+                if (hot.replace(orderId, current, next)) {
+                    statistics.decrement(current.status, current.orderDay);
+                    statistics.increment(next.status, next.orderDay);
+                    changeListeners.changed(orderId);
+                    return StatusTransitionOutcome.APPLIED;
+                }
+                continue;
+            }
+
+            Optional<Order> coldOrder = cold.find(orderId);
+            if (coldOrder.isEmpty()) {
+                if (hot.containsKey(orderId)) {
+                    continue;
+                }
+                return StatusTransitionOutcome.MISSING;
+            }
+            if (coldOrder.get().getStatus() != expectedStatus) {
+                return StatusTransitionOutcome.CONFLICTED;
+            }
+            // 핫 저장소에 넣는 순간부터 다른 스레드가 덮어쓰거나 지울 수 있으므로 통계를 먼저 반영한다
+            OrderEntry next = new OrderEntry(coldOrder.get()).withStatus(newStatus);
+            statistics.increment(next.status, next.orderDay);
+            if (hot.putIfAbsent(orderId, next) != null) {
+                statistics.decrement(next.status, next.orderDay);
+                continue;
+            }
+            Optional<Order> removed = cold.remove(orderId);
+            if (removed.isEmpty()) {
+                // 그 사이 삭제된 주문을 되살리지 않도록 넣은 버전을 뺀다
+                if (hot.remove(orderId, next)) {
+                    statistics.decrement(next.status, next.orderDay);
+                }
+                continue;
+            }
+            decrement(removed.get());
+            changeListeners.changed(orderId);
+            return StatusTransitionOutcome.APPLIED;
+        }
+    }
+
+    /**
+     * 종료 상태로 max-age보다 오래된 주문을 segment-size건씩 세그먼트 파일로 옮기고 옮긴 건수를 반환한다.
+     * 세그먼트를 먼저 공개한 뒤 핫 저장소에서 빼므로 옮기는 중에도 주문이 조회되며,
+     * 그 사이 다시 저장된 주문은 핫 저장소에 남기고 세그먼트 쪽 항목을 공개 취소한다.
+     */
+    public synchronized int ageOut() throws IOException {
+        LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+        int moved = 0;
+        List<OrderEntry> candidates;
+        do {
+            candidates = new ArrayList<>();
+            for (OrderEntry entry : hot.values()) {
+                if (isCold(entry, cutoff)) {
+                    candidates.add(entry);
+                    if (candidates.size() == segmentSize) {
+                        break;
+                    }
+                }
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            moved += moveToCold(candidates);
+        } while (candidates.size() == segmentSize);
+        if (moved > 0) {
+            logger.info("콜드 세그먼트로 주문 {} 건 이동: {}", moved, getTierSummary());
+        }
+        return moved;
+    }
+
+    public OrderTierSummary getTierSummary() {
+        return OrderTierSummary.builder()
+                .hotCount(hot.size())
+                .coldCount(cold.size())
+                .segmentCount(cold.segmentCount())
+                .segmentBytes(cold.segmentBytes())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        synchronized (this) {
+            cold.close();
+        }
+    }
+
+    private int moveToCold(List<OrderEntry> candidates) throws IOException {
+        Map<String, OrderEntry> entriesById = new HashMap<>(candidates.size() * 2);
+        List<Order> orders = new ArrayList<>(candidates.size());
+        for (OrderEntry entry : candidates) {
+            entriesById.put(entry.order.getOrderId(), entry);
+            orders.add(entry.order);
+        }
+        OrderSegmentStore.Segment segment = cold.write(orders);
+        cold.publish(segment);
+
+        int moved = 0;
+        for (int position = 0; position < segment.size(); position++) {
+            String orderId = segment.orderId(position);
+            // 세그먼트에 쓴 뒤 다시 저장되거나 삭제된 주문은 핫 저장소 쪽을 그대로 둔다
+            if (hot.remove(orderId, entriesById.get(orderId))) {
+                moved++;
+            } else {
+                cold.unpublish(segment, position);
+            }
+        }
+        segment.releaseOrderIds();
+        return moved;
+    }
+
+    private boolean isCold(OrderEntry entry, LocalDateTime cutoff) {
+        LocalDateTime orderDate = entry.order.getOrderDate();
+        return coldStatuses.contains(entry.status) && entry.order.getStatus() == entry.status
+                && orderDate != null && orderDate.isBefore(cutoff);
+    }
+
+    /**
+     * 옮기는 중에는 같은 주문이 두 계층에 모두 있을 수 있으므로 핫 저장소에 있는 주문은 콜드 쪽에서 건너뛴다
+     */
+    private Stream<Order> coldOrders(OrderStatus status) {
+        return cold.stream(status).filter(order -> !hot.containsKey(order.getOrderId()));
+    }
+
+    private void ageOutSafely() {
+        try {
+            ageOut();
+        } catch (Exception e) {
+            logger.error("콜드 세그먼트 이동 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void decrement(Order order) {
+        statistics.decrement(order.getStatus(),
+                order.getOrderDate() != null ? order.getOrderDate().toLocalDate() : null);
+    }
+
+    private static void validate(Order order) {
+        if (order == null || order.getOrderId() == null) {
+            throw new IllegalArgumentException("주문 또는 주문 ID가 null입니다");
+        }
+    }
+}
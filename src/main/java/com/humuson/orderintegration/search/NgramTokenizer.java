@@ -0,0 +1,94 @@
+package com.humuson.orderintegration.search;
+
+import com.humuson.orderintegration.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 주문 설명을 문자 2-gram으로 나눈다. 한글은 띄어쓰기와 조사가 일정하지 않아 형태소 대신 글자 단위로 색인한다.
+ * 글자, 숫자가 아닌 문자는 구분자로 보고 구분자를 넘는 2-gram은 만들지 않으며, 영문은 소문자로 맞춘다.
+ * 2-gram은 두 글자를 상위, 하위 16비트에 담은 int로 표현한다.
+ */
+final class NgramTokenizer {
+
+    static final int MIN_TERM_LENGTH = 2;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 텍스트의 2-gram을 중복 없이 오름차순으로 반환한다
+     */
+    static int[] grams(String text) {
+        if (text == null || text.length() < MIN_TERM_LENGTH) {
+            return new int[0];
+        }
+        int[] grams = new int[text.length() - 1];
+        int count = 0;
+        char previous = 0;
+        boolean inToken = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                inToken = false;
+                continue;
+            }
+            c = Character.toLowerCase(c);
+            if (inToken) {
+                grams[count++] = previous << 16 | c;
+            }
+            previous = c;
+            inToken = true;
+        }
+        if (count == 0) {
+            return new int[0];
+        }
+        Arrays.sort(grams, 0, count);
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (grams[i] != grams[distinct - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    /**
+     * 색인과 같은 규칙으로 정규화한다 (글자, 숫자가 아닌 문자는 공백, 영문은 소문자)
+     */
+    static String normalize(String text) {
+        char[] normalized = new char[text.length()];
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            normalized[i] = Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : ' ';
+        }
+        return new String(normalized);
+    }
+
+    /**
+     * 검색어를 정규화한 뒤 공백으로 나눈 검색 단어 목록. 모든 단어는 2글자 이상이어야 한다
+     */
+    static List<String> terms(String query) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("검색어가 비어 있습니다");
+        }
+        List<String> terms = new ArrayList<>();
+        for (String term : normalize(query).split(" ")) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            if (term.length() < MIN_TERM_LENGTH) {
+                throw new BadRequestException("검색 단어는 " + MIN_TERM_LENGTH + "글자 이상이어야 합니다: " + term);
+            }
+            if (!terms.contains(term)) {
+                terms.add(term);
+            }
+        }
+        if (terms.isEmpty()) {
+            throw new BadRequestException("검색어에 글자나 숫자가 없습니다: " + query);
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,117 @@
+package com.humuson.orderintegration.search;
+
+/**
+ * 주문 ID → 문서 번호 표. 주문 수천만 건에서 HashMap의 항목 객체, Integer 박싱 비용을 피하려고 배열 두 개로 된
+ * 선형 탐사 해시표를 쓴다. 삭제는 뒤따르는 항목을 당겨 채우므로 삭제 표시가 쌓이지 않는다. 동기화는 호출하는 쪽이 맡는다.
+ */
+final class OrderIdTable {
+
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final int ABSENT = -1;
+
+    private String[] keys;
+    private int[] values;
+    private int size;
+
+    OrderIdTable() {
+        keys = new String[MINIMUM_CAPACITY];
+        values = new int[MINIMUM_CAPACITY];
+    }
+
+    int size() {
+        return size;
+    }
+
+    long capacity() {
+        return keys.length;
+    }
+
+    /**
+     * 주문 ID의 문서 번호, 없으면 -1
+     */
+    int get(String orderId) {
+        int mask = keys.length - 1;
+        for (int slot = slot(orderId, mask); keys[slot] != null; slot = slot + 1 & mask) {
+            if (keys[slot].equals(orderId)) {
+                return values[slot];
+            }
+        }
+        return ABSENT;
+    }
+
+    void put(String orderId, int doc) {
+        if ((size + 1) * 4L > keys.length * 3L) {
+            resize(keys.length << 1);
+        }
+        int mask = keys.length - 1;
+        int slot = slot(orderId, mask);
+        while (keys[slot] != null) {
+            if (keys[slot].equals(orderId)) {
+                values[slot] = doc;
+                return;
+            }
+            slot = slot + 1 & mask;
+        }
+        keys[slot] = orderId;
+        values[slot] = doc;
+        size++;
+    }
+
+    void remove(String orderId) {
+        int mask = keys.length - 1;
+        int slot = slot(orderId, mask);
+        while (keys[slot] != null && !keys[slot].equals(orderId)) {
+            slot = slot + 1 & mask;
+        }
+        if (keys[slot] == null) {
+            return;
+        }
+        // 비운 칸 뒤의 항목 중 원래 자리에서 비운 칸을 거쳐 밀려난 항목을 당겨 탐사가 끊기지 않게 한다
+        int hole = slot;
+        for (int next = hole + 1 & mask; keys[next] != null; next = next + 1 & mask) {
+            int home = slot(keys[next], mask);
+            if ((next - home & mask) >= (next - hole & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        keys[hole] = null;
+        size--;
+    }
+
+    /**
+     * 압축으로 문서 번호가 바뀐 뒤 모든 항목의 번호를 새 번호로 바꾼다
+     */
+    void remap(int[] remap) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) {
+                values[slot] = remap[values[slot]];
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        String[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new String[capacity];
+        values = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = slot(oldKeys[i], mask);
+                while (keys[slot] != null) {
+                    slot = slot + 1 & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int slot(String orderId, int mask) {
+        // 비슷한 주문 ID의 해시가 이웃한 칸에 몰리지 않게 섞는다
+        int hash = orderId.hashCode() * 0x9E3779B9;
+        return (hash ^ hash >>> 16) & mask;
+    }
+}
@@ -0,0 +1,540 @@
+package com.humuson.orderintegration.search;
+
+import com.humuson.orderintegration.cluster.ClusteredOrderRepository;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.exception.BadRequestException;
+import com.humuson.orderintegration.repository.OrderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 주문 설명 전문 검색용 메모리 역색인. 주문마다 문서 번호를 붙이고 설명의 2-gram별로 문서 번호 목록을 둔다.
+ * 저장소 변경 리스너는 주문 ID만 큐에 넣고 돌아가며, 단일 색인 스레드가 묶음으로 현재 버전을 읽어 한 번의 쓰기 잠금으로 반영한다
+ * (쓰는 스레드가 색인 잠금을 기다리지 않는다). 반영 전에 같은 주문이 여러 번 바뀌면 한 번만 다시 색인한다.
+ * 설명 해시가 그대로면 상태만 바꾸고, 바뀌었으면 이전 문서는 삭제 표시만 한 뒤 새 번호로 붙이며,
+ * 삭제된 문서가 살아 있는 문서보다 많아지면 번호를 다시 매겨 압축한다.
+ * 색인에 남은 이전 내용은 검색 후보일 뿐이고, 결과는 저장소에서 다시 읽은 주문의 상태와 설명으로 확인한 뒤 돌려준다.
+ * 클러스터 모드에서는 이 노드가 소유한 주문만 색인하고, 검색은 모든 노드의 색인에 동시에 물어 합친다.
+ */
+@Component
+public class OrderSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderSearchIndex.class);
+
+    private static final int INITIAL_DOCUMENTS = 1024;
+    private static final int COMPACTION_MIN_DELETED = 1024;
+    private static final int MIN_CANDIDATE_BATCH = 256;
+    private static final int INDEX_BATCH = 256;
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final byte NO_STATUS = -1;
+
+    // 메모리 추정용 크기 (압축 참조 기준)
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int TERM_OVERHEAD_BYTES = 32 + 16 + 24 + ARRAY_HEADER_BYTES;
+
+    private final OrderRepository orderRepository;
+    private final ClusteredOrderRepository clustered;
+    private final boolean enabled;
+    private final int maxResults;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 색인을 기다리는 주문 ID. 색인 스레드가 읽기 전에 빼므로, 읽은 뒤 바뀐 주문은 다시 들어온다
+    private final Set<String> pendingIds = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<String> pendingQueue = new LinkedBlockingQueue<>();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong applied = new AtomicLong();
+    private final Thread indexer;
+    private volatile boolean running;
+
+    private final OrderIdTable documentsById = new OrderIdTable();
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private String[] documentOrderIds = new String[INITIAL_DOCUMENTS];
+    private byte[] documentStatuses = new byte[INITIAL_DOCUMENTS];
+    private long[] documentHashes = new long[INITIAL_DOCUMENTS];
+    private int nextDocument;
+    private int liveDocuments;
+    private int deletedDocuments;
+    private long postingCount;
+    private long postingCapacity;
+    private int generation;
+
+    public OrderSearchIndex(OrderRepository orderRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${order.search.enabled:true}") boolean enabled,
+                            @Value("${order.search.max-results:1000}") int maxResults) {
+        if (maxResults < 1) {
+            throw new IllegalArgumentException("검색 결과 최대 건수는 1 이상이어야 합니다: " + maxResults);
+        }
+        this.clustered = orderRepository instanceof ClusteredOrderRepository clusteredRepository
+                ? clusteredRepository
+                : null;
+        this.orderRepository = clustered != null ? clustered.local() : orderRepository;
+        this.enabled = enabled;
+        this.maxResults = maxResults;
+        if (!enabled) {
+            this.indexer = null;
+            return;
+        }
+        // 기존 주문을 읽는 동안 들어온 변경을 놓치지 않도록 리스너를 먼저 등록한다 (색인 스레드는 생성이 끝난 뒤 반영한다)
+        this.orderRepository.addChangeListener(this::enqueue);
+        build();
+        this.running = true;
+        this.indexer = Thread.ofPlatform().name("order-search-indexer").daemon().start(this::runIndexer);
+
+        registerGauge(meterRegistry, "order.search.index.documents", "검색 색인에 들어 있는 주문 수",
+                OrderSearchIndexSummary::getDocuments, null);
+        registerGauge(meterRegistry, "order.search.index.terms", "검색 색인의 2-gram 수",
+                OrderSearchIndexSummary::getTerms, null);
+        registerGauge(meterRegistry, "order.search.index.memory", "검색 색인 추정 메모리",
+                OrderSearchIndexSummary::getEstimatedBytes, "bytes");
+        registerGauge(meterRegistry, "order.search.index.pending", "색인 반영을 기다리는 주문 수",
+                OrderSearchIndexSummary::getPendingUpdates, null);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 설명에 검색어의 모든 단어가 들어 있는 주문을 최근 색인된 순서로 최대 limit건 반환한다 (status가 null이면 모든 상태).
+     * 색인을 끄면 저장소 전체를 훑는다. 클러스터 모드에서는 모든 노드에 동시에 묻고, 노드마다 최근 순인 결과를 번갈아 합친다
+     */
+    public List<Order> search(String query, OrderStatus status, int limit) {
+        List<String> terms = validate(query, limit);
+        if (clustered == null) {
+            return searchTerms(terms, status, limit);
+        }
+        return interleave(clustered.scatterGather(() -> searchTerms(terms, status, limit),
+                (clusterNodeClient, node) -> clusterNodeClient.search(node, query, status, limit)), limit);
+    }
+
+    /**
+     * 이 노드의 색인만 검색한다 (클러스터 노드 간 호출용)
+     */
+    public List<Order> searchLocal(String query, OrderStatus status, int limit) {
+        return searchTerms(validate(query, limit), status, limit);
+    }
+
+    /**
+     * 지금까지 알려진 변경이 모두 색인에 반영될 때까지 기다린다
+     */
+    public boolean flush(Duration timeout) {
+        long target = enqueued.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (applied.get() < target) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    /**
+     * 큐에 남은 변경을 모두 반영하고 색인 스레드를 멈춘다
+     */
+    @PreDestroy
+    public void close() {
+        if (indexer == null || !running) {
+            return;
+        }
+        running = false;
+        try {
+            indexer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<String> validate(String query, int limit) {
+        List<String> terms = NgramTokenizer.terms(query);
+        if (limit < 1 || limit > maxResults) {
+            throw new BadRequestException("검색 결과 건수는 1 이상 " + maxResults + " 이하여야 합니다: " + limit);
+        }
+        return terms;
+    }
+
+    private List<Order> searchTerms(List<String> terms, OrderStatus status, int limit) {
+        if (!enabled) {
+            return scan(terms, status, limit);
+        }
+
+        int[] grams = NgramTokenizer.grams(String.join(" ", terms));
+        List<Order> results = new ArrayList<>();
+        Set<String> found = new HashSet<>();
+        int from = Integer.MAX_VALUE;
+        int searchedGeneration = -1;
+        // 후보 문서를 묶음으로 모아 잠금 밖에서 저장소로 확인한다. 그 사이 압축으로 번호가 바뀌면 처음부터 다시 훑는다
+        while (results.size() < limit) {
+            Candidates candidates;
+            lock.readLock().lock();
+            try {
+                if (searchedGeneration != generation) {
+                    searchedGeneration = generation;
+                    from = Integer.MAX_VALUE;
+                }
+                // 확인에서 걸러지는 후보가 많을 때 잠금을 너무 자주 잡지 않도록 최소 MIN_CANDIDATE_BATCH개씩 모은다
+                candidates = collect(grams, status, from, Math.max(limit - results.size(), MIN_CANDIDATE_BATCH));
+            } finally {
+                lock.readLock().unlock();
+            }
+            for (String orderId : candidates.orderIds()) {
+                if (results.size() == limit) {
+                    break;
+                }
+                orderRepository.findById(orderId)
+                        .filter(order -> status == null || order.getStatus() == status)
+                        .filter(order -> matches(order, terms))
+                        .filter(order -> found.add(orderId))
+                        .ifPresent(results::add);
+            }
+            if (candidates.next() < 0) {
+                break;
+            }
+            from = candidates.next();
+        }
+        return results;
+    }
+
+    public OrderSearchIndexSummary getSummary() {
+        lock.readLock().lock();
+        try {
+            return OrderSearchIndexSummary.builder()
+                    .enabled(enabled)
+                    .documents(liveDocuments)
+                    .deletedDocuments(deletedDocuments)
+                    .terms(postings.size())
+                    .postings(postingCount)
+                    .estimatedBytes(estimateBytes())
+                    .pendingUpdates(pendingIds.size())
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장소 변경 리스너. 이미 기다리는 주문이면 그 차례에 현재 버전을 읽으므로 다시 넣지 않는다
+     */
+    private void enqueue(String orderId) {
+        if (pendingIds.add(orderId)) {
+            enqueued.incrementAndGet();
+            pendingQueue.offer(orderId);
+        }
+    }
+
+    /**
+     * 기다리는 주문을 최대 INDEX_BATCH건씩 꺼내 잠금 밖에서 현재 버전을 읽고, 한 번의 쓰기 잠금으로 반영한다.
+     * 색인 스레드가 하나뿐이므로 같은 주문은 나중에 읽은 버전이 나중에 반영된다
+     */
+    private void runIndexer() {
+        List<String> orderIds = new ArrayList<>(INDEX_BATCH);
+        List<Order> orders = new ArrayList<>(INDEX_BATCH);
+        while (running || !pendingQueue.isEmpty()) {
+            try {
+                String first = pendingQueue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                orderIds.add(first);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            pendingQueue.drainTo(orderIds, INDEX_BATCH - 1);
+            // 읽기 전에 빼야 읽은 뒤 들어온 변경이 다시 큐에 들어간다
+            orderIds.forEach(pendingIds::remove);
+            try {
+                for (String orderId : orderIds) {
+                    orders.add(orderRepository.findById(orderId).orElse(null));
+                }
+                lock.writeLock().lock();
+                try {
+                    for (int i = 0; i < orderIds.size(); i++) {
+                        index(orderIds.get(i), orders.get(i));
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } catch (RuntimeException e) {
+                logger.error("주문 검색 색인 반영 실패 ({}건): {}", orderIds.size(), e.getMessage(), e);
+            } finally {
+                applied.addAndGet(orderIds.size());
+                orderIds.clear();
+                orders.clear();
+            }
+        }
+    }
+
+    private void build() {
+        long start = System.nanoTime();
+        try (Stream<Order> orders = orderRepository.streamAll()) {
+            orders.forEach(order -> {
+                lock.writeLock().lock();
+                try {
+                    // 리스너가 먼저 색인한 주문은 그쪽이 최신이다
+                    if (documentsById.get(order.getOrderId()) < 0) {
+                        index(order.getOrderId(), order);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+        }
+        OrderSearchIndexSummary summary = getSummary();
+        logger.info("주문 검색 색인 생성 완료: 주문 {}건, 2-gram {}개, 약 {}MB, {}ms", summary.getDocuments(),
+                summary.getTerms(), summary.getEstimatedBytes() >> 20,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void index(String orderId, Order order) {
+        int document = documentsById.get(orderId);
+        long hash = order == null ? 0 : hash(order.getDescription());
+        if (document >= 0 && order != null && documentHashes[document] == hash) {
+            // 상태 전환처럼 설명이 그대로인 변경
+            documentStatuses[document] = status(order);
+            return;
+        }
+        int[] grams = order == null ? new int[0] : NgramTokenizer.grams(order.getDescription());
+        if (grams.length == 0) {
+            if (document >= 0) {
+                delete(document);
+                documentsById.remove(orderId);
+                compactIfNeeded();
+            }
+            return;
+        }
+        if (document >= 0) {
+            delete(document);
+        }
+        document = append(orderId, status(order), hash);
+        for (int gram : grams) {
+            PostingList list = postings.computeIfAbsent(gram, key -> new PostingList());
+            long capacity = list.capacity();
+            list.add(document);
+            postingCapacity += list.capacity() - capacity;
+            postingCount++;
+        }
+        documentsById.put(orderId, document);
+        compactIfNeeded();
+    }
+
+    private int append(String orderId, byte status, long hash) {
+        if (nextDocument == documentOrderIds.length) {
+            resizeDocuments(nextDocument + (nextDocument >> 1));
+        }
+        documentOrderIds[nextDocument] = orderId;
+        documentStatuses[nextDocument] = status;
+        documentHashes[nextDocument] = hash;
+        liveDocuments++;
+        return nextDocument++;
+    }
+
+    private void delete(int document) {
+        documentOrderIds[document] = null;
+        liveDocuments--;
+        deletedDocuments++;
+    }
+
+    /**
+     * 살아 있는 문서에 순서를 유지한 채 번호를 다시 매기고, 문서 번호 목록에서 삭제된 문서를 뺀다
+     */
+    private void compactIfNeeded() {
+        if (deletedDocuments < COMPACTION_MIN_DELETED || deletedDocuments <= liveDocuments) {
+            return;
+        }
+        int[] remap = new int[nextDocument];
+        int kept = 0;
+        for (int document = 0; document < nextDocument; document++) {
+            if (documentOrderIds[document] == null) {
+                remap[document] = -1;
+            } else {
+                remap[document] = kept;
+                documentOrderIds[kept] = documentOrderIds[document];
+                documentStatuses[kept] = documentStatuses[document];
+                documentHashes[kept] = documentHashes[document];
+                kept++;
+            }
+        }
+        Arrays.fill(documentOrderIds, kept, nextDocument, null);
+        resizeDocuments(Math.max(INITIAL_DOCUMENTS, kept + (kept >> 1)));
+
+        postingCount = 0;
+        postingCapacity = 0;
+        for (Iterator<PostingList> iterator = postings.values().iterator(); iterator.hasNext(); ) {
+            PostingList list = iterator.next();
+            list.remap(remap);
+            if (list.size() == 0) {
+                iterator.remove();
+            } else {
+                postingCount += list.size();
+                postingCapacity += list.capacity();
+            }
+        }
+        documentsById.remap(remap);
+        nextDocument = kept;
+        deletedDocuments = 0;
+        generation++;
+    }
+
+    private void resizeDocuments(int capacity) {
+        documentOrderIds = Arrays.copyOf(documentOrderIds, capacity);
+        documentStatuses = Arrays.copyOf(documentStatuses, capacity);
+        documentHashes = Arrays.copyOf(documentHashes, capacity);
+    }
+
+    /**
+     * from 이하 문서 번호 중 모든 2-gram 목록에 들어 있는 문서를 큰 번호부터 최대 count개 모은다.
+     * 가장 짧은 목록을 기준으로 나머지 목록에서 같은 번호를 찾고, 어긋나면 더 작은 쪽 번호까지 기준 목록을 건너뛴다
+     */
+    private Candidates collect(int[] grams, OrderStatus status, int from, int count) {
+        PostingList[] lists = new PostingList[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return new Candidates(List.of(), -1);
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+        int[] positions = new int[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            positions[i] = lists[i].size() - 1;
+        }
+
+        List<String> orderIds = new ArrayList<>(count);
+        PostingList shortest = lists[0];
+        int position = shortest.floorIndex(from, positions[0]);
+        candidates:
+        while (position >= 0) {
+            int document = shortest.get(position);
+            for (int i = 1; i < lists.length; i++) {
+                positions[i] = lists[i].floorIndex(document, positions[i]);
+                if (positions[i] < 0) {
+                    break candidates;
+                }
+                int other = lists[i].get(positions[i]);
+                if (other != document) {
+                    position = shortest.floorIndex(other, position - 1);
+                    continue candidates;
+                }
+            }
+            position--;
+            String orderId = documentOrderIds[document];
+            if (orderId == null || (status != null && documentStatuses[document] != status.ordinal())) {
+                continue;
+            }
+            orderIds.add(orderId);
+            if (orderIds.size() == count) {
+                return new Candidates(orderIds, document - 1);
+            }
+        }
+        return new Candidates(orderIds, -1);
+    }
+
+    private List<Order> scan(List<String> terms, OrderStatus status, int limit) {
+        try (Stream<Order> orders = orderRepository.streamAll()) {
+            return orders.filter(order -> status == null || order.getStatus() == status)
+                    .filter(order -> matches(order, terms))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * 노드 순서대로 한 건씩 번갈아 limit건까지 합친다 (노드 사이에는 색인 순서를 비교할 수 없다)
+     */
+    private static List<Order> interleave(List<List<Order>> results, int limit) {
+        List<Order> merged = new ArrayList<>(limit);
+        for (int rank = 0; merged.size() < limit; rank++) {
+            boolean found = false;
+            for (List<Order> nodeResults : results) {
+                if (rank < nodeResults.size() && merged.size() < limit) {
+                    merged.add(nodeResults.get(rank));
+                    found = true;
+                }
+            }
+            if (!found) {
+                break;
+            }
+        }
+        return merged;
+    }
+
+    private static boolean matches(Order order, List<String> terms) {
+        if (order.getDescription() == null) {
+            return false;
+        }
+        String description = NgramTokenizer.normalize(order.getDescription());
+        for (String term : terms) {
+            if (!description.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 설명이 바뀌었는지 가리는 64비트 해시. String.hashCode()에 다른 곱수로 구한 해시를 붙여 충돌로 바뀐 설명을 놓칠 일이 사실상 없게 한다
+     */
+    private static long hash(String description) {
+        if (description == null) {
+            return 0;
+        }
+        int second = description.length();
+        for (int i = 0; i < description.length(); i++) {
+            second = second * 0x01000193 + description.charAt(i);
+        }
+        return (long) description.hashCode() << 32 | second & 0xFFFFFFFFL;
+    }
+
+    private static byte status(Order order) {
+        return order.getStatus() == null ? NO_STATUS : (byte) order.getStatus().ordinal();
+    }
+
+    private long estimateBytes() {
+        long documents = 3L * ARRAY_HEADER_BYTES
+                + (long) documentOrderIds.length * (REFERENCE_BYTES + Byte.BYTES + Long.BYTES);
+        long idTable = 2L * ARRAY_HEADER_BYTES + documentsById.capacity() * (REFERENCE_BYTES + Integer.BYTES);
+        long hashTable = ARRAY_HEADER_BYTES + (long) Math.max(16, Integer.highestOneBit(
+                Math.max(1, (int) (postings.size() / 0.75f))) << 1) * REFERENCE_BYTES;
+        long terms = (long) postings.size() * TERM_OVERHEAD_BYTES + postingCapacity * Integer.BYTES;
+        return documents + idTable + hashTable + terms;
+    }
+
+    private void registerGauge(MeterRegistry meterRegistry, String name, String description,
+                               ToDoubleFunction<OrderSearchIndexSummary> value, String baseUnit) {
+        Gauge.builder(name, this, index -> value.applyAsDouble(index.getSummary()))
+                .description(description)
+                .baseUnit(baseUnit)
+                .register(meterRegistry);
+    }
+
+    private record Candidates(List<String> orderIds, int next) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.humuson.orderintegration.search;
+
+import com.humuson.orderintegration.controller.dto.ApiResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 주문 설명 검색 색인 상태 조회용 관리 엔드포인트
+ */
+@RestController
+@RequestMapping("/api/admin/search-index")
+public class OrderSearchIndexController {
+
+    private final OrderSearchIndex orderSearchIndex;
+
+    public OrderSearchIndexController(OrderSearchIndex orderSearchIndex) {
+        this.orderSearchIndex = orderSearchIndex;
+    }
+
+    /**
+     * 색인된 주문 수, 2-gram 수, 추정 메모리 조회
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<OrderSearchIndexSummary>> getSummary() {
+        return ResponseEntity.ok(ApiResponse.success("검색 색인 조회 완료", orderSearchIndex.getSummary()));
+    }
+}
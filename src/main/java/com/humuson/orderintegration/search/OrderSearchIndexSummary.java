@@ -0,0 +1,23 @@
+package com.humuson.orderintegration.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 설명 검색 색인의 문서 수, 2-gram 수와 추정 메모리 (주문 ID 문자열은 저장소와 공유하므로 빼고 센다)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSearchIndexSummary {
+    private boolean enabled;
+    private long documents;
+    private long deletedDocuments;
+    private long terms;
+    private long postings;
+    private long estimatedBytes;
+    private long pendingUpdates;
+}
@@ -0,0 +1,78 @@
+package com.humuson.orderintegration.search;
+
+import java.util.Arrays;
+
+/**
+ * 2-gram 하나가 들어 있는 문서 번호 목록. 문서 번호는 색인 순서대로 커지므로 뒤에 붙이기만 해도 오름차순이 유지된다.
+ * 삭제된 문서 번호는 압축할 때까지 남아 있고 검색 시 걸러낸다.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] docs = new int[INITIAL_CAPACITY];
+    private int size;
+
+    void add(int doc) {
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size + (size >> 1) + 1);
+        }
+        docs[size++] = doc;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return docs[index];
+    }
+
+    /**
+     * [0, to] 구간에서 target 이하인 가장 큰 문서 번호의 위치, 없으면 -1.
+     * 뒤에서부터 간격을 두 배씩 넓혀 범위를 좁힌 뒤 이진 탐색한다 (최근 문서부터 훑는 교집합에서 호출 위치가 단조 감소한다)
+     */
+    int floorIndex(int target, int to) {
+        if (to < 0 || docs[to] <= target) {
+            return to;
+        }
+        int high = to;
+        int step = 1;
+        int low = to - step;
+        while (low >= 0 && docs[low] > target) {
+            high = low;
+            step <<= 1;
+            low = to - step;
+        }
+        low = Math.max(low, -1);
+        // docs[low] <= target < docs[high] (low = -1이면 왼쪽 끝)
+        while (high - low > 1) {
+            int middle = (low + high) >>> 1;
+            if (docs[middle] <= target) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 살아 있는 문서만 새 번호로 바꿔 남긴다 (remap[doc]이 -1이면 삭제된 문서). 번호 순서는 유지된다
+     */
+    void remap(int[] remap) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int doc = remap[docs[i]];
+            if (doc >= 0) {
+                docs[kept++] = doc;
+            }
+        }
+        size = kept;
+        docs = Arrays.copyOf(docs, Math.max(kept, INITIAL_CAPACITY));
+    }
+
+    long capacity() {
+        return docs.length;
+    }
+}
@@ -0,0 +1,83 @@
+package com.humuson.orderintegration.service;
+
+import com.humuson.orderintegration.client.OrderConverter;
+import com.humuson.orderintegration.deadletter.DeadLetterStore;
+import com.humuson.orderintegration.deadletter.DeadLetterType;
+import com.humuson.orderintegration.domain.ImportResultCode;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.monitoring.RequestTimingContext;
+import com.humuson.orderintegration.monitoring.TimingStage;
+import com.humuson.orderintegration.repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가져온 주문을 한 번에 저장하고, 일괄 저장이 실패하면 건별로 다시 저장한다.
+ * 건별로도 저장하지 못한 주문은 실패 레코드 저장소에 보관한다 (일반, 리포트, 병렬, 리액티브 가져오기가 모두 같은 방식으로 저장한다).
+ */
+public final class OrderBatchSaver {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderBatchSaver.class);
+
+    private final OrderRepository orderRepository;
+    private final DeadLetterStore deadLetterStore;
+
+    public OrderBatchSaver(OrderRepository orderRepository, DeadLetterStore deadLetterStore) {
+        this.orderRepository = orderRepository;
+        this.deadLetterStore = deadLetterStore;
+    }
+
+    public List<Order> save(String endpoint, List<Order> orders) {
+        return save(endpoint, orders, null);
+    }
+
+    /**
+     * 저장된 주문을 반환한다. 저장하지 못한 주문은 endpoint가 있으면 실패 레코드 저장소에 보관하고,
+     * failures가 있으면 orders 안의 위치와 사유를 넘긴다
+     */
+    public List<Order> save(String endpoint, List<Order> orders, SaveFailureListener failures) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        long saveStart = RequestTimingContext.start();
+        try {
+            orderRepository.saveAll(orders);
+            return orders;
+        } catch (Exception e) {
+            logger.error("주문 일괄 저장 실패, 건별 저장으로 재시도: {}", e.getMessage());
+        } finally {
+            RequestTimingContext.record(TimingStage.SAVE, saveStart);
+        }
+
+        List<Order> savedOrders = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            saveStart = RequestTimingContext.start();
+            try {
+                orderRepository.save(order);
+                savedOrders.add(order);
+            } catch (Exception e) {
+                logger.error("주문 저장 실패 [{}]: {}", order.getOrderId(), e.getMessage());
+                if (endpoint != null) {
+                    deadLetterStore.add(DeadLetterType.IMPORT, endpoint, order.getOrderId(),
+                            OrderConverter.toOrderRequest(order),
+                            OrderRecordClassifier.deadLetterReason(ImportResultCode.SAVE_FAILED, e.getMessage()));
+                }
+                if (failures != null) {
+                    failures.onFailure(i, order, e.getMessage());
+                }
+            } finally {
+                RequestTimingContext.record(TimingStage.SAVE, saveStart);
+            }
+        }
+        return savedOrders;
+    }
+
+    @FunctionalInterface
+    public interface SaveFailureListener {
+        void onFailure(int position, Order order, String reason);
+    }
+}
@@ -0,0 +1,196 @@
+package com.humuson.orderintegration.service;
+
+import com.humuson.orderintegration.audit.AuditEventType;
+import com.humuson.orderintegration.audit.AuditJournal;
+import com.humuson.orderintegration.audit.AuditOutcome;
+import com.humuson.orderintegration.client.ExternalSystemClient;
+import com.humuson.orderintegration.client.OrderRejectionSink;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.deadletter.DeadLetterStore;
+import com.humuson.orderintegration.deadletter.DeadLetterType;
+import com.humuson.orderintegration.domain.ImportRejection;
+import com.humuson.orderintegration.domain.ImportReport;
+import com.humuson.orderintegration.domain.ImportResultCode;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.exception.DataIntegrationException;
+import com.humuson.orderintegration.exception.ExternalSystemException;
+import com.humuson.orderintegration.monitoring.RequestTimingContext;
+import com.humuson.orderintegration.monitoring.ResourceAccounting;
+import com.humuson.orderintegration.monitoring.ResourceOperation;
+import com.humuson.orderintegration.monitoring.ResourceUsage;
+import com.humuson.orderintegration.monitoring.TimingStage;
+import com.humuson.orderintegration.repository.OrderRepository;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 시스템 주문을 건별로 결과 코드로 분류해 가져오고, 제외된 주문의 위치, 주문 ID, 사유를 리포트로 반환한다.
+ * 잘못된 날짜, 알 수 없는 상태는 예외 없이 판별하므로 잘못된 데이터가 많은 피드에서도 처리 비용이 크게 늘지 않는다.
+ * 날짜 형식이 잘못된 주문은 현재 시각으로 대체하지 않고 제외한다.
+ * 외부 시스템에서 가져온 주문이 제외되면 원본 레코드를 실패 레코드 저장소에 보관한다.
+ */
+@Service
+public class OrderImportReportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderImportReportService.class);
+
+    private final ExternalSystemClient externalSystemClient;
+    private final OrderRecordClassifier classifier;
+    private final OrderBatchSaver orderBatchSaver;
+    private final DeadLetterStore deadLetterStore;
+    private final AuditJournal auditJournal;
+    private final ResourceAccounting resourceAccounting;
+    private final int maxRejections;
+
+    public OrderImportReportService(ExternalSystemClient externalSystemClient,
+                                    OrderRepository orderRepository,
+                                    Validator validator,
+                                    DeadLetterStore deadLetterStore,
+                                    AuditJournal auditJournal,
+                                    ResourceAccounting resourceAccounting,
+                                    @Value("${order.import.report.max-rejections:1000}") int maxRejections) {
+        this.externalSystemClient = externalSystemClient;
+        this.classifier = new OrderRecordClassifier(validator);
+        this.orderBatchSaver = new OrderBatchSaver(orderRepository, deadLetterStore);
+        this.deadLetterStore = deadLetterStore;
+        this.auditJournal = auditJournal;
+        this.resourceAccounting = resourceAccounting;
+        this.maxRejections = maxRejections;
+    }
+
+    /**
+     * 외부 시스템에서 주문 데이터를 가져와 유효한 주문을 저장하고 처리 결과 리포트를 반환한다
+     */
+    public ImportReport importOrders(String endpoint) {
+        long start = System.nanoTime();
+        ResourceUsage usage = resourceAccounting.begin(ResourceOperation.IMPORT_REPORT, endpoint);
+        try {
+            logger.info("외부 시스템에서 주문 데이터 가져오기 시작 (리포트): {}", endpoint);
+
+            List<OrderRequest> orderRequests = externalSystemClient.fetchOrderRequests(endpoint);
+            usage.setRecords(orderRequests.size());
+            ImportReport report = importRecords(endpoint, true, orderRequests, maxRejections, start);
+
+            logger.info("가져온 주문 수: {}, 저장된 주문 수: {}, 제외된 주문 수: {} {}", report.getReceivedCount(),
+                    report.getSavedCount(), report.getRejectedCount(), report.getResultCounts());
+            return report;
+
+        } catch (ExternalSystemException e) {
+            logger.error("외부 시스템 연동 오류: {}", e.getMessage(), e);
+            auditJournal.record(AuditEventType.IMPORT, endpoint, AuditOutcome.FAILURE, start, List.of());
+            throw e;
+        } catch (Exception e) {
+            logger.error("주문 데이터 가져오기 중 오류 발생", e);
+            auditJournal.record(AuditEventType.IMPORT, endpoint, AuditOutcome.FAILURE, start, List.of());
+            throw new DataIntegrationException("주문 데이터 가져오기 실패", e);
+        } finally {
+            usage.finish();
+        }
+    }
+
+    /**
+     * 원본 주문 데이터를 건별로 분류하고 유효한 주문을 한 번에 저장한다 (실패 레코드는 보관하지 않는다)
+     */
+    public ImportReport importRecords(List<OrderRequest> orderRequests) {
+        return importRecords(null, false, orderRequests, maxRejections, 0);
+    }
+
+    /**
+     * 보관된 실패 레코드를 다시 가져온다. 저장된 주문은 원래 엔드포인트로 감사 저널에 남기고,
+     * 제외된 주문은 다시 보관하지 않는다 (재처리하는 쪽이 기존 항목의 시도 횟수를 갱신한다). 제외 목록은 모두 담는다
+     */
+    public ImportReport replayRecords(String endpoint, List<OrderRequest> orderRequests) {
+        return importRecords(endpoint, false, orderRequests, orderRequests.size(), System.nanoTime());
+    }
+
+    /**
+     * 외부 시스템에서 가져온 주문이면(endpoint가 있으면) 저장된 주문을 감사 저널에 남긴다
+     */
+    private ImportReport importRecords(String endpoint, boolean deadLetterRejections, List<OrderRequest> orderRequests,
+                                       int maxRejections, long startNanos) {
+        RejectionCollector rejections = new RejectionCollector(deadLetterRejections ? endpoint : null, orderRequests,
+                maxRejections);
+        List<Order> acceptedOrders = new ArrayList<>(orderRequests.size());
+        int[] acceptedIndexes = new int[orderRequests.size()];
+
+        long validationStart = RequestTimingContext.start();
+        for (int i = 0; i < orderRequests.size(); i++) {
+            OrderRequest orderRequest = orderRequests.get(i);
+            Order order = classifier.classify(orderRequest, i, rejections);
+            if (order != null) {
+                acceptedIndexes[acceptedOrders.size()] = i;
+                acceptedOrders.add(order);
+            }
+        }
+        RequestTimingContext.record(TimingStage.VALIDATION, validationStart);
+
+        // 저장 실패는 저장하지 못한 주문으로 보관하므로 리포트에는 건수와 사유만 더한다
+        List<Order> savedOrders = orderBatchSaver.save(rejections.endpoint, acceptedOrders,
+                (position, order, reason) -> rejections.count(acceptedIndexes[position], order.getOrderId(),
+                        ImportResultCode.SAVE_FAILED, reason));
+        if (endpoint != null) {
+            auditJournal.record(AuditEventType.IMPORT, endpoint, AuditOutcome.SUCCESS, startNanos, savedOrders);
+        }
+        int savedCount = savedOrders.size();
+        int[] counts = rejections.counts;
+        counts[ImportResultCode.ACCEPTED.ordinal()] = savedCount;
+
+        Map<ImportResultCode, Integer> resultCounts = new EnumMap<>(ImportResultCode.class);
+        for (ImportResultCode code : ImportResultCode.values()) {
+            if (counts[code.ordinal()] > 0) {
+                resultCounts.put(code, counts[code.ordinal()]);
+            }
+        }
+        int rejectedCount = orderRequests.size() - savedCount;
+        return ImportReport.builder()
+                .receivedCount(orderRequests.size())
+                .savedCount(savedCount)
+                .rejectedCount(rejectedCount)
+                .resultCounts(resultCounts)
+                .rejections(rejections.rejections)
+                .rejectionsTruncated(rejectedCount > rejections.rejections.size())
+                .build();
+    }
+
+    /**
+     * 결과 코드별 건수는 모두 세고, 제외 목록은 최대 건수까지만 담는다.
+     * 외부 시스템에서 가져온 주문이면(endpoint가 있으면) 원본 레코드를 실패 레코드 저장소에 보관한다
+     */
+    private final class RejectionCollector implements OrderRejectionSink {
+        private final String endpoint;
+        private final List<OrderRequest> orderRequests;
+        private final int maxRejections;
+        private final int[] counts = new int[ImportResultCode.values().length];
+        private final List<ImportRejection> rejections = new ArrayList<>();
+
+        private RejectionCollector(String endpoint, List<OrderRequest> orderRequests, int maxRejections) {
+            this.endpoint = endpoint;
+            this.orderRequests = orderRequests;
+            this.maxRejections = maxRejections;
+        }
+
+        @Override
+        public void reject(int index, String orderId, ImportResultCode code, String reason) {
+            count(index, orderId, code, reason);
+            if (endpoint != null) {
+                deadLetterStore.add(DeadLetterType.IMPORT, endpoint, orderId, orderRequests.get(index),
+                        OrderRecordClassifier.deadLetterReason(code, reason));
+            }
+        }
+
+        private void count(int index, String orderId, ImportResultCode code, String reason) {
+            counts[code.ordinal()]++;
+            if (rejections.size() < maxRejections) {
+                rejections.add(new ImportRejection(index, orderId, code, reason));
+            }
+        }
+    }
+}
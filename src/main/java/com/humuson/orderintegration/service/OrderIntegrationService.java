@@ -1,13 +1,17 @@
 package com.humuson.orderintegration.service;
 
+import com.humuson.orderintegration.domain.ExportResult;
 import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
 import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.StatusTransitionResult;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderIntegrationService {
     /**
-     * 외부 시스템에서 주문 데이터를 가져와 저장한다
+     * 외부 시스템에서 주문 데이터를 가져와 저장한다. 같은 endpoint의 가져오기가 진행 중이면 그 결과를 함께 받는다
      */
     List<Order> importOrdersFromExternal(String endpoint);
 
@@ -17,9 +21,14 @@ public interface OrderIntegrationService {
     boolean exportOrderToExternal(String endpoint, String orderId);
 
     /**
-     * 여러 주문 데이터를 외부 시스템으로 전송한다
+     * 여러 주문 데이터를 외부 시스템으로 전송하고, 일부만 실패하면 실패한 주문만 다시 보낸 뒤 건별 결과를 반환한다
      */
-    boolean exportOrdersToExternal(String endpoint, List<String> orderIds);
+    ExportResult exportOrdersToExternal(String endpoint, List<String> orderIds);
+
+    /**
+     * 주문 ID 목록 또는 상태에 해당하는 주문을 외부 시스템으로 스트리밍 전송하고 전송 건수를 반환한다
+     */
+    long exportOrdersStreaming(String endpoint, List<String> orderIds, OrderStatus status);
 
     /**
      * 모든 주문을 조회한다
@@ -35,5 +44,21 @@ public interface OrderIntegrationService {
      * 상태별 주문을 조회합니다
      */
     List<Order> getOrdersByStatus(OrderStatus status);
+
+    /**
+     * 주문을 목록으로 모으지 않고 저장소에서 한 건씩 읽는 스트림을 반환한다 (status가 null이면 전체 주문)
+     */
+    Stream<Order> streamOrders(OrderStatus status);
+
+    /**
+     * 상태별, 주문일자별 주문 건수 통계를 조회한다
+     */
+    OrderStatistics getOrderStatistics();
+
+    /**
+     * 주문별로 현재 상태가 expectedStatus일 때만 newStatus로 전환하고 전환/충돌/없음 건수를 반환한다
+     */
+    StatusTransitionResult transitionOrderStatus(List<String> orderIds, OrderStatus expectedStatus,
+                                                 OrderStatus newStatus);
 }
 
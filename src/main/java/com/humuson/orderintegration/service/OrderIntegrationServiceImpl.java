@@ -1,76 +1,203 @@
 package com.humuson.orderintegration.service;
 
+import com.humuson.orderintegration.audit.AuditEventType;
+import com.humuson.orderintegration.audit.AuditJournal;
+import com.humuson.orderintegration.audit.AuditOutcome;
 import com.humuson.orderintegration.client.ExternalSystemClient;
+import com.humuson.orderintegration.client.OrderConverter;
+import com.humuson.orderintegration.client.OrderRejectionSink;
+import com.humuson.orderintegration.client.dto.OrderItemResult;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.client.dto.OrderSendResult;
+import com.humuson.orderintegration.deadletter.DeadLetterStore;
+import com.humuson.orderintegration.deadletter.DeadLetterType;
+import com.humuson.orderintegration.domain.ExportResult;
 import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
 import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.StatusTransitionResult;
+import com.humuson.orderintegration.exception.BadRequestException;
 import com.humuson.orderintegration.exception.DataIntegrationException;
 import com.humuson.orderintegration.exception.ExternalSystemException;
 import com.humuson.orderintegration.exception.OrderNotFoundException;
+import com.humuson.orderintegration.monitoring.RequestTimingContext;
+import com.humuson.orderintegration.monitoring.ResourceAccounting;
+import com.humuson.orderintegration.monitoring.ResourceOperation;
+import com.humuson.orderintegration.monitoring.ResourceUsage;
+import com.humuson.orderintegration.monitoring.TimingStage;
 import com.humuson.orderintegration.repository.OrderRepository;
-import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class OrderIntegrationServiceImpl implements OrderIntegrationService {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderIntegrationServiceImpl.class);
+    private static final int AUDIT_CHUNK_SIZE = 1000;
 
     private final OrderRepository orderRepository;
     private final ExternalSystemClient externalSystemClient;
-    private final Validator validator;
+    private final OrderRecordClassifier classifier;
+    private final OrderBatchSaver orderBatchSaver;
+    private final DeadLetterStore deadLetterStore;
+    private final AuditJournal auditJournal;
+    private final ResourceAccounting resourceAccounting;
+    private final int maxRetryAttempts;
+    private final int retryBatchSize;
+    private final long retryBackoffNanos;
+    private final long maxRetryBackoffNanos;
+    private final boolean coalesceImports;
+    private final Map<String, CompletableFuture<List<Order>>> inFlightImports = new ConcurrentHashMap<>();
 
     public OrderIntegrationServiceImpl(OrderRepository orderRepository,
                                        ExternalSystemClient externalSystemClient,
-                                       Validator validator) {
+                                       Validator validator,
+                                       DeadLetterStore deadLetterStore,
+                                       AuditJournal auditJournal,
+                                       ResourceAccounting resourceAccounting,
+                                       @Value("${order.export.retry.max-attempts:2}") int maxRetryAttempts,
+                                       @Value("${order.export.retry.batch-size:50}") int retryBatchSize,
+                                       @Value("${order.export.retry.backoff:200ms}") Duration retryBackoff,
+                                       @Value("${order.export.retry.max-backoff:2s}") Duration maxRetryBackoff,
+                                       @Value("${order.import.coalesce:true}") boolean coalesceImports) {
+        if (maxRetryAttempts < 0 || retryBatchSize < 1 || retryBackoff.isNegative()
+                || maxRetryBackoff.compareTo(retryBackoff) < 0) {
+            throw new IllegalArgumentException("재전송 설정이 올바르지 않습니다: maxRetryAttempts=" + maxRetryAttempts
+                    + ", retryBatchSize=" + retryBatchSize + ", backoff=" + retryBackoff
+                    + ", maxBackoff=" + maxRetryBackoff);
+        }
         this.orderRepository = orderRepository;
         this.externalSystemClient = externalSystemClient;
-        this.validator = validator;
+        this.classifier = new OrderRecordClassifier(validator);
+        this.orderBatchSaver = new OrderBatchSaver(orderRepository, deadLetterStore);
+        this.deadLetterStore = deadLetterStore;
+        this.auditJournal = auditJournal;
+        this.resourceAccounting = resourceAccounting;
+        this.maxRetryAttempts = maxRetryAttempts;
+        this.retryBatchSize = retryBatchSize;
+        this.retryBackoffNanos = retryBackoff.toNanos();
+        this.maxRetryBackoffNanos = maxRetryBackoff.toNanos();
+        this.coalesceImports = coalesceImports;
     }
 
+    /**
+     * 같은 endpoint의 가져오기가 진행 중이면 새로 가져오지 않고 진행 중인 가져오기의 결과를 함께 받는다.
+     * 먼저 들어온 요청만 외부 시스템을 호출하고 저장하며, 결과(또는 예외)는 기다리던 요청 모두에 그대로 전달된다.
+     * 가져오기가 끝난 뒤 들어온 요청은 다시 가져온다 (order.import.coalesce=false이면 합치지 않는다).
+     */
     @Override
     public List<Order> importOrdersFromExternal(String endpoint) {
+        if (!coalesceImports) {
+            return fetchAndSaveOrders(endpoint);
+        }
+        CompletableFuture<List<Order>> inFlight = new CompletableFuture<>();
+        CompletableFuture<List<Order>> existing = inFlightImports.putIfAbsent(endpoint, inFlight);
+        if (existing != null) {
+            logger.info("진행 중인 주문 데이터 가져오기에 합류: {}", endpoint);
+            return awaitImport(endpoint, existing);
+        }
+        try {
+            List<Order> savedOrders = fetchAndSaveOrders(endpoint);
+            inFlight.complete(savedOrders);
+            return savedOrders;
+        } catch (Throwable e) {
+            // Error로 끝나도 합류한 요청이 영원히 기다리지 않도록 실패를 전달한다
+            inFlight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightImports.remove(endpoint, inFlight);
+        }
+    }
+
+    private List<Order> awaitImport(String endpoint, CompletableFuture<List<Order>> inFlight) {
+        try {
+            return inFlight.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new DataIntegrationException("주문 데이터 가져오기 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataIntegrationException("진행 중인 주문 데이터 가져오기 대기 중 인터럽트: " + endpoint, e);
+        }
+    }
+
+    private List<Order> fetchAndSaveOrders(String endpoint) {
+        long start = System.nanoTime();
+        ResourceUsage usage = resourceAccounting.begin(ResourceOperation.IMPORT, endpoint);
         try {
             logger.info("외부 시스템에서 주문 데이터 가져오기 시작: {}", endpoint);
 
-            List<Order> orders = externalSystemClient.fetchOrders(endpoint);
-            logger.info("가져온 주문 수: {}", orders.size());
+            List<OrderRequest> orderRequests = externalSystemClient.fetchOrderRequests(endpoint);
+            logger.info("가져온 주문 수: {}", orderRequests.size());
+            usage.setRecords(orderRequests.size());
 
-            List<Order> savedOrders = orders.stream()
-                    .filter(this::validateOrder)
-                    .map(this::saveOrderSafely)
-                    .filter(order -> order != null)
-                    .collect(Collectors.toList());
+            List<Order> validOrders = classifyOrders(endpoint, orderRequests);
+            List<Order> savedOrders = orderBatchSaver.save(endpoint, validOrders);
 
-            logger.info("저장된 주문 수: {}", savedOrders.size());
+            logger.info("저장된 주문 수: {}, 제외된 주문 수: {}", savedOrders.size(),
+                    orderRequests.size() - validOrders.size());
+            auditJournal.record(AuditEventType.IMPORT, endpoint, AuditOutcome.SUCCESS, start, savedOrders);
             return savedOrders;
 
         } catch (ExternalSystemException e) {
             logger.error("외부 시스템 연동 오류: {}", e.getMessage(), e);
+            auditJournal.record(AuditEventType.IMPORT, endpoint, AuditOutcome.FAILURE, start, List.of());
             throw e;
         } catch (Exception e) {
             logger.error("주문 데이터 가져오기 중 오류 발생", e);
+            auditJournal.record(AuditEventType.IMPORT, endpoint, AuditOutcome.FAILURE, start, List.of());
             throw new DataIntegrationException("주문 데이터 가져오기 실패", e);
+        } finally {
+            usage.finish();
         }
     }
 
     @Override
     public boolean exportOrderToExternal(String endpoint, String orderId) {
+        long start = System.nanoTime();
+        ResourceUsage usage = resourceAccounting.begin(ResourceOperation.EXPORT, endpoint);
         try {
+            long repositoryStart = RequestTimingContext.start();
             Order order = orderRepository.findById(orderId)
                     .orElseThrow(() -> new OrderNotFoundException(orderId));
+            RequestTimingContext.record(TimingStage.REPOSITORY, repositoryStart);
+            usage.setRecords(1);
 
             logger.info("주문 데이터 외부 시스템 전송 시작: {} -> {}", orderId, endpoint);
 
-            boolean result = externalSystemClient.sendOrder(endpoint, order);
+            boolean result;
+            try {
+                result = externalSystemClient.sendOrder(endpoint, order);
+            } catch (ExternalSystemException e) {
+                auditJournal.record(AuditEventType.EXPORT, endpoint, AuditOutcome.FAILURE, start, List.of(order));
+                throw e;
+            }
+            auditJournal.record(AuditEventType.EXPORT, endpoint, result ? AuditOutcome.SUCCESS : AuditOutcome.FAILURE,
+                    start, List.of(order));
 
             if (result) {
                 logger.info("주문 데이터 전송 완료: {}", orderId);
@@ -89,33 +216,84 @@ public class OrderIntegrationServiceImpl implements OrderIntegrationService {
         } catch (Exception e) {
             logger.error("주문 데이터 전송 중 오류 발생", e);
             throw new DataIntegrationException("주문 데이터 전송 실패", e);
+        } finally {
+            usage.finish();
         }
     }
 
     @Override
-    public boolean exportOrdersToExternal(String endpoint, List<String> orderIds) {
+    public ExportResult exportOrdersToExternal(String endpoint, List<String> orderIds) {
+        long start = System.nanoTime();
+        ResourceUsage usage = resourceAccounting.begin(ResourceOperation.EXPORT_BATCH, endpoint);
         try {
-            List<Order> orders = orderIds.stream()
-                    .map(orderId -> orderRepository.findById(orderId)
-                            .orElse(null))
-                    .filter(order -> order != null)
-                    .collect(Collectors.toList());
+            long repositoryStart = RequestTimingContext.start();
+            List<Order> orders = new ArrayList<>(orderIds.size());
+            List<String> notFoundOrderIds = new ArrayList<>();
+            for (String orderId : orderIds) {
+                Optional<Order> order = orderRepository.findById(orderId);
+                if (order.isPresent()) {
+                    orders.add(order.get());
+                } else {
+                    notFoundOrderIds.add(orderId);
+                }
+            }
+            RequestTimingContext.record(TimingStage.REPOSITORY, repositoryStart);
 
             if (orders.isEmpty()) {
                 throw new DataIntegrationException("전송할 유효한 주문이 없습니다");
             }
+            usage.setRecords(orders.size());
 
             logger.info("여러 주문 데이터 외부 시스템 전송 시작: {} 건 -> {}", orders.size(), endpoint);
 
-            boolean result = externalSystemClient.sendOrders(endpoint, orders);
+            OrderSendResult sendResult;
+            try {
+                sendResult = externalSystemClient.sendOrdersWithResults(endpoint, orders);
+            } catch (ExternalSystemException e) {
+                deadLetterExport(endpoint, orders, e.getMessage());
+                auditJournal.record(AuditEventType.EXPORT, endpoint, AuditOutcome.FAILURE, start, orders);
+                throw e;
+            }
 
-            if (result) {
+            // 실패한 주문만 작은 배치로 다시 보낸다. 같은 주문 ID가 여러 번 요청될 수 있어 보낸 위치로 주문을 찾는다
+            List<FailedItem> failed = collectFailures(sendResult.getItems(), null);
+            int attempts = 1;
+            while (!failed.isEmpty() && attempts <= maxRetryAttempts) {
+                if (!backOff(attempts)) {
+                    logger.warn("재전송 대기 중 인터럽트, 실패 {} 건 재전송 중단", failed.size());
+                    break;
+                }
+                attempts++;
+                logger.warn("여러 주문 데이터 일부 전송 실패, 실패 {} 건 재전송 ({}회차)", failed.size(), attempts);
+                failed = resendFailedItems(endpoint, orders, failed);
+            }
+
+            List<OrderItemResult> failedItems = new ArrayList<>(failed.size());
+            boolean[] failedPositions = new boolean[orders.size()];
+            for (FailedItem item : failed) {
+                failedItems.add(item.result());
+                failedPositions[item.position()] = true;
+            }
+            if (failed.isEmpty()) {
                 logger.info("여러 주문 데이터 전송 완료: {} 건", orders.size());
             } else {
-                logger.warn("여러 주문 데이터 전송 실패: {} 건", orders.size());
+                logger.warn("여러 주문 데이터 전송 실패: {} / {} 건", failed.size(), orders.size());
+                for (FailedItem item : failed) {
+                    deadLetterStore.add(DeadLetterType.EXPORT, endpoint, item.result().getOrderId(),
+                            OrderConverter.toOrderResponse(orders.get(item.position())), item.result().getMessage());
+                }
             }
+            auditExport(endpoint, start, orders, failedPositions, failed.size());
 
-            return result;
+            return ExportResult.builder()
+                    .success(failedItems.isEmpty())
+                    .requestedCount(orderIds.size())
+                    .sentCount(orders.size() - failedItems.size())
+                    .failedCount(failedItems.size())
+                    .attempts(attempts)
+                    .notFoundOrderIds(notFoundOrderIds)
+                    .failedItems(failedItems)
+                    .build();
 
         } catch (ExternalSystemException e) {
             logger.error("외부 시스템 전송 오류: {}", e.getMessage(), e);
@@ -123,9 +301,74 @@ public class OrderIntegrationServiceImpl implements OrderIntegrationService {
         } catch (Exception e) {
             logger.error("여러 주문 데이터 전송 중 오류 발생", e);
             throw new DataIntegrationException("여러 주문 데이터 전송 실패", e);
+        } finally {
+            usage.finish();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportOrdersStreaming(String endpoint, List<String> orderIds, OrderStatus status) {
+        // 주문을 모두 모으지 않도록 AUDIT_CHUNK_SIZE건씩 STREAMED로 남기고, 전송 결과는 같은 배치의 요약 레코드로 남긴다
+        long start = System.nanoTime();
+        long batchId = auditJournal.nextBatchId();
+        List<Order> auditChunk = new ArrayList<>();
+        AuditOutcome outcome = AuditOutcome.FAILURE;
+        ResourceUsage usage = resourceAccounting.begin(ResourceOperation.EXPORT_STREAM, endpoint);
+        AtomicLong sentCount = new AtomicLong();
+        try {
+            logger.info("주문 데이터 스트리밍 전송 시작: {}", endpoint);
+
+            boolean result;
+            // 클러스터 모드의 스트림은 다른 노드와의 연결을 잡고 있으므로 전송이 실패하거나 거절돼도 닫는다
+            try (Stream<Order> orders = exportStream(orderIds, status)) {
+                result = externalSystemClient.sendOrderStream(endpoint, orders.peek(order -> {
+                    sentCount.incrementAndGet();
+                    auditChunk.add(order);
+                    if (auditChunk.size() == AUDIT_CHUNK_SIZE) {
+                        auditJournal.record(batchId, AuditEventType.EXPORT, endpoint, AuditOutcome.STREAMED, start,
+                                auditChunk);
+                        auditChunk.clear();
+                    }
+                }));
+            }
+
+            if (!result) {
+                logger.warn("주문 데이터 스트리밍 전송 실패: {} 건", sentCount.get());
+                throw new DataIntegrationException("외부 시스템이 스트리밍 전송을 처리하지 못했습니다: " + sentCount.get() + "건");
+            }
+
+            logger.info("주문 데이터 스트리밍 전송 완료: {} 건", sentCount.get());
+            outcome = AuditOutcome.SUCCESS;
+            return sentCount.get();
+
+        } catch (ExternalSystemException e) {
+            logger.error("외부 시스템 전송 오류: {}", e.getMessage(), e);
+            throw e;
+        } catch (DataIntegrationException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("주문 데이터 스트리밍 전송 중 오류 발생", e);
+            throw new DataIntegrationException("주문 데이터 스트리밍 전송 실패", e);
+        } finally {
+            if (!auditChunk.isEmpty()) {
+                auditJournal.record(batchId, AuditEventType.EXPORT, endpoint, AuditOutcome.STREAMED, start, auditChunk);
+            }
+            auditJournal.record(batchId, AuditEventType.EXPORT, endpoint, outcome, start, List.of());
+            usage.setRecords(sentCount.get());
+            usage.finish();
         }
     }
 
+    private Stream<Order> exportStream(List<String> orderIds, OrderStatus status) {
+        if (orderIds != null && !orderIds.isEmpty()) {
+            return orderIds.stream()
+                    .map(orderRepository::findById)
+                    .flatMap(Optional::stream);
+        }
+        return status != null ? orderRepository.streamByStatus(status) : orderRepository.streamAll();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Order> getAllOrders() {
@@ -145,24 +388,156 @@ public class OrderIntegrationServiceImpl implements OrderIntegrationService {
         return orderRepository.findByStatus(status);
     }
 
-    private boolean validateOrder(Order order) {
-        Set<ConstraintViolation<Order>> violations = validator.validate(order);
-        if (!violations.isEmpty()) {
-            String errorMessage = violations.stream()
-                    .map(ConstraintViolation::getMessage)
-                    .collect(Collectors.joining(", "));
-            logger.warn("주문 검증 실패 [{}]: {}", order.getOrderId(), errorMessage);
-            return false;
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<Order> streamOrders(OrderStatus status) {
+        return status != null ? orderRepository.streamByStatus(status) : orderRepository.streamAll();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderStatistics getOrderStatistics() {
+        return orderRepository.getStatistics();
+    }
+
+    @Override
+    public StatusTransitionResult transitionOrderStatus(List<String> orderIds, OrderStatus expectedStatus,
+                                                        OrderStatus newStatus) {
+        if (expectedStatus == newStatus) {
+            throw new BadRequestException("기대 상태와 새 상태가 같습니다: " + newStatus);
+        }
+        // 같은 주문이 두 번 들어오면 두 번째는 항상 충돌로 집계되므로 한 번만 전환한다
+        List<String> distinctIds = orderIds.stream().distinct().collect(Collectors.toList());
+        StatusTransitionResult result = orderRepository.transitionStatus(distinctIds, expectedStatus, newStatus);
+        logger.info("주문 상태 일괄 전환 {} -> {}: 요청 {} 건, 전환 {} 건, 충돌 {} 건, 없음 {} 건", expectedStatus,
+                newStatus, result.getRequestedCount(), result.getAppliedCount(), result.getConflictedCount(),
+                result.getMissingCount());
+        return result;
+    }
+
+    /**
+     * 원본 주문을 건별로 변환, 검증하고, 제외된 주문은 원본 레코드를 그대로 실패 레코드 저장소에 보관한다.
+     * 한 건이 잘못되어도 가져오기 전체를 실패시키지 않는다
+     */
+    private List<Order> classifyOrders(String endpoint, List<OrderRequest> orderRequests) {
+        long validationStart = RequestTimingContext.start();
+        OrderRejectionSink rejections = (index, orderId, code, reason) -> {
+            logger.warn("주문 제외 [{}]: {} {}", orderId, code.getDescription(), reason != null ? reason : "");
+            deadLetterStore.add(DeadLetterType.IMPORT, endpoint, orderId, orderRequests.get(index),
+                    OrderRecordClassifier.deadLetterReason(code, reason));
+        };
+        List<Order> validOrders = new ArrayList<>(orderRequests.size());
+        for (int i = 0; i < orderRequests.size(); i++) {
+            Order order = classifier.classify(orderRequests.get(i), i, rejections);
+            if (order != null) {
+                validOrders.add(order);
+            }
+        }
+        RequestTimingContext.record(TimingStage.VALIDATION, validationStart);
+        return validOrders;
+    }
+
+    /**
+     * 실패한 주문을 retry-batch-size 건씩 다시 보내고 여전히 실패한 주문의 결과를 반환한다.
+     * 재전송 배치 전체가 실패해도 이미 성공한 주문이 있으므로 예외를 던지지 않고 해당 배치를 실패로 남긴다
+     */
+    private List<FailedItem> resendFailedItems(String endpoint, List<Order> orders, List<FailedItem> failedItems) {
+        List<FailedItem> stillFailed = new ArrayList<>();
+        for (int from = 0; from < failedItems.size(); from += retryBatchSize) {
+            List<FailedItem> batch = failedItems.subList(from, Math.min(from + retryBatchSize, failedItems.size()));
+            List<Order> batchOrders = batch.stream()
+                    .map(item -> orders.get(item.position()))
+                    .collect(Collectors.toList());
+            try {
+                stillFailed.addAll(collectFailures(
+                        externalSystemClient.sendOrdersWithResults(endpoint, batchOrders).getItems(), batch));
+            } catch (ExternalSystemException e) {
+                logger.warn("재전송 배치 실패 ({} 건): {}", batchOrders.size(), e.getMessage());
+                for (FailedItem item : batch) {
+                    stillFailed.add(new FailedItem(item.position(), OrderItemResult.builder()
+                            .orderId(item.result().getOrderId())
+                            .success(false)
+                            .message(e.getMessage())
+                            .build()));
+                }
+            }
         }
-        return true;
+        return stillFailed;
     }
 
-    private Order saveOrderSafely(Order order) {
+    /**
+     * 보낸 순서대로 담긴 건별 결과에서 실패한 항목을 원래 주문 목록의 위치와 함께 고른다 (sent가 null이면 처음 보낸 전체 목록)
+     */
+    private static List<FailedItem> collectFailures(List<OrderItemResult> results, List<FailedItem> sent) {
+        List<FailedItem> failed = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            OrderItemResult result = results.get(i);
+            if (!result.isSuccess()) {
+                failed.add(new FailedItem(sent != null ? sent.get(i).position() : i, result));
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 재전송 전에 기다린다. 대기 시간은 회차마다 두 배로 늘리되 max-backoff를 넘지 않고,
+     * 여러 요청의 재전송이 한꺼번에 몰리지 않도록 0부터 그 값 사이에서 무작위로 고른다 (full jitter).
+     * 대기 중 인터럽트되면 false를 반환한다
+     */
+    private boolean backOff(int attempts) {
+        if (retryBackoffNanos == 0) {
+            return true;
+        }
+        long ceiling = retryBackoffNanos << Math.min(attempts - 1, 20);
+        if (ceiling <= 0 || ceiling > maxRetryBackoffNanos) {
+            ceiling = maxRetryBackoffNanos;
+        }
         try {
-            return orderRepository.save(order);
-        } catch (Exception e) {
-            logger.error("주문 저장 실패 [{}]: {}", order.getOrderId(), e.getMessage());
-            return null;
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 재전송까지 끝난 다중 Export를 한 배치로 묶어 전송된 주문과 최종 실패한 주문을 나눠 남긴다
+     */
+    private void auditExport(String endpoint, long start, List<Order> orders, boolean[] failedPositions,
+                             int failedCount) {
+        if (failedCount == 0) {
+            auditJournal.record(AuditEventType.EXPORT, endpoint, AuditOutcome.SUCCESS, start, orders);
+            return;
         }
+        List<Order> sent = new ArrayList<>(orders.size() - failedCount);
+        List<Order> failed = new ArrayList<>(failedCount);
+        for (int i = 0; i < orders.size(); i++) {
+            if (failedPositions[i]) {
+                failed.add(orders.get(i));
+            } else {
+                sent.add(orders.get(i));
+            }
+        }
+        long batchId = auditJournal.nextBatchId();
+        if (!sent.isEmpty()) {
+            auditJournal.record(batchId, AuditEventType.EXPORT, endpoint, AuditOutcome.SUCCESS, start, sent);
+        }
+        if (!failed.isEmpty()) {
+            auditJournal.record(batchId, AuditEventType.EXPORT, endpoint, AuditOutcome.FAILURE, start, failed);
+        }
+    }
+
+    private void deadLetterExport(String endpoint, List<Order> orders, String reason) {
+        for (Order order : orders) {
+            deadLetterStore.add(DeadLetterType.EXPORT, endpoint, order.getOrderId(),
+                    OrderConverter.toOrderResponse(order), reason);
+        }
+    }
+
+    /**
+     * 전송에 실패한 주문 한 건의 결과와 처음 보낸 주문 목록에서의 위치
+     */
+    private record FailedItem(int position, OrderItemResult result) {
     }
 }
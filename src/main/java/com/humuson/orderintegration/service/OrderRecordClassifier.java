@@ -0,0 +1,52 @@
+package com.humuson.orderintegration.service;
+
+import com.humuson.orderintegration.client.OrderConverter;
+import com.humuson.orderintegration.client.OrderRejectionSink;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.domain.ImportResultCode;
+import com.humuson.orderintegration.domain.Order;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 외부 시스템 원본 주문을 건별로 변환, 검증해 저장할 주문과 제외할 주문(결과 코드, 사유)으로 나눈다.
+ * 일반, 리포트, 병렬, 리액티브 가져오기가 모두 같은 기준으로 주문을 제외하며, 한 건이 잘못되어도 나머지는 계속 처리한다.
+ */
+public final class OrderRecordClassifier {
+
+    private final Validator validator;
+
+    public OrderRecordClassifier(Validator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * 저장할 수 있는 주문이면 변환한 주문을, 아니면 rejections에 사유를 넘기고 null을 반환한다
+     */
+    public Order classify(OrderRequest request, int index, OrderRejectionSink rejections) {
+        Order order = OrderConverter.classify(request, index, rejections);
+        if (order == null) {
+            return null;
+        }
+        Set<ConstraintViolation<Order>> violations = validator.validate(order);
+        if (!violations.isEmpty()) {
+            String reason = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            rejections.reject(index, order.getOrderId(), ImportResultCode.VALIDATION_FAILED, reason);
+            return null;
+        }
+        return order;
+    }
+
+    /**
+     * 실패 레코드 저장소에 남길 제외 사유 ("UNKNOWN_STATUS: PAID" 형식)
+     */
+    public static String deadLetterReason(ImportResultCode code, String reason) {
+        return reason != null ? code.name() + ": " + reason : code.name();
+    }
+}
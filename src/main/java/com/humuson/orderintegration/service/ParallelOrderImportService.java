@@ -0,0 +1,220 @@
+package com.humuson.orderintegration.service;
+
+import com.humuson.orderintegration.audit.AuditEventType;
+import com.humuson.orderintegration.audit.AuditJournal;
+import com.humuson.orderintegration.audit.AuditOutcome;
+import com.humuson.orderintegration.client.ExternalSystemClient;
+import com.humuson.orderintegration.client.OrderRejectionSink;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.deadletter.DeadLetterStore;
+import com.humuson.orderintegration.deadletter.DeadLetterType;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.exception.DataIntegrationException;
+import com.humuson.orderintegration.exception.ExternalSystemException;
+import com.humuson.orderintegration.monitoring.ResourceAccounting;
+import com.humuson.orderintegration.monitoring.ResourceOperation;
+import com.humuson.orderintegration.monitoring.ResourceUsage;
+import com.humuson.orderintegration.monitoring.ResourceUsageContext;
+import com.humuson.orderintegration.repository.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 외부 시스템에서 가져온 원본 주문 데이터의 변환, 검증을 전용 ForkJoinPool에서 청크 단위로 병렬 처리한다.
+ * <ul>
+ *     <li>순서 보장: 청크 결과를 입력 순서대로 합친 뒤 한 번에 저장한다. 같은 주문 ID가 여러 번 오면 순차 처리와 같이 마지막 값이 남는다</li>
+ *     <li>순서 미보장: 각 청크가 검증을 마치는 즉시 저장소에 넘기므로 합치는 비용이 없다. 결과 순서는 청크 완료 순서를 따른다</li>
+ * </ul>
+ * 청크를 처리한 작업 스레드의 할당량, CPU 시간은 호출 스레드에서 측정 중인 작업에 더한다.
+ * 제외되거나 저장에 실패한 주문은 순차 Import와 같이 실패 레코드 저장소에 보관한다.
+ */
+@Service
+public class ParallelOrderImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelOrderImportService.class);
+
+    private final ExternalSystemClient externalSystemClient;
+    private final OrderRecordClassifier classifier;
+    private final OrderBatchSaver orderBatchSaver;
+    private final DeadLetterStore deadLetterStore;
+    private final AuditJournal auditJournal;
+    private final ResourceAccounting resourceAccounting;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final boolean orderedByDefault;
+
+    public ParallelOrderImportService(ExternalSystemClient externalSystemClient,
+                                      OrderRepository orderRepository,
+                                      Validator validator,
+                                      DeadLetterStore deadLetterStore,
+                                      AuditJournal auditJournal,
+                                      ResourceAccounting resourceAccounting,
+                                      @Value("${order.import.parallel.parallelism:0}") int parallelism,
+                                      @Value("${order.import.parallel.chunk-size:2048}") int chunkSize,
+                                      @Value("${order.import.parallel.ordered:true}") boolean orderedByDefault) {
+        if (parallelism < 0 || chunkSize < 1) {
+            throw new IllegalArgumentException("병렬 가져오기 설정이 올바르지 않습니다: parallelism="
+                    + parallelism + ", chunkSize=" + chunkSize);
+        }
+        this.externalSystemClient = externalSystemClient;
+        this.classifier = new OrderRecordClassifier(validator);
+        this.orderBatchSaver = new OrderBatchSaver(orderRepository, deadLetterStore);
+        this.deadLetterStore = deadLetterStore;
+        this.auditJournal = auditJournal;
+        this.resourceAccounting = resourceAccounting;
+        this.chunkSize = chunkSize;
+        this.orderedByDefault = orderedByDefault;
+        int threads = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+        this.pool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("order-import-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * 외부 시스템에서 주문 데이터를 가져와 병렬로 변환, 검증한 뒤 저장한다. ordered가 null이면 설정값을 따른다
+     */
+    public List<Order> importOrders(String endpoint, Boolean ordered) {
+        long start = System.nanoTime();
+        ResourceUsage usage = resourceAccounting.begin(ResourceOperation.IMPORT_PARALLEL, endpoint);
+        try {
+            logger.info("외부 시스템에서 주문 데이터 병렬 가져오기 시작: {} (병렬도 {})", endpoint, pool.getParallelism());
+
+            List<OrderRequest> orderRequests = externalSystemClient.fetchOrderRequests(endpoint);
+            logger.info("가져온 주문 수: {}", orderRequests.size());
+            usage.setRecords(orderRequests.size());
+
+            List<Order> savedOrders = process(endpoint, orderRequests, ordered != null ? ordered : orderedByDefault);
+            logger.info("저장된 주문 수: {}", savedOrders.size());
+            auditJournal.record(AuditEventType.IMPORT, endpoint, AuditOutcome.SUCCESS, start, savedOrders);
+            return savedOrders;
+
+        } catch (ExternalSystemException e) {
+            logger.error("외부 시스템 연동 오류: {}", e.getMessage(), e);
+            auditJournal.record(AuditEventType.IMPORT, endpoint, AuditOutcome.FAILURE, start, List.of());
+            throw e;
+        } catch (Exception e) {
+            logger.error("주문 데이터 병렬 가져오기 중 오류 발생", e);
+            auditJournal.record(AuditEventType.IMPORT, endpoint, AuditOutcome.FAILURE, start, List.of());
+            throw new DataIntegrationException("주문 데이터 병렬 가져오기 실패", e);
+        } finally {
+            usage.finish();
+        }
+    }
+
+    /**
+     * 원본 주문 데이터를 변환, 검증하고 저장한 주문 목록을 반환한다 (실패 레코드는 보관하지 않는다)
+     */
+    public List<Order> process(List<OrderRequest> orderRequests, boolean ordered) {
+        return process(null, orderRequests, ordered);
+    }
+
+    /**
+     * 외부 시스템에서 가져온 주문이면(endpoint가 있으면) 제외되거나 저장에 실패한 주문을 실패 레코드 저장소에 보관한다
+     */
+    private List<Order> process(String endpoint, List<OrderRequest> orderRequests, boolean ordered) {
+        ResourceUsage usage = ResourceUsageContext.current();
+        if (ordered) {
+            List<Order> validOrders = pool.invoke(
+                    new ConvertTask(endpoint, orderRequests, 0, orderRequests.size(), null, usage));
+            return orderBatchSaver.save(endpoint, validOrders);
+        }
+        ConcurrentLinkedQueue<List<Order>> savedChunks = new ConcurrentLinkedQueue<>();
+        pool.invoke(new ConvertTask(endpoint, orderRequests, 0, orderRequests.size(), savedChunks, usage));
+        List<Order> savedOrders = new ArrayList<>(orderRequests.size());
+        savedChunks.forEach(savedOrders::addAll);
+        return savedOrders;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * [from, to) 구간을 청크 크기 이하가 될 때까지 둘로 나누어 처리한다.
+     * savedChunks가 있으면(순서 미보장) 청크마다 바로 저장하고, 없으면 검증된 주문을 입력 순서대로 합쳐 반환한다.
+     * 청크 처리에 쓴 사용량은 usage(호출 스레드에서 측정 중인 작업, 없으면 null)에 더한다
+     */
+    private final class ConvertTask extends RecursiveTask<List<Order>> {
+        private final String endpoint;
+        private final List<OrderRequest> orderRequests;
+        private final int from;
+        private final int to;
+        private final ConcurrentLinkedQueue<List<Order>> savedChunks;
+        private final ResourceUsage usage;
+
+        private ConvertTask(String endpoint, List<OrderRequest> orderRequests, int from, int to,
+                            ConcurrentLinkedQueue<List<Order>> savedChunks, ResourceUsage usage) {
+            this.endpoint = endpoint;
+            this.orderRequests = orderRequests;
+            this.from = from;
+            this.to = to;
+            this.savedChunks = savedChunks;
+            this.usage = usage;
+        }
+
+        @Override
+        protected List<Order> compute() {
+            if (to - from <= chunkSize) {
+                return ResourceUsageContext.track(usage, this::computeChunk);
+            }
+            int middle = (from + to) >>> 1;
+            ConvertTask left = new ConvertTask(endpoint, orderRequests, from, middle, savedChunks, usage);
+            ConvertTask right = new ConvertTask(endpoint, orderRequests, middle, to, savedChunks, usage);
+            left.fork();
+            List<Order> rightResult = right.compute();
+            List<Order> leftResult = left.join();
+            if (savedChunks != null) {
+                return List.of();
+            }
+            List<Order> merged = new ArrayList<>(leftResult.size() + rightResult.size());
+            merged.addAll(leftResult);
+            merged.addAll(rightResult);
+            return merged;
+        }
+
+        private List<Order> computeChunk() {
+            List<Order> validOrders = convertAndValidate(endpoint, orderRequests, from, to);
+            if (savedChunks != null) {
+                savedChunks.add(orderBatchSaver.save(endpoint, validOrders));
+                return List.of();
+            }
+            return validOrders;
+        }
+    }
+
+    private List<Order> convertAndValidate(String endpoint, List<OrderRequest> orderRequests, int from, int to) {
+        List<Order> validOrders = new ArrayList<>(to - from);
+        OrderRejectionSink rejections = (index, orderId, code, reason) -> {
+            logger.warn("주문 제외 [{}]: {} {}", orderId, code.getDescription(), reason != null ? reason : "");
+            if (endpoint != null) {
+                deadLetterStore.add(DeadLetterType.IMPORT, endpoint, orderId, orderRequests.get(index),
+                        OrderRecordClassifier.deadLetterReason(code, reason));
+            }
+        };
+        for (int i = from; i < to; i++) {
+            Order order = classifier.classify(orderRequests.get(i), i, rejections);
+            if (order != null) {
+                validOrders.add(order);
+            }
+        }
+        return validOrders;
+    }
+}
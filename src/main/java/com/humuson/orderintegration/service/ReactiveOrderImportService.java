@@ -0,0 +1,147 @@
+package com.humuson.orderintegration.service;
+
+import com.humuson.orderintegration.audit.AuditEventType;
+import com.humuson.orderintegration.audit.AuditJournal;
+import com.humuson.orderintegration.audit.AuditOutcome;
+import com.humuson.orderintegration.client.OrderRejectionSink;
+import com.humuson.orderintegration.client.ReactiveExternalSystemClient;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.deadletter.DeadLetterStore;
+import com.humuson.orderintegration.deadletter.DeadLetterType;
+import com.humuson.orderintegration.domain.ImportResultCode;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.monitoring.ResourceAccounting;
+import com.humuson.orderintegration.monitoring.ResourceOperation;
+import com.humuson.orderintegration.monitoring.ResourceUsage;
+import com.humuson.orderintegration.monitoring.ResourceUsageContext;
+import com.humuson.orderintegration.repository.OrderRepository;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * 논블로킹 클라이언트로 주문을 스트리밍하여 가져와 저장한다.
+ * 저장이 끝난 배치만큼만 다음 데이터를 요청하므로(backpressure) 응답 크기와 무관하게 메모리 사용량이 일정하다.
+ * 원본 주문을 한 건씩 순차 Import와 같은 기준으로 분류하므로 잘못된 주문이 있어도 스트림을 끝내지 않고,
+ * 제외된 주문은 원본 레코드를 실패 레코드 저장소에 보관한다.
+ * 작업별 할당량, CPU 시간은 boundedElastic 스레드의 배치 저장만 집계한다. 수신, 분류는 여러 요청이 나눠 쓰는
+ * Reactor 이벤트 루프에서 한 건씩 실행되어 건마다 측정하면 측정 비용이 처리 비용에 가깝기 때문이다.
+ */
+@Service
+public class ReactiveOrderImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveOrderImportService.class);
+
+    private final ReactiveExternalSystemClient reactiveExternalSystemClient;
+    private final OrderRecordClassifier classifier;
+    private final OrderBatchSaver orderBatchSaver;
+    private final DeadLetterStore deadLetterStore;
+    private final AuditJournal auditJournal;
+    private final ResourceAccounting resourceAccounting;
+    private final int batchSize;
+
+    public ReactiveOrderImportService(ReactiveExternalSystemClient reactiveExternalSystemClient,
+                                      OrderRepository orderRepository,
+                                      Validator validator,
+                                      DeadLetterStore deadLetterStore,
+                                      AuditJournal auditJournal,
+                                      ResourceAccounting resourceAccounting,
+                                      @Value("${order.import.reactive.batch-size:500}") int batchSize) {
+        this.reactiveExternalSystemClient = reactiveExternalSystemClient;
+        this.classifier = new OrderRecordClassifier(validator);
+        this.orderBatchSaver = new OrderBatchSaver(orderRepository, deadLetterStore);
+        this.deadLetterStore = deadLetterStore;
+        this.auditJournal = auditJournal;
+        this.resourceAccounting = resourceAccounting;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 외부 시스템에서 주문 데이터를 가져와 저장하고 저장된 건수를 반환한다.
+     * 감사 저널에는 구독 한 번을 한 배치로 묶어 저장한 배치마다 주문을 남긴다
+     */
+    public Mono<Long> importOrders(String endpoint) {
+        return Mono.defer(() -> {
+            logger.info("외부 시스템에서 주문 데이터 스트리밍 가져오기 시작: {}", endpoint);
+            long start = System.nanoTime();
+            long batchId = auditJournal.nextBatchId();
+            RecordClassification classification = new RecordClassification(endpoint);
+            ResourceUsage usage = resourceAccounting.beginDetached(ResourceOperation.IMPORT_REACTIVE, endpoint);
+
+            return reactiveExternalSystemClient.fetchOrderRequests(endpoint)
+                    .<Order>handle((orderRequest, sink) -> {
+                        Order order = classification.classify(orderRequest);
+                        if (order != null) {
+                            sink.next(order);
+                        }
+                    })
+                    .buffer(batchSize)
+                    // 저장소 쓰기는 이벤트 루프를 막지 않도록 별도 스케줄러에서 배치 단위로 하나씩 처리한다
+                    .concatMap(batch -> Mono.fromCallable(() -> ResourceUsageContext.track(usage,
+                                    () -> saveBatch(endpoint, batchId, start, batch)))
+                            .subscribeOn(Schedulers.boundedElastic()), 1)
+                    .reduce(0L, Long::sum)
+                    .doOnSuccess(saved -> {
+                        logger.info("스트리밍 저장된 주문 수: {}", saved);
+                        if (saved == 0) {
+                            auditJournal.record(batchId, AuditEventType.IMPORT, endpoint, AuditOutcome.SUCCESS, start,
+                                    List.of());
+                        }
+                    })
+                    .doOnError(e -> {
+                        logger.error("주문 데이터 스트리밍 가져오기 실패: {}", e.getMessage());
+                        auditJournal.record(batchId, AuditEventType.IMPORT, endpoint, AuditOutcome.FAILURE, start,
+                                List.of());
+                    })
+                    // 구독자가 결과를 받기 전에 집계되도록 doFinally 대신 종료, 취소 신호에서 끝낸다
+                    .doOnTerminate(() -> finishUsage(usage, classification))
+                    .doOnCancel(() -> finishUsage(usage, classification));
+        });
+    }
+
+    private static void finishUsage(ResourceUsage usage, RecordClassification classification) {
+        usage.setRecords(classification.position);
+        usage.finish();
+    }
+
+    private long saveBatch(String endpoint, long batchId, long start, List<Order> batch) {
+        List<Order> savedOrders = orderBatchSaver.save(endpoint, batch);
+        if (!savedOrders.isEmpty()) {
+            auditJournal.record(batchId, AuditEventType.IMPORT, endpoint, AuditOutcome.SUCCESS, start, savedOrders);
+        }
+        return savedOrders.size();
+    }
+
+    /**
+     * 구독 하나의 입력 위치와 분류 중인 원본 레코드를 들고 있다가, 제외된 주문을 실패 레코드 저장소에 보관한다.
+     * handle은 한 번에 한 건씩 호출되므로 구독 안에서는 동기화가 필요 없다
+     */
+    private final class RecordClassification implements OrderRejectionSink {
+        private final String endpoint;
+        private int position;
+        private OrderRequest current;
+
+        private RecordClassification(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        private Order classify(OrderRequest orderRequest) {
+            current = orderRequest;
+            return classifier.classify(orderRequest, position++, this);
+        }
+
+        @Override
+        public void reject(int index, String orderId, ImportResultCode code, String reason) {
+            logger.warn("주문 제외 [{}] (위치 {}): {} {}", orderId, index, code.getDescription(),
+                    reason != null ? reason : "");
+            deadLetterStore.add(DeadLetterType.IMPORT, endpoint, orderId, current,
+                    OrderRecordClassifier.deadLetterReason(code, reason));
+        }
+    }
+}
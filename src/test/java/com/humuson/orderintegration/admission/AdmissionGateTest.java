@@ -0,0 +1,129 @@
+package com.humuson.orderintegration.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionGateTest {
+
+    @Test
+    void tryAcquire_동시_처리_한도까지_바로_허가() throws InterruptedException {
+        // Given
+        AdmissionGate gate = new AdmissionGate(AdmissionOperation.IMPORT, 2, 0, Duration.ZERO);
+
+        // When
+        AdmissionGate.Permit first = gate.tryAcquire();
+        AdmissionGate.Permit second = gate.tryAcquire();
+        AdmissionGate.Permit third = gate.tryAcquire();
+
+        // Then
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNull(third);
+        assertEquals(2, gate.getActive());
+        assertEquals(2, gate.getAdmittedCount());
+        assertEquals(1, gate.getQueueFullCount());
+    }
+
+    @Test
+    void tryAcquire_대기_시간이_지나면_거절() throws InterruptedException {
+        // Given
+        AdmissionGate gate = new AdmissionGate(AdmissionOperation.EXPORT, 1, 1, Duration.ofMillis(20));
+        assertNotNull(gate.tryAcquire());
+
+        // When
+        AdmissionGate.Permit permit = gate.tryAcquire();
+
+        // Then
+        assertNull(permit);
+        assertEquals(1, gate.getWaitTimeoutCount());
+        assertEquals(0, gate.getQueueFullCount());
+        assertEquals(0, gate.getQueued());
+    }
+
+    @Test
+    void tryAcquire_대기_중인_요청은_반납되면_허가() throws Exception {
+        // Given
+        AdmissionGate gate = new AdmissionGate(AdmissionOperation.READ, 1, 1, Duration.ofSeconds(5));
+        AdmissionGate.Permit holding = gate.tryAcquire();
+        CompletableFuture<AdmissionGate.Permit> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return gate.tryAcquire();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gate.getQueued() == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(1, gate.getQueued());
+
+        // 대기열이 가득 차 있으면 기다리지 않고 거절한다
+        assertNull(gate.tryAcquire());
+        assertEquals(1, gate.getQueueFullCount());
+
+        // When
+        holding.release();
+
+        // Then
+        AdmissionGate.Permit permit = waiting.get(5, TimeUnit.SECONDS);
+        assertNotNull(permit);
+        assertTrue(permit.getWaitNanos() > 0);
+        assertEquals(0, gate.getQueued());
+        assertEquals(2, gate.getAdmittedCount());
+    }
+
+    @Test
+    void release_두_번_호출해도_허가는_한_번만_반납() throws InterruptedException {
+        // Given
+        AdmissionGate gate = new AdmissionGate(AdmissionOperation.IMPORT, 1, 0, Duration.ZERO);
+        AdmissionGate.Permit permit = gate.tryAcquire();
+
+        // When
+        permit.release();
+        permit.release();
+
+        // Then
+        assertEquals(0, gate.getActive());
+        assertNotNull(gate.tryAcquire());
+        assertNull(gate.tryAcquire());
+    }
+
+    @Test
+    void retryAfterSeconds_최소_1초() throws InterruptedException {
+        // Given
+        AdmissionGate gate = new AdmissionGate(AdmissionOperation.IMPORT, 1, 0, Duration.ZERO);
+        gate.tryAcquire().release();
+
+        // When & Then
+        assertEquals(1, gate.retryAfterSeconds());
+    }
+
+    @Test
+    void 잘못된_설정이면_예외() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdmissionGate(AdmissionOperation.IMPORT, 0, 0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdmissionGate(AdmissionOperation.IMPORT, 1, -1, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdmissionGate(AdmissionOperation.IMPORT, 1, 0, Duration.ofMillis(-1)));
+    }
+
+    @Test
+    void classify_주문_API와_재처리_요청만_작업별로_분류() {
+        assertEquals(AdmissionOperation.READ, AdmissionOperation.classify("GET", "/api/orders"));
+        assertEquals(AdmissionOperation.READ, AdmissionOperation.classify("GET", "/api/orders/ORDER001"));
+        assertEquals(AdmissionOperation.IMPORT, AdmissionOperation.classify("POST", "/api/orders/import/parallel"));
+        assertEquals(AdmissionOperation.EXPORT, AdmissionOperation.classify("POST", "/api/orders/export/stream"));
+        assertEquals(AdmissionOperation.UPDATE, AdmissionOperation.classify("POST", "/api/orders/status/transition"));
+        assertEquals(AdmissionOperation.UPDATE, AdmissionOperation.classify("POST", "/api/admin/dead-letters/replay"));
+        assertNull(AdmissionOperation.classify("GET", "/api/admin/dead-letters/replay"));
+        assertNull(AdmissionOperation.classify("GET", "/api/admin/audit"));
+        assertNull(AdmissionOperation.classify("GET", "/api/ordersx"));
+    }
+}
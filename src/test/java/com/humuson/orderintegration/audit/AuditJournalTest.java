@@ -0,0 +1,280 @@
+package com.humuson.orderintegration.audit;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.exception.DataIntegrationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditJournalTest {
+
+    private static final String ENDPOINT = "http://external-system.com/orders";
+
+    @TempDir
+    Path dir;
+
+    private final List<AuditJournal> journals = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        journals.forEach(AuditJournal::close);
+    }
+
+    @Test
+    void query_주문ID로_기록된_레코드만_조회() {
+        // Given
+        AuditJournal journal = open(1000, 4);
+        long batchId = journal.nextBatchId();
+        journal.record(batchId, AuditEventType.IMPORT, ENDPOINT, AuditOutcome.SUCCESS, System.nanoTime(),
+                List.of(createTestOrder("ORDER001"), createTestOrder("ORDER002")));
+        journal.record(AuditEventType.EXPORT, ENDPOINT, AuditOutcome.FAILURE, System.nanoTime(),
+                List.of(createTestOrder("ORDER002")));
+        assertTrue(journal.flush(Duration.ofSeconds(5)));
+
+        // When
+        List<AuditRecord> records = journal.query("ORDER002", null, null, 100);
+
+        // Then
+        assertEquals(2, records.size());
+        AuditRecord imported = records.get(0);
+        assertEquals(batchId, imported.getBatchId());
+        assertEquals(AuditEventType.IMPORT, imported.getType());
+        assertEquals(AuditOutcome.SUCCESS, imported.getOutcome());
+        assertEquals(ENDPOINT, imported.getEndpoint());
+        assertEquals(2, imported.getBatchSize());
+        assertNull(imported.getNetworkMillis());
+        assertEquals(AuditEventType.EXPORT, records.get(1).getType());
+        assertEquals(AuditOutcome.FAILURE, records.get(1).getOutcome());
+        // 같은 내용의 주문은 같은 해시를 남긴다
+        assertEquals(imported.getContentHash(), records.get(1).getContentHash());
+        assertEquals(3, journal.getSummary().getWrittenRecords());
+    }
+
+    @Test
+    void record_기록_뒤_주문을_고쳐도_기록_시점_내용의_해시를_남김() {
+        // Given
+        AuditJournal journal = open(1000, 4);
+        Order order = createTestOrder("ORDER001");
+        journal.record(AuditEventType.IMPORT, ENDPOINT, AuditOutcome.SUCCESS, System.nanoTime(), List.of(order));
+
+        // When
+        order.setStatus(OrderStatus.CANCELLED);
+        journal.record(AuditEventType.IMPORT, ENDPOINT, AuditOutcome.SUCCESS, System.nanoTime(), List.of(order));
+        journal.record(AuditEventType.IMPORT, ENDPOINT, AuditOutcome.SUCCESS, System.nanoTime(),
+                List.of(createTestOrder("ORDER001")));
+        assertTrue(journal.flush(Duration.ofSeconds(5)));
+
+        // Then
+        List<AuditRecord> records = journal.query("ORDER001", null, null, 100);
+        assertEquals(3, records.size());
+        assertNotEquals(records.get(0).getContentHash(), records.get(1).getContentHash());
+        assertEquals(records.get(0).getContentHash(), records.get(2).getContentHash());
+    }
+
+    @Test
+    void record_주문이_없으면_주문ID_없는_레코드_한_건() {
+        // Given
+        AuditJournal journal = open(1000, 4);
+
+        // When
+        journal.record(AuditEventType.IMPORT, ENDPOINT, AuditOutcome.FAILURE, System.nanoTime(), List.of());
+        assertTrue(journal.flush(Duration.ofSeconds(5)));
+
+        // Then
+        List<AuditRecord> records = journal.query(null, null, null, 100);
+        assertEquals(1, records.size());
+        assertNull(records.get(0).getOrderId());
+        assertNull(records.get(0).getContentHash());
+        assertEquals(AuditOutcome.FAILURE, records.get(0).getOutcome());
+        assertTrue(journal.query("ORDER001", null, null, 100).isEmpty());
+    }
+
+    @Test
+    void record_파일이_가득_차면_새_파일로_넘기고_한도를_넘은_오래된_파일은_보관_디렉터리로_이동() throws IOException {
+        // Given
+        Path archive = dir.resolve("archive");
+        AuditJournal journal = open(dir.resolve("journal"), archive.toString(), 4, 2, 1000, Duration.ZERO);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            journal.record(AuditEventType.IMPORT, ENDPOINT, AuditOutcome.SUCCESS, System.nanoTime(),
+                    List.of(createTestOrder(String.format("ORDER%03d", i))));
+        }
+        assertTrue(journal.flush(Duration.ofSeconds(5)));
+
+        // Then
+        assertEquals(2, journalFileCount(dir.resolve("journal")));
+        assertEquals(1, journalFileCount(archive));
+        assertTrue(Files.exists(archive.resolve("endpoints")));
+        List<AuditRecord> records = journal.query(null, null, null, 100);
+        assertEquals(6, records.size());
+        assertEquals("ORDER004", records.get(0).getOrderId());
+        assertEquals("ORDER009", records.get(5).getOrderId());
+        assertEquals(2, journal.query(null, null, null, 2).size());
+    }
+
+    @Test
+    void record_보관_디렉터리가_없으면_한도를_넘어도_파일을_지우지_않음() throws IOException {
+        // Given
+        AuditJournal journal = open(4, 2);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            journal.record(AuditEventType.IMPORT, ENDPOINT, AuditOutcome.SUCCESS, System.nanoTime(),
+                    List.of(createTestOrder(String.format("ORDER%03d", i))));
+        }
+        assertTrue(journal.flush(Duration.ofSeconds(5)));
+
+        // Then
+        assertEquals(3, journalFileCount(dir));
+        List<AuditRecord> records = journal.query(null, null, null, 100);
+        assertEquals(10, records.size());
+        assertEquals("ORDER000", records.get(0).getOrderId());
+    }
+
+    @Test
+    void record_큐가_가득_차면_기다렸다가_기록() {
+        // Given
+        AuditJournal journal = open(dir, null, 1000, 4, 1, Duration.ofSeconds(5));
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            journal.record(AuditEventType.IMPORT, ENDPOINT, AuditOutcome.SUCCESS, System.nanoTime(),
+                    List.of(createTestOrder(String.format("ORDER%03d", i))));
+        }
+        assertTrue(journal.flush(Duration.ofSeconds(5)));
+
+        // Then
+        AuditJournalSummary summary = journal.getSummary();
+        assertEquals(200, summary.getWrittenRecords());
+        assertEquals(0, summary.getDroppedRecords());
+    }
+
+    @Test
+    void record_기다리지_않으면_버린_건수를_요약과_지표로_노출() {
+        // Given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuditJournal journal = new AuditJournal(meterRegistry, true, dir.toString(), null, 1000, 4, 1, Duration.ZERO);
+        journals.add(journal);
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            journal.record(AuditEventType.IMPORT, ENDPOINT, AuditOutcome.SUCCESS, System.nanoTime(),
+                    List.of(createTestOrder("ORDER001"), createTestOrder("ORDER002")));
+        }
+        assertTrue(journal.flush(Duration.ofSeconds(5)));
+
+        // Then
+        // 기록되거나 버려진 건수가 빠짐없이 집계된다
+        AuditJournalSummary summary = journal.getSummary();
+        assertEquals(1000, summary.getWrittenRecords() + summary.getDroppedRecords());
+        assertEquals(summary.getDroppedRecords() * 2, summary.getDroppedBatches() * 4);
+        assertEquals((double) summary.getDroppedRecords(),
+                meterRegistry.get("order.audit.dropped").tag("unit", "records").functionCounter().count());
+        assertEquals((double) summary.getDroppedBatches(),
+                meterRegistry.get("order.audit.dropped").tag("unit", "batches").functionCounter().count());
+    }
+
+    @Test
+    void 같은_디렉터리를_쓰는_저널이_있으면_시작하지_않음() {
+        // Given
+        open(1000, 4);
+
+        // When & Then
+        assertThrows(DataIntegrationException.class, () -> open(1000, 4));
+    }
+
+    @Test
+    void query_기간_밖의_레코드는_제외() {
+        // Given
+        AuditJournal journal = open(1000, 4);
+        journal.record(AuditEventType.IMPORT, ENDPOINT, AuditOutcome.SUCCESS, System.nanoTime(),
+                List.of(createTestOrder("ORDER001")));
+        assertTrue(journal.flush(Duration.ofSeconds(5)));
+        LocalDateTime now = LocalDateTime.now();
+
+        // When & Then
+        assertEquals(1, journal.query(null, now.minusMinutes(1), now.plusMinutes(1), 100).size());
+        assertTrue(journal.query(null, now.plusMinutes(1), null, 100).isEmpty());
+        assertTrue(journal.query(null, null, now.minusMinutes(1), 100).isEmpty());
+    }
+
+    @Test
+    void 다시_열면_이전_기록을_조회하고_이어서_기록() {
+        // Given
+        AuditJournal journal = open(1000, 4);
+        journal.record(AuditEventType.IMPORT, ENDPOINT, AuditOutcome.SUCCESS, System.nanoTime(),
+                List.of(createTestOrder("ORDER001")));
+        journal.close();
+
+        // When
+        AuditJournal reopened = open(1000, 4);
+        reopened.record(AuditEventType.EXPORT, "http://partner.com/orders", AuditOutcome.SUCCESS, System.nanoTime(),
+                List.of(createTestOrder("ORDER001")));
+        assertTrue(reopened.flush(Duration.ofSeconds(5)));
+
+        // Then
+        List<AuditRecord> records = reopened.query("ORDER001", null, null, 100);
+        assertEquals(2, records.size());
+        assertEquals(ENDPOINT, records.get(0).getEndpoint());
+        assertEquals("http://partner.com/orders", records.get(1).getEndpoint());
+    }
+
+    @Test
+    void 비활성화하면_기록하지_않음() {
+        // Given
+        AuditJournal journal = new AuditJournal(new SimpleMeterRegistry(), false, dir.resolve("disabled").toString(),
+                null, 1000, 4, 100, Duration.ZERO);
+
+        // When
+        journal.record(AuditEventType.IMPORT, ENDPOINT, AuditOutcome.SUCCESS, System.nanoTime(),
+                List.of(createTestOrder("ORDER001")));
+
+        // Then
+        assertTrue(journal.query(null, null, null, 100).isEmpty());
+        assertFalse(journal.getSummary().isEnabled());
+        assertFalse(Files.exists(dir.resolve("disabled")));
+    }
+
+    private AuditJournal open(int recordsPerFile, int maxFiles) {
+        return open(dir, null, recordsPerFile, maxFiles, 1000, Duration.ZERO);
+    }
+
+    private AuditJournal open(Path journalDir, String archiveDir, int recordsPerFile, int maxFiles, int queueCapacity,
+                              Duration maxBlock) {
+        AuditJournal journal = new AuditJournal(new SimpleMeterRegistry(), true, journalDir.toString(), archiveDir,
+                recordsPerFile, maxFiles, queueCapacity, maxBlock);
+        journals.add(journal);
+        return journal;
+    }
+
+    private long journalFileCount(Path journalDir) throws IOException {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".journal")).count();
+        }
+    }
+
+    private Order createTestOrder(String orderId) {
+        return Order.builder()
+                .orderId(orderId)
+                .customerName("고객")
+                .orderDate(LocalDateTime.of(2024, 1, 1, 10, 0, 0))
+                .status(OrderStatus.PROCESSING)
+                .description("테스트 주문")
+                .build();
+    }
+}
@@ -3,7 +3,9 @@ package com.humuson.orderintegration.client;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.humuson.orderintegration.client.dto.ExternalSystemResponse;
+import com.humuson.orderintegration.client.dto.OrderItemResult;
 import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.client.dto.OrderSendResult;
 import com.humuson.orderintegration.domain.Order;
 import com.humuson.orderintegration.domain.OrderStatus;
 import com.humuson.orderintegration.exception.ExternalSystemException;
@@ -15,17 +17,25 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -75,6 +85,27 @@ class HttpExternalSystemClientTest {
         verify(restTemplate).exchange(eq(endpoint), eq(HttpMethod.GET), any(), eq(String.class));
     }
 
+    @Test
+    void fetchOrders_변환할_수_없는_레코드만_건너뜀() throws Exception {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        String responseBody = "[]";
+        when(restTemplate.exchange(eq(endpoint), eq(HttpMethod.GET), any(), eq(String.class)))
+                .thenReturn(new ResponseEntity<>(responseBody, HttpStatus.OK));
+        when(objectMapper.readValue(eq(responseBody), any(TypeReference.class))).thenReturn(Arrays.asList(
+                OrderRequest.builder().orderId("ORDER001").orderDate("2024-01-01 10:00:00").status("PAID").build(),
+                OrderRequest.builder().orderId("ORDER002").orderDate("2024-13-01 10:00:00").status("SHIPPING").build(),
+                OrderRequest.builder().orderId("ORDER003").orderDate("2024-01-01 10:00:00").status("shipping").build()));
+
+        // When
+        List<Order> result = httpClient.fetchOrders(endpoint);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("ORDER003", result.get(0).getOrderId());
+        assertEquals(OrderStatus.SHIPPING, result.get(0).getStatus());
+    }
+
     @Test
     void fetchOrders_HTTP_오류() {
         // Given
@@ -131,4 +162,103 @@ class HttpExternalSystemClientTest {
         assertTrue(result);
         verify(restTemplate).exchange(eq(endpoint), eq(HttpMethod.POST), any(), eq(ExternalSystemResponse.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void sendOrdersWithResults_207_응답의_건별_결과() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        List<Order> orders = Stream.of("ORDER001", "ORDER002", "ORDER003").map(orderId -> Order.builder()
+                .orderId(orderId)
+                .customerName("고객1")
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.PROCESSING)
+                .build()).toList();
+
+        ExternalSystemResponse<Object> mockResponse = ExternalSystemResponse.builder()
+                .success(false)
+                .message("일부 주문 처리 실패")
+                .items(List.of(
+                        OrderItemResult.builder().orderId("ORDER002").success(false).message("재고 확인 실패").build(),
+                        OrderItemResult.builder().orderId("ORDER001").success(true).build()))
+                .build();
+
+        when(restTemplate.exchange(eq(endpoint), eq(HttpMethod.POST), any(), eq(ExternalSystemResponse.class)))
+                .thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.MULTI_STATUS));
+
+        // When
+        OrderSendResult result = httpClient.sendOrdersWithResults(endpoint, orders);
+
+        // Then
+        assertFalse(result.isSuccess());
+        assertEquals(List.of("ORDER001", "ORDER002", "ORDER003"),
+                result.getItems().stream().map(OrderItemResult::getOrderId).toList());
+        assertTrue(result.getItems().get(0).isSuccess());
+        assertEquals("재고 확인 실패", result.getItems().get(1).getMessage());
+        // 결과가 빠진 주문은 207 응답이므로 실패로 본다
+        assertFalse(result.getItems().get(2).isSuccess());
+        assertEquals(2, result.failedItems().size());
+    }
+
+    @Test
+    void sendOrdersWithResults_같은_주문_ID의_결과를_보낸_순서대로_따로_매김() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        Order order = Order.builder()
+                .orderId("ORDER001")
+                .customerName("고객1")
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.PROCESSING)
+                .build();
+
+        ExternalSystemResponse<Object> mockResponse = ExternalSystemResponse.builder()
+                .success(false)
+                .message("일부 주문 처리 실패")
+                .items(List.of(
+                        OrderItemResult.builder().orderId("ORDER001").success(true).build(),
+                        OrderItemResult.builder().orderId("ORDER001").success(false).message("중복 주문").build()))
+                .build();
+
+        when(restTemplate.exchange(eq(endpoint), eq(HttpMethod.POST), any(), eq(ExternalSystemResponse.class)))
+                .thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.MULTI_STATUS));
+
+        // When
+        OrderSendResult result = httpClient.sendOrdersWithResults(endpoint, List.of(order, order));
+
+        // Then
+        assertTrue(result.getItems().get(0).isSuccess());
+        assertFalse(result.getItems().get(1).isSuccess());
+        assertEquals("중복 주문", result.getItems().get(1).getMessage());
+    }
+
+    @Test
+    void sendOrderStream_성공() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        HttpExternalSystemClient streamingClient = new HttpExternalSystemClient(restTemplate, new ObjectMapper());
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create(endpoint));
+        MockClientHttpResponse response = new MockClientHttpResponse(
+                "{\"success\":true,\"message\":\"성공\"}".getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+        doAnswer(invocation -> {
+            invocation.<RequestCallback>getArgument(2).doWithRequest(request);
+            return invocation.<ResponseExtractor<Boolean>>getArgument(3).extractData(response);
+        }).when(restTemplate).execute(eq(endpoint), eq(HttpMethod.POST), any(RequestCallback.class), any(ResponseExtractor.class));
+
+        Stream<Order> orders = Stream.of("ORDER001", "ORDER002").map(orderId -> Order.builder()
+                .orderId(orderId)
+                .customerName("고객1")
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.PROCESSING)
+                .build());
+
+        // When
+        boolean result = streamingClient.sendOrderStream(endpoint, orders);
+
+        // Then
+        assertTrue(result);
+        String body = request.getBodyAsString();
+        assertTrue(body.startsWith("[{\"orderId\":\"ORDER001\""));
+        assertTrue(body.contains("\"orderId\":\"ORDER002\""));
+        assertTrue(body.endsWith("}]"));
+    }
+}
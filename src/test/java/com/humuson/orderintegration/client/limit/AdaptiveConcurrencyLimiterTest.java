@@ -0,0 +1,103 @@
+package com.humuson.orderintegration.client.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long RTT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    void onSample_응답시간이_일정하면_한도_증가() {
+        // Given
+        GradientLimit limit = new GradientLimit(10, 1, 100, 0.2, 1.5, 0.9);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT_NANOS, limit.getLimit());
+        }
+
+        // Then
+        assertTrue(limit.getLimit() > 10, "limit=" + limit.getLimit());
+    }
+
+    @Test
+    void onSample_큐잉으로_응답시간이_늘어나면_한도_감소() {
+        // Given
+        GradientLimit limit = new GradientLimit(10, 1, 100, 0.2, 1.5, 0.9);
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT_NANOS, limit.getLimit());
+        }
+        int grownLimit = limit.getLimit();
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT_NANOS * 4, limit.getLimit());
+        }
+
+        // Then
+        assertTrue(limit.getLimit() < grownLimit, "grown=" + grownLimit + ", limit=" + limit.getLimit());
+    }
+
+    @Test
+    void onSample_한도의_절반_미만_사용시_유지() {
+        // Given
+        GradientLimit limit = new GradientLimit(20, 1, 100, 0.2, 1.5, 0.9);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT_NANOS, 2);
+        }
+
+        // Then
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void onDropped_곱셈_감소_후_최소값_유지() {
+        // Given
+        GradientLimit limit = new GradientLimit(20, 2, 100, 0.2, 1.5, 0.5);
+
+        // When
+        limit.onDropped();
+        int afterOneDrop = limit.getLimit();
+        for (int i = 0; i < 10; i++) {
+            limit.onDropped();
+        }
+
+        // Then
+        assertEquals(10, afterOneDrop);
+        assertEquals(2, limit.getLimit());
+    }
+
+    @Test
+    void tryAcquire_한도_도달시_거절() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("partner",
+                new GradientLimit(2, 1, 10, 0.2, 1.5, 0.9));
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire().orElseThrow();
+        limiter.tryAcquire().orElseThrow();
+
+        // When
+        Optional<AdaptiveConcurrencyLimiter.Permit> rejected = limiter.tryAcquire();
+        first.onIgnore();
+        first.onIgnore();
+        Optional<AdaptiveConcurrencyLimiter.Permit> afterRelease = limiter.tryAcquire();
+
+        // Then
+        assertTrue(rejected.isEmpty());
+        assertTrue(afterRelease.isPresent());
+        assertEquals(1, limiter.getRejectedCount());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void endpointKey_쿼리_제외() {
+        assertEquals("localhost:8080/external-system/orders",
+                ConcurrencyLimiterRegistry.endpointKey("http://localhost:8080/external-system/orders?count=10"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.humuson.orderintegration.client.limit;
+
+import com.humuson.orderintegration.client.HttpExternalSystemClient;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LimitingExternalSystemClientTest {
+
+    private static final String ENDPOINT = "http://partner/orders";
+
+    @Mock
+    private HttpExternalSystemClient delegate;
+
+    private ConcurrencyLimiterRegistry registry;
+    private LimitingExternalSystemClient client;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ConcurrencyLimiterRegistry(new SimpleMeterRegistry(), 1, 1, 10, 0.2, 1.5, 0.9);
+        client = new LimitingExternalSystemClient(delegate, registry);
+    }
+
+    @Test
+    void fetchOrderRequests_Error가_나도_허가_반환() {
+        // Given
+        when(delegate.fetchBody(ENDPOINT)).thenThrow(new OutOfMemoryError("테스트"));
+
+        // When
+        assertThrows(OutOfMemoryError.class, () -> client.fetchOrderRequests(ENDPOINT));
+
+        // Then
+        assertEquals(0, registry.limiterFor("GET", ENDPOINT).getInFlight());
+    }
+
+    @Test
+    void fetchOrderRequests_응답_해석은_허가를_반환한_뒤_수행() {
+        // Given
+        when(delegate.fetchBody(ENDPOINT)).thenReturn("[]");
+        when(delegate.parseOrderRequests("[]")).thenAnswer(invocation -> {
+            assertEquals(0, registry.limiterFor("GET", ENDPOINT).getInFlight());
+            return List.<OrderRequest>of();
+        });
+
+        // When
+        List<OrderRequest> requests = client.fetchOrderRequests(ENDPOINT);
+
+        // Then
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    void limiterFor_같은_엔드포인트도_메서드별로_분리() {
+        // Given
+        when(delegate.fetchBody(ENDPOINT)).thenAnswer(invocation -> {
+            // 조회 허가를 잡고 있어도 전송 한도(1)는 별도로 남아 있다
+            assertTrue(registry.limiterFor("POST", ENDPOINT).tryAcquire().isPresent());
+            return "[]";
+        });
+        when(delegate.parseOrderRequests(anyString())).thenReturn(List.of());
+
+        // When
+        client.fetchOrderRequests(ENDPOINT);
+
+        // Then
+        assertNotSame(registry.limiterFor("GET", ENDPOINT), registry.limiterFor("POST", ENDPOINT));
+        assertEquals(2, registry.getLimiters().size());
+    }
+
+    @Test
+    void sendOrdersWithResults_직렬화_실패는_허가를_잡지_않음() {
+        // Given
+        when(delegate.serializeOrders(any())).thenThrow(new IllegalStateException("직렬화 실패"));
+
+        // When
+        assertThrows(IllegalStateException.class, () -> client.sendOrdersWithResults(ENDPOINT, List.of()));
+
+        // Then
+        assertTrue(registry.getLimiters().isEmpty());
+    }
+}
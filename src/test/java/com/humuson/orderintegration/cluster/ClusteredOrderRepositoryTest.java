@@ -0,0 +1,239 @@
+package com.humuson.orderintegration.cluster;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.exception.ClusterNodeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClusteredOrderRepositoryTest {
+
+    private static final String NODE_A = "http://node-a";
+    private static final String NODE_B = "http://node-b";
+    private static final String NODE_C = "http://node-c";
+
+    @Mock
+    private ClusterNodeClient clusterNodeClient;
+
+    private ClusteredOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        // 설정 주소의 끝 / 는 떼고 비교한다
+        repository = new ClusteredOrderRepository(clusterNodeClient, List.of(NODE_A, NODE_B + "/", NODE_C),
+                NODE_A, 160, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.shutdown();
+    }
+
+    @Test
+    void save_소유_노드가_자신이면_로컬에_저장하고_아니면_소유_노드로_보냄() {
+        // Given
+        Order localOrder = createTestOrder(orderIdsOwnedBy(NODE_A, 1).get(0));
+        Order remoteOrder = createTestOrder(orderIdsOwnedBy(NODE_B, 1).get(0));
+
+        // When
+        repository.save(localOrder);
+        repository.save(remoteOrder);
+
+        // Then
+        assertTrue(repository.local().existsById(localOrder.getOrderId()));
+        assertFalse(repository.local().existsById(remoteOrder.getOrderId()));
+        verify(clusterNodeClient).saveAll(NODE_B, List.of(remoteOrder));
+        verify(clusterNodeClient, never()).saveAll(eq(NODE_A), anyList());
+    }
+
+    @Test
+    void findById_소유_노드에서만_조회() {
+        // Given
+        String remoteId = orderIdsOwnedBy(NODE_C, 1).get(0);
+        Order remoteOrder = createTestOrder(remoteId);
+        when(clusterNodeClient.findById(NODE_C, remoteId)).thenReturn(Optional.of(remoteOrder));
+        String localId = orderIdsOwnedBy(NODE_A, 1).get(0);
+
+        // When & Then
+        assertSame(remoteOrder, repository.findById(remoteId).orElseThrow());
+        assertTrue(repository.findById(localId).isEmpty());
+        verify(clusterNodeClient, never()).findById(NODE_A, localId);
+    }
+
+    @Test
+    void saveAll_노드별로_묶어_batch_size씩_나눠_보냄() {
+        // Given
+        List<Order> orders = new ArrayList<>();
+        orderIdsOwnedBy(NODE_A, 3).forEach(id -> orders.add(createTestOrder(id)));
+        orderIdsOwnedBy(NODE_B, 5).forEach(id -> orders.add(createTestOrder(id)));
+
+        // When
+        repository.saveAll(orders);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Order>> batches = ArgumentCaptor.forClass(List.class);
+        verify(clusterNodeClient, times(3)).saveAll(eq(NODE_B), batches.capture());
+        // 노드마다 동시에 보내므로 호출 순서는 정해져 있지 않다
+        assertEquals(List.of(1, 2, 2), batches.getAllValues().stream().map(List::size).sorted().toList());
+        assertEquals(5, batches.getAllValues().stream().mapToInt(List::size).sum());
+        verify(clusterNodeClient, never()).saveAll(eq(NODE_C), anyList());
+        assertEquals(3, repository.local().getStatistics().getTotalCount());
+    }
+
+    @Test
+    void saveAll_한_노드가_실패해도_나머지_노드는_저장하고_실패를_던짐() {
+        // Given
+        List<Order> orders = new ArrayList<>();
+        orderIdsOwnedBy(NODE_A, 1).forEach(id -> orders.add(createTestOrder(id)));
+        orderIdsOwnedBy(NODE_B, 1).forEach(id -> orders.add(createTestOrder(id)));
+        orderIdsOwnedBy(NODE_C, 1).forEach(id -> orders.add(createTestOrder(id)));
+        ClusterNodeException failure = new ClusterNodeException(NODE_B, "주문 1건 저장 실패", null);
+        doThrow(failure).when(clusterNodeClient).saveAll(eq(NODE_B), anyList());
+
+        // When
+        ClusterNodeException thrown = assertThrows(ClusterNodeException.class, () -> repository.saveAll(orders));
+
+        // Then
+        assertSame(failure, thrown);
+        verify(clusterNodeClient).saveAll(eq(NODE_C), anyList());
+        assertEquals(1, repository.local().getStatistics().getTotalCount());
+    }
+
+    @Test
+    void findAll_노드_응답_순서와_무관하게_노드_목록_순서로_합침() {
+        // Given
+        Order localOrder = createTestOrder(orderIdsOwnedBy(NODE_A, 1).get(0));
+        repository.save(localOrder);
+        Order orderB = createTestOrder(orderIdsOwnedBy(NODE_B, 1).get(0));
+        Order orderC = createTestOrder(orderIdsOwnedBy(NODE_C, 1).get(0));
+        // node-b가 늦게 응답해도 결과는 nodes 순서를 따른다
+        when(clusterNodeClient.find(NODE_B, null)).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(100);
+            return List.of(orderB);
+        });
+        when(clusterNodeClient.find(NODE_C, null)).thenReturn(List.of(orderC));
+
+        // When
+        List<Order> orders = repository.findAll();
+
+        // Then
+        assertEquals(List.of(localOrder, orderB, orderC), orders);
+    }
+
+    @Test
+    void findByStatus_노드_하나가_실패하면_노드_호출_실패를_던짐() {
+        // Given
+        when(clusterNodeClient.find(NODE_B, OrderStatus.PROCESSING)).thenReturn(List.of());
+        when(clusterNodeClient.find(NODE_C, OrderStatus.PROCESSING))
+                .thenThrow(new ClusterNodeException(NODE_C, "주문 목록 조회 실패", null));
+
+        // When & Then
+        ClusterNodeException thrown = assertThrows(ClusterNodeException.class,
+                () -> repository.findByStatus(OrderStatus.PROCESSING));
+        assertEquals(NODE_C, thrown.getNode());
+    }
+
+    @Test
+    void streamAll_다른_노드_스트림을_하나씩_차례로_열고_다_읽으면_닫음() {
+        // Given
+        Order localOrder = createTestOrder(orderIdsOwnedBy(NODE_A, 1).get(0));
+        repository.save(localOrder);
+        Order orderB = createTestOrder(orderIdsOwnedBy(NODE_B, 1).get(0));
+        Order orderC = createTestOrder(orderIdsOwnedBy(NODE_C, 1).get(0));
+        AtomicBoolean closedB = new AtomicBoolean();
+        AtomicBoolean closedC = new AtomicBoolean();
+        when(clusterNodeClient.stream(NODE_B, null)).thenReturn(Stream.of(orderB).onClose(() -> closedB.set(true)));
+        when(clusterNodeClient.stream(NODE_C, null)).thenReturn(Stream.of(orderC).onClose(() -> closedC.set(true)));
+
+        // When
+        List<Order> orders = new ArrayList<>();
+        try (Stream<Order> stream = repository.streamAll()) {
+            Iterator<Order> iterator = stream.iterator();
+            orders.add(iterator.next());
+            // 로컬 주문을 읽는 동안에는 다른 노드에 연결하지 않는다
+            verifyNoInteractions(clusterNodeClient);
+            orders.add(iterator.next());
+            verify(clusterNodeClient, never()).stream(eq(NODE_C), any());
+            orders.add(iterator.next());
+            assertTrue(closedB.get());
+            assertFalse(iterator.hasNext());
+        }
+
+        // Then
+        assertEquals(List.of(localOrder, orderB, orderC), orders);
+        assertTrue(closedC.get());
+        verify(clusterNodeClient, never()).find(any(), any());
+    }
+
+    @Test
+    void streamByStatus_중간에_닫으면_읽던_노드_스트림도_닫음() {
+        // Given
+        Order orderB = createTestOrder(orderIdsOwnedBy(NODE_B, 1).get(0));
+        AtomicBoolean closedB = new AtomicBoolean();
+        when(clusterNodeClient.stream(NODE_B, OrderStatus.PROCESSING))
+                .thenReturn(Stream.of(orderB, orderB).onClose(() -> closedB.set(true)));
+
+        // When
+        try (Stream<Order> stream = repository.streamByStatus(OrderStatus.PROCESSING)) {
+            assertSame(orderB, stream.iterator().next());
+        }
+
+        // Then
+        assertTrue(closedB.get());
+        verify(clusterNodeClient, never()).stream(eq(NODE_C), any());
+    }
+
+    @Test
+    void 자신이_노드_목록에_없으면_시작하지_않음() {
+        assertThrows(IllegalArgumentException.class, () -> new ClusteredOrderRepository(clusterNodeClient,
+                List.of(NODE_B, NODE_C), NODE_A, 160, 2));
+    }
+
+    private List<String> orderIdsOwnedBy(String node, int count) {
+        List<String> orderIds = new ArrayList<>(count);
+        for (int i = 0; orderIds.size() < count; i++) {
+            String orderId = String.format("ORDER%05d", i);
+            if (repository.ring().ownerOf(orderId).equals(node)) {
+                orderIds.add(orderId);
+            }
+        }
+        return orderIds;
+    }
+
+    private Order createTestOrder(String orderId) {
+        return Order.builder()
+                .orderId(orderId)
+                .customerName("고객")
+                .orderDate(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .status(OrderStatus.PROCESSING)
+                .description("클러스터 주문")
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.humuson.orderintegration.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final List<String> NODES = List.of(
+            "http://localhost:8081", "http://localhost:8082", "http://localhost:8083");
+
+    @Test
+    void ownerOf_주문이_노드에_고르게_나뉨() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, 160);
+        int[] counts = new int[NODES.size()];
+
+        // When
+        for (int i = 0; i < 30_000; i++) {
+            counts[ring.ownerIndexOf(String.format("GEN-42-%010d", i))]++;
+        }
+
+        // Then
+        for (int count : counts) {
+            assertTrue(count > 8_000 && count < 12_000, "노드별 주문 수: " + count);
+        }
+        assertEquals(1.0, ring.ownership().stream().mapToDouble(Double::doubleValue).sum(), 1e-9);
+    }
+
+    @Test
+    void ownerOf_노드를_추가하면_새_노드_몫만_옮겨감() {
+        // Given
+        ConsistentHashRing before = new ConsistentHashRing(NODES, 160);
+        ConsistentHashRing after = new ConsistentHashRing(List.of(
+                "http://localhost:8081", "http://localhost:8082", "http://localhost:8083", "http://localhost:8084"), 160);
+
+        // When
+        int moved = 0;
+        for (int i = 0; i < 20_000; i++) {
+            String orderId = "ORDER" + i;
+            String owner = after.ownerOf(orderId);
+            if (!owner.equals(before.ownerOf(orderId))) {
+                moved++;
+                assertEquals("http://localhost:8084", owner);
+            }
+        }
+
+        // Then
+        assertTrue(moved > 3_500 && moved < 6_500, "옮겨간 주문 수: " + moved);
+    }
+
+    @Test
+    void ownerOf_같은_노드_목록이면_같은_소유_노드() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, 160);
+        ConsistentHashRing sameRing = new ConsistentHashRing(NODES, 160);
+
+        // When & Then
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(ring.ownerOf("ORDER" + i), sameRing.ownerOf("ORDER" + i));
+        }
+    }
+}
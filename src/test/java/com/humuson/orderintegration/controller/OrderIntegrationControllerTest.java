@@ -10,10 +10,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -69,6 +73,85 @@ class OrderIntegrationControllerIntegrationTest {
         assertFalse(response.getBody().isSuccess());
     }
 
+    @Test
+    void getOrdersByStatus_fields_지정한_필드만_응답() {
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/orders/status/PROCESSING?fields=orderId,status", String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().startsWith("{\"success\":true"));
+        assertTrue(response.getBody().contains("{\"orderId\":\"ORDER001\",\"status\":\"PROCESSING\"}"));
+        assertFalse(response.getBody().contains("description"));
+    }
+
+    @Test
+    void getOrder_compact_ApiResponse_없이_주문만_응답() {
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/orders/ORDER001?fields=orderId&compact=true", String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("{\"orderId\":\"ORDER001\"}", response.getBody());
+    }
+
+    @Test
+    void getOrdersByStatus_ndjson_한_줄에_주문_하나() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT, "application/x-ndjson");
+
+        // When
+        ResponseEntity<String> response = restTemplate.exchange(
+                "http://localhost:" + port + "/api/orders/status/PROCESSING?fields=orderId", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+        List<String> lines = response.getBody().lines().toList();
+        assertTrue(lines.contains("{\"orderId\":\"ORDER001\"}"));
+        assertTrue(lines.contains("{\"orderId\":\"ORDER002\"}"));
+        assertTrue(response.getBody().endsWith("\n"));
+    }
+
+    @Test
+    void getAllOrders_알수없는_필드() {
+        // When
+        ResponseEntity<ApiResponse> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/orders?fields=orderId,price", ApiResponse.class);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertFalse(response.getBody().isSuccess());
+    }
+
+    @Test
+    void searchOrders_설명_단어가_모두_들어_있는_주문_조회() {
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/orders/search?q=통합 테스트&status=PROCESSING&fields=orderId",
+                String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("ORDER001"));
+        assertTrue(response.getBody().contains("ORDER002"));
+    }
+
+    @Test
+    void searchOrders_한_글자_검색어() {
+        // When
+        ResponseEntity<ApiResponse> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/orders/search?q=주", ApiResponse.class);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertFalse(response.getBody().isSuccess());
+    }
+
     private Order createTestOrder(String orderId, String customerName) {
         return Order.builder()
                 .orderId(orderId)
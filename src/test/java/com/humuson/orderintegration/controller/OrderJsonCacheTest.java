@@ -0,0 +1,97 @@
+package com.humuson.orderintegration.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humuson.orderintegration.config.IntegrationConfig;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.repository.InMemoryOrderRepository;
+import com.humuson.orderintegration.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderJsonCacheTest {
+
+    private final ObjectMapper objectMapper = new IntegrationConfig().objectMapper();
+    private OrderRepository repository;
+    private MeterRegistry meterRegistry;
+    private OrderJsonCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryOrderRepository();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new OrderJsonCache(repository, objectMapper, meterRegistry, true, 100);
+    }
+
+    @Test
+    void successResponse_ApiResponse와_같은_형식으로_응답() throws Exception {
+        // Given
+        Order order = repository.save(createTestOrder("ORDER001", OrderStatus.PROCESSING));
+
+        // When
+        JsonNode response = objectMapper.readTree(cache.successResponse("주문 조회 완료", order));
+
+        // Then
+        assertTrue(response.get("success").asBoolean());
+        assertEquals("주문 조회 완료", response.get("message").asText());
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(order)), response.get("data"));
+        assertNotNull(response.get("timestamp").asText());
+    }
+
+    @Test
+    void encode_같은_주문은_캐시된_바이트를_쓰고_저장하면_다시_인코딩() {
+        // Given
+        Order order = repository.save(createTestOrder("ORDER001", OrderStatus.PROCESSING));
+        byte[] first = cache.encode(order);
+
+        // When
+        byte[] cached = cache.encode(repository.findById("ORDER001").orElseThrow());
+        repository.transitionStatus(List.of("ORDER001"), OrderStatus.PROCESSING, OrderStatus.SHIPPING);
+        byte[] transitioned = cache.encode(repository.findById("ORDER001").orElseThrow());
+
+        // Then
+        assertSame(first, cached);
+        assertNotSame(first, transitioned);
+        assertTrue(new String(transitioned).contains("SHIPPING"));
+        assertEquals(1.0, requests("hit"));
+        assertEquals(2.0, requests("miss"));
+    }
+
+    @Test
+    void encode_같은_주문_객체를_고쳐서_다시_저장해도_이전_바이트를_쓰지_않음() {
+        // Given
+        Order order = repository.save(createTestOrder("ORDER001", OrderStatus.PROCESSING));
+        cache.encode(order);
+
+        // When
+        order.setStatus(OrderStatus.COMPLETED);
+        repository.save(order);
+        byte[] encoded = cache.encode(repository.findById("ORDER001").orElseThrow());
+
+        // Then
+        assertTrue(new String(encoded).contains("COMPLETED"));
+        assertEquals(0.0, requests("hit"));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("order.query.cache.requests").tag("result", result).functionCounter().count();
+    }
+
+    private Order createTestOrder(String orderId, OrderStatus status) {
+        return Order.builder()
+                .orderId(orderId)
+                .customerName("고객")
+                .orderDate(LocalDateTime.of(2024, 1, 1, 10, 0, 0))
+                .status(status)
+                .description("테스트 주문")
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.humuson.orderintegration.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderNdjsonWriterTest {
+
+    @Test
+    void write_한_줄에_주문_하나() throws IOException {
+        // Given
+        OrderNdjsonWriter writer = new OrderNdjsonWriter(createObjectMapper(true), Duration.ofMillis(200), 1000);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        writer.write(() -> Stream.of(createOrder("ORDER001"), createOrder("ORDER002")), Set.of("orderId"))
+                .writeTo(output);
+
+        // Then
+        assertEquals("{\"orderId\":\"ORDER001\"}\n{\"orderId\":\"ORDER002\"}\n", output.toString());
+    }
+
+    @Test
+    void write_연결이_끊기면_저장소_스트림을_닫고_정상_종료() throws IOException {
+        // Given
+        OrderNdjsonWriter writer = new OrderNdjsonWriter(createObjectMapper(true), Duration.ofMillis(200), 1000);
+        AtomicBoolean closed = new AtomicBoolean();
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When
+        writer.write(() -> Stream.of(createOrder("ORDER001")).onClose(() -> closed.set(true)), null)
+                .writeTo(disconnected);
+
+        // Then
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void write_직렬화_실패는_연결_종료로_보지_않고_예외를_전달() {
+        // Given
+        // 날짜 모듈이 없으면 LocalDateTime을 직렬화하지 못한다
+        OrderNdjsonWriter writer = new OrderNdjsonWriter(createObjectMapper(false), Duration.ofMillis(200), 1000);
+
+        // When & Then
+        assertThrows(JsonProcessingException.class, () -> writer.write(() -> Stream.of(createOrder("ORDER001")), null)
+                .writeTo(new ByteArrayOutputStream()));
+    }
+
+    private ObjectMapper createObjectMapper(boolean javaTime) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        if (javaTime) {
+            objectMapper.registerModule(new JavaTimeModule());
+        }
+        OrderFieldProjection.register(objectMapper);
+        return objectMapper;
+    }
+
+    private Order createOrder(String orderId) {
+        return Order.builder()
+                .orderId(orderId)
+                .customerName("고객")
+                .orderDate(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .status(OrderStatus.PROCESSING)
+                .build();
+    }
+}
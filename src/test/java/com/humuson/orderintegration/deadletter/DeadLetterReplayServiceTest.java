@@ -0,0 +1,228 @@
+package com.humuson.orderintegration.deadletter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humuson.orderintegration.admission.AdmissionControlFilter;
+import com.humuson.orderintegration.admission.AdmissionGate;
+import com.humuson.orderintegration.admission.AdmissionOperation;
+import com.humuson.orderintegration.audit.AuditEventType;
+import com.humuson.orderintegration.audit.AuditJournal;
+import com.humuson.orderintegration.audit.AuditOutcome;
+import com.humuson.orderintegration.client.ExternalSystemClient;
+import com.humuson.orderintegration.client.dto.OrderItemResult;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.client.dto.OrderSendResult;
+import com.humuson.orderintegration.domain.ImportRejection;
+import com.humuson.orderintegration.domain.ImportReport;
+import com.humuson.orderintegration.domain.ImportResultCode;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.repository.OrderRepository;
+import com.humuson.orderintegration.service.OrderImportReportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayServiceTest {
+
+    private static final String ENDPOINT = "http://external-system.com/orders";
+
+    @TempDir
+    Path spillDir;
+
+    @Mock
+    private OrderImportReportService orderImportReportService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ExternalSystemClient externalSystemClient;
+
+    @Mock
+    private AuditJournal auditJournal;
+
+    @Mock
+    private AdmissionControlFilter admissionControl;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AdmissionGate importGate = new AdmissionGate(AdmissionOperation.IMPORT, 1, 0, Duration.ZERO);
+    private final AdmissionGate exportGate = new AdmissionGate(AdmissionOperation.EXPORT, 1, 0, Duration.ZERO);
+    private DeadLetterStore deadLetterStore;
+    private DeadLetterReplayService replayService;
+
+    @BeforeEach
+    void setUp() {
+        deadLetterStore = new DeadLetterStore(objectMapper, 100, 100, spillDir.toString());
+        lenient().when(admissionControl.isEnabled()).thenReturn(true);
+        lenient().when(admissionControl.getGate(AdmissionOperation.IMPORT)).thenReturn(importGate);
+        lenient().when(admissionControl.getGate(AdmissionOperation.EXPORT)).thenReturn(exportGate);
+        replayService = new DeadLetterReplayService(deadLetterStore, orderImportReportService, orderRepository,
+                externalSystemClient, objectMapper, auditJournal, admissionControl, 100, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replayService.shutdown();
+        deadLetterStore.close();
+    }
+
+    @Test
+    void replay_가져오기_성공은_삭제하고_다시_제외된_항목은_시도_횟수_갱신() {
+        // Given
+        deadLetterStore.add(DeadLetterType.IMPORT, ENDPOINT, "ORDER001", createOrderRequest("ORDER001"), "검증 실패");
+        deadLetterStore.add(DeadLetterType.IMPORT, ENDPOINT, "ORDER002", createOrderRequest("ORDER002"), "검증 실패");
+        when(orderImportReportService.replayRecords(eq(ENDPOINT), anyList())).thenReturn(ImportReport.builder()
+                .receivedCount(2)
+                .savedCount(1)
+                .rejectedCount(1)
+                .rejections(List.of(new ImportRejection(1, "ORDER002", ImportResultCode.VALIDATION_FAILED,
+                        "고객명은 필수입니다")))
+                .build());
+
+        // When
+        DeadLetterReplayResult result = replayService.replay(null, DeadLetterType.IMPORT, 10);
+
+        // Then
+        assertEquals(1, result.getSucceededCount());
+        assertEquals(1, result.getFailedCount());
+        List<DeadLetter> remaining = deadLetterStore.find(null, 0, 10);
+        assertEquals(1, remaining.size());
+        assertEquals("ORDER002", remaining.get(0).getOrderId());
+        assertEquals(2, remaining.get(0).getAttempts());
+        assertEquals("VALIDATION_FAILED: 고객명은 필수입니다", remaining.get(0).getReason());
+        // 처리가 끝나면 입장 허가를 반납한다
+        assertEquals(0, importGate.getActive());
+    }
+
+    @Test
+    void replay_전송은_현재_주문을_보내고_원래_엔드포인트로_감사_기록() {
+        // Given
+        Order sent = createOrder("ORDER001");
+        Order rejected = createOrder("ORDER002");
+        deadLetterStore.add(DeadLetterType.EXPORT, ENDPOINT, "ORDER001", sent, "HTTP 503");
+        deadLetterStore.add(DeadLetterType.EXPORT, ENDPOINT, "ORDER002", rejected, "HTTP 503");
+        deadLetterStore.add(DeadLetterType.EXPORT, ENDPOINT, "ORDER003", createOrder("ORDER003"), "HTTP 503");
+        when(orderRepository.findById("ORDER001")).thenReturn(Optional.of(sent));
+        when(orderRepository.findById("ORDER002")).thenReturn(Optional.of(rejected));
+        when(orderRepository.findById("ORDER003")).thenReturn(Optional.empty());
+        when(externalSystemClient.sendOrdersWithResults(ENDPOINT, List.of(sent, rejected)))
+                .thenReturn(OrderSendResult.builder()
+                        .items(List.of(new OrderItemResult("ORDER001", true, null),
+                                new OrderItemResult("ORDER002", false, "재고 확인 실패")))
+                        .build());
+        when(auditJournal.nextBatchId()).thenReturn(7L);
+
+        // When
+        DeadLetterReplayResult result = replayService.replay(null, DeadLetterType.EXPORT, 10);
+
+        // Then
+        assertEquals(1, result.getSucceededCount());
+        assertEquals(2, result.getFailedCount());
+        verify(auditJournal).record(eq(7L), eq(AuditEventType.EXPORT), eq(ENDPOINT), eq(AuditOutcome.SUCCESS),
+                anyLong(), eq(List.of(sent)));
+        verify(auditJournal).record(eq(7L), eq(AuditEventType.EXPORT), eq(ENDPOINT), eq(AuditOutcome.FAILURE),
+                anyLong(), eq(List.of(rejected)));
+        assertEquals("재고 확인 실패", deadLetterStore.find(null, 0, 10).get(0).getReason());
+        assertTrue(deadLetterStore.find(null, 0, 10).get(1).getReason().contains("ORDER003"));
+    }
+
+    @Test
+    void start_백그라운드에서_처리하고_진행_중이면_새_재처리를_거절() throws Exception {
+        // Given
+        deadLetterStore.add(DeadLetterType.IMPORT, ENDPOINT, "ORDER001", createOrderRequest("ORDER001"), "검증 실패");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        when(orderImportReportService.replayRecords(eq(ENDPOINT), anyList())).thenAnswer(invocation -> {
+            entered.countDown();
+            proceed.await();
+            return ImportReport.builder().receivedCount(1).savedCount(1).rejections(List.of()).build();
+        });
+
+        // When
+        Optional<DeadLetterReplayJob> started = replayService.start(null, DeadLetterType.IMPORT, 10);
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        Optional<DeadLetterReplayJob> second = replayService.start(null, null, 10);
+        proceed.countDown();
+
+        // Then
+        assertTrue(started.isPresent());
+        assertEquals(DeadLetterReplayStatus.RUNNING, started.get().getStatus());
+        assertTrue(second.isEmpty());
+        DeadLetterReplayJob job = awaitCompletion();
+        assertEquals(started.get().getJobId(), job.getJobId());
+        assertEquals(1, job.getResult().getSucceededCount());
+        assertEquals(0, deadLetterStore.getSummary().getTotalCount());
+    }
+
+    @Test
+    void start_입장_한도가_차면_허가가_날_때까지_기다림() throws Exception {
+        // Given
+        deadLetterStore.add(DeadLetterType.IMPORT, ENDPOINT, "ORDER001", createOrderRequest("ORDER001"), "검증 실패");
+        when(orderImportReportService.replayRecords(eq(ENDPOINT), anyList()))
+                .thenReturn(ImportReport.builder().receivedCount(1).savedCount(1).rejections(List.of()).build());
+        AdmissionGate.Permit held = importGate.tryAcquire();
+
+        // When
+        replayService.start(null, DeadLetterType.IMPORT, 10);
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        // Then
+        verify(orderImportReportService, never()).replayRecords(any(), anyList());
+        held.release();
+        assertEquals(DeadLetterReplayStatus.COMPLETED, awaitCompletion().getStatus());
+        verify(orderImportReportService).replayRecords(eq(ENDPOINT), anyList());
+    }
+
+    private DeadLetterReplayJob awaitCompletion() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            DeadLetterReplayJob job = replayService.getLastJob().orElseThrow();
+            if (job.getStatus() != DeadLetterReplayStatus.RUNNING) {
+                return job;
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        throw new AssertionError("재처리가 끝나지 않았습니다");
+    }
+
+    private OrderRequest createOrderRequest(String orderId) {
+        return OrderRequest.builder()
+                .orderId(orderId)
+                .customerName("고객")
+                .orderDate("2024-01-01 10:00:00")
+                .status("PROCESSING")
+                .build();
+    }
+
+    private Order createOrder(String orderId) {
+        return Order.builder()
+                .orderId(orderId)
+                .customerName("고객")
+                .orderDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .status(OrderStatus.PROCESSING)
+                .build();
+    }
+}
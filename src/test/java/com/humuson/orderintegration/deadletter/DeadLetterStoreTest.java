@@ -0,0 +1,175 @@
+package com.humuson.orderintegration.deadletter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadLetterStoreTest {
+
+    private static final String ENDPOINT = "http://external-system.com/orders";
+
+    @TempDir
+    Path spillDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DeadLetterStore deadLetterStore;
+
+    @BeforeEach
+    void setUp() {
+        deadLetterStore = new DeadLetterStore(objectMapper, 2, 4, spillDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        deadLetterStore.close();
+    }
+
+    @Test
+    void add_메모리_한도를_넘으면_파일에_보관하고_전체_한도를_넘으면_버림() throws Exception {
+        // Given & When
+        for (int i = 1; i <= 5; i++) {
+            deadLetterStore.add(DeadLetterType.IMPORT, ENDPOINT, "ORDER00" + i, createOrderRequest("ORDER00" + i),
+                    "검증 실패");
+        }
+
+        // Then
+        assertTrue(deadLetterStore.flush(Duration.ofSeconds(5)));
+        DeadLetterSummary summary = deadLetterStore.getSummary();
+        assertEquals(4, summary.getTotalCount());
+        assertEquals(2, summary.getMemoryCount());
+        assertEquals(2, summary.getSpilledCount());
+        assertEquals(0, summary.getPendingSpillCount());
+        assertEquals(1, summary.getDroppedCount());
+        assertTrue(summary.getSpillFileBytes() > 0);
+
+        List<DeadLetter> deadLetters = deadLetterStore.find(null, 0, 10);
+        assertEquals(List.of("ORDER001", "ORDER002", "ORDER003", "ORDER004"),
+                deadLetters.stream().map(DeadLetter::getOrderId).collect(Collectors.toList()));
+        OrderRequest spilledRecord = objectMapper.readValue(deadLetters.get(3).getPayload(), OrderRequest.class);
+        assertEquals("ORDER004", spilledRecord.getOrderId());
+        assertEquals("고객", spilledRecord.getCustomerName());
+    }
+
+    @Test
+    void add_같은_주문이_다시_실패하면_시도_횟수_증가() {
+        // Given
+        for (int i = 1; i <= 3; i++) {
+            deadLetterStore.add(DeadLetterType.EXPORT, ENDPOINT, "ORDER00" + i, createOrderRequest("ORDER00" + i),
+                    "전송 실패");
+        }
+
+        // When
+        deadLetterStore.add(DeadLetterType.EXPORT, ENDPOINT, "ORDER003", createOrderRequest("ORDER003"), "HTTP 503");
+        long spilledId = deadLetterStore.find(DeadLetterType.EXPORT, 2, 1).get(0).getId();
+        deadLetterStore.markFailed(spilledId, "HTTP 429");
+        assertTrue(deadLetterStore.flush(Duration.ofSeconds(5)));
+
+        // Then
+        DeadLetter deadLetter = deadLetterStore.findById(spilledId).orElseThrow();
+        assertEquals("ORDER003", deadLetter.getOrderId());
+        assertEquals(3, deadLetter.getAttempts());
+        assertEquals("HTTP 429", deadLetter.getReason());
+        assertEquals(3, deadLetterStore.getSummary().getTotalCount());
+    }
+
+    @Test
+    void remove_파일_항목을_모두_지우면_파일을_비움() {
+        // Given
+        for (int i = 1; i <= 4; i++) {
+            deadLetterStore.add(DeadLetterType.IMPORT, ENDPOINT, "ORDER00" + i, createOrderRequest("ORDER00" + i),
+                    "검증 실패");
+        }
+        assertTrue(deadLetterStore.flush(Duration.ofSeconds(5)));
+        List<DeadLetter> deadLetters = deadLetterStore.find(null, 0, 10);
+
+        // When
+        assertTrue(deadLetterStore.remove(deadLetters.get(2).getId()));
+        assertTrue(deadLetterStore.remove(deadLetters.get(3).getId()));
+
+        // Then
+        assertTrue(deadLetterStore.flush(Duration.ofSeconds(5)));
+        DeadLetterSummary summary = deadLetterStore.getSummary();
+        assertEquals(2, summary.getTotalCount());
+        assertEquals(0, summary.getSpilledCount());
+        assertEquals(0, summary.getSpillFileBytes());
+        assertFalse(deadLetterStore.remove(deadLetters.get(3).getId()));
+    }
+
+    @Test
+    void add_파일_기록_전에_지운_항목은_파일에_남기지_않음() {
+        // Given
+        for (int i = 1; i <= 4; i++) {
+            deadLetterStore.add(DeadLetterType.IMPORT, ENDPOINT, "ORDER00" + i, createOrderRequest("ORDER00" + i),
+                    "검증 실패");
+        }
+
+        // When
+        deadLetterStore.clear();
+        deadLetterStore.add(DeadLetterType.IMPORT, ENDPOINT, "ORDER005", createOrderRequest("ORDER005"), "검증 실패");
+
+        // Then
+        assertTrue(deadLetterStore.flush(Duration.ofSeconds(5)));
+        DeadLetterSummary summary = deadLetterStore.getSummary();
+        assertEquals(1, summary.getTotalCount());
+        assertEquals(0, summary.getSpilledCount());
+        assertEquals(0, summary.getSpillFileBytes());
+        assertEquals(List.of("ORDER005"),
+                deadLetterStore.find(null, 0, 10).stream().map(DeadLetter::getOrderId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void remove_지운_항목이_많으면_살아_있는_항목만_새_파일로_옮김() {
+        // Given
+        DeadLetterStore spillingStore = new DeadLetterStore(objectMapper, 0, 10_000, spillDir.resolve("compact").toString());
+        try {
+            for (int i = 0; i < 1000; i++) {
+                OrderRequest record = createOrderRequest("ORDER" + i);
+                record.setCustomerName("고객".repeat(500));
+                spillingStore.add(DeadLetterType.IMPORT, ENDPOINT, "ORDER" + i, record, "검증 실패");
+            }
+            assertTrue(spillingStore.flush(Duration.ofSeconds(5)));
+            long bytesBefore = spillingStore.getSummary().getSpillFileBytes();
+            List<DeadLetter> deadLetters = spillingStore.find(null, 0, 1000);
+
+            // When
+            for (int i = 0; i < 900; i++) {
+                spillingStore.remove(deadLetters.get(i).getId());
+            }
+            assertTrue(spillingStore.flush(Duration.ofSeconds(5)));
+            // 정리된 파일의 항목도 다시 실패하면 메모리로 올려 고친다
+            spillingStore.markFailed(deadLetters.get(999).getId(), "HTTP 429");
+            assertTrue(spillingStore.flush(Duration.ofSeconds(5)));
+
+            // Then
+            DeadLetterSummary summary = spillingStore.getSummary();
+            assertEquals(100, summary.getSpilledCount());
+            assertTrue(summary.getSpillFileBytes() < bytesBefore / 2);
+            List<DeadLetter> remaining = spillingStore.find(null, 0, 1000);
+            assertEquals(100, remaining.size());
+            assertEquals("ORDER900", remaining.get(0).getOrderId());
+            assertEquals("HTTP 429", remaining.get(99).getReason());
+            assertEquals(2, remaining.get(99).getAttempts());
+        } finally {
+            spillingStore.close();
+        }
+    }
+
+    private OrderRequest createOrderRequest(String orderId) {
+        return OrderRequest.builder()
+                .orderId(orderId)
+                .customerName("고객")
+                .orderDate("2024-01-01 10:00:00")
+                .status("PROCESSING")
+                .build();
+    }
+}
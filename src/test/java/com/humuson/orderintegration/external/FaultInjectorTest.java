@@ -0,0 +1,87 @@
+package com.humuson.orderintegration.external;
+
+import com.humuson.orderintegration.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FaultInjectorTest {
+
+    private FaultInjector faultInjector;
+
+    @BeforeEach
+    void setUp() {
+        faultInjector = new FaultInjector();
+    }
+
+    @Test
+    void 기본_프로필은_장애_없음() {
+        // Then
+        assertTrue(faultInjector.isInactive());
+        assertEquals(0, faultInjector.sampleLatencyMillis());
+        assertEquals(FaultInjector.FaultType.NONE, faultInjector.sampleFault().type());
+        assertFalse(faultInjector.sampleItemFailure());
+    }
+
+    @Test
+    void 같은_시드는_같은_판정을_재현() {
+        // Given
+        FaultProfile profile = FaultProfile.builder()
+                .latency(LatencyDistribution.LOG_NORMAL)
+                .latencyMillis(100)
+                .latencySigma(0.5)
+                .latencyMaxMillis(1000)
+                .errorRates(Map.of(500, 10.0, 503, 10.0))
+                .connectionResetRate(5.0)
+                .seed(7L)
+                .build();
+
+        // When
+        StringBuilder first = new StringBuilder();
+        faultInjector.apply(profile);
+        for (int i = 0; i < 100; i++) {
+            first.append(faultInjector.sampleLatencyMillis()).append(faultInjector.sampleFault()).append(';');
+        }
+        StringBuilder second = new StringBuilder();
+        faultInjector.apply(profile);
+        for (int i = 0; i < 100; i++) {
+            second.append(faultInjector.sampleLatencyMillis()).append(faultInjector.sampleFault()).append(';');
+        }
+
+        // Then
+        assertEquals(first.toString(), second.toString());
+        assertFalse(faultInjector.isInactive());
+    }
+
+    @Test
+    void 균등_분포_지연은_범위_안() {
+        // Given
+        faultInjector.apply(FaultProfile.builder()
+                .latency(LatencyDistribution.UNIFORM)
+                .latencyMinMillis(10)
+                .latencyMaxMillis(20)
+                .build());
+
+        // When & Then
+        for (int i = 0; i < 1000; i++) {
+            long latency = faultInjector.sampleLatencyMillis();
+            assertTrue(latency >= 10 && latency <= 20, "범위를 벗어난 지연: " + latency);
+        }
+    }
+
+    @Test
+    void 잘못된_프로필_거부() {
+        // When & Then
+        assertThrows(BadRequestException.class, () -> faultInjector.apply(FaultProfile.builder()
+                .errorRates(Map.of(500, 80.0))
+                .connectionResetRate(30.0)
+                .build()));
+        assertThrows(BadRequestException.class, () -> faultInjector.apply(FaultProfile.builder()
+                .partialFailureRatio(1.5)
+                .build()));
+        assertThrows(BadRequestException.class, () -> faultInjector.applyPreset("unknown"));
+    }
+}
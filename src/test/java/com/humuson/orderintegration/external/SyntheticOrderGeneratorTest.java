@@ -0,0 +1,70 @@
+package com.humuson.orderintegration.external;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticOrderGeneratorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writeTo_요청한_건수만큼_생성() throws IOException {
+        // Given
+        SyntheticOrderGenerator generator = new SyntheticOrderGenerator(
+                7L, SyntheticOrderGenerator.parseStatusMix(null), 10, 30);
+
+        // When
+        List<OrderRequest> orders = parse(generate(generator, 100));
+
+        // Then
+        assertEquals(100, orders.size());
+        assertEquals("GEN-7-0000000000", orders.get(0).getOrderId());
+        assertTrue(orders.stream().allMatch(order -> order.getDescription().length() <= 30));
+        assertTrue(orders.stream().map(OrderRequest::getCustomerName).distinct().count() <= 10);
+    }
+
+    @Test
+    void writeTo_같은_시드는_같은_결과() throws IOException {
+        // Given
+        int[] statusMix = SyntheticOrderGenerator.parseStatusMix("PROCESSING:1,SHIPPING:1");
+
+        // When
+        String first = generate(new SyntheticOrderGenerator(42L, statusMix, 100, 20), 50);
+        String second = generate(new SyntheticOrderGenerator(42L, statusMix, 100, 20), 50);
+
+        // Then
+        assertEquals(first, second);
+        assertTrue(parse(first).stream()
+                .allMatch(order -> order.getStatus().equals("PROCESSING") || order.getStatus().equals("SHIPPING")));
+    }
+
+    @Test
+    void parseStatusMix_잘못된_형식() {
+        // When & Then
+        assertThrows(BadRequestException.class, () -> SyntheticOrderGenerator.parseStatusMix("PROCESSING"));
+        assertThrows(BadRequestException.class, () -> SyntheticOrderGenerator.parseStatusMix("UNKNOWN:1"));
+    }
+
+    private String generate(SyntheticOrderGenerator generator, long count) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeTo(jsonGenerator, count);
+        }
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private List<OrderRequest> parse(String json) throws IOException {
+        return objectMapper.readValue(json, new TypeReference<List<OrderRequest>>() {});
+    }
+}
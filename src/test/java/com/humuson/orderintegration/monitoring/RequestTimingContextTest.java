@@ -0,0 +1,49 @@
+package com.humuson.orderintegration.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingContextTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimingContext.end();
+    }
+
+    @Test
+    void record_단계별_누적_후_헤더_생성() {
+        // Given
+        RequestTimings timings = RequestTimingContext.begin("4bf92f3577b34da6a3ce929d0e0e4736");
+
+        // When
+        RequestTimingContext.record(TimingStage.NETWORK, System.nanoTime() - 2_000_000);
+        RequestTimingContext.record(TimingStage.VALIDATION, System.nanoTime() - 1_000);
+        RequestTimingContext.record(TimingStage.VALIDATION, System.nanoTime() - 1_000);
+
+        // Then
+        String header = timings.toServerTimingHeader();
+        assertTrue(header.startsWith("network;dur="), header);
+        assertTrue(header.contains("validate;dur="), header);
+        assertTrue(header.contains(";desc=\"count=2\""), header);
+        assertTrue(header.contains("total;dur="), header);
+        assertTrue(header.endsWith("trace;desc=\"4bf92f3577b34da6a3ce929d0e0e4736\""), header);
+        assertFalse(header.contains("save"), header);
+
+        Map<String, Double> stages = timings.stageMillis();
+        assertEquals(2, stages.size());
+        assertTrue(stages.get("network") >= 2.0);
+    }
+
+    @Test
+    void record_요청_밖에서는_무시() {
+        // When
+        RequestTimingContext.record(TimingStage.SAVE, RequestTimingContext.start());
+
+        // Then
+        assertNull(RequestTimingContext.current());
+    }
+}
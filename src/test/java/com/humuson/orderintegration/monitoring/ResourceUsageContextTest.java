@@ -0,0 +1,97 @@
+package com.humuson.orderintegration.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceUsageContextTest {
+
+    private static final int ALLOCATION = 4 << 20;
+    private static final String ENDPOINT = "http://external-system.com/orders";
+
+    private final List<ResourceUsage> finished = new ArrayList<>();
+    private byte[] sink;
+
+    @Test
+    void finish_시작한_스레드의_할당량을_한_번만_집계() {
+        // Given
+        ResourceUsage usage = start(ResourceOperation.IMPORT);
+
+        // When
+        sink = new byte[ALLOCATION];
+        usage.setRecords(10);
+        usage.finish();
+        usage.finish();
+
+        // Then
+        assertEquals(List.of(usage), finished);
+        assertTrue(usage.getAllocatedBytes() >= ALLOCATION);
+        assertTrue(usage.getCpuNanos() >= 0);
+        assertEquals(10, usage.getRecords());
+        assertNull(ResourceUsageContext.current());
+    }
+
+    @Test
+    void wrap_다른_스레드의_할당량도_같은_작업에_더함() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ResourceUsage usage = start(ResourceOperation.IMPORT_PARALLEL);
+
+        // When
+        try {
+            executor.submit(ResourceUsageContext.wrap(() -> {
+                assertSame(usage, ResourceUsageContext.current());
+                return new byte[ALLOCATION].length;
+            })).get(5, TimeUnit.SECONDS);
+            // 작업을 넘겨받았던 스레드에는 측정 중인 작업이 남지 않는다
+            assertNull(executor.submit(ResourceUsageContext::current).get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        usage.finish();
+
+        // Then
+        assertTrue(usage.getAllocatedBytes() >= ALLOCATION);
+    }
+
+    @Test
+    void track_같은_스레드에서_겹친_작업의_사용량은_바깥_작업에_중복으로_더하지_않음() {
+        // Given
+        ResourceUsage outer = start(ResourceOperation.EXPORT_BATCH);
+        ResourceUsage inner = new ResourceUsage(ResourceOperation.IMPORT, ENDPOINT, finished::add);
+
+        // When
+        ResourceUsageContext.track(inner, () -> sink = new byte[ALLOCATION]);
+        assertSame(outer, ResourceUsageContext.current());
+        // 이미 측정 중인 작업으로 다시 감싸면 그대로 실행한다
+        ResourceUsageContext.track(outer, () -> sink = new byte[ALLOCATION]);
+        outer.finish();
+
+        // Then
+        assertTrue(inner.getAllocatedBytes() >= ALLOCATION);
+        assertTrue(outer.getAllocatedBytes() >= ALLOCATION);
+        assertTrue(outer.getAllocatedBytes() < 2L * ALLOCATION);
+        assertEquals(List.of(outer), finished);
+    }
+
+    @Test
+    void track_측정_중인_작업이_없으면_그대로_실행() {
+        // When
+        String result = ResourceUsageContext.track(null, () -> "done");
+
+        // Then
+        assertEquals("done", result);
+        assertNull(ResourceUsageContext.current());
+    }
+
+    private ResourceUsage start(ResourceOperation operation) {
+        assertTrue(ResourceUsageContext.isSupported());
+        return new ResourceUsage(operation, ENDPOINT, finished::add).start();
+    }
+}
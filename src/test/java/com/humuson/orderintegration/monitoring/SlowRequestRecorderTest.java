@@ -0,0 +1,72 @@
+package com.humuson.orderintegration.monitoring;
+
+import com.humuson.orderintegration.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowRequestRecorderTest {
+
+    @Test
+    void record_임계값_이상만_보관() {
+        // Given
+        SlowRequestRecorder recorder = new SlowRequestRecorder(true, Duration.ofMillis(100), 10);
+        RequestTimings timings = new RequestTimings("trace-1", System.nanoTime());
+
+        // When
+        recorder.record(timings, "POST", "/api/orders/import", 200, TimeUnit.MILLISECONDS.toNanos(50));
+        recorder.record(timings, "POST", "/api/orders/import", 200, TimeUnit.MILLISECONDS.toNanos(150));
+
+        // Then
+        List<SlowRequest> slowest = recorder.getSlowest(10);
+        assertEquals(1, slowest.size());
+        assertEquals("trace-1", slowest.get(0).getTraceId());
+        assertEquals(150.0, slowest.get(0).getTotalMillis(), 0.001);
+    }
+
+    @Test
+    void record_용량_초과시_오래된_항목_덮어쓰기() {
+        // Given
+        SlowRequestRecorder recorder = new SlowRequestRecorder(true, Duration.ZERO, 3);
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            recorder.record(new RequestTimings("trace-" + i, System.nanoTime()),
+                    "GET", "/api/orders", 200, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        // Then
+        List<SlowRequest> slowest = recorder.getSlowest(2);
+        assertEquals(2, slowest.size());
+        assertEquals("trace-5", slowest.get(0).getTraceId());
+        assertEquals("trace-4", slowest.get(1).getTraceId());
+        assertEquals(3, recorder.getSlowest(10).size());
+    }
+
+    @Test
+    void record_비활성화시_보관하지_않음() {
+        // Given
+        SlowRequestRecorder recorder = new SlowRequestRecorder(false, Duration.ZERO, 3);
+
+        // When
+        recorder.record(new RequestTimings("trace-1", System.nanoTime()), "GET", "/api/orders", 200, 1_000_000_000L);
+
+        // Then
+        assertTrue(recorder.getSlowest(10).isEmpty());
+    }
+
+    @Test
+    void getSlowest_음수_건수는_잘못된_요청() {
+        // Given
+        SlowRequestRecorder recorder = new SlowRequestRecorder(true, Duration.ZERO, 3);
+        recorder.record(new RequestTimings("trace-1", System.nanoTime()), "GET", "/api/orders", 200, 1_000_000_000L);
+
+        // When & Then
+        assertThrows(BadRequestException.class, () -> recorder.getSlowest(-1));
+        assertTrue(recorder.getSlowest(0).isEmpty());
+    }
+}
@@ -0,0 +1,90 @@
+package com.humuson.orderintegration.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashTrieMapTest {
+
+    @Test
+    void put_remove_HashMap과_동일한_결과() {
+        // Given
+        Random random = new Random(42);
+        Map<String, Integer> expected = new HashMap<>();
+        HashTrieMap<Integer> map = HashTrieMap.empty();
+        HashTrieMap.Change<Integer> change = new HashTrieMap.Change<>();
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            String key = "ORDER-" + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                map = map.remove(key, change);
+                assertEquals(expected.remove(key), change.previous());
+            } else {
+                map = map.put(key, i, change);
+                assertEquals(expected.put(key, i), change.previous());
+            }
+        }
+
+        // Then
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        List<Integer> values = map.values().collect(Collectors.toList());
+        assertEquals(expected.size(), values.size());
+        assertEquals(expected.values().stream().sorted().collect(Collectors.toList()),
+                values.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    void put_해시충돌_키() {
+        // Given - "Aa"와 "BB"는 hashCode가 같다
+        HashTrieMap.Change<String> change = new HashTrieMap.Change<>();
+        HashTrieMap<String> map = HashTrieMap.<String>empty()
+                .put("AaAa", "1", change)
+                .put("AaBB", "2", change)
+                .put("BBAa", "3", change);
+
+        // When
+        HashTrieMap<String> removed = map.remove("AaBB", change).remove("BBAa", change);
+
+        // Then
+        assertEquals(3, map.size());
+        assertEquals("2", map.get("AaBB"));
+        assertEquals(1, removed.size());
+        assertEquals("1", removed.get("AaAa"));
+        assertNull(removed.get("AaBB"));
+        assertEquals(List.of("1"), removed.values().collect(Collectors.toList()));
+    }
+
+    @Test
+    void put_기존_스냅샷은_변경되지_않음() {
+        // Given
+        HashTrieMap.Change<String> change = new HashTrieMap.Change<>();
+        HashTrieMap<String> snapshot = HashTrieMap.empty();
+        for (int i = 0; i < 100; i++) {
+            snapshot = snapshot.put("ORDER" + i, "v" + i, change);
+        }
+
+        // When
+        HashTrieMap<String> updated = snapshot.put("ORDER0", "changed", change).remove("ORDER1", change);
+
+        // Then
+        assertEquals(100, snapshot.size());
+        assertEquals("v0", snapshot.get("ORDER0"));
+        assertEquals("v1", snapshot.get("ORDER1"));
+        assertEquals(99, updated.size());
+        assertEquals("changed", updated.get("ORDER0"));
+        List<String> iterated = new ArrayList<>();
+        snapshot.forEach(iterated::add);
+        assertEquals(100, iterated.size());
+    }
+}
@@ -1,15 +1,23 @@
 package com.humuson.orderintegration.repository;
 
 import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
 import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.StatusTransitionOutcome;
+import com.humuson.orderintegration.domain.StatusTransitionResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -94,6 +102,23 @@ class InMemoryOrderRepositoryTest {
                 .allMatch(order -> order.getStatus() == OrderStatus.PROCESSING));
     }
 
+    @Test
+    void findByStatus_저장_후_주문_객체를_바꿔도_저장된_상태로_조회() {
+        // Given
+        Order order = createTestOrder("ORDER001", "고객1", OrderStatus.PROCESSING);
+        repository.save(order);
+
+        // When
+        order.setStatus(OrderStatus.SHIPPING);
+
+        // Then
+        // 다시 저장하기 전까지는 통계와 같이 저장 시점의 상태를 기준으로 조회한다
+        assertEquals(1, repository.findByStatus(OrderStatus.PROCESSING).size());
+        assertTrue(repository.findByStatus(OrderStatus.SHIPPING).isEmpty());
+        assertEquals(1, repository.streamByStatus(OrderStatus.PROCESSING).count());
+        assertEquals(1L, repository.getStatistics().getStatusCounts().get(OrderStatus.PROCESSING));
+    }
+
     @Test
     void deleteById_성공() {
         // Given
@@ -108,6 +133,103 @@ class InMemoryOrderRepositoryTest {
         assertFalse(repository.existsById("ORDER001"));
     }
 
+    @Test
+    void getStatistics_상태별_건수() {
+        // Given
+        repository.save(createTestOrder("ORDER001", "고객1", OrderStatus.PROCESSING));
+        repository.save(createTestOrder("ORDER002", "고객2", OrderStatus.COMPLETED));
+        repository.save(createTestOrder("ORDER003", "고객3", OrderStatus.PROCESSING));
+
+        // When
+        OrderStatistics statistics = repository.getStatistics();
+
+        // Then
+        assertEquals(3, statistics.getTotalCount());
+        assertEquals(2L, statistics.getStatusCounts().get(OrderStatus.PROCESSING));
+        assertEquals(1L, statistics.getStatusCounts().get(OrderStatus.COMPLETED));
+        assertEquals(0L, statistics.getStatusCounts().get(OrderStatus.SHIPPING));
+        assertEquals(3L, statistics.getDailyCounts().get(LocalDateTime.now().toLocalDate()));
+    }
+
+    @Test
+    void getStatistics_상태변경_및_삭제_반영() {
+        // Given
+        Order order = createTestOrder("ORDER001", "고객1", OrderStatus.PROCESSING);
+        repository.save(order);
+        repository.save(createTestOrder("ORDER002", "고객2", OrderStatus.PROCESSING));
+
+        // When
+        order.setStatus(OrderStatus.SHIPPING);
+        repository.save(order);
+        repository.deleteById("ORDER002");
+
+        // Then
+        OrderStatistics statistics = repository.getStatistics();
+        assertEquals(1, statistics.getTotalCount());
+        assertEquals(0L, statistics.getStatusCounts().get(OrderStatus.PROCESSING));
+        assertEquals(1L, statistics.getStatusCounts().get(OrderStatus.SHIPPING));
+    }
+
+    @Test
+    void transitionStatus_기대_상태인_주문만_전환하고_통계_반영() {
+        // Given
+        Order processing = createTestOrder("ORDER001", "고객1", OrderStatus.PROCESSING);
+        repository.save(processing);
+        repository.save(createTestOrder("ORDER002", "고객2", OrderStatus.COMPLETED));
+
+        // When
+        StatusTransitionResult result = repository.transitionStatus(List.of("ORDER001", "ORDER002", "ORDER999"),
+                OrderStatus.PROCESSING, OrderStatus.SHIPPING);
+
+        // Then
+        assertEquals(3, result.getRequestedCount());
+        assertEquals(1, result.getAppliedCount());
+        assertEquals(List.of("ORDER002"), result.getConflictedOrderIds());
+        assertEquals(List.of("ORDER999"), result.getMissingOrderIds());
+        assertEquals(OrderStatus.SHIPPING, repository.findById("ORDER001").orElseThrow().getStatus());
+        // 저장된 주문 객체를 고치지 않고 새 버전으로 바꾼다
+        assertEquals(OrderStatus.PROCESSING, processing.getStatus());
+        assertEquals(1, repository.findByStatus(OrderStatus.SHIPPING).size());
+        assertTrue(repository.findByStatus(OrderStatus.PROCESSING).isEmpty());
+
+        OrderStatistics statistics = repository.getStatistics();
+        assertEquals(2, statistics.getTotalCount());
+        assertEquals(0L, statistics.getStatusCounts().get(OrderStatus.PROCESSING));
+        assertEquals(1L, statistics.getStatusCounts().get(OrderStatus.SHIPPING));
+    }
+
+    @Test
+    void compareAndSetStatus_동시에_전환하면_한_번만_성공() throws Exception {
+        // Given
+        repository.save(createTestOrder("ORDER001", "고객1", OrderStatus.PROCESSING));
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<StatusTransitionOutcome>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return repository.compareAndSetStatus("ORDER001", OrderStatus.PROCESSING, OrderStatus.SHIPPING);
+            }));
+        }
+        start.countDown();
+        int applied = 0;
+        for (Future<StatusTransitionOutcome> future : futures) {
+            if (future.get() == StatusTransitionOutcome.APPLIED) {
+                applied++;
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(1, applied);
+        OrderStatistics statistics = repository.getStatistics();
+        assertEquals(1, statistics.getTotalCount());
+        assertEquals(1L, statistics.getStatusCounts().get(OrderStatus.SHIPPING));
+    }
+
     private Order createTestOrder(String orderId, String customerName) {
         return createTestOrder(orderId, customerName, OrderStatus.PROCESSING);
     }
@@ -0,0 +1,131 @@
+package com.humuson.orderintegration.repository;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.StatusTransitionOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotOrderRepositoryTest {
+    private SnapshotOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SnapshotOrderRepository();
+    }
+
+    @Test
+    void streamAll_스냅샷_이후_변경은_보이지_않음() {
+        // Given
+        repository.save(createTestOrder("ORDER001", OrderStatus.PROCESSING));
+        repository.save(createTestOrder("ORDER002", OrderStatus.PROCESSING));
+        Stream<Order> snapshot = repository.streamAll();
+
+        // When
+        repository.save(createTestOrder("ORDER003", OrderStatus.PROCESSING));
+        repository.deleteById("ORDER001");
+
+        // Then
+        List<String> orderIds = snapshot.map(Order::getOrderId).sorted().toList();
+        assertEquals(List.of("ORDER001", "ORDER002"), orderIds);
+        assertEquals(2, repository.findAll().size());
+    }
+
+    @Test
+    void saveAll_한_번에_공개() {
+        // Given
+        Iterator<Order> before = repository.streamAll().iterator();
+        List<Order> orders = List.of(
+                createTestOrder("ORDER001", OrderStatus.PROCESSING),
+                createTestOrder("ORDER002", OrderStatus.SHIPPING),
+                createTestOrder("ORDER003", OrderStatus.PROCESSING));
+
+        // When
+        repository.saveAll(orders);
+
+        // Then
+        assertFalse(before.hasNext());
+        assertEquals(2, repository.streamByStatus(OrderStatus.PROCESSING).count());
+        assertEquals(1, repository.findByStatus(OrderStatus.SHIPPING).size());
+        assertTrue(repository.existsById("ORDER003"));
+    }
+
+    @Test
+    void getStatistics_상태변경_및_삭제_반영() {
+        // Given
+        Order order = createTestOrder("ORDER001", OrderStatus.PROCESSING);
+        repository.saveAll(List.of(order, createTestOrder("ORDER002", OrderStatus.PROCESSING)));
+
+        // When
+        order.setStatus(OrderStatus.SHIPPING);
+        repository.save(order);
+        repository.deleteById("ORDER002");
+        repository.deleteById("NONEXISTENT");
+
+        // Then
+        OrderStatistics statistics = repository.getStatistics();
+        assertEquals(1, statistics.getTotalCount());
+        assertEquals(0L, statistics.getStatusCounts().get(OrderStatus.PROCESSING));
+        assertEquals(1L, statistics.getStatusCounts().get(OrderStatus.SHIPPING));
+    }
+
+    @Test
+    void findByStatus_저장_후_주문_객체를_바꿔도_저장된_상태로_조회() {
+        // Given
+        Order order = createTestOrder("ORDER001", OrderStatus.PROCESSING);
+        repository.save(order);
+
+        // When
+        order.setStatus(OrderStatus.SHIPPING);
+
+        // Then
+        assertEquals(1, repository.findByStatus(OrderStatus.PROCESSING).size());
+        assertEquals(0, repository.streamByStatus(OrderStatus.SHIPPING).count());
+        assertEquals(1L, repository.getStatistics().getStatusCounts().get(OrderStatus.PROCESSING));
+    }
+
+    @Test
+    void save_null_주문() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> repository.save(null));
+    }
+
+    @Test
+    void compareAndSetStatus_전환_전_스냅샷은_이전_상태를_유지() {
+        // Given
+        repository.save(createTestOrder("ORDER001", OrderStatus.PROCESSING));
+        Stream<Order> before = repository.streamAll();
+
+        // When
+        StatusTransitionOutcome applied = repository.compareAndSetStatus("ORDER001", OrderStatus.PROCESSING,
+                OrderStatus.SHIPPING);
+        StatusTransitionOutcome conflicted = repository.compareAndSetStatus("ORDER001", OrderStatus.PROCESSING,
+                OrderStatus.CANCELLED);
+
+        // Then
+        assertEquals(StatusTransitionOutcome.APPLIED, applied);
+        assertEquals(StatusTransitionOutcome.CONFLICTED, conflicted);
+        assertEquals(OrderStatus.PROCESSING, before.findFirst().orElseThrow().getStatus());
+        assertEquals(OrderStatus.SHIPPING, repository.findById("ORDER001").orElseThrow().getStatus());
+        assertEquals(1L, repository.getStatistics().getStatusCounts().get(OrderStatus.SHIPPING));
+        assertEquals(0L, repository.getStatistics().getStatusCounts().get(OrderStatus.PROCESSING));
+    }
+
+    private Order createTestOrder(String orderId, OrderStatus status) {
+        return Order.builder()
+                .orderId(orderId)
+                .customerName("고객")
+                .orderDate(LocalDateTime.now())
+                .status(status)
+                .description("테스트 주문")
+                .build();
+    }
+}
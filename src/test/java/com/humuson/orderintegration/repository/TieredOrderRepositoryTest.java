@@ -0,0 +1,135 @@
+package com.humuson.orderintegration.repository;
+
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatistics;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.OrderTierSummary;
+import com.humuson.orderintegration.domain.StatusTransitionResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TieredOrderRepositoryTest {
+
+    @TempDir
+    Path segmentDir;
+
+    private TieredOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new TieredOrderRepository(Duration.ofDays(30), List.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED),
+                Duration.ZERO, segmentDir.toString(), 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.shutdown();
+    }
+
+    @Test
+    void ageOut_오래된_종료_주문만_세그먼트로_옮기고_그대로_조회() throws Exception {
+        // Given
+        LocalDateTime old = LocalDateTime.of(2024, 1, 1, 10, 0, 0);
+        repository.saveAll(List.of(
+                createTestOrder("ORDER001", OrderStatus.COMPLETED, old),
+                createTestOrder("ORDER002", OrderStatus.CANCELLED, old),
+                createTestOrder("ORDER003", OrderStatus.COMPLETED, old),
+                createTestOrder("ORDER004", OrderStatus.PROCESSING, old),
+                createTestOrder("ORDER005", OrderStatus.COMPLETED, LocalDateTime.now().withNano(0))));
+        OrderStatistics before = repository.getStatistics();
+
+        // When
+        int moved = repository.ageOut();
+
+        // Then
+        assertEquals(3, moved);
+        OrderTierSummary summary = repository.getTierSummary();
+        assertEquals(2, summary.getHotCount());
+        assertEquals(3, summary.getColdCount());
+        assertEquals(1, summary.getSegmentCount());
+
+        Order cold = repository.findById("ORDER001").orElseThrow();
+        assertEquals("고객", cold.getCustomerName());
+        assertEquals(old, cold.getOrderDate());
+        assertEquals(OrderStatus.COMPLETED, cold.getStatus());
+        assertTrue(repository.existsById("ORDER002"));
+        assertEquals(3, repository.findByStatus(OrderStatus.COMPLETED).size());
+        assertEquals(1, repository.findByStatus(OrderStatus.PROCESSING).size());
+        assertEquals(5, repository.findAll().size());
+        OrderStatistics after = repository.getStatistics();
+        assertEquals(before.getTotalCount(), after.getTotalCount());
+        assertEquals(before.getStatusCounts(), after.getStatusCounts());
+    }
+
+    @Test
+    void save_콜드_주문을_다시_저장하면_핫으로_돌아오고_삭제는_통계에_반영() throws Exception {
+        // Given
+        LocalDateTime old = LocalDateTime.of(2024, 1, 1, 10, 0, 0);
+        repository.saveAll(List.of(
+                createTestOrder("ORDER001", OrderStatus.COMPLETED, old),
+                createTestOrder("ORDER002", OrderStatus.CANCELLED, old)));
+        repository.ageOut();
+
+        // When
+        repository.save(createTestOrder("ORDER001", OrderStatus.PROCESSING, old));
+        repository.deleteById("ORDER002");
+
+        // Then
+        assertEquals(OrderStatus.PROCESSING, repository.findById("ORDER001").orElseThrow().getStatus());
+        assertFalse(repository.existsById("ORDER002"));
+        assertEquals(1, repository.findAll().size());
+        assertTrue(repository.findByStatus(OrderStatus.COMPLETED).isEmpty());
+
+        OrderStatistics statistics = repository.getStatistics();
+        assertEquals(1, statistics.getTotalCount());
+        assertEquals(0L, statistics.getStatusCounts().get(OrderStatus.COMPLETED));
+        assertEquals(1L, statistics.getStatusCounts().get(OrderStatus.PROCESSING));
+        assertEquals(0, repository.getTierSummary().getSegmentCount());
+    }
+
+    @Test
+    void transitionStatus_콜드_주문은_새_상태로_핫에_돌아옴() throws Exception {
+        // Given
+        LocalDateTime old = LocalDateTime.of(2024, 1, 1, 10, 0, 0);
+        repository.saveAll(List.of(
+                createTestOrder("ORDER001", OrderStatus.COMPLETED, old),
+                createTestOrder("ORDER002", OrderStatus.CANCELLED, old)));
+        repository.ageOut();
+
+        // When
+        StatusTransitionResult result = repository.transitionStatus(List.of("ORDER001", "ORDER002"),
+                OrderStatus.COMPLETED, OrderStatus.PROCESSING);
+
+        // Then
+        assertEquals(1, result.getAppliedCount());
+        assertEquals(List.of("ORDER002"), result.getConflictedOrderIds());
+        assertEquals(OrderStatus.PROCESSING, repository.findById("ORDER001").orElseThrow().getStatus());
+        assertEquals(1, repository.getTierSummary().getHotCount());
+        assertEquals(1, repository.getTierSummary().getColdCount());
+        assertEquals(2, repository.findAll().size());
+
+        OrderStatistics statistics = repository.getStatistics();
+        assertEquals(2, statistics.getTotalCount());
+        assertEquals(0L, statistics.getStatusCounts().get(OrderStatus.COMPLETED));
+        assertEquals(1L, statistics.getStatusCounts().get(OrderStatus.PROCESSING));
+    }
+
+    private Order createTestOrder(String orderId, OrderStatus status, LocalDateTime orderDate) {
+        return Order.builder()
+                .orderId(orderId)
+                .customerName("고객")
+                .orderDate(orderDate)
+                .status(status)
+                .description("테스트 주문")
+                .build();
+    }
+}
@@ -0,0 +1,247 @@
+package com.humuson.orderintegration.search;
+
+import com.humuson.orderintegration.cluster.ClusterNodeClient;
+import com.humuson.orderintegration.cluster.ClusteredOrderRepository;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.exception.BadRequestException;
+import com.humuson.orderintegration.repository.InMemoryOrderRepository;
+import com.humuson.orderintegration.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OrderSearchIndexTest {
+
+    private OrderRepository repository;
+    private MeterRegistry meterRegistry;
+    private OrderSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryOrderRepository();
+        meterRegistry = new SimpleMeterRegistry();
+        // 색인 생성 전에 저장된 주문도 색인한다
+        repository.save(createTestOrder("ORDER001", OrderStatus.PROCESSING, "무선 키보드 (블루투스) 2개"));
+        index = new OrderSearchIndex(repository, meterRegistry, true, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    void search_모든_단어가_들어_있는_주문만_최근_순으로_반환() {
+        // Given
+        repository.save(createTestOrder("ORDER002", OrderStatus.PROCESSING, "무선 마우스, 블루투스"));
+        repository.save(createTestOrder("ORDER003", OrderStatus.PROCESSING, "유선 키보드"));
+        assertTrue(index.flush(Duration.ofSeconds(5)));
+
+        // When
+        List<Order> bluetooth = index.search("블루투스", null, 10);
+        List<Order> keyboard = index.search("키보드 무선", null, 10);
+
+        // Then
+        assertEquals(List.of("ORDER002", "ORDER001"), orderIds(bluetooth));
+        assertEquals(List.of("ORDER001"), orderIds(keyboard));
+    }
+
+    @Test
+    void search_2gram이_모두_있어도_단어가_그대로_없으면_제외() {
+        // Given
+        repository.save(createTestOrder("ORDER002", OrderStatus.PROCESSING, "가나 나다"));
+        assertTrue(index.flush(Duration.ofSeconds(5)));
+
+        // When
+        List<Order> orders = index.search("가나다", null, 10);
+
+        // Then
+        assertTrue(orders.isEmpty());
+    }
+
+    @Test
+    void search_상태와_건수로_제한() {
+        // Given
+        for (int i = 2; i <= 5; i++) {
+            repository.save(createTestOrder("ORDER00" + i, i % 2 == 0 ? OrderStatus.SHIPPING : OrderStatus.PROCESSING,
+                    "블루투스 스피커"));
+        }
+        assertTrue(index.flush(Duration.ofSeconds(5)));
+
+        // When
+        List<Order> shipping = index.search("블루투스", OrderStatus.SHIPPING, 10);
+        List<Order> limited = index.search("블루투스", null, 2);
+
+        // Then
+        assertEquals(List.of("ORDER004", "ORDER002"), orderIds(shipping));
+        assertEquals(List.of("ORDER005", "ORDER004"), orderIds(limited));
+    }
+
+    @Test
+    void search_상태_전환_설명_변경_삭제를_반영() {
+        // Given
+        repository.save(createTestOrder("ORDER002", OrderStatus.PROCESSING, "블루투스 스피커"));
+
+        // When
+        repository.transitionStatus(List.of("ORDER001"), OrderStatus.PROCESSING, OrderStatus.COMPLETED);
+        repository.save(createTestOrder("ORDER002", OrderStatus.PROCESSING, "유선 스피커"));
+        repository.deleteById("ORDER001");
+        assertTrue(index.flush(Duration.ofSeconds(5)));
+
+        // Then
+        assertTrue(index.search("블루투스", null, 10).isEmpty());
+        assertEquals(List.of("ORDER002"), orderIds(index.search("유선", OrderStatus.PROCESSING, 10)));
+        assertEquals(1, index.getSummary().getDocuments());
+    }
+
+    @Test
+    void search_삭제된_문서가_많아지면_압축해도_결과_유지() {
+        // Given
+        for (int i = 0; i < 3000; i++) {
+            repository.save(createTestOrder("BULK" + i, OrderStatus.PROCESSING, "대량 주문 " + i));
+        }
+        assertTrue(index.flush(Duration.ofSeconds(5)));
+
+        // When
+        for (int i = 0; i < 2900; i++) {
+            repository.deleteById("BULK" + i);
+        }
+        assertTrue(index.flush(Duration.ofSeconds(5)));
+
+        // Then
+        OrderSearchIndexSummary summary = index.getSummary();
+        assertEquals(101, summary.getDocuments());
+        // 삭제된 문서가 살아 있는 문서보다 많아질 때마다 압축해 삭제 표시가 쌓이지 않는다
+        assertTrue(summary.getDeletedDocuments() < 1024);
+        assertEquals(100, index.search("대량 주문", null, 100).size());
+        assertEquals(List.of("BULK2999"), orderIds(index.search("대량 2999", null, 10)));
+    }
+
+    @Test
+    void search_검색어와_건수_검증() {
+        assertThrows(BadRequestException.class, () -> index.search(" ", null, 10));
+        assertThrows(BadRequestException.class, () -> index.search("키보드 a", null, 10));
+        assertThrows(BadRequestException.class, () -> index.search("키보드", null, 0));
+        assertThrows(BadRequestException.class, () -> index.search("키보드", null, 101));
+    }
+
+    @Test
+    void search_색인을_끄면_전체를_훑어_같은_결과() {
+        // Given
+        OrderSearchIndex disabled = new OrderSearchIndex(repository, meterRegistry, false, 100);
+
+        // When
+        List<Order> orders = disabled.search("키보드 블루투스", OrderStatus.PROCESSING, 10);
+
+        // Then
+        assertEquals(List.of("ORDER001"), orderIds(orders));
+        assertFalse(disabled.getSummary().isEnabled());
+    }
+
+    @Test
+    void search_저장은_색인_반영을_기다리지_않고_같은_주문의_연속_변경은_한_번만_반영() {
+        // Given
+        repository.save(createTestOrder("ORDER002", OrderStatus.PROCESSING, "블루투스 스피커"));
+        for (int i = 0; i < 100; i++) {
+            repository.save(createTestOrder("ORDER002", OrderStatus.PROCESSING, "유선 스피커 " + i));
+        }
+
+        // When
+        assertTrue(index.flush(Duration.ofSeconds(5)));
+
+        // Then
+        assertTrue(index.search("블루투스 스피커", null, 10).isEmpty());
+        assertEquals(List.of("ORDER002"), orderIds(index.search("유선 스피커 99", null, 10)));
+        assertEquals(0, index.getSummary().getPendingUpdates());
+    }
+
+    @Test
+    void search_클러스터_모드면_모든_노드의_결과를_번갈아_합침() {
+        // Given
+        ClusterNodeClient clusterNodeClient = mock(ClusterNodeClient.class);
+        ClusteredOrderRepository clustered = new ClusteredOrderRepository(clusterNodeClient,
+                List.of("http://node-a", "http://node-b"), "http://node-a", 160, 2);
+        OrderSearchIndex clusterIndex = new OrderSearchIndex(clustered, meterRegistry, true, 100);
+        clustered.local().save(createTestOrder("LOCAL1", OrderStatus.PROCESSING, "블루투스 스피커"));
+        clustered.local().save(createTestOrder("LOCAL2", OrderStatus.PROCESSING, "블루투스 이어폰"));
+        assertTrue(clusterIndex.flush(Duration.ofSeconds(5)));
+        when(clusterNodeClient.search("http://node-b", "블루투스", null, 3)).thenReturn(List.of(
+                createTestOrder("REMOTE2", OrderStatus.PROCESSING, "블루투스 키보드"),
+                createTestOrder("REMOTE1", OrderStatus.PROCESSING, "블루투스 마우스")));
+
+        try {
+            // When
+            List<Order> orders = clusterIndex.search("블루투스", null, 3);
+            List<Order> local = clusterIndex.searchLocal("블루투스", null, 3);
+
+            // Then
+            assertEquals(List.of("LOCAL2", "REMOTE2", "LOCAL1"), orderIds(orders));
+            assertEquals(List.of("LOCAL2", "LOCAL1"), orderIds(local));
+        } finally {
+            clusterIndex.close();
+            clustered.shutdown();
+        }
+    }
+
+    @Test
+    void searchLocal_다른_노드에_묻지_않음() {
+        // Given
+        ClusterNodeClient clusterNodeClient = mock(ClusterNodeClient.class);
+        ClusteredOrderRepository clustered = new ClusteredOrderRepository(clusterNodeClient,
+                List.of("http://node-a", "http://node-b"), "http://node-a", 160, 2);
+        OrderSearchIndex clusterIndex = new OrderSearchIndex(clustered, meterRegistry, true, 100);
+
+        try {
+            // When
+            List<Order> orders = clusterIndex.searchLocal("블루투스", null, 10);
+
+            // Then
+            assertTrue(orders.isEmpty());
+            verifyNoInteractions(clusterNodeClient);
+        } finally {
+            clusterIndex.close();
+            clustered.shutdown();
+        }
+    }
+
+    @Test
+    void getSummary_색인_크기와_메모리_지표() {
+        // When
+        OrderSearchIndexSummary summary = index.getSummary();
+
+        // Then
+        assertEquals(1, summary.getDocuments());
+        // 무선, 키보, 보드, 블루, 루투, 투스, 2개
+        assertEquals(7, summary.getTerms());
+        assertEquals(7, summary.getPostings());
+        assertTrue(summary.getEstimatedBytes() > 0);
+        assertEquals((double) summary.getEstimatedBytes(),
+                meterRegistry.get("order.search.index.memory").gauge().value());
+    }
+
+    private List<String> orderIds(List<Order> orders) {
+        return orders.stream().map(Order::getOrderId).toList();
+    }
+
+    private Order createTestOrder(String orderId, OrderStatus status, String description) {
+        return Order.builder()
+                .orderId(orderId)
+                .customerName("고객")
+                .orderDate(LocalDateTime.now())
+                .status(status)
+                .description(description)
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.humuson.orderintegration.service;
+
+import com.humuson.orderintegration.audit.AuditJournal;
+import com.humuson.orderintegration.client.ExternalSystemClient;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.deadletter.DeadLetterStore;
+import com.humuson.orderintegration.deadletter.DeadLetterType;
+import com.humuson.orderintegration.domain.ImportRejection;
+import com.humuson.orderintegration.domain.ImportReport;
+import com.humuson.orderintegration.domain.ImportResultCode;
+import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.monitoring.ResourceAccounting;
+import com.humuson.orderintegration.repository.InMemoryOrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderImportReportServiceTest {
+
+    @Mock
+    private ExternalSystemClient externalSystemClient;
+
+    @Mock
+    private DeadLetterStore deadLetterStore;
+
+    @Mock
+    private AuditJournal auditJournal;
+
+    private InMemoryOrderRepository orderRepository;
+    private OrderImportReportService orderImportReportService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        orderImportReportService = new OrderImportReportService(externalSystemClient, orderRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(), deadLetterStore, auditJournal,
+                new ResourceAccounting(new SimpleMeterRegistry(), true, 100), 3);
+    }
+
+    @Test
+    void importOrders_잘못된_주문을_결과_코드로_분류() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        List<OrderRequest> orderRequests = createOrderRequests(6);
+        orderRequests.get(1).setOrderId(" ");
+        orderRequests.get(2).setStatus("UNKNOWN");
+        orderRequests.get(3).setOrderDate("2024-13-01 10:00:00");
+        orderRequests.get(4).setCustomerName(null);
+        orderRequests.get(5).setStatus("shipping");
+        when(externalSystemClient.fetchOrderRequests(endpoint)).thenReturn(orderRequests);
+
+        // When
+        ImportReport report = orderImportReportService.importOrders(endpoint);
+
+        // Then
+        assertEquals(6, report.getReceivedCount());
+        assertEquals(2, report.getSavedCount());
+        assertEquals(4, report.getRejectedCount());
+        assertEquals(2, report.getResultCounts().get(ImportResultCode.ACCEPTED));
+        assertEquals(1, report.getResultCounts().get(ImportResultCode.UNKNOWN_STATUS));
+
+        assertEquals(3, report.getRejections().size());
+        assertTrue(report.isRejectionsTruncated());
+        ImportRejection rejection = report.getRejections().get(1);
+        assertEquals(2, rejection.getIndex());
+        assertEquals("ORDER002", rejection.getOrderId());
+        assertEquals(ImportResultCode.UNKNOWN_STATUS, rejection.getCode());
+        assertEquals(ImportResultCode.MISSING_ORDER_ID, report.getRejections().get(0).getCode());
+        assertEquals(ImportResultCode.INVALID_ORDER_DATE, report.getRejections().get(2).getCode());
+
+        assertTrue(orderRepository.existsById("ORDER000"));
+        assertFalse(orderRepository.existsById("ORDER003"));
+        assertEquals(OrderStatus.SHIPPING, orderRepository.findById("ORDER005").orElseThrow().getStatus());
+        verify(deadLetterStore).add(eq(DeadLetterType.IMPORT), eq(endpoint), eq("ORDER002"),
+                eq(orderRequests.get(2)), eq("UNKNOWN_STATUS: UNKNOWN"));
+        verify(deadLetterStore, times(4)).add(eq(DeadLetterType.IMPORT), eq(endpoint), any(), any(), any());
+    }
+
+    @Test
+    void importRecords_월의_마지막_날을_넘는_일자는_마지막_날로_맞춤() {
+        // Given
+        List<OrderRequest> orderRequests = createOrderRequests(1);
+        orderRequests.get(0).setOrderDate("2024-02-30 09:15:00");
+
+        // When
+        ImportReport report = orderImportReportService.importRecords(orderRequests);
+
+        // Then
+        assertEquals(1, report.getSavedCount());
+        assertEquals(LocalDateTime.of(2024, 2, 29, 9, 15, 0),
+                orderRepository.findById("ORDER000").orElseThrow().getOrderDate());
+        verifyNoInteractions(deadLetterStore);
+    }
+
+    private List<OrderRequest> createOrderRequests(int count) {
+        List<OrderRequest> orderRequests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orderRequests.add(OrderRequest.builder()
+                    .orderId(String.format("ORDER%03d", i))
+                    .customerName("고객" + i)
+                    .orderDate("2024-01-01 10:00:00")
+                    .status("PROCESSING")
+                    .description("테스트 주문")
+                    .build());
+        }
+        return orderRequests;
+    }
+}
@@ -1,11 +1,27 @@
 package com.humuson.orderintegration.service;
 
+import com.humuson.orderintegration.audit.AuditEventType;
+import com.humuson.orderintegration.audit.AuditJournal;
+import com.humuson.orderintegration.audit.AuditOutcome;
 import com.humuson.orderintegration.client.ExternalSystemClient;
+import com.humuson.orderintegration.client.dto.OrderItemResult;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.client.dto.OrderSendResult;
+import com.humuson.orderintegration.deadletter.DeadLetterStore;
+import com.humuson.orderintegration.deadletter.DeadLetterType;
+import com.humuson.orderintegration.domain.ExportResult;
 import com.humuson.orderintegration.domain.Order;
 import com.humuson.orderintegration.domain.OrderStatus;
+import com.humuson.orderintegration.domain.StatusTransitionOutcome;
+import com.humuson.orderintegration.domain.StatusTransitionResult;
+import com.humuson.orderintegration.exception.BadRequestException;
 import com.humuson.orderintegration.exception.ExternalSystemException;
 import com.humuson.orderintegration.exception.OrderNotFoundException;
+import com.humuson.orderintegration.monitoring.OperationResourceUsage;
+import com.humuson.orderintegration.monitoring.ResourceAccounting;
+import com.humuson.orderintegration.monitoring.ResourceOperation;
 import com.humuson.orderintegration.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,13 +31,25 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,47 +64,114 @@ class OrderIntegrationServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private DeadLetterStore deadLetterStore;
+
+    @Mock
+    private AuditJournal auditJournal;
+
+    private ResourceAccounting resourceAccounting;
     private OrderIntegrationService orderIntegrationService;
     private Validator validator;
 
     @BeforeEach
     void setUp() {
         validator = Validation.buildDefaultValidatorFactory().getValidator();
-        orderIntegrationService = new OrderIntegrationServiceImpl(
-                orderRepository, externalSystemClient, validator);
+        resourceAccounting = new ResourceAccounting(new SimpleMeterRegistry(), true, 100);
+        orderIntegrationService = new OrderIntegrationServiceImpl(orderRepository, externalSystemClient, validator,
+                deadLetterStore, auditJournal, resourceAccounting, 2, 50, Duration.ZERO, Duration.ZERO, true);
     }
 
     @Test
     void importOrdersFromExternal_성공() {
         // Given
         String endpoint = "http://external-system.com/orders";
-        List<Order> mockOrders = Arrays.asList(
-                createTestOrder("ORDER001", "고객1"),
-                createTestOrder("ORDER002", "고객2")
+        List<OrderRequest> mockRequests = Arrays.asList(
+                createTestRequest("ORDER001", "고객1"),
+                createTestRequest("ORDER002", "고객2")
         );
 
-        when(externalSystemClient.fetchOrders(endpoint)).thenReturn(mockOrders);
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(externalSystemClient.fetchOrderRequests(endpoint)).thenReturn(mockRequests);
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         List<Order> result = orderIntegrationService.importOrdersFromExternal(endpoint);
 
         // Then
         assertEquals(2, result.size());
-        verify(externalSystemClient).fetchOrders(endpoint);
-        verify(orderRepository, times(2)).save(any(Order.class));
+        assertEquals("ORDER001", result.get(0).getOrderId());
+        assertEquals(LocalDateTime.of(2024, 1, 15, 10, 30), result.get(0).getOrderDate());
+        verify(externalSystemClient).fetchOrderRequests(endpoint);
+        verify(orderRepository).saveAll(result);
+        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(deadLetterStore);
+        verify(auditJournal).record(eq(AuditEventType.IMPORT), eq(endpoint), eq(AuditOutcome.SUCCESS), anyLong(),
+                eq(result));
+    }
+
+    @Test
+    void importOrdersFromExternal_잘못된_레코드만_제외하고_실패_레코드로_보관() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        OrderRequest unknownStatus = createTestRequest("ORDER002", "고객2");
+        unknownStatus.setStatus("PAID");
+        OrderRequest invalidDate = createTestRequest("ORDER003", "고객3");
+        invalidDate.setOrderDate("2024/01/15");
+        when(externalSystemClient.fetchOrderRequests(endpoint)).thenReturn(Arrays.asList(
+                createTestRequest("ORDER001", "고객1"), unknownStatus, invalidDate));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<Order> result = orderIntegrationService.importOrdersFromExternal(endpoint);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("ORDER001", result.get(0).getOrderId());
+        // 날짜 형식이 잘못된 주문은 현재 시각으로 바꾸지 않고 원본 레코드 그대로 보관한다
+        verify(deadLetterStore).add(DeadLetterType.IMPORT, endpoint, "ORDER002", unknownStatus,
+                "UNKNOWN_STATUS: PAID");
+        verify(deadLetterStore).add(DeadLetterType.IMPORT, endpoint, "ORDER003", invalidDate,
+                "INVALID_ORDER_DATE: 2024/01/15");
+        verify(auditJournal).record(eq(AuditEventType.IMPORT), eq(endpoint), eq(AuditOutcome.SUCCESS), anyLong(),
+                eq(result));
+    }
+
+    @Test
+    void importOrdersFromExternal_엔드포인트별_사용량_집계() {
+        // Given
+        String endpoint = "http://external-system.com/orders?page=1";
+        when(externalSystemClient.fetchOrderRequests(endpoint)).thenReturn(Arrays.asList(
+                createTestRequest("ORDER001", "고객1"),
+                createTestRequest("ORDER002", "고객2")));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        orderIntegrationService.importOrdersFromExternal(endpoint);
+        orderIntegrationService.importOrdersFromExternal(endpoint);
+
+        // Then
+        List<OperationResourceUsage> usage = resourceAccounting.getUsage(ResourceOperation.IMPORT);
+        assertEquals(1, usage.size());
+        assertEquals("external-system.com/orders", usage.get(0).getEndpoint());
+        assertEquals(2, usage.get(0).getJobs());
+        assertEquals(4, usage.get(0).getRecords());
+        assertTrue(usage.get(0).getAllocatedBytes() > 0);
+        assertTrue(usage.get(0).getAllocatedBytesPerRecord() > 0);
+        assertTrue(resourceAccounting.getUsage(ResourceOperation.EXPORT).isEmpty());
     }
 
     @Test
     void importOrdersFromExternal_외부시스템_오류() {
         // Given
         String endpoint = "http://external-system.com/orders";
-        when(externalSystemClient.fetchOrders(endpoint))
+        when(externalSystemClient.fetchOrderRequests(endpoint))
                 .thenThrow(new ExternalSystemException("HTTP", "네트워크 오류"));
 
         // When & Then
         assertThrows(ExternalSystemException.class,
                 () -> orderIntegrationService.importOrdersFromExternal(endpoint));
+        verify(auditJournal).record(eq(AuditEventType.IMPORT), eq(endpoint), eq(AuditOutcome.FAILURE), anyLong(),
+                eq(List.of()));
     }
 
     @Test
@@ -111,6 +206,105 @@ class OrderIntegrationServiceTest {
                 () -> orderIntegrationService.exportOrderToExternal(endpoint, orderId));
     }
 
+    @Test
+    void exportOrdersToExternal_일부_실패하면_실패한_주문만_재전송() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        Order order1 = createTestOrder("ORDER001", "고객1");
+        Order order2 = createTestOrder("ORDER002", "고객2");
+        Order order3 = createTestOrder("ORDER003", "고객3");
+        when(orderRepository.findById("ORDER001")).thenReturn(Optional.of(order1));
+        when(orderRepository.findById("ORDER002")).thenReturn(Optional.of(order2));
+        when(orderRepository.findById("ORDER003")).thenReturn(Optional.of(order3));
+        when(orderRepository.findById("NONEXISTENT")).thenReturn(Optional.empty());
+        when(externalSystemClient.sendOrdersWithResults(endpoint, List.of(order1, order2, order3)))
+                .thenReturn(createSendResult(itemResult("ORDER001", true), itemResult("ORDER002", false),
+                        itemResult("ORDER003", false)));
+        when(externalSystemClient.sendOrdersWithResults(endpoint, List.of(order2, order3)))
+                .thenReturn(createSendResult(itemResult("ORDER002", true), itemResult("ORDER003", false)));
+        when(externalSystemClient.sendOrdersWithResults(endpoint, List.of(order3)))
+                .thenReturn(createSendResult(itemResult("ORDER003", false)));
+
+        // When
+        ExportResult result = orderIntegrationService.exportOrdersToExternal(endpoint,
+                List.of("ORDER001", "ORDER002", "ORDER003", "NONEXISTENT"));
+
+        // Then
+        assertFalse(result.isSuccess());
+        assertEquals(4, result.getRequestedCount());
+        assertEquals(2, result.getSentCount());
+        assertEquals(1, result.getFailedCount());
+        assertEquals(3, result.getAttempts());
+        assertEquals(List.of("NONEXISTENT"), result.getNotFoundOrderIds());
+        assertEquals("ORDER003", result.getFailedItems().get(0).getOrderId());
+        verify(externalSystemClient, times(3)).sendOrdersWithResults(eq(endpoint), any());
+        verify(deadLetterStore).add(eq(DeadLetterType.EXPORT), eq(endpoint), eq("ORDER003"), any(), eq("재고 확인 실패"));
+        verify(auditJournal).record(anyLong(), eq(AuditEventType.EXPORT), eq(endpoint), eq(AuditOutcome.SUCCESS),
+                anyLong(), eq(List.of(order1, order2)));
+        verify(auditJournal).record(anyLong(), eq(AuditEventType.EXPORT), eq(endpoint), eq(AuditOutcome.FAILURE),
+                anyLong(), eq(List.of(order3)));
+    }
+
+    @Test
+    void exportOrdersToExternal_같은_주문_ID가_여러_번이면_실패한_위치만_재전송() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        Order order1 = createTestOrder("ORDER001", "고객1");
+        when(orderRepository.findById("ORDER001")).thenReturn(Optional.of(order1));
+        when(externalSystemClient.sendOrdersWithResults(endpoint, List.of(order1, order1)))
+                .thenReturn(createSendResult(itemResult("ORDER001", true), itemResult("ORDER001", false)));
+        when(externalSystemClient.sendOrdersWithResults(endpoint, List.of(order1)))
+                .thenReturn(createSendResult(itemResult("ORDER001", true)));
+
+        // When
+        ExportResult result = orderIntegrationService.exportOrdersToExternal(endpoint, List.of("ORDER001", "ORDER001"));
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals(2, result.getSentCount());
+        assertEquals(2, result.getAttempts());
+        verify(deadLetterStore, never()).add(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void exportOrdersStreaming_상태별_전송() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        when(orderRepository.streamByStatus(OrderStatus.PROCESSING)).thenReturn(Stream.of(
+                createTestOrder("ORDER001", "고객1"),
+                createTestOrder("ORDER002", "고객2")));
+        when(externalSystemClient.sendOrderStream(eq(endpoint), any())).thenAnswer(invocation -> {
+            invocation.<Stream<Order>>getArgument(1).forEach(order -> { });
+            return true;
+        });
+
+        // When
+        long sent = orderIntegrationService.exportOrdersStreaming(endpoint, null, OrderStatus.PROCESSING);
+
+        // Then
+        assertEquals(2, sent);
+        verify(orderRepository, never()).findAll();
+    }
+
+    @Test
+    void exportOrdersStreaming_전송이_실패해도_저장소_스트림을_닫고_외부_시스템_예외를_그대로_전달() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        AtomicBoolean closed = new AtomicBoolean();
+        when(orderRepository.streamAll()).thenReturn(Stream.of(createTestOrder("ORDER001", "고객1"))
+                .onClose(() -> closed.set(true)));
+        ExternalSystemException failure = new ExternalSystemException("MOCK", "연결 실패");
+        when(externalSystemClient.sendOrderStream(eq(endpoint), any())).thenThrow(failure);
+
+        // When
+        ExternalSystemException thrown = assertThrows(ExternalSystemException.class,
+                () -> orderIntegrationService.exportOrdersStreaming(endpoint, null, null));
+
+        // Then
+        assertSame(failure, thrown);
+        assertTrue(closed.get());
+    }
+
     @Test
     void getAllOrders_성공() {
         // Given
@@ -155,6 +349,128 @@ class OrderIntegrationServiceTest {
                 () -> orderIntegrationService.getOrderById(orderId));
     }
 
+    @Test
+    void importOrdersFromExternal_진행_중인_같은_endpoint_요청은_결과를_함께_받음() throws Exception {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        List<OrderRequest> mockRequests = List.of(createTestRequest("ORDER001", "고객1"));
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(externalSystemClient.fetchOrderRequests(endpoint)).thenAnswer(invocation -> {
+            fetching.countDown();
+            release.await();
+            return mockRequests;
+        });
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<List<Order>> first = executor.submit(() -> orderIntegrationService.importOrdersFromExternal(endpoint));
+        fetching.await();
+        Future<List<Order>> second = executor.submit(() -> orderIntegrationService.importOrdersFromExternal(endpoint));
+        // 두 번째 요청이 진행 중인 가져오기에 합류할 시간을 준 뒤 첫 번째 가져오기를 끝낸다
+        TimeUnit.MILLISECONDS.sleep(100);
+        release.countDown();
+
+        // Then
+        assertSame(first.get(), second.get());
+        assertEquals(1, first.get().size());
+        verify(externalSystemClient, times(1)).fetchOrderRequests(endpoint);
+        verify(orderRepository, times(1)).saveAll(anyList());
+        executor.shutdown();
+    }
+
+    @Test
+    void importOrdersFromExternal_합류한_요청도_먼저_들어온_요청의_실패를_받음() throws Exception {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        OutOfMemoryError failure = new OutOfMemoryError("테스트");
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(externalSystemClient.fetchOrderRequests(endpoint)).thenAnswer(invocation -> {
+            fetching.countDown();
+            release.await();
+            throw failure;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<List<Order>> first = executor.submit(() -> orderIntegrationService.importOrdersFromExternal(endpoint));
+        fetching.await();
+        Future<List<Order>> second = executor.submit(() -> orderIntegrationService.importOrdersFromExternal(endpoint));
+        TimeUnit.MILLISECONDS.sleep(100);
+        release.countDown();
+
+        // Then
+        // Error로 끝나도 합류한 요청이 기다리다 멈추지 않고 같은 실패를 받는다
+        ExecutionException firstFailure = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        ExecutionException secondFailure = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertSame(failure, firstFailure.getCause());
+        assertSame(failure, secondFailure.getCause());
+        verify(externalSystemClient, times(1)).fetchOrderRequests(endpoint);
+        executor.shutdown();
+    }
+
+    @Test
+    void importOrdersFromExternal_가져오기가_끝난_뒤_요청은_다시_가져옴() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        when(externalSystemClient.fetchOrderRequests(endpoint))
+                .thenThrow(new ExternalSystemException("HTTP", "네트워크 오류"))
+                .thenReturn(List.of(createTestRequest("ORDER001", "고객1")));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When & Then
+        assertThrows(ExternalSystemException.class,
+                () -> orderIntegrationService.importOrdersFromExternal(endpoint));
+        assertEquals(1, orderIntegrationService.importOrdersFromExternal(endpoint).size());
+        verify(externalSystemClient, times(2)).fetchOrderRequests(endpoint);
+    }
+
+    @Test
+    void transitionOrderStatus_중복_ID는_한_번만_전환() {
+        // Given
+        StatusTransitionResult transitionResult = StatusTransitionResult.empty(OrderStatus.PROCESSING,
+                OrderStatus.SHIPPING);
+        transitionResult.record("ORDER001", StatusTransitionOutcome.APPLIED);
+        transitionResult.record("ORDER002", StatusTransitionOutcome.CONFLICTED);
+        when(orderRepository.transitionStatus(List.of("ORDER001", "ORDER002"), OrderStatus.PROCESSING,
+                OrderStatus.SHIPPING)).thenReturn(transitionResult);
+
+        // When
+        StatusTransitionResult result = orderIntegrationService.transitionOrderStatus(
+                List.of("ORDER001", "ORDER002", "ORDER001"), OrderStatus.PROCESSING, OrderStatus.SHIPPING);
+
+        // Then
+        assertEquals(1, result.getAppliedCount());
+        assertEquals(List.of("ORDER002"), result.getConflictedOrderIds());
+    }
+
+    @Test
+    void transitionOrderStatus_기대_상태와_새_상태가_같으면_예외() {
+        // When & Then
+        assertThrows(BadRequestException.class,
+                () -> orderIntegrationService.transitionOrderStatus(List.of("ORDER001"), OrderStatus.SHIPPING,
+                        OrderStatus.SHIPPING));
+        verifyNoInteractions(orderRepository);
+    }
+
+    private OrderSendResult createSendResult(OrderItemResult... items) {
+        List<OrderItemResult> itemList = Arrays.asList(items);
+        return OrderSendResult.builder()
+                .success(itemList.stream().allMatch(OrderItemResult::isSuccess))
+                .items(itemList)
+                .build();
+    }
+
+    private OrderItemResult itemResult(String orderId, boolean success) {
+        return OrderItemResult.builder()
+                .orderId(orderId)
+                .success(success)
+                .message(success ? null : "재고 확인 실패")
+                .build();
+    }
+
     private Order createTestOrder(String orderId, String customerName) {
         return Order.builder()
                 .orderId(orderId)
@@ -164,4 +480,14 @@ class OrderIntegrationServiceTest {
                 .description("테스트 주문")
                 .build();
     }
-}
\ No newline at end of file
+
+    private OrderRequest createTestRequest(String orderId, String customerName) {
+        return OrderRequest.builder()
+                .orderId(orderId)
+                .customerName(customerName)
+                .orderDate("2024-01-15 10:30:00")
+                .status("processing")
+                .description("테스트 주문")
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.humuson.orderintegration.service;
+
+import com.humuson.orderintegration.audit.AuditJournal;
+import com.humuson.orderintegration.client.ExternalSystemClient;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.deadletter.DeadLetterStore;
+import com.humuson.orderintegration.deadletter.DeadLetterType;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.exception.ExternalSystemException;
+import com.humuson.orderintegration.monitoring.OperationResourceUsage;
+import com.humuson.orderintegration.monitoring.ResourceAccounting;
+import com.humuson.orderintegration.monitoring.ResourceOperation;
+import com.humuson.orderintegration.repository.InMemoryOrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelOrderImportServiceTest {
+
+    @Mock
+    private ExternalSystemClient externalSystemClient;
+
+    @Mock
+    private DeadLetterStore deadLetterStore;
+
+    @Mock
+    private AuditJournal auditJournal;
+
+    private InMemoryOrderRepository orderRepository;
+    private ResourceAccounting resourceAccounting;
+    private ParallelOrderImportService parallelOrderImportService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        resourceAccounting = new ResourceAccounting(new SimpleMeterRegistry(), true, 100);
+        parallelOrderImportService = new ParallelOrderImportService(externalSystemClient, orderRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(), deadLetterStore, auditJournal, resourceAccounting,
+                4, 2, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelOrderImportService.shutdown();
+    }
+
+    @Test
+    void importOrders_순서_보장_및_잘못된_주문_제외() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        List<OrderRequest> orderRequests = createOrderRequests(20);
+        orderRequests.get(3).setCustomerName(null);
+        orderRequests.get(11).setStatus("UNKNOWN");
+        orderRequests.get(16).setOrderDate("2024-01-01");
+        when(externalSystemClient.fetchOrderRequests(endpoint)).thenReturn(orderRequests);
+
+        // When
+        List<Order> savedOrders = parallelOrderImportService.importOrders(endpoint, null);
+
+        // Then
+        List<String> expectedIds = orderRequests.stream()
+                .map(OrderRequest::getOrderId)
+                .filter(orderId -> !Set.of("ORDER003", "ORDER011", "ORDER016").contains(orderId))
+                .collect(Collectors.toList());
+        assertEquals(expectedIds, savedOrders.stream().map(Order::getOrderId).collect(Collectors.toList()));
+        assertEquals(17, orderRepository.findAll().size());
+        // 제외된 주문은 원본 레코드 그대로 보관하고, 잘못된 날짜를 현재 시각으로 바꿔 저장하지 않는다
+        verify(deadLetterStore).add(eq(DeadLetterType.IMPORT), eq(endpoint), eq("ORDER003"), eq(orderRequests.get(3)),
+                startsWith("VALIDATION_FAILED: "));
+        verify(deadLetterStore).add(DeadLetterType.IMPORT, endpoint, "ORDER011", orderRequests.get(11),
+                "UNKNOWN_STATUS: UNKNOWN");
+        verify(deadLetterStore).add(DeadLetterType.IMPORT, endpoint, "ORDER016", orderRequests.get(16),
+                "INVALID_ORDER_DATE: 2024-01-01");
+    }
+
+    @Test
+    void importOrders_순서_미보장시_모든_유효한_주문_저장() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        List<OrderRequest> orderRequests = createOrderRequests(50);
+        when(externalSystemClient.fetchOrderRequests(endpoint)).thenReturn(orderRequests);
+
+        // When
+        List<Order> savedOrders = parallelOrderImportService.importOrders(endpoint, false);
+
+        // Then
+        Set<String> savedIds = savedOrders.stream().map(Order::getOrderId).collect(Collectors.toSet());
+        assertEquals(50, savedIds.size());
+        assertEquals(50, orderRepository.findAll().size());
+    }
+
+    @Test
+    void importOrders_작업_스레드_사용량을_가져오기_작업에_집계() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        when(externalSystemClient.fetchOrderRequests(endpoint)).thenReturn(createOrderRequests(50));
+
+        // When
+        parallelOrderImportService.importOrders(endpoint, false);
+
+        // Then
+        List<OperationResourceUsage> usage = resourceAccounting.getUsage(ResourceOperation.IMPORT_PARALLEL);
+        assertEquals(1, usage.size());
+        assertEquals(1, usage.get(0).getJobs());
+        assertEquals(50, usage.get(0).getRecords());
+        assertTrue(usage.get(0).getAllocatedBytes() > 0);
+    }
+
+    @Test
+    void importOrders_외부시스템_오류() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        when(externalSystemClient.fetchOrderRequests(endpoint))
+                .thenThrow(new ExternalSystemException("HTTP", "연결 실패"));
+
+        // When & Then
+        assertThrows(ExternalSystemException.class,
+                () -> parallelOrderImportService.importOrders(endpoint, true));
+    }
+
+    private List<OrderRequest> createOrderRequests(int count) {
+        List<OrderRequest> orderRequests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orderRequests.add(OrderRequest.builder()
+                    .orderId(String.format("ORDER%03d", i))
+                    .customerName("고객" + i)
+                    .orderDate("2024-01-01 10:00:00")
+                    .status("PROCESSING")
+                    .description("테스트 주문")
+                    .build());
+        }
+        return orderRequests;
+    }
+}
@@ -0,0 +1,172 @@
+package com.humuson.orderintegration.service;
+
+import com.humuson.orderintegration.audit.AuditJournal;
+import com.humuson.orderintegration.client.ReactiveExternalSystemClient;
+import com.humuson.orderintegration.client.dto.OrderRequest;
+import com.humuson.orderintegration.deadletter.DeadLetterStore;
+import com.humuson.orderintegration.deadletter.DeadLetterType;
+import com.humuson.orderintegration.domain.Order;
+import com.humuson.orderintegration.exception.ExternalSystemException;
+import com.humuson.orderintegration.monitoring.OperationResourceUsage;
+import com.humuson.orderintegration.monitoring.ResourceAccounting;
+import com.humuson.orderintegration.monitoring.ResourceOperation;
+import com.humuson.orderintegration.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOrderImportServiceTest {
+
+    @Mock
+    private ReactiveExternalSystemClient reactiveExternalSystemClient;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private DeadLetterStore deadLetterStore;
+
+    @Mock
+    private AuditJournal auditJournal;
+
+    private ResourceAccounting resourceAccounting;
+
+    private ReactiveOrderImportService reactiveOrderImportService;
+
+    @BeforeEach
+    void setUp() {
+        resourceAccounting = new ResourceAccounting(new SimpleMeterRegistry(), true, 100);
+        reactiveOrderImportService = new ReactiveOrderImportService(reactiveExternalSystemClient, orderRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(), deadLetterStore, auditJournal,
+                resourceAccounting, 2);
+    }
+
+    @Test
+    void importOrders_유효한_주문만_배치로_저장() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        when(reactiveExternalSystemClient.fetchOrderRequests(endpoint)).thenReturn(Flux.just(
+                createTestRequest("ORDER001", "고객1"),
+                createTestRequest("ORDER002", null),
+                createTestRequest("ORDER003", "고객3"),
+                createTestRequest("ORDER004", "고객4")));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Long saved = reactiveOrderImportService.importOrders(endpoint).block();
+
+        // Then
+        assertEquals(3L, saved);
+        verify(orderRepository, times(2)).saveAll(anyList());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(deadLetterStore).add(eq(DeadLetterType.IMPORT), eq(endpoint), eq("ORDER002"), any(OrderRequest.class),
+                startsWith("VALIDATION_FAILED: "));
+    }
+
+    @Test
+    void importOrders_잘못된_상태와_날짜는_스트림을_끝내지_않고_제외() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        OrderRequest unknownStatus = createTestRequest("ORDER002", "고객2");
+        unknownStatus.setStatus("PAID");
+        OrderRequest invalidDate = createTestRequest("ORDER003", "고객3");
+        invalidDate.setOrderDate("2024-02-30T10:00");
+        when(reactiveExternalSystemClient.fetchOrderRequests(endpoint)).thenReturn(Flux.just(
+                createTestRequest("ORDER001", "고객1"), unknownStatus, invalidDate,
+                createTestRequest("ORDER004", "고객4")));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Long saved = reactiveOrderImportService.importOrders(endpoint).block();
+
+        // Then
+        assertEquals(2L, saved);
+        verify(deadLetterStore).add(DeadLetterType.IMPORT, endpoint, "ORDER002", unknownStatus,
+                "UNKNOWN_STATUS: PAID");
+        verify(deadLetterStore).add(DeadLetterType.IMPORT, endpoint, "ORDER003", invalidDate,
+                "INVALID_ORDER_DATE: 2024-02-30T10:00");
+    }
+
+    @Test
+    void importOrders_건별_저장도_실패한_주문은_실패_레코드로_보관() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        when(reactiveExternalSystemClient.fetchOrderRequests(endpoint)).thenReturn(Flux.just(
+                createTestRequest("ORDER001", "고객1"),
+                createTestRequest("ORDER002", "고객2")));
+        when(orderRepository.saveAll(anyList())).thenThrow(new RuntimeException("일괄 저장 오류"));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            if ("ORDER002".equals(order.getOrderId())) {
+                throw new RuntimeException("저장 오류");
+            }
+            return order;
+        });
+
+        // When
+        Long saved = reactiveOrderImportService.importOrders(endpoint).block();
+
+        // Then
+        assertEquals(1L, saved);
+        verify(deadLetterStore).add(eq(DeadLetterType.IMPORT), eq(endpoint), eq("ORDER002"), any(OrderRequest.class),
+                eq("SAVE_FAILED: 저장 오류"));
+    }
+
+    @Test
+    void importOrders_배치_저장_스레드_사용량을_가져오기_작업에_집계() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        when(reactiveExternalSystemClient.fetchOrderRequests(endpoint)).thenReturn(Flux.just(
+                createTestRequest("ORDER001", "고객1"),
+                createTestRequest("ORDER002", "고객2"),
+                createTestRequest("ORDER003", "고객3")));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        reactiveOrderImportService.importOrders(endpoint).block();
+
+        // Then
+        List<OperationResourceUsage> usage = resourceAccounting.getUsage(ResourceOperation.IMPORT_REACTIVE);
+        assertEquals(1, usage.size());
+        assertEquals(1, usage.get(0).getJobs());
+        assertEquals(3, usage.get(0).getRecords());
+    }
+
+    @Test
+    void importOrders_외부시스템_오류() {
+        // Given
+        String endpoint = "http://external-system.com/orders";
+        when(reactiveExternalSystemClient.fetchOrderRequests(endpoint))
+                .thenReturn(Flux.error(new ExternalSystemException("HTTP-REACTIVE", "네트워크 오류")));
+
+        // When & Then
+        assertThrows(ExternalSystemException.class,
+                () -> reactiveOrderImportService.importOrders(endpoint).block());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    private OrderRequest createTestRequest(String orderId, String customerName) {
+        return OrderRequest.builder()
+                .orderId(orderId)
+                .customerName(customerName)
+                .orderDate("2024-01-15 10:30:00")
+                .status("PROCESSING")
+                .description("테스트 주문")
+                .build();
+    }
+}